@@ -25,9 +25,13 @@ import static ru.tinkoff.qa.neptune.core.api.utils.ToArrayUtil.stringValueOfObje
 
 public class AllureEventLogger implements EventLogger {
 
+    //steps of parallel branches may be added to the same parent step. Lists of steps are not thread-safe
+    private static final Object STEP_STARTING_LOCK = new Object();
+
     private final AllureLifecycle allureLifecycle = getLifecycle();
     private final LinkedList<String> stepUIIDs = new LinkedList<>();
     private final HashMap<String, Status> results = new HashMap<>();
+    private String parentUUID;
 
     @Override
     public void fireTheEventStarting(String message, Map<String, String> parameters) {
@@ -41,10 +45,14 @@ public class AllureEventLogger implements EventLogger {
                                 .setValue(e.getValue()))
                         .collect(toList()));
 
-        if (stepUIIDs.size() == 0) {
-            allureLifecycle.startStep(uuid, result);
-        } else {
-            allureLifecycle.startStep(stepUIIDs.getLast(), uuid, result);
+        synchronized (STEP_STARTING_LOCK) {
+            if (stepUIIDs.size() > 0) {
+                allureLifecycle.startStep(stepUIIDs.getLast(), uuid, result);
+            } else if (parentUUID != null) {
+                allureLifecycle.startStep(parentUUID, uuid, result);
+            } else {
+                allureLifecycle.startStep(uuid, result);
+            }
         }
         stepUIIDs.addLast(uuid);
         results.put(uuid, null);
@@ -118,4 +126,12 @@ public class AllureEventLogger implements EventLogger {
         });
 
     }
+
+    @Override
+    public EventLogger branch() {
+        var branch = new AllureEventLogger();
+        branch.parentUUID = stepUIIDs.size() > 0 ? stepUIIDs.getLast()
+                : allureLifecycle.getCurrentTestCaseOrStep().orElse(null);
+        return branch;
+    }
 }
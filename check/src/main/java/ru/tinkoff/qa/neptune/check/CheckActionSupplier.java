@@ -9,14 +9,18 @@ import ru.tinkoff.qa.neptune.core.api.steps.parameters.ParameterValueGetter;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
 import static com.google.common.base.Preconditions.checkArgument;
-import static java.util.Arrays.stream;
 import static java.util.Objects.nonNull;
-import static java.util.stream.Collectors.toList;
+import static java.util.Optional.ofNullable;
+import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.apache.commons.lang3.StringUtils.isBlank;
+import static ru.tinkoff.qa.neptune.check.properties.ParallelTimedMatching.PARALLEL_TIMED_MATCHING_PROPERTY;
+import static ru.tinkoff.qa.neptune.core.api.steps.AsyncSteps.joinAll;
+import static ru.tinkoff.qa.neptune.core.api.steps.AsyncSteps.supplyAsync;
 import static ru.tinkoff.qa.neptune.core.api.steps.Step.$;
 
 @SequentialActionSupplier.DefinePerformImperativeParameterName("Check:")
@@ -25,6 +29,7 @@ public final class CheckActionSupplier<R, T> extends SequentialActionSupplier<R,
 
     private final List<AssertionError> caughtMismatches = new ArrayList<>();
     private final List<Action<T>> checkList = new ArrayList<>();
+    private final List<Boolean> timed = new ArrayList<>();
 
     private CheckActionSupplier() {
         super();
@@ -117,22 +122,40 @@ public final class CheckActionSupplier<R, T> extends SequentialActionSupplier<R,
     private CheckActionSupplier<R, T> matches(MatchAction<T, ?>... matchActions) {
         checkArgument(nonNull(matchActions), "Criteria to check value should not be a null value");
         checkArgument(matchActions.length > 0, "At least one criteria to check value should be defined");
-        checkList.addAll(stream(matchActions).map(MatchAction::get).collect(toList()));
+        for (var matchAction : matchActions) {
+            checkList.add(matchAction.get());
+            timed.add(matchAction.isTimed());
+        }
         return this;
     }
 
     @Override
     protected void howToPerform(T value) {
-        checkList.forEach(tConsumer -> {
-            try {
-                tConsumer.performAction(value);
-            } catch (AssertionError e) {
-                caughtMismatches.add(e);
+        if (PARALLEL_TIMED_MATCHING_PROPERTY.get() && checkList.size() > 1 && timed.contains(true)) {
+            //matchings with time are performed in parallel. Other matchings are performed by current thread
+            var results = new ArrayList<CompletableFuture<AssertionError>>();
+            for (int i = 0; i < checkList.size(); i++) {
+                var check = checkList.get(i);
+                results.add(timed.get(i)
+                        ? supplyAsync(() -> performCheck(check, value))
+                        : completedFuture(performCheck(check, value)));
             }
-        });
+            joinAll(results).forEach(e -> ofNullable(e).ifPresent(caughtMismatches::add));
+        } else {
+            checkList.forEach(check -> ofNullable(performCheck(check, value)).ifPresent(caughtMismatches::add));
+        }
 
         if (caughtMismatches.size() > 0) {
             throw new AssertionError(new AssertFoundMismatchesDescription(caughtMismatches));
         }
     }
+
+    private static <T> AssertionError performCheck(Action<T> check, T value) {
+        try {
+            check.performAction(value);
+            return null;
+        } catch (AssertionError e) {
+            return e;
+        }
+    }
 }
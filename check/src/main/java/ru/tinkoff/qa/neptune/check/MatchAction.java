@@ -9,13 +9,18 @@ import ru.tinkoff.qa.neptune.core.api.steps.annotations.DescriptionFragment;
 import ru.tinkoff.qa.neptune.core.api.steps.parameters.ParameterValueGetter;
 
 import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Objects;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static java.lang.String.valueOf;
 import static java.util.Optional.ofNullable;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 import static org.apache.commons.lang3.StringUtils.EMPTY;
+import static org.apache.commons.lang3.time.DurationFormatUtils.formatDurationHMS;
 import static ru.tinkoff.qa.neptune.core.api.hamcrest.common.all.AllCriteriaMatcher.all;
 import static ru.tinkoff.qa.neptune.core.api.hamcrest.common.any.AnyMatcher.anyOne;
 import static ru.tinkoff.qa.neptune.core.api.hamcrest.common.not.NotMatcher.notOf;
@@ -35,6 +40,9 @@ public class MatchAction<T, R> extends SequentialActionSupplier<T, R, MatchActio
 
     private final String assertDescription;
     private final Matcher<? super R> criteria;
+    private Function<T, R> eval;
+    private T checked;
+    private MatcherWithTime.TimedMatching timedMatching;
 
     MatchAction(String assertDescription, Matcher<? super R> criteria) {
         super();
@@ -58,8 +66,10 @@ public class MatchAction<T, R> extends SequentialActionSupplier<T, R, MatchActio
             Function<T, R> eval,
             @DescriptionFragment("matcher") Matcher<? super R> matcher) {
         var translated = translate(description);
-        return new MatchAction<T, R>(translated, matcher)
+        var result = new MatchAction<T, R>(translated, matcher)
                 .performOn(new CalculateGetSupplier<>(eval).setDescription(translated));
+        result.eval = eval;
+        return result;
     }
 
 
@@ -307,19 +317,56 @@ public class MatchAction<T, R> extends SequentialActionSupplier<T, R, MatchActio
         return matchPrivate(description, eval, new MatcherWithTime<>(duration, onlyOne(matchers)));
     }
 
+    /**
+     * Returns {@code true} when the matching is performed with time.
+     */
+    boolean isTimed() {
+        return criteria instanceof MatcherWithTime;
+    }
+
+    @Override
+    protected void onStart(T t) {
+        checked = t;
+        timedMatching = null;
+    }
+
     @Override
     protected void howToPerform(R value) {
-        var matches = criteria.matches(value);
+        Object actual = value;
+        boolean matches;
+        if (isTimed()) {
+            //a value is evaluated again before each next attempt
+            var t = checked;
+            timedMatching = ((MatcherWithTime<?>) criteria).waitForMatch(value, ofNullable(eval)
+                    .map(f -> (Supplier<R>) () -> f.apply(t))
+                    .orElse(null));
+            actual = timedMatching.value;
+            matches = timedMatching.matched;
+        } else {
+            matches = criteria.matches(value);
+        }
 
         if (!matches) {
             var mismatchDescription = new StringDescription();
-            criteria.describeMismatch(value, mismatchDescription);
+            criteria.describeMismatch(actual, mismatchDescription);
             throw new AssertionError(new AssertMismatchDescriber(ofNullable(assertDescription)
                     .map(s -> " '" + s + "'")
                     .orElse(EMPTY),
                     criteria.toString(),
-                    valueOf(value),
+                    valueOf(actual),
                     mismatchDescription.toString()).toString());
         }
     }
+
+    @Override
+    protected Map<String, String> additionalParameters() {
+        return ofNullable(timedMatching)
+                .map(m -> {
+                    var result = new LinkedHashMap<String, String>();
+                    result.put("Attempts", valueOf(m.attempts));
+                    result.put("Time of the matching", formatDurationHMS(NANOSECONDS.toMillis(m.elapsedNanos)));
+                    return result;
+                })
+                .orElse(null);
+    }
 }
@@ -9,10 +9,16 @@ import ru.tinkoff.qa.neptune.core.api.steps.annotations.DescriptionFragment;
 import ru.tinkoff.qa.neptune.core.api.steps.parameters.ParameterValueGetter;
 
 import java.time.Duration;
+import java.util.function.Supplier;
 
 import static com.google.common.base.Preconditions.checkArgument;
-import static java.lang.System.currentTimeMillis;
+import static java.lang.Math.min;
+import static java.lang.System.nanoTime;
+import static java.lang.Thread.currentThread;
 import static java.util.Optional.ofNullable;
+import static ru.tinkoff.qa.neptune.check.properties.CheckSleepingTime.CHECK_SLEEPING_TIME;
+import static ru.tinkoff.qa.neptune.core.api.properties.general.waiting.DefaultWaitStrategy.DEFAULT_WAIT_STRATEGY;
+import static ru.tinkoff.qa.neptune.core.api.steps.conditions.WaitingSignal.waitingSignal;
 
 @ru.tinkoff.qa.neptune.core.api.steps.annotations.Description("{delegateDescription}")
 final class MatcherWithTime<T> extends NeptuneFeatureMatcher<T> {
@@ -30,24 +36,63 @@ final class MatcherWithTime<T> extends NeptuneFeatureMatcher<T> {
         this.delegateTo = delegateTo;
     }
 
-    protected boolean checkFeature(Object actual) {
+    @Override
+    public boolean matches(Object actual) {
+        return waitForMatch(actual, null).matched;
+    }
 
-        if (actual == null) {
-            return super.checkFeature(null);
+    /**
+     * Matches a value until it suits criteria or time is out. The calling thread is parked between attempts.
+     * Pauses are defined by {@code DEFAULT_WAIT_STRATEGY} and {@code CHECK_SLEEPING_TIME}.
+     *
+     * @param first      is a value to match at first
+     * @param reEvaluate is how to get a value for each next attempt. The first value is matched again and again
+     *                   when it is {@code null}
+     * @return result of the matching
+     */
+    TimedMatching waitForMatch(Object first, Supplier<?> reEvaluate) {
+        var start = nanoTime();
+        var value = first;
+        var attempt = 1;
+
+        if (value == null && reEvaluate == null) {
+            return new TimedMatching(check(null, () -> checkFeature(null)), null, attempt, nanoTime() - start);
         }
 
-        long millis = waitForMatch.toMillis();
-        var startTime = currentTimeMillis();
-        var time = startTime;
-        while (time <= startTime + millis) {
-            if (super.checkFeature(actual)) {
-                return true;
+        var strategy = DEFAULT_WAIT_STRATEGY.get();
+        var sleeping = CHECK_SLEEPING_TIME.get();
+        var timeOut = ofNullable(waitForMatch).map(Duration::toNanos).orElse(0L);
+        var signal = waitingSignal(first);
+
+        while (true) {
+            var matched = matchOnce(value);
+            var elapsed = nanoTime() - start;
+            if (matched) {
+                strategy.succeeded(MatcherWithTime.class, elapsed);
+                return new TimedMatching(true, value, attempt, elapsed);
+            }
+
+            if (elapsed >= timeOut) {
+                return new TimedMatching(false, value, attempt, elapsed);
+            }
+
+            try {
+                signal.await(min(strategy.pauseNanos(MatcherWithTime.class, attempt, elapsed, sleeping),
+                        timeOut - elapsed));
+            } catch (InterruptedException e) {
+                currentThread().interrupt();
+                throw new RuntimeException(e);
             }
 
-            time = currentTimeMillis();
+            attempt++;
+            if (reEvaluate != null) {
+                value = reEvaluate.get();
+            }
         }
+    }
 
-        return false;
+    private boolean matchOnce(Object value) {
+        return check(value, () -> prerequisiteChecking(value) && checkFeature(value));
     }
 
     @Override
@@ -72,4 +117,22 @@ final class MatcherWithTime<T> extends NeptuneFeatureMatcher<T> {
                 .map(d -> new StringDescription().appendText(new MismatchDescriberWithTime(d, description.toString()).toString()))
                 .orElse(description));
     }
+
+    /**
+     * Result of the matching with time.
+     */
+    static final class TimedMatching {
+
+        final boolean matched;
+        final Object value;
+        final int attempts;
+        final long elapsedNanos;
+
+        private TimedMatching(boolean matched, Object value, int attempts, long elapsedNanos) {
+            this.matched = matched;
+            this.value = value;
+            this.attempts = attempts;
+            this.elapsedNanos = elapsedNanos;
+        }
+    }
 }
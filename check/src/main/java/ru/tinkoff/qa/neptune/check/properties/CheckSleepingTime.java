@@ -0,0 +1,45 @@
+package ru.tinkoff.qa.neptune.check.properties;
+
+import ru.tinkoff.qa.neptune.core.api.properties.PropertyDefaultValue;
+import ru.tinkoff.qa.neptune.core.api.properties.PropertyDescription;
+import ru.tinkoff.qa.neptune.core.api.properties.PropertyName;
+import ru.tinkoff.qa.neptune.core.api.properties.duration.DurationSupplier;
+import ru.tinkoff.qa.neptune.core.api.properties.enums.EnumPropertySuppler;
+import ru.tinkoff.qa.neptune.core.api.properties.longs.LongValuePropertySupplier;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+
+import static ru.tinkoff.qa.neptune.check.properties.CheckSleepingTime.CheckSleepingTimeUnitProperty.CHECK_SLEEPING_TIME_UNIT;
+import static ru.tinkoff.qa.neptune.check.properties.CheckSleepingTime.CheckSleepingTimeValueProperty.CHECK_SLEEPING_TIME_VALUE;
+
+public final class CheckSleepingTime extends DurationSupplier {
+
+    /**
+     * Reads properties {@code 'CHECK_SLEEPING_TIME_UNIT'} and {@code 'CHECK_SLEEPING_TIME_VALUE'}
+     * and builds an instance of {@link Duration}. When any of properties is not defined then it builds a duration of
+     * 50 milliseconds.
+     */
+    public static final CheckSleepingTime CHECK_SLEEPING_TIME = new CheckSleepingTime();
+
+    private CheckSleepingTime() {
+        super(CHECK_SLEEPING_TIME_UNIT, CHECK_SLEEPING_TIME_VALUE);
+    }
+
+    public enum CheckSleepingTimeUnitProperty implements EnumPropertySuppler<ChronoUnit> {
+        @PropertyDescription(description = {"Time unit (see java.time.temporal.ChronoUnit) of time",
+                "of the sleeping between attempts to match a value which is checked with time"},
+                section = "Check. Sleeping time")
+        @PropertyName("CHECK_SLEEPING_TIME_UNIT")
+        @PropertyDefaultValue("MILLIS")
+        CHECK_SLEEPING_TIME_UNIT
+    }
+
+    public enum CheckSleepingTimeValueProperty implements LongValuePropertySupplier {
+        @PropertyDescription(description = "Value of time of the sleeping between attempts to match a value which is checked with time",
+                section = "Check. Sleeping time")
+        @PropertyName("CHECK_SLEEPING_TIME_VALUE")
+        @PropertyDefaultValue("50")
+        CHECK_SLEEPING_TIME_VALUE
+    }
+}
@@ -0,0 +1,21 @@
+package ru.tinkoff.qa.neptune.check.properties;
+
+import ru.tinkoff.qa.neptune.core.api.properties.PropertyDefaultValue;
+import ru.tinkoff.qa.neptune.core.api.properties.PropertyDescription;
+import ru.tinkoff.qa.neptune.core.api.properties.PropertyName;
+import ru.tinkoff.qa.neptune.core.api.properties.booleans.BooleanValuePropertySupplier;
+
+@PropertyDescription(description = {
+        "To perform matchings with time of one check in parallel or not",
+        "Criteria and functions which evaluate checked values are expected to be thread-safe when it is true"},
+        section = "Check. Timed matching")
+@PropertyName("PARALLEL_TIMED_MATCHING")
+@PropertyDefaultValue("false")
+public final class ParallelTimedMatching implements BooleanValuePropertySupplier {
+
+    public static final ParallelTimedMatching PARALLEL_TIMED_MATCHING_PROPERTY = new ParallelTimedMatching();
+
+    private ParallelTimedMatching() {
+        super();
+    }
+}
@@ -4,6 +4,7 @@ import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
 import static java.lang.Math.pow;
@@ -17,7 +18,9 @@ import static org.testng.AssertJUnit.fail;
 import static ru.tinkoff.qa.neptune.check.CheckActionSupplier.check;
 import static ru.tinkoff.qa.neptune.check.CheckActionSupplier.evaluateAndCheck;
 import static ru.tinkoff.qa.neptune.check.MatchAction.*;
+import static ru.tinkoff.qa.neptune.check.properties.ParallelTimedMatching.PARALLEL_TIMED_MATCHING_PROPERTY;
 import static ru.tinkoff.qa.neptune.check.test.TestEventLogger.MESSAGES;
+import static ru.tinkoff.qa.neptune.check.test.TestEventLogger.PARAMETERS;
 import static ru.tinkoff.qa.neptune.core.api.properties.general.events.CapturedEvents.SUCCESS_AND_FAILURE;
 import static ru.tinkoff.qa.neptune.core.api.properties.general.events.DoCapturesOf.DO_CAPTURES_OF_INSTANCE;
 
@@ -26,6 +29,7 @@ public class CheckTest {
     @BeforeMethod
     public void beforeMethod() {
         MESSAGES.clear();
+        PARAMETERS.clear();
     }
 
     private static final List<String> EXPECTED_LOGGER_MESSAGES1 =
@@ -502,4 +506,76 @@ public class CheckTest {
 
         fail("Exception was expected");
     }
+
+    @Test
+    public void test21() {
+        var counter = new AtomicInteger();
+        check("Counter",
+                counter,
+                match("Incremented value",
+                        AtomicInteger::incrementAndGet,
+                        ofSeconds(3),
+                        greaterThanOrEqualTo(5)));
+
+        //the value is evaluated again before each attempt
+        assertThat(counter.get(), is(5));
+        assertThat(PARAMETERS, hasItem(hasEntry("Attempts", "5")));
+        assertThat(PARAMETERS, hasItem(hasKey("Time of the matching")));
+    }
+
+    @Test
+    public void test22() {
+        var counter = new AtomicInteger();
+        try {
+            check("Counter",
+                    counter,
+                    match("Incremented value",
+                            AtomicInteger::incrementAndGet,
+                            ofSeconds(1),
+                            lessThan(0)));
+        } catch (AssertionError e) {
+            var attempts = counter.get();
+            assertThat(attempts, greaterThan(2));
+            assertThat(e.getMessage(), containsString("Checked value: '" + attempts + "'"));
+            assertThat(PARAMETERS, hasItem(hasEntry("Attempts", String.valueOf(attempts))));
+            return;
+        }
+
+        fail("Exception was expected");
+    }
+
+    @Test
+    public void test23() {
+        PARALLEL_TIMED_MATCHING_PROPERTY.accept(true);
+        var evaluations = new AtomicInteger();
+        var benchMarkStart = currentTimeMillis();
+        try {
+            check("Tested number",
+                    4,
+                    match(ofSeconds(2), greaterThan(5)),
+                    match("Sqrt value",
+                            number -> {
+                                evaluations.incrementAndGet();
+                                return sqrt(number.doubleValue());
+                            },
+                            ofSeconds(2),
+                            is(3D)),
+                    matchNot(ofSeconds(2), lessThan(5)));
+        } catch (AssertionError e) {
+            //each matching waits for the defined time at least
+            assertThat(currentTimeMillis() - benchMarkStart, greaterThanOrEqualTo(2000L));
+            assertThat(evaluations.get(), greaterThan(1));
+            assertThat(PARAMETERS, hasItem(hasEntry("Attempts", String.valueOf(evaluations.get()))));
+            assertThat(PARAMETERS.stream().filter(p -> p.containsKey("Attempts")).count(), is(3L));
+
+            assertThat(e.getMessage(), stringContainsInOrder("Expected: a value greater than <5>",
+                    "Expected: 'Sqrt value' is <3.0>",
+                    "Expected: not a value less than <5>"));
+            return;
+        } finally {
+            PARALLEL_TIMED_MATCHING_PROPERTY.accept(null);
+        }
+
+        fail("Exception was expected");
+    }
 }
@@ -7,10 +7,12 @@ import java.util.List;
 import java.util.Map;
 
 import static java.lang.String.format;
+import static java.util.Collections.synchronizedList;
 
 public class TestEventLogger implements EventLogger {
 
-    static final List<String> MESSAGES = new ArrayList<>();
+    static final List<String> MESSAGES = synchronizedList(new ArrayList<>());
+    static final List<Map<String, String>> PARAMETERS = synchronizedList(new ArrayList<>());
 
     @Override
     public void fireTheEventStarting(String message, Map<String, String> parameters) {
@@ -37,6 +39,6 @@ public class TestEventLogger implements EventLogger {
 
     @Override
     public void addParameters(Map<String, String> parameters) {
-
+        PARAMETERS.add(parameters);
     }
 }
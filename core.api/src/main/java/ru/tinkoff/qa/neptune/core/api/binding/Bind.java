@@ -1,7 +1,5 @@
 package ru.tinkoff.qa.neptune.core.api.binding;
 
-import io.github.classgraph.ClassGraph;
-
 import java.lang.annotation.Repeatable;
 import java.lang.annotation.Retention;
 import java.lang.annotation.Target;
@@ -19,6 +17,8 @@ import static java.lang.annotation.RetentionPolicy.RUNTIME;
 import static java.util.Arrays.stream;
 import static java.util.stream.Collectors.toList;
 import static org.apache.commons.lang3.ArrayUtils.contains;
+import static ru.tinkoff.qa.neptune.core.api.classpath.ClassIndex.getClassesWithAnnotation;
+import static ru.tinkoff.qa.neptune.core.api.classpath.ClassIndex.getClassesWithFieldAnnotation;
 
 /**
  * This annotation is used to bind classes to each other.
@@ -57,20 +57,12 @@ public @interface Bind {
      */
     class DefaultBindReader {
 
-        private static final List<Class<?>> ANNOTATED_CLASSES = new ClassGraph()
-                .enableAllInfo()
-                .scan()
-                .getClassesWithAnnotation(Bind.class.getName())
-                .loadClasses(true);
+        private static final List<Class<?>> ANNOTATED_CLASSES = getClassesWithAnnotation(Bind.class);
 
         private static final Set<Field> ANNOTATED_FIELDS = getAnnotatedFields();
 
         private static Set<Field> getAnnotatedFields() {
-            var classes = new ClassGraph()
-                    .enableAllInfo()
-                    .scan()
-                    .getClassesWithFieldAnnotation(Bind.class.getName())
-                    .loadClasses(true);
+            var classes = getClassesWithFieldAnnotation(Bind.class);
 
             var result = new HashSet<Field>();
             classes.forEach(aClass -> result.addAll(stream(aClass.getDeclaredFields())
@@ -0,0 +1,217 @@
+package ru.tinkoff.qa.neptune.core.api.classpath;
+
+import io.github.classgraph.ClassGraph;
+import io.github.classgraph.ScanResult;
+
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import static java.lang.Thread.currentThread;
+import static java.util.Arrays.stream;
+import static java.util.Collections.list;
+import static java.util.Optional.ofNullable;
+import static java.util.stream.Stream.concat;
+import static org.apache.commons.lang3.StringUtils.isNotBlank;
+import static ru.tinkoff.qa.neptune.core.api.classpath.ClasspathQuery.*;
+import static ru.tinkoff.qa.neptune.core.api.properties.general.classpath.ClasspathScanPackages.CLASSPATH_SCAN_PACKAGES_PROPERTY;
+
+/**
+ * Shared registry of classpath metadata which is used by Neptune to find implementors of
+ * its interfaces, subclasses of its classes and annotated classes.
+ * <p></p>
+ * Results are read from the precomputed index {@link #CLASS_INDEX} when it is present in classpath
+ * (see {@link ClassIndexGenerator}). When the index is absent or it doesn't contain a result of some query,
+ * the classpath is scanned only once and the scan result is shared by all queries. The scan reads info about
+ * classes and their annotations only. Fields and methods are scanned by a separate scan when some query needs them.
+ * Scanned packages may be limited by {@link ru.tinkoff.qa.neptune.core.api.properties.general.classpath.ClasspathScanPackages}.
+ */
+public final class ClassIndex {
+
+    /**
+     * Path to the precomputed index of classpath
+     */
+    public static final String CLASS_INDEX = "META-INF/neptune/class.index";
+
+    /**
+     * Path to resources that define classpath queries which should be precomputed by {@link ClassIndexGenerator}.
+     * Each line of such resource has format {@code kind:full.class.Name}. Available kinds are
+     * {@code subclasses}, {@code implementing}, {@code annotated}, {@code fieldAnnotated}
+     * and {@code methodAnnotated}.
+     */
+    public static final String INDEXED_TYPES = "META-INF/neptune/indexed.types";
+
+    private static final String NEPTUNE_PACKAGE = "ru.tinkoff.qa.neptune";
+
+    private static final Map<String, List<String>> INDEX = readIndex(classLoader());
+    private static final Map<String, List<String>> RESOLVED = new ConcurrentHashMap<>();
+
+    private ClassIndex() {
+        super();
+    }
+
+    static ClassLoader classLoader() {
+        return ofNullable(currentThread().getContextClassLoader())
+                .orElseGet(ClassIndex.class::getClassLoader);
+    }
+
+    static Map<String, List<String>> readIndex(ClassLoader classLoader) {
+        var merged = new HashMap<String, TreeSet<String>>();
+        try {
+            for (var url : list(classLoader.getResources(CLASS_INDEX))) {
+                var properties = new Properties();
+                try (var is = url.openStream()) {
+                    properties.load(is);
+                }
+
+                properties.forEach((k, v) -> {
+                    var names = merged.computeIfAbsent(String.valueOf(k), s -> new TreeSet<>());
+                    stream(String.valueOf(v).split(","))
+                            .map(String::trim)
+                            .filter(s -> isNotBlank(s))
+                            .forEach(names::add);
+                });
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+
+        var result = new HashMap<String, List<String>>();
+        merged.forEach((k, v) -> result.put(k, List.copyOf(v)));
+        return result;
+    }
+
+    /**
+     * @return is the precomputed index present in classpath or not
+     */
+    public static boolean isIndexPresent() {
+        return !INDEX.isEmpty();
+    }
+
+    static List<String> names(ClasspathQuery query, String className) {
+        var key = query.key(className);
+        var found = RESOLVED.get(key);
+        if (found != null) {
+            return found;
+        }
+
+        found = ofNullable(INDEX.get(key)).orElseGet(() -> scan(query, className));
+        var previous = RESOLVED.putIfAbsent(key, found);
+        return previous != null ? previous : found;
+    }
+
+    static List<String> scan(ClasspathQuery query, String className) {
+        var scanResult = query.requiresMemberInfo() ? SharedMemberScan.SCAN_RESULT : SharedScan.SCAN_RESULT;
+        return List.copyOf(query.query(scanResult, className).getNames());
+    }
+
+    /**
+     * Scans the classpath.
+     *
+     * @param memberInfo should info about fields and methods be read or info about classes is enough
+     * @return result of the scan
+     */
+    static ScanResult scanClasspath(boolean memberInfo) {
+        var classGraph = new ClassGraph()
+                .enableClassInfo()
+                .enableAnnotationInfo()
+                .ignoreClassVisibility();
+
+        if (memberInfo) {
+            classGraph.enableFieldInfo()
+                    .enableMethodInfo()
+                    .ignoreFieldVisibility()
+                    .ignoreMethodVisibility();
+        }
+
+        var packages = CLASSPATH_SCAN_PACKAGES_PROPERTY.get();
+        if (packages != null && !packages.isEmpty()) {
+            classGraph.acceptPackages(concat(Stream.of(NEPTUNE_PACKAGE), packages.stream())
+                    .toArray(String[]::new));
+        }
+        return classGraph.scan();
+    }
+
+    private static <T> List<Class<? extends T>> load(List<String> names, Class<T> type) {
+        var loader = classLoader();
+        var result = new ArrayList<Class<? extends T>>(names.size());
+        for (var name : names) {
+            try {
+                var cls = Class.forName(name, false, loader);
+                if (type.isAssignableFrom(cls)) {
+                    result.add(cls.asSubclass(type));
+                }
+            } catch (ClassNotFoundException | LinkageError e) {
+                //the index may be generated for a wider classpath. Such classes are ignored
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns all subclasses of a class.
+     *
+     * @param superclass is a class to find subclasses of
+     * @param <T>        is a type of superclass
+     * @return list of subclasses sorted by name
+     */
+    public static <T> List<Class<? extends T>> getSubclasses(Class<T> superclass) {
+        return load(names(SUBCLASSES, superclass.getName()), superclass);
+    }
+
+    /**
+     * Returns all classes and interfaces which implement/extend an interface.
+     *
+     * @param anInterface is an interface to find implementors of
+     * @param <T>         is a type of the interface
+     * @return list of implementors sorted by name
+     */
+    public static <T> List<Class<? extends T>> getClassesImplementing(Class<T> anInterface) {
+        return load(names(IMPLEMENTING, anInterface.getName()), anInterface);
+    }
+
+    /**
+     * Returns all classes annotated by an annotation.
+     *
+     * @param annotation is a class of the annotation
+     * @return list of annotated classes sorted by name
+     */
+    public static List<Class<?>> getClassesWithAnnotation(Class<? extends Annotation> annotation) {
+        return load(names(ANNOTATED, annotation.getName()), Object.class);
+    }
+
+    /**
+     * Returns all classes that declare fields annotated by an annotation.
+     *
+     * @param annotation is a class of the annotation
+     * @return list of classes sorted by name
+     */
+    public static List<Class<?>> getClassesWithFieldAnnotation(Class<? extends Annotation> annotation) {
+        return load(names(FIELD_ANNOTATED, annotation.getName()), Object.class);
+    }
+
+    /**
+     * Returns all classes that declare methods annotated by an annotation.
+     *
+     * @param annotation is a class of the annotation
+     * @return list of classes sorted by name
+     */
+    public static List<Class<?>> getClassesWithMethodAnnotation(Class<? extends Annotation> annotation) {
+        return load(names(METHOD_ANNOTATED, annotation.getName()), Object.class);
+    }
+
+    private static final class SharedScan {
+        private static final ScanResult SCAN_RESULT = scanClasspath(false);
+    }
+
+    private static final class SharedMemberScan {
+        private static final ScanResult SCAN_RESULT = scanClasspath(true);
+    }
+}
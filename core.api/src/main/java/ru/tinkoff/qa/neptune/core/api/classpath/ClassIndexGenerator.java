@@ -0,0 +1,98 @@
+package ru.tinkoff.qa.neptune.core.api.classpath;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.lang.String.format;
+import static java.lang.String.join;
+import static java.util.Arrays.asList;
+import static java.util.Collections.list;
+import static org.apache.commons.lang3.StringUtils.isBlank;
+import static ru.tinkoff.qa.neptune.core.api.classpath.ClassIndex.CLASS_INDEX;
+import static ru.tinkoff.qa.neptune.core.api.classpath.ClassIndex.INDEXED_TYPES;
+import static ru.tinkoff.qa.neptune.core.api.classpath.ClassIndex.classLoader;
+import static ru.tinkoff.qa.neptune.core.api.classpath.ClassIndex.scanClasspath;
+
+/**
+ * Scans the classpath once and writes results of queries defined by {@link ClassIndex#INDEXED_TYPES}
+ * to {@link ClassIndex#CLASS_INDEX}. It is supposed to be invoked at build time with the same classpath
+ * as tests are run with.
+ */
+public final class ClassIndexGenerator {
+
+    private ClassIndexGenerator() {
+        super();
+    }
+
+    /**
+     * Generates the index.
+     *
+     * @param args the first is a path to the directory of resources where the index should be saved. Other
+     *             arguments are optional. They are additional queries in format {@code kind:full.class.Name}
+     * @throws IOException when the index file can't be written
+     */
+    public static void main(String[] args) throws IOException {
+        checkArgument(args.length >= 1, "There should be at least 1 argument. " +
+                "It is a path to the directory where the index should be saved");
+
+        var directory = new File(args[0]);
+        checkArgument(directory.exists(), "File " + directory.getAbsolutePath() + " doesn't exist");
+        checkArgument(directory.isDirectory(), "File " + directory.getAbsolutePath() + " is not a directory");
+
+        var queries = readIndexedQueries();
+        queries.addAll(asList(args).subList(1, args.length));
+
+        var file = new File(directory, CLASS_INDEX);
+        var parent = file.getParentFile();
+        if (!parent.exists() && !parent.mkdirs()) {
+            throw new IOException("Directory " + parent.getAbsolutePath() + " was not created for some reason");
+        }
+
+        try (var output = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.ISO_8859_1))) {
+            output.write("#Precomputed index of classpath. It is generated by " + ClassIndexGenerator.class.getName());
+            for (var e : buildIndex(queries).entrySet()) {
+                output.newLine();
+                output.write(e.getKey() + "=" + join(",", e.getValue()));
+            }
+        }
+    }
+
+    static Set<String> readIndexedQueries() throws IOException {
+        var result = new TreeSet<String>();
+        for (var url : list(classLoader().getResources(INDEXED_TYPES))) {
+            try (var reader = new BufferedReader(new InputStreamReader(url.openStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    var trimmed = line.trim();
+                    if (isBlank(trimmed) || trimmed.startsWith("#")) {
+                        continue;
+                    }
+                    result.add(trimmed);
+                }
+            }
+        }
+        return result;
+    }
+
+    static Map<String, List<String>> buildIndex(Collection<String> queries) {
+        var parsed = new TreeMap<String, Map.Entry<ClasspathQuery, String>>();
+        queries.forEach(q -> {
+            var parts = q.split(":");
+            checkArgument(parts.length == 2, format("Query '%s' should have format kind:full.class.Name", q));
+
+            var query = ClasspathQuery.byPrefix(parts[0].trim());
+            var className = parts[1].trim();
+            parsed.put(query.key(className), Map.entry(query, className));
+        });
+
+        var result = new TreeMap<String, List<String>>();
+        //fields and methods are scanned only when some query needs them
+        var memberInfo = parsed.values().stream().anyMatch(e -> e.getKey().requiresMemberInfo());
+        try (var scanResult = scanClasspath(memberInfo)) {
+            parsed.forEach((key, e) -> result.put(key, e.getKey().query(scanResult, e.getValue()).getNames()));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,57 @@
+package ru.tinkoff.qa.neptune.core.api.classpath;
+
+import io.github.classgraph.ClassInfoList;
+import io.github.classgraph.ScanResult;
+
+import java.util.function.BiFunction;
+
+import static java.lang.String.format;
+import static java.util.Arrays.stream;
+
+/**
+ * Kinds of classpath queries that may be precomputed by {@link ClassIndexGenerator}
+ * and resolved by {@link ClassIndex}.
+ */
+enum ClasspathQuery {
+    SUBCLASSES("subclasses", false, ScanResult::getSubclasses),
+    IMPLEMENTING("implementing", false, ScanResult::getClassesImplementing),
+    ANNOTATED("annotated", false, ScanResult::getClassesWithAnnotation),
+    FIELD_ANNOTATED("fieldAnnotated", true, ScanResult::getClassesWithFieldAnnotation),
+    METHOD_ANNOTATED("methodAnnotated", true, ScanResult::getClassesWithMethodAnnotation);
+
+    private final String prefix;
+    private final boolean requiresMemberInfo;
+    private final BiFunction<ScanResult, String, ClassInfoList> query;
+
+    ClasspathQuery(String prefix, boolean requiresMemberInfo, BiFunction<ScanResult, String, ClassInfoList> query) {
+        this.prefix = prefix;
+        this.requiresMemberInfo = requiresMemberInfo;
+        this.query = query;
+    }
+
+    static ClasspathQuery byPrefix(String prefix) {
+        return stream(values())
+                .filter(q -> q.prefix.equals(prefix))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException(format("Unknown kind of indexed query '%s'", prefix)));
+    }
+
+    /**
+     * @param className is a name of a superclass/interface/annotation
+     * @return key of a query result in the index
+     */
+    String key(String className) {
+        return prefix + "." + className;
+    }
+
+    /**
+     * @return does the query need info about fields and methods or info about classes is enough
+     */
+    boolean requiresMemberInfo() {
+        return requiresMemberInfo;
+    }
+
+    ClassInfoList query(ScanResult scanResult, String className) {
+        return query.apply(scanResult, className);
+    }
+}
@@ -0,0 +1,214 @@
+package ru.tinkoff.qa.neptune.core.api.concurrency;
+
+import ru.tinkoff.qa.neptune.core.api.cleaning.Stoppable;
+import ru.tinkoff.qa.neptune.core.api.steps.context.Context;
+
+import java.util.Deque;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.lang.String.format;
+import static java.lang.Thread.currentThread;
+import static java.util.concurrent.ConcurrentHashMap.newKeySet;
+import static java.util.concurrent.Executors.newSingleThreadScheduledExecutor;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static ru.tinkoff.qa.neptune.core.api.concurrency.ObjectContainer.containers;
+
+/**
+ * Pool of {@link ObjectContainer}. Free containers are kept by queues which are created per class of
+ * a wrapped {@link Context}. Containers are checked out and returned without global locking.
+ * <p></p>
+ * Containers are returned to the pool by {@link #releaseContexts()}, by {@link #releaseContexts(Object)} or when
+ * a thread that took them is terminated. The last is checked by a single shared daemon thread. The same thread stops
+ * free {@link Stoppable} contexts after some time of inactivity.
+ * <p></p>
+ * A thread may be bound to a scope, e.g. a test class, by {@link #bindToScope(Object)}. Containers used by
+ * the thread are bound to the same scope. They all are returned by {@link #releaseContexts(Object)} when the scope
+ * is finished, whichever threads took them.
+ *
+ * @see ru.tinkoff.qa.neptune.core.api.properties.general.resorces.FreeResourcesOnInactivity
+ * @see ru.tinkoff.qa.neptune.core.api.properties.general.resorces.FreeResourcesOnInactivityAfter
+ */
+public final class ContextPool {
+
+    private static final long TERMINATED_THREADS_CHECK_PERIOD = 50;
+
+    private static final Map<Class<?>, Deque<ObjectContainer<?>>> FREE = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, Counters> COUNTERS = new ConcurrentHashMap<>();
+    private static final Set<ObjectContainer<?>> CHECKED_OUT = newKeySet();
+    private static final ThreadLocal<Object> SCOPE = new ThreadLocal<>();
+
+    private static final ScheduledExecutorService REAPER = newSingleThreadScheduledExecutor(r -> {
+        var thread = new Thread(r, "Neptune context pool reaper");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    static {
+        REAPER.scheduleWithFixedDelay(ContextPool::releaseContextsOfTerminatedThreads,
+                TERMINATED_THREADS_CHECK_PERIOD,
+                TERMINATED_THREADS_CHECK_PERIOD,
+                MILLISECONDS);
+    }
+
+    private ContextPool() {
+        super();
+    }
+
+    private static Deque<ObjectContainer<?>> free(Class<?> tClass) {
+        return FREE.computeIfAbsent(tClass, c -> new ConcurrentLinkedDeque<>());
+    }
+
+    private static Counters counters(Class<?> tClass) {
+        return COUNTERS.computeIfAbsent(tClass, c -> new Counters());
+    }
+
+    static void created(ObjectContainer<?> container) {
+        container.setScope(currentThread(), SCOPE.get());
+        CHECKED_OUT.add(container);
+    }
+
+    /**
+     * Takes a free container of a context by current thread.
+     *
+     * @param tClass is a class of wrapped objects. {@link ObjectContainer#getWrappedObject()}
+     * @param <T>    is a type of wrapped objects.
+     * @return an object of {@link ObjectContainer} that has become busy. It returns {@code null}
+     * when there is no free container of the given class.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> ObjectContainer<T> checkOut(Class<T> tClass) {
+        checkNotNull(tClass);
+        var queue = free(tClass);
+        var thread = currentThread();
+
+        ObjectContainer<?> container;
+        while ((container = queue.pollFirst()) != null) {
+            //the container may be removed from the registry. It is not used anymore
+            if (containers.contains(container) && container.setBusy(thread, SCOPE.get())) {
+                CHECKED_OUT.add(container);
+                return (ObjectContainer<T>) container;
+            }
+        }
+
+        counters(tClass).misses.increment();
+        return null;
+    }
+
+    private static void release(ObjectContainer<?> container) {
+        if (container.setFree()) {
+            returnToPool(container);
+        }
+    }
+
+    private static void returnToPool(ObjectContainer<?> container) {
+        CHECKED_OUT.remove(container);
+        free(container.getWrappedObject().getClass()).offerFirst(container);
+    }
+
+    /**
+     * Returns all contexts taken by current thread to the pool. It is supposed to be invoked by listeners
+     * of test frameworks when all tests of a class are finished.
+     */
+    public static void releaseContexts() {
+        var thread = currentThread();
+        CHECKED_OUT.forEach(c -> {
+            if (c.isBusyBy(thread)) {
+                release(c);
+            }
+        });
+    }
+
+    /**
+     * Binds current thread to a scope. Containers that are already taken by current thread and containers that
+     * are taken later are bound to the same scope. It is supposed to be invoked by listeners of test frameworks
+     * before a test or a configuration method is invoked.
+     *
+     * @param scope is a scope to bind current thread to, e.g. a test class
+     */
+    public static void bindToScope(Object scope) {
+        checkNotNull(scope);
+        var thread = currentThread();
+        SCOPE.set(scope);
+        CHECKED_OUT.forEach(c -> c.setScope(thread, scope));
+    }
+
+    /**
+     * Returns all contexts bound to a scope to the pool, whichever threads took them. It is supposed to be invoked
+     * by listeners of test frameworks when the scope is finished, e.g. when all tests of a class are finished.
+     *
+     * @param scope is a finished scope
+     */
+    public static void releaseContexts(Object scope) {
+        checkNotNull(scope);
+        CHECKED_OUT.forEach(c -> {
+            if (c.setFree(scope)) {
+                returnToPool(c);
+            }
+        });
+    }
+
+    /**
+     * Returns containers taken by terminated threads to the pool. It is invoked periodically by the shared daemon
+     * thread. It is package private for unit testing.
+     */
+    static void releaseContextsOfTerminatedThreads() {
+        CHECKED_OUT.forEach(c -> {
+            var thread = c.getBusyBy();
+            if (thread != null && !thread.isAlive()) {
+                release(c);
+            }
+        });
+    }
+
+    static ScheduledFuture<?> scheduleStop(ObjectContainer<? extends Stoppable> container,
+                                           long freedTimes,
+                                           long stopAfterMillis) {
+        return REAPER.schedule(() -> {
+            if (container.stopIfFree(freedTimes)) {
+                counters(container.getWrappedObject().getClass()).evictions.increment();
+            }
+        }, stopAfterMillis, MILLISECONDS);
+    }
+
+    /**
+     * Returns metrics of the pool.
+     *
+     * @param tClass is a class of contexts
+     * @return snapshot of current metrics of contexts of the given class
+     */
+    public static ContextPoolMetrics getMetrics(Class<?> tClass) {
+        checkNotNull(tClass);
+        checkArgument(Context.class.isAssignableFrom(tClass), format("Class of an object should be " +
+                "assignable %s", Context.class.getName()));
+
+        int checkedOut = 0;
+        int idle = 0;
+        for (var c : containers) {
+            if (!tClass.equals(c.getWrappedObject().getClass())) {
+                continue;
+            }
+
+            if (c.isBusy()) {
+                checkedOut++;
+            } else {
+                idle++;
+            }
+        }
+
+        var counters = counters(tClass);
+        return new ContextPoolMetrics(checkedOut, idle, counters.misses.sum(), counters.evictions.sum());
+    }
+
+    private static final class Counters {
+        private final LongAdder misses = new LongAdder();
+        private final LongAdder evictions = new LongAdder();
+    }
+}
@@ -0,0 +1,54 @@
+package ru.tinkoff.qa.neptune.core.api.concurrency;
+
+import static java.lang.String.format;
+
+/**
+ * Snapshot of metrics of {@link ContextPool} that are calculated for some class of contexts.
+ */
+public final class ContextPoolMetrics {
+
+    private final int checkedOut;
+    private final int idle;
+    private final long misses;
+    private final long evictions;
+
+    ContextPoolMetrics(int checkedOut, int idle, long misses, long evictions) {
+        this.checkedOut = checkedOut;
+        this.idle = idle;
+        this.misses = misses;
+        this.evictions = evictions;
+    }
+
+    /**
+     * @return count of contexts which are used by threads
+     */
+    public int getCheckedOut() {
+        return checkedOut;
+    }
+
+    /**
+     * @return count of free contexts
+     */
+    public int getIdle() {
+        return idle;
+    }
+
+    /**
+     * @return how many times a context was requested when there was no free one. So a new context was created.
+     */
+    public long getMisses() {
+        return misses;
+    }
+
+    /**
+     * @return how many free contexts were stopped because of inactivity
+     */
+    public long getEvictions() {
+        return evictions;
+    }
+
+    @Override
+    public String toString() {
+        return format("checked out: %s, idle: %s, misses: %s, evictions: %s", checkedOut, idle, misses, evictions);
+    }
+}
@@ -3,37 +3,40 @@ package ru.tinkoff.qa.neptune.core.api.concurrency;
 import ru.tinkoff.qa.neptune.core.api.cleaning.Stoppable;
 import ru.tinkoff.qa.neptune.core.api.steps.context.Context;
 
-import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ScheduledFuture;
 import java.util.function.Predicate;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 import static java.lang.String.format;
 import static java.lang.Thread.currentThread;
-import static java.util.Collections.synchronizedSet;
 import static java.util.Objects.nonNull;
+import static java.util.concurrent.ConcurrentHashMap.newKeySet;
 import static java.util.stream.Collectors.toList;
 import static ru.tinkoff.qa.neptune.core.api.properties.general.resorces.FreeResourcesOnInactivity.TO_FREE_RESOURCES_ON_INACTIVITY_PROPERTY;
+import static ru.tinkoff.qa.neptune.core.api.properties.general.resorces.FreeResourcesOnInactivityAfter.FREE_RESOURCES_ON_INACTIVITY_AFTER;
 
 public class ObjectContainer<T> {
 
     //package private for unit testing
-    static final Set<ObjectContainer<?>> containers = synchronizedSet(new HashSet<>());
+    static final Set<ObjectContainer<?>> containers = newKeySet();
 
     private final T t;
-    private Thread busyBy;
+    private volatile Thread busyBy;
+    private Object scope;
+    private ScheduledFuture<?> toStop;
+    private long timesFreed;
 
     public ObjectContainer(T t) {
         checkNotNull(t);
         checkArgument(Context.class.isAssignableFrom(t.getClass()), format("Class of an object should be " +
                 "assignable %s", Context.class.getName()));
         this.t = t;
-        synchronized (containers) {
-            this.setBusy(currentThread());
-            containers.add(this);
-        }
+        this.busyBy = currentThread();
+        containers.add(this);
+        ContextPool.created(this);
     }
 
     public static <T> List<ObjectContainer<?>> getAllObjects(Class<T> tClass,
@@ -42,10 +45,8 @@ public class ObjectContainer<T> {
         checkNotNull(predicate);
         checkArgument(Context.class.isAssignableFrom(tClass), format("Class of an object should be " +
                 "assignable %s", Context.class.getName()));
-        synchronized (containers) {
-            return containers.stream().filter(predicate
-                    .and(objectContainer -> tClass.isAssignableFrom(objectContainer.getWrappedObject().getClass()))).collect(toList());
-        }
+        return containers.stream().filter(predicate
+                .and(objectContainer -> tClass.isAssignableFrom(objectContainer.getWrappedObject().getClass()))).collect(toList());
     }
 
     /**
@@ -54,36 +55,105 @@ public class ObjectContainer<T> {
      * @param tClass is a class of wrapped objects. {@link ObjectContainer#getWrappedObject()}
      * @param <T> is a type of wrapped objects.
      * @return an object of {@link ObjectContainer} that has become busy if there is some objects free of threads.
+     * @see ContextPool#checkOut(Class)
      */
-    @SuppressWarnings("unchecked")
-    public static synchronized <T> ObjectContainer<T> setObjectBusy(Class<T> tClass) {
-        var freeObjects = getAllObjects(tClass, objectContainer ->
-                !objectContainer.isBusy());
-        if (freeObjects.size() == 0) {
-            return null;
-        }
-        var result = freeObjects.get(0);
-        result.setBusy(currentThread());
-        return (ObjectContainer<T>) result;
+    public static <T> ObjectContainer<T> setObjectBusy(Class<T> tClass) {
+        return ContextPool.checkOut(tClass);
     }
 
-    synchronized boolean isBusy() {
+    boolean isBusy() {
         return nonNull(busyBy);
     }
 
-    private synchronized void setBusy(Thread thread) {
-        this.busyBy = thread;
-        new ThreadBusyStateLoop(currentThread(), this).start();
+    /**
+     * @param thread is a thread to check
+     * @return is the container busy by the thread or not
+     */
+    public boolean isBusyBy(Thread thread) {
+        return busyBy == thread;
+    }
+
+    Thread getBusyBy() {
+        return busyBy;
+    }
+
+    //package private for unit testing
+    synchronized ScheduledFuture<?> getToStop() {
+        return toStop;
+    }
+
+    synchronized boolean setBusy(Thread thread, Object scope) {
+        if (nonNull(busyBy)) {
+            return false;
+        }
+
+        busyBy = thread;
+        this.scope = scope;
+        if (nonNull(toStop)) {
+            toStop.cancel(false);
+            toStop = null;
+        }
+        return true;
+    }
+
+    /**
+     * Binds the container to a scope when it is busy by the thread.
+     *
+     * @param thread is a thread which is expected to use the container
+     * @param scope  is a scope to bind the container to
+     */
+    synchronized void setScope(Thread thread, Object scope) {
+        if (busyBy == thread) {
+            this.scope = scope;
+        }
+    }
+
+    /**
+     * Makes the container free when it is bound to the scope.
+     *
+     * @param scope is a scope which is finished
+     * @return was the container made free or not
+     */
+    synchronized boolean setFree(Object scope) {
+        if (this.scope == null || !this.scope.equals(scope)) {
+            return false;
+        }
+        return setFree();
     }
 
     @SuppressWarnings("unchecked")
-    synchronized void setFree(long toStopOnInactivityAfter) {
-        this.busyBy = null;
+    synchronized boolean setFree() {
+        if (!isBusy()) {
+            return false;
+        }
+
+        scope = null;
+
+        busyBy = null;
+        timesFreed++;
         if (TO_FREE_RESOURCES_ON_INACTIVITY_PROPERTY.get()
                 && Stoppable.class.isAssignableFrom(t.getClass())) {
-            new ThreadStoppableFreeStateLoop((ObjectContainer<? extends Stoppable>) this, toStopOnInactivityAfter)
-                    .start();
+            toStop = ContextPool.scheduleStop((ObjectContainer<? extends Stoppable>) this,
+                    timesFreed,
+                    FREE_RESOURCES_ON_INACTIVITY_AFTER.get().toMillis());
         }
+        return true;
+    }
+
+    /**
+     * Invokes {@link Stoppable#stop()} when the container is still free since it was freed last time.
+     *
+     * @param freedTimes is how many times the container was freed when the stopping was scheduled
+     * @return was the wrapped object stopped or not
+     */
+    synchronized boolean stopIfFree(long freedTimes) {
+        if (isBusy() || timesFreed != freedTimes) {
+            return false;
+        }
+
+        toStop = null;
+        ((Stoppable) t).stop();
+        return true;
     }
 
     public T getWrappedObject() {
@@ -1,71 +1,27 @@
 package ru.tinkoff.qa.neptune.core.api.dependency.injection;
 
-import io.github.classgraph.ClassGraph;
-
 import java.lang.reflect.Field;
 
 import static com.google.common.base.Preconditions.checkNotNull;
-import static java.lang.reflect.Modifier.isFinal;
-import static java.lang.reflect.Modifier.isStatic;
-import static java.util.Arrays.stream;
-import static org.apache.commons.lang3.ArrayUtils.addAll;
+import static ru.tinkoff.qa.neptune.core.api.dependency.injection.InjectionPlan.planOf;
 
 /**
  * It is designed for the filling of not static and not final fields of objects.
  * It is recommended to implement by classes which have no declared constructor/constructor without parameters.
+ * Each implementation is instantiated once. Fields that should be filled are resolved once per class,
+ * so {@link #toSet(Field)} should return the same result for the same field.
  */
 public interface DependencyInjector {
 
     /**
-     * Fills fields of an object with values
+     * Fills fields of an object with values. Only fields which are not static, not final and
+     * have no value yet (primitive fields are always filled) are filled.
      *
      * @param o whose fields should be filled with values
      */
     static void injectValues(Object o) {
         checkNotNull(o);
-        var clz = o.getClass();
-        Field[] fields1 = new Field[]{};
-
-        while (!clz.equals(Object.class)) {
-            fields1 = addAll(fields1, clz.getDeclaredFields());
-            clz = clz.getSuperclass();
-        }
-
-        if (fields1.length == 0) {
-            return;
-        }
-
-        var fields2 = fields1;
-
-        new ClassGraph()
-                .enableAllInfo()
-                .scan().getClassesImplementing(DependencyInjector.class.getName())
-                .loadClasses(DependencyInjector.class)
-                .forEach(i -> {
-                    try {
-                        var c = i.getConstructor();
-                        c.setAccessible(true);
-
-                        var injector = c.newInstance();
-                        stream(fields2).forEach(f -> {
-                            var m = f.getModifiers();
-                            f.setAccessible(true);
-                            var type = f.getType();
-
-                            try {
-                                var val = f.get(o);
-                                if (!isStatic(m) && !isFinal(m) && injector.toSet(f) && (type.isPrimitive() || val == null)) {
-                                    f.set(o, injector.getValueToSet(f));
-                                }
-                            } catch (IllegalAccessException e) {
-                                throw new RuntimeException(e);
-                            }
-                        });
-
-                    } catch (Exception e) {
-                        throw new RuntimeException(e);
-                    }
-                });
+        planOf(o.getClass()).inject(o);
     }
 
     /**
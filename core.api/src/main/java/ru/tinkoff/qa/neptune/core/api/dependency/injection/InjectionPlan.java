@@ -0,0 +1,129 @@
+package ru.tinkoff.qa.neptune.core.api.dependency.injection;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.lang.invoke.MethodHandles.lookup;
+import static java.lang.invoke.MethodType.methodType;
+import static java.lang.reflect.Modifier.isFinal;
+import static java.lang.reflect.Modifier.isStatic;
+import static ru.tinkoff.qa.neptune.core.api.classpath.ClassIndex.getClassesImplementing;
+
+/**
+ * Fields of a class which are filled by {@link DependencyInjector}s. A plan is created once per class and then
+ * it is reused by all objects of the class, so an injection is only a check of current values and a setting
+ * of new ones. Injectors are created once too.
+ * <p>
+ * NOTE: it is expected that {@link DependencyInjector#toSet(Field)} returns the same result for the same field.
+ */
+final class InjectionPlan {
+
+    private static final ClassValue<InjectionPlan> PLANS = new ClassValue<>() {
+        @Override
+        protected InjectionPlan computeValue(Class<?> type) {
+            return new InjectionPlan(type);
+        }
+    };
+
+    private static volatile List<DependencyInjector> injectors;
+
+    private final Injection[] injections;
+
+    private InjectionPlan(Class<?> type) {
+        var fields = new ArrayList<Field>();
+        var clz = type;
+        while (clz != null && !clz.equals(Object.class)) {
+            for (var f : clz.getDeclaredFields()) {
+                var m = f.getModifiers();
+                if (!isStatic(m) && !isFinal(m)) {
+                    fields.add(f);
+                }
+            }
+            clz = clz.getSuperclass();
+        }
+
+        var injections = new ArrayList<Injection>();
+        for (var injector : injectors()) {
+            for (var f : fields) {
+                if (injector.toSet(f)) {
+                    injections.add(new Injection(injector, f));
+                }
+            }
+        }
+        this.injections = injections.toArray(new Injection[]{});
+    }
+
+    static InjectionPlan planOf(Class<?> type) {
+        return PLANS.get(type);
+    }
+
+    private static List<DependencyInjector> injectors() {
+        var result = injectors;
+        if (result != null) {
+            return result;
+        }
+
+        synchronized (InjectionPlan.class) {
+            if (injectors != null) {
+                return injectors;
+            }
+
+            var created = new ArrayList<DependencyInjector>();
+            for (var i : getClassesImplementing(DependencyInjector.class)) {
+                try {
+                    var c = i.getConstructor();
+                    c.setAccessible(true);
+                    created.add(c.newInstance());
+                } catch (Exception e) {
+                    throw new RuntimeException(e);
+                }
+            }
+            injectors = result = List.copyOf(created);
+            return result;
+        }
+    }
+
+    void inject(Object o) {
+        for (var injection : injections) {
+            try {
+                injection.inject(o);
+            } catch (Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new RuntimeException(t);
+            }
+        }
+    }
+
+    private static final class Injection {
+
+        private final DependencyInjector injector;
+        private final Field field;
+        private final boolean primitive;
+        private final MethodHandle getter;
+        private final MethodHandle setter;
+
+        private Injection(DependencyInjector injector, Field field) {
+            this.injector = injector;
+            this.field = field;
+            primitive = field.getType().isPrimitive();
+            field.setAccessible(true);
+            try {
+                var lookup = lookup();
+                getter = lookup.unreflectGetter(field).asType(methodType(Object.class, Object.class));
+                setter = lookup.unreflectSetter(field).asType(methodType(void.class, Object.class, Object.class));
+            } catch (IllegalAccessException e) {
+                throw new RuntimeException(e);
+            }
+        }
+
+        private void inject(Object o) throws Throwable {
+            //primitive fields are always filled because they can't be null
+            if (primitive || (Object) getter.invokeExact(o) == null) {
+                setter.invokeExact(o, injector.getValueToSet(field));
+            }
+        }
+    }
+}
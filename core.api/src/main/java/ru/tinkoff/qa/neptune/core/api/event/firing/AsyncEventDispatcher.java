@@ -0,0 +1,217 @@
+package ru.tinkoff.qa.neptune.core.api.event.firing;
+
+import ru.tinkoff.qa.neptune.core.api.event.firing.EventRingBuffer.Event;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+import static java.lang.Runtime.getRuntime;
+import static java.lang.System.nanoTime;
+import static java.lang.Thread.currentThread;
+import static java.lang.invoke.VarHandle.fullFence;
+import static java.time.Duration.ofNanos;
+import static java.util.Optional.ofNullable;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static java.util.concurrent.locks.LockSupport.park;
+import static java.util.concurrent.locks.LockSupport.parkNanos;
+import static java.util.concurrent.locks.LockSupport.unpark;
+import static ru.tinkoff.qa.neptune.core.api.properties.general.events.AsyncEventQueueCapacity.ASYNC_EVENT_QUEUE_CAPACITY;
+import static ru.tinkoff.qa.neptune.core.api.properties.general.events.AsyncEventQueueOverflow.ASYNC_EVENT_QUEUE_OVERFLOW;
+import static ru.tinkoff.qa.neptune.core.api.properties.general.events.EventQueueOverflow.DROP_ATTACHMENTS;
+
+/**
+ * Passes events to loggers by a single daemon thread. Events of each thread are passed in the same order
+ * as they were fired.
+ */
+final class AsyncEventDispatcher {
+
+    private static final int BATCH_SIZE = 256;
+    private static final long WAIT_PARK_NANOS = 50_000;
+    private static final long SHUTDOWN_FLUSH_TIMEOUT = SECONDS.toNanos(10);
+
+    private static final List<EventRingBuffer> BUFFERS = new CopyOnWriteArrayList<>();
+
+    private static final LongAdder DISPATCHED = new LongAdder();
+    private static final LongAdder DROPPED = new LongAdder();
+    private static final LongAdder TOTAL_LATENCY = new LongAdder();
+    private static final AtomicLong MAX_LATENCY = new AtomicLong();
+    private static final AtomicLong MAX_QUEUE_DEPTH = new AtomicLong();
+
+    private static volatile boolean idle;
+    //is read and written by the dispatcher thread only
+    private static Instant dispatchedEventTime;
+    private static final Thread DISPATCHER = createDispatcher();
+
+    private AsyncEventDispatcher() {
+        super();
+    }
+
+    private static Thread createDispatcher() {
+        var thread = new Thread(AsyncEventDispatcher::dispatch, "Neptune event dispatcher");
+        thread.setDaemon(true);
+        thread.start();
+        getRuntime().addShutdownHook(new Thread(AsyncEventDispatcher::flushAll));
+        return thread;
+    }
+
+    /**
+     * Creates a buffer of events for current thread.
+     *
+     * @param loggers are loggers which receive events from the buffer
+     * @return a new buffer
+     */
+    static EventRingBuffer register(List<EventLogger> loggers) {
+        var buffer = new EventRingBuffer(ASYNC_EVENT_QUEUE_CAPACITY.get(), currentThread(), loggers);
+        BUFFERS.add(buffer);
+        return buffer;
+    }
+
+    /**
+     * Adds an event to a buffer. The event is going to be passed to loggers by the dispatcher thread.
+     *
+     * @param buffer     is a buffer of current thread
+     * @param toFire     is how to pass the event to a logger
+     * @param attachment is the event an attachment (returned value, additional parameters etc.) or not
+     */
+    static void enqueue(EventRingBuffer buffer, Consumer<EventLogger> toFire, boolean attachment) {
+        var event = new Event(toFire);
+        if (!buffer.offer(event)) {
+            if (attachment && ASYNC_EVENT_QUEUE_OVERFLOW.get() == DROP_ATTACHMENTS) {
+                DROPPED.increment();
+                return;
+            }
+
+            do {
+                unpark(DISPATCHER);
+                parkNanos(WAIT_PARK_NANOS);
+            } while (!buffer.offer(event));
+        }
+
+        MAX_QUEUE_DEPTH.accumulateAndGet(buffer.size(), Math::max);
+        //the added event should be visible to the dispatcher before its state is read
+        fullFence();
+        if (idle) {
+            unpark(DISPATCHER);
+        }
+    }
+
+    /**
+     * Returns time when an event was fired. When it is invoked by the dispatcher thread, it is time when
+     * the event that is being passed to loggers was added to a buffer. Otherwise, it is current time.
+     *
+     * @return time when an event was fired
+     */
+    static Instant getEventTime() {
+        if (currentThread() == DISPATCHER) {
+            return ofNullable(dispatchedEventTime).orElseGet(Instant::now);
+        }
+        return Instant.now();
+    }
+
+    /**
+     * Waits until all events of the buffer are passed to loggers.
+     *
+     * @param buffer is a buffer of current thread
+     */
+    static void flush(EventRingBuffer buffer) {
+        while (!buffer.isFlushed()) {
+            unpark(DISPATCHER);
+            parkNanos(WAIT_PARK_NANOS);
+        }
+    }
+
+    /**
+     * Waits until all events of the buffer are passed to loggers and removes the buffer.
+     *
+     * @param buffer is a buffer of current thread
+     */
+    static void unregister(EventRingBuffer buffer) {
+        flush(buffer);
+        BUFFERS.remove(buffer);
+    }
+
+    private static void flushAll() {
+        var deadline = nanoTime() + SHUTDOWN_FLUSH_TIMEOUT;
+        for (var buffer : BUFFERS) {
+            while (!buffer.isFlushed() && nanoTime() < deadline) {
+                unpark(DISPATCHER);
+                parkNanos(WAIT_PARK_NANOS);
+            }
+        }
+    }
+
+    private static void dispatch() {
+        while (true) {
+            var dispatched = false;
+            for (var buffer : BUFFERS) {
+                var producerAlive = buffer.producer.isAlive();
+                var count = drain(buffer);
+                dispatched = dispatched || count > 0;
+                if (!producerAlive && buffer.size() == 0) {
+                    BUFFERS.remove(buffer);
+                }
+            }
+
+            if (!dispatched) {
+                idle = true;
+                //an event might be added before producers could see that the dispatcher is idle
+                if (isEmpty()) {
+                    park(AsyncEventDispatcher.class);
+                }
+                idle = false;
+            }
+        }
+    }
+
+    private static boolean isEmpty() {
+        for (var buffer : BUFFERS) {
+            if (buffer.size() > 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int drain(EventRingBuffer buffer) {
+        int count = 0;
+        Event event;
+        while (count < BATCH_SIZE && (event = buffer.poll()) != null) {
+            dispatchedEventTime = event.fired;
+            for (var logger : buffer.loggers) {
+                try {
+                    event.toFire.accept(logger);
+                } catch (Throwable t) {
+                    t.printStackTrace();
+                }
+            }
+
+            dispatchedEventTime = null;
+            var latency = nanoTime() - event.created;
+            TOTAL_LATENCY.add(latency);
+            MAX_LATENCY.accumulateAndGet(latency, Math::max);
+            DISPATCHED.increment();
+            buffer.markDispatched();
+            count++;
+        }
+        return count;
+    }
+
+    static AsyncEventFiringMetrics getMetrics() {
+        int depth = 0;
+        for (var buffer : BUFFERS) {
+            depth += buffer.size();
+        }
+
+        var dispatched = DISPATCHED.sum();
+        return new AsyncEventFiringMetrics(depth,
+                (int) MAX_QUEUE_DEPTH.get(),
+                dispatched,
+                DROPPED.sum(),
+                ofNanos(dispatched == 0 ? 0 : TOTAL_LATENCY.sum() / dispatched),
+                ofNanos(MAX_LATENCY.get()));
+    }
+}
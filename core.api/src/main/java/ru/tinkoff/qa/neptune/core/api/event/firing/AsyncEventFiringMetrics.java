@@ -0,0 +1,89 @@
+package ru.tinkoff.qa.neptune.core.api.event.firing;
+
+import java.time.Duration;
+
+import static java.lang.String.format;
+
+/**
+ * Snapshot of metrics of asynchronous firing of events.
+ *
+ * @see ru.tinkoff.qa.neptune.core.api.properties.general.events.AsyncEventFiring
+ */
+public final class AsyncEventFiringMetrics {
+
+    private final int queueDepth;
+    private final int maxQueueDepth;
+    private final long dispatched;
+    private final long dropped;
+    private final Duration averageLatency;
+    private final Duration maxLatency;
+
+    AsyncEventFiringMetrics(int queueDepth,
+                            int maxQueueDepth,
+                            long dispatched,
+                            long dropped,
+                            Duration averageLatency,
+                            Duration maxLatency) {
+        this.queueDepth = queueDepth;
+        this.maxQueueDepth = maxQueueDepth;
+        this.dispatched = dispatched;
+        this.dropped = dropped;
+        this.averageLatency = averageLatency;
+        this.maxLatency = maxLatency;
+    }
+
+    /**
+     * @return count of events which wait to be fired at the moment
+     */
+    public int getQueueDepth() {
+        return queueDepth;
+    }
+
+    /**
+     * @return max count of events of one thread which waited to be fired
+     */
+    public int getMaxQueueDepth() {
+        return maxQueueDepth;
+    }
+
+    /**
+     * @return count of fired events
+     */
+    public long getDispatched() {
+        return dispatched;
+    }
+
+    /**
+     * @return count of events which were not fired because a queue was full
+     * @see ru.tinkoff.qa.neptune.core.api.properties.general.events.EventQueueOverflow#DROP_ATTACHMENTS
+     */
+    public long getDropped() {
+        return dropped;
+    }
+
+    /**
+     * @return average time between an event happened and it was fired
+     */
+    public Duration getAverageLatency() {
+        return averageLatency;
+    }
+
+    /**
+     * @return max time between an event happened and it was fired
+     */
+    public Duration getMaxLatency() {
+        return maxLatency;
+    }
+
+    @Override
+    public String toString() {
+        return format("queue depth: %s, max queue depth: %s, dispatched: %s, dropped: %s, " +
+                        "average latency: %sms, max latency: %sms",
+                queueDepth,
+                maxQueueDepth,
+                dispatched,
+                dropped,
+                averageLatency.toMillis(),
+                maxLatency.toMillis());
+    }
+}
@@ -40,4 +40,39 @@ public interface EventLogger {
      * @param parameters additional parameters
      */
     void addParameters(Map<String, String> parameters);
+
+    /**
+     * Creates a logger which is used by another thread to fire events of steps performed in parallel.
+     * Steps fired by the result logger should be nested in the step that is currently fired by this logger.
+     * <p></p>
+     * It is invoked by the thread that uses this logger.
+     *
+     * @return a new logger. When {@code null} is returned then a new logger is created by default constructor.
+     * Such steps are not nested.
+     */
+    default EventLogger branch() {
+        return null;
+    }
+
+    /**
+     * Defines which data of events the logger consumes. Data that is not consumed by any logger is not calculated.
+     *
+     * @return level of reporting
+     */
+    default ReportingLevel getReportingLevel() {
+        return ReportingLevel.ALL;
+    }
+
+    /**
+     * Defines can events be passed to the logger by another thread or not. It makes sense when the property
+     * {@code ASYNC_EVENT_FIRING} is {@code true}. Events are passed in the same order as they happened.
+     * Returned values are passed as they are, so they may be read by another thread. Time when an event was fired
+     * is returned by {@link StaticEventFiring#getEventTime()}.
+     *
+     * @return {@code true} when events can be passed to the logger by another thread
+     * @see ru.tinkoff.qa.neptune.core.api.properties.general.events.AsyncEventFiring
+     */
+    default boolean supportsAsyncFiring() {
+        return false;
+    }
 }
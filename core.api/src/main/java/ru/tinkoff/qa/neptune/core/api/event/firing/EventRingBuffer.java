@@ -0,0 +1,93 @@
+package ru.tinkoff.qa.neptune.core.api.event.firing;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import static java.lang.Integer.highestOneBit;
+
+/**
+ * Bounded lock-free queue of events fired by one thread. It is filled by the thread that fires events and
+ * it is drained by the thread that dispatches events.
+ */
+final class EventRingBuffer {
+
+    private final Event[] events;
+    private final int mask;
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong dispatched = new AtomicLong();
+
+    final Thread producer;
+    final List<EventLogger> loggers;
+
+    EventRingBuffer(int capacity, Thread producer, List<EventLogger> loggers) {
+        var size = highestOneBit(Math.max(capacity, 2) - 1) << 1;
+        this.events = new Event[size];
+        this.mask = size - 1;
+        this.producer = producer;
+        this.loggers = loggers;
+    }
+
+    /**
+     * Is invoked by the producer thread only.
+     *
+     * @param event to be added
+     * @return was the event added or not
+     */
+    boolean offer(Event event) {
+        var t = tail.get();
+        if (t - head.get() >= events.length) {
+            return false;
+        }
+
+        events[(int) t & mask] = event;
+        tail.lazySet(t + 1);
+        return true;
+    }
+
+    /**
+     * Is invoked by the dispatcher thread only.
+     *
+     * @return the oldest event or {@code null} when the buffer is empty
+     */
+    Event poll() {
+        var h = head.get();
+        if (h >= tail.get()) {
+            return null;
+        }
+
+        var index = (int) h & mask;
+        var event = events[index];
+        events[index] = null;
+        head.lazySet(h + 1);
+        return event;
+    }
+
+    void markDispatched() {
+        dispatched.lazySet(dispatched.get() + 1);
+    }
+
+    int size() {
+        return (int) (tail.get() - head.get());
+    }
+
+    /**
+     * @return are all added events passed to loggers or not
+     */
+    boolean isFlushed() {
+        return dispatched.get() >= tail.get();
+    }
+
+    static final class Event {
+
+        final Consumer<EventLogger> toFire;
+        final long created = System.nanoTime();
+        final Instant fired = Instant.now();
+
+        Event(Consumer<EventLogger> toFire) {
+            this.toFire = toFire;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package ru.tinkoff.qa.neptune.core.api.event.firing;
+
+/**
+ * Defines which data of events is consumed by an {@link EventLogger}. Data that is not consumed
+ * by any logger is not calculated.
+ */
+public enum ReportingLevel {
+    /**
+     * Starting and finishing of steps, thrown exceptions. Parameters of steps are not consumed, so
+     * an empty map is passed to {@link EventLogger#fireTheEventStarting(String, java.util.Map)}.
+     */
+    STEPS,
+    /**
+     * Everything that is covered by {@link #STEPS} plus parameters of steps and parameters
+     * that are calculated during the step performing.
+     */
+    PARAMETERS,
+    /**
+     * Everything that is covered by {@link #PARAMETERS} plus returned values.
+     */
+    ALL;
+
+    /**
+     * @param level is a level to check
+     * @return does this level cover data of the given level or not
+     */
+    public boolean covers(ReportingLevel level) {
+        return compareTo(level) >= 0;
+    }
+}
@@ -1,26 +1,32 @@
 package ru.tinkoff.qa.neptune.core.api.event.firing;
 
-import io.github.classgraph.ClassGraph;
-
+import java.time.Instant;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
+import static com.google.common.base.Preconditions.checkNotNull;
 import static java.lang.reflect.Modifier.isAbstract;
+import static java.util.Collections.emptyMap;
 import static java.util.Optional.ofNullable;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toUnmodifiableList;
+import static ru.tinkoff.qa.neptune.core.api.classpath.ClassIndex.getClassesImplementing;
+import static ru.tinkoff.qa.neptune.core.api.event.firing.AsyncEventDispatcher.enqueue;
+import static ru.tinkoff.qa.neptune.core.api.event.firing.AsyncEventDispatcher.unregister;
+import static ru.tinkoff.qa.neptune.core.api.event.firing.ReportingLevel.ALL;
+import static ru.tinkoff.qa.neptune.core.api.event.firing.ReportingLevel.PARAMETERS;
+import static ru.tinkoff.qa.neptune.core.api.properties.general.events.AsyncEventFiring.ASYNC_EVENT_FIRING_PROPERTY;
 
 public class StaticEventFiring {
 
-    private static final ThreadLocal<List<EventLogger>> LIST_THREAD_LOCAL_EVENT_LOGGERS = new ThreadLocal<>();
+    private static final ThreadLocal<ThreadLoggers> THREAD_LOCAL_EVENT_LOGGERS = new ThreadLocal<>();
     private static final List<Class<? extends EventLogger>> LOGGERS = getEventLoggerClasses();
 
     private static List<Class<? extends EventLogger>> getEventLoggerClasses() {
-        return new ClassGraph()
-                .enableAllInfo()
-                .scan().getClassesImplementing(EventLogger.class.getName())
-                .loadClasses(EventLogger.class)
+        return getClassesImplementing(EventLogger.class)
                 .stream()
                 .filter(c -> !isAbstract(c.getModifiers()))
                 .collect(toUnmodifiableList());
@@ -42,53 +48,233 @@ public class StaticEventFiring {
         });
     }
 
-    private static List<EventLogger> initEventLoggersIfNecessary() {
-        return ofNullable(LIST_THREAD_LOCAL_EVENT_LOGGERS.get())
+    private static EventLogger newLogger(Class<? extends EventLogger> c) {
+        try {
+            var constructor = c.getConstructor();
+            constructor.setAccessible(true);
+            return constructor.newInstance();
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static ThreadLoggers initEventLoggersIfNecessary() {
+        return ofNullable(THREAD_LOCAL_EVENT_LOGGERS.get())
                 .orElseGet(() -> {
-                    var loggers = LOGGERS
+                    var loggers = new ThreadLoggers(LOGGERS
                             .stream()
                             .filter(c -> !isAbstract(c.getModifiers()))
-                            .map(c -> {
-                                try {
-                                    var constructor = c.getConstructor();
-                                    constructor.setAccessible(true);
-                                    return (EventLogger) constructor.newInstance();
-                                } catch (Exception e) {
-                                    throw new RuntimeException(e);
-                                }
-                            }).collect(toList());
-                    LIST_THREAD_LOCAL_EVENT_LOGGERS.set(loggers);
+                            .map(StaticEventFiring::newLogger)
+                            .collect(toList()));
+                    THREAD_LOCAL_EVENT_LOGGERS.set(loggers);
                     return loggers;
                 });
     }
 
+    /**
+     * Wraps a supplier which is going to be evaluated by another thread. Events fired during the evaluation are
+     * nested in the step that is performed by current thread at the moment.
+     *
+     * @param supplier is a supplier to be evaluated by another thread
+     * @param <T>      is a type of a value to get
+     * @return wrapped supplier
+     * @see EventLogger#branch()
+     */
+    public static <T> Supplier<T> branch(Supplier<T> supplier) {
+        checkNotNull(supplier);
+        var current = initEventLoggersIfNecessary();
+        //loggers should not be used by the dispatcher thread while they are branched
+        current.flush();
+        var branches = current.all
+                .stream()
+                .map(logger -> ofNullable(logger.branch()).orElseGet(() -> newLogger(logger.getClass())))
+                .collect(toList());
+
+        return () -> {
+            var previous = THREAD_LOCAL_EVENT_LOGGERS.get();
+            var branchLoggers = new ThreadLoggers(branches);
+            THREAD_LOCAL_EVENT_LOGGERS.set(branchLoggers);
+            try {
+                return supplier.get();
+            } finally {
+                branchLoggers.close();
+                if (previous == null) {
+                    THREAD_LOCAL_EVENT_LOGGERS.remove();
+                } else {
+                    THREAD_LOCAL_EVENT_LOGGERS.set(previous);
+                }
+            }
+        };
+    }
+
+    /**
+     * Waits until all events fired by current thread are passed to loggers. It makes sense when
+     * the property {@code ASYNC_EVENT_FIRING} is {@code true}. It is supposed to be invoked by listeners
+     * of test frameworks when a test is finished.
+     *
+     * @see ru.tinkoff.qa.neptune.core.api.properties.general.events.AsyncEventFiring
+     */
+    public static void flushEvents() {
+        ofNullable(THREAD_LOCAL_EVENT_LOGGERS.get()).ifPresent(ThreadLoggers::flush);
+    }
+
+    /**
+     * Returns metrics of asynchronous firing of events.
+     *
+     * @return snapshot of current metrics
+     * @see ru.tinkoff.qa.neptune.core.api.properties.general.events.AsyncEventFiring
+     */
+    public static AsyncEventFiringMetrics getAsyncEventFiringMetrics() {
+        return AsyncEventDispatcher.getMetrics();
+    }
+
+    /**
+     * Returns time when an event was fired. Loggers which support asynchronous firing receive events later than
+     * they were fired. Such loggers should use this time instead of current time.
+     *
+     * @return time when the event, which is passed to a logger at the moment, was fired
+     * @see EventLogger#supportsAsyncFiring()
+     */
+    public static Instant getEventTime() {
+        return AsyncEventDispatcher.getEventTime();
+    }
+
+    private static boolean isRequired(List<EventLogger> loggers, ReportingLevel level) {
+        for (var logger : loggers) {
+            if (logger.getReportingLevel().covers(level)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     public static void fireEventStarting(String message, Map<String, String> parameters) {
-        initEventLoggersIfNecessary().forEach(eventLogger ->
-                eventLogger.fireTheEventStarting(message, parameters));
+        fireEventStarting(message, () -> parameters);
+    }
+
+    /**
+     * Fires the starting of some event. Parameters are calculated only when there is a logger
+     * that consumes them.
+     *
+     * @param message    that describes the event.
+     * @param parameters supplier of parameters of the event
+     * @see EventLogger#getReportingLevel()
+     */
+    public static void fireEventStarting(String message, Supplier<Map<String, String>> parameters) {
+        var loggers = initEventLoggersIfNecessary();
+        Map<String, String> params = isRequired(loggers.all, PARAMETERS) ? parameters.get() : emptyMap();
+        loggers.fire(eventLogger ->
+                eventLogger.fireTheEventStarting(message,
+                        eventLogger.getReportingLevel().covers(PARAMETERS) ? params : emptyMap()), false);
     }
 
     public static void fireThrownException(Throwable throwable) {
-        initEventLoggersIfNecessary().forEach(eventLogger ->
-                eventLogger.fireThrownException(throwable));
+        initEventLoggersIfNecessary().fire(eventLogger ->
+                eventLogger.fireThrownException(throwable), false);
     }
 
     public static void fireReturnedValue(String resultDescription, Object returned) {
-        initEventLoggersIfNecessary().forEach(eventLogger ->
-                eventLogger.fireReturnedValue(resultDescription, returned));
+        fireReturnedValue(() -> resultDescription, returned);
+    }
+
+    /**
+     * Fires some value which has been returned. The description is calculated only when there is a logger
+     * that consumes returned values.
+     *
+     * @param resultDescription supplier of a description of returned value
+     * @param returned          value that should be fired.
+     * @see EventLogger#getReportingLevel()
+     */
+    public static void fireReturnedValue(Supplier<String> resultDescription, Object returned) {
+        var loggers = initEventLoggersIfNecessary();
+        if (!isRequired(loggers.all, ALL)) {
+            return;
+        }
+
+        var description = resultDescription.get();
+        loggers.fire(eventLogger -> {
+            if (eventLogger.getReportingLevel().covers(ALL)) {
+                eventLogger.fireReturnedValue(description, returned);
+            }
+        }, true);
     }
 
     public static void fireEventFinishing() {
-        initEventLoggersIfNecessary().forEach(EventLogger::fireEventFinishing);
+        initEventLoggersIfNecessary().fire(EventLogger::fireEventFinishing, false);
     }
 
     public static void fireAdditionalParameters(Map<String, String> addParameters) {
-        if (addParameters == null) {
+        fireAdditionalParameters(() -> addParameters);
+    }
+
+    /**
+     * Fires parameters calculated during the step performing. Parameters are calculated only when there is a logger
+     * that consumes them.
+     *
+     * @param addParameters supplier of additional parameters
+     * @see EventLogger#getReportingLevel()
+     */
+    public static void fireAdditionalParameters(Supplier<Map<String, String>> addParameters) {
+        var loggers = initEventLoggersIfNecessary();
+        if (!isRequired(loggers.all, PARAMETERS)) {
             return;
         }
 
-        if (addParameters.size() == 0) {
+        var params = addParameters.get();
+        if (params == null) {
             return;
         }
-        initEventLoggersIfNecessary().forEach(eventLogger -> eventLogger.addParameters(addParameters));
+
+        if (params.size() == 0) {
+            return;
+        }
+        loggers.fire(eventLogger -> {
+            if (eventLogger.getReportingLevel().covers(PARAMETERS)) {
+                eventLogger.addParameters(params);
+            }
+        }, true);
+    }
+
+    /**
+     * Loggers used by a thread. Loggers that support asynchronous firing receive events from
+     * the dispatcher thread when the property {@code ASYNC_EVENT_FIRING} is {@code true}.
+     */
+    private static final class ThreadLoggers {
+
+        private final List<EventLogger> all;
+        private final List<EventLogger> direct;
+        private final EventRingBuffer buffer;
+
+        private ThreadLoggers(List<EventLogger> all) {
+            this.all = all;
+            if (!ASYNC_EVENT_FIRING_PROPERTY.get()) {
+                direct = all;
+                buffer = null;
+                return;
+            }
+
+            direct = all.stream().filter(logger -> !logger.supportsAsyncFiring()).collect(toList());
+            var async = all.stream().filter(EventLogger::supportsAsyncFiring).collect(toList());
+            buffer = async.isEmpty() ? null : AsyncEventDispatcher.register(async);
+        }
+
+        private void fire(Consumer<EventLogger> toFire, boolean attachment) {
+            direct.forEach(toFire);
+            if (buffer != null) {
+                enqueue(buffer, toFire, attachment);
+            }
+        }
+
+        private void flush() {
+            if (buffer != null) {
+                AsyncEventDispatcher.flush(buffer);
+            }
+        }
+
+        private void close() {
+            if (buffer != null) {
+                unregister(buffer);
+            }
+        }
     }
 }
@@ -1,6 +1,5 @@
 package ru.tinkoff.qa.neptune.core.api.event.firing.annotations;
 
-import io.github.classgraph.ClassGraph;
 import ru.tinkoff.qa.neptune.core.api.event.firing.Captor;
 import ru.tinkoff.qa.neptune.core.api.event.firing.captors.FileCaptor;
 import ru.tinkoff.qa.neptune.core.api.event.firing.captors.ImageCaptor;
@@ -15,18 +14,15 @@ import java.util.Map;
 import static java.lang.reflect.Modifier.isAbstract;
 import static java.util.Arrays.stream;
 import static java.util.stream.Collectors.toList;
+import static ru.tinkoff.qa.neptune.core.api.classpath.ClassIndex.getSubclasses;
 
 @SuppressWarnings("rawtypes")
 public final class CaptorUtil {
 
-    private static final Map<Class<?>, List<Class<Captor>>> ABSTRACT_CAPTORS = mapOfAbstractCaptors();
+    private static final Map<Class<?>, List<Class<? extends Captor>>> ABSTRACT_CAPTORS = mapOfAbstractCaptors();
 
-    private static Map<Class<?>, List<Class<Captor>>> mapOfAbstractCaptors() {
-        var children = new ClassGraph()
-                .enableAllInfo()
-                .scan()
-                .getSubclasses(Captor.class.getName())
-                .loadClasses(Captor.class);
+    private static Map<Class<?>, List<Class<? extends Captor>>> mapOfAbstractCaptors() {
+        var children = getSubclasses(Captor.class);
 
         var abstractChildren = children.stream()
                 .filter(captorClass -> isAbstract(captorClass.getModifiers())
@@ -35,7 +31,7 @@ public final class CaptorUtil {
                         && !captorClass.equals(FileCaptor.class)
                         && !captorClass.equals(StringCaptor.class));
 
-        var result = new HashMap<Class<?>, List<Class<Captor>>>();
+        var result = new HashMap<Class<?>, List<Class<? extends Captor>>>();
         abstractChildren.forEach(captorClass -> {
             var found = children.stream()
                     .filter(captorClass1 -> !isAbstract(captorClass1.getModifiers())
@@ -1,6 +1,5 @@
 package ru.tinkoff.qa.neptune.core.api.event.firing.annotations;
 
-import io.github.classgraph.ClassGraph;
 import ru.tinkoff.qa.neptune.core.api.event.firing.Captor;
 import ru.tinkoff.qa.neptune.core.api.event.firing.CapturedDataInjector;
 import ru.tinkoff.qa.neptune.core.api.event.firing.captors.CapturedFileInjector;
@@ -17,6 +16,7 @@ import static java.lang.annotation.RetentionPolicy.RUNTIME;
 import static java.lang.reflect.Modifier.isAbstract;
 import static java.util.Arrays.stream;
 import static java.util.stream.Collectors.toList;
+import static ru.tinkoff.qa.neptune.core.api.classpath.ClassIndex.getClassesImplementing;
 
 /**
  * Annotates subclasses of {@link Captor} to define injectors of attachments to log/test report.
@@ -37,14 +37,10 @@ public @interface UseInjectors {
 
     final class UseInjectorReader {
 
-        private static final Map<Class<?>, List<Class<CapturedDataInjector>>> ABSTRACT_INJECTORS = mapOfAbstractInjectors();
+        private static final Map<Class<?>, List<Class<? extends CapturedDataInjector>>> ABSTRACT_INJECTORS = mapOfAbstractInjectors();
 
-        private static Map<Class<?>, List<Class<CapturedDataInjector>>> mapOfAbstractInjectors() {
-            var children = new ClassGraph()
-                    .enableAllInfo()
-                    .scan()
-                    .getClassesImplementing(CapturedDataInjector.class.getName())
-                    .loadClasses(CapturedDataInjector.class);
+        private static Map<Class<?>, List<Class<? extends CapturedDataInjector>>> mapOfAbstractInjectors() {
+            var children = getClassesImplementing(CapturedDataInjector.class);
 
             var abstractChildren = new HashSet<Class<?>>();
             abstractChildren.add(CapturedFileInjector.class);
@@ -54,7 +50,7 @@ public @interface UseInjectors {
                     .stream()
                     .filter(captorClass -> isAbstract(captorClass.getModifiers())).collect(toList()));
 
-            var result = new HashMap<Class<?>, List<Class<CapturedDataInjector>>>();
+            var result = new HashMap<Class<?>, List<Class<? extends CapturedDataInjector>>>();
             abstractChildren.forEach(abstractInjector -> {
                 var found = children.stream()
                         .filter(injector -> !injector.isInterface()
@@ -2,15 +2,17 @@ package ru.tinkoff.qa.neptune.core.api.event.firing.console;
 
 import ru.tinkoff.qa.neptune.core.api.event.firing.EventLogger;
 
-import java.text.SimpleDateFormat;
-import java.util.Date;
+import java.time.format.DateTimeFormatter;
 import java.util.LinkedList;
 import java.util.Map;
 
+import static java.time.ZoneId.systemDefault;
+import static ru.tinkoff.qa.neptune.core.api.event.firing.StaticEventFiring.getEventTime;
 import static ru.tinkoff.qa.neptune.core.api.utils.ToArrayUtil.stringValueOfObjectOrArray;
 
 public class DefaultConsoleEventLogger implements EventLogger {
-    private static final SimpleDateFormat DATE_FORMAT = new SimpleDateFormat("dd.MM.yyyy HH:mm:ss");
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("dd.MM.yyyy HH:mm:ss")
+            .withZone(systemDefault());
     private final LinkedList<String> steps = new LinkedList<>();
     private boolean successful = true;
 
@@ -18,7 +20,7 @@ public class DefaultConsoleEventLogger implements EventLogger {
     public void fireTheEventStarting(String message, Map<String, String> parameters) {
         successful = true;
         steps.addLast(message);
-        System.out.println(DATE_FORMAT.format(new Date()) + " STEP HAS BEEN STARTED: " + message);
+        System.out.println(DATE_FORMAT.format(getEventTime()) + " STEP HAS BEEN STARTED: " + message);
         if (parameters.size() == 0) {
             return;
         }
@@ -43,9 +45,9 @@ public class DefaultConsoleEventLogger implements EventLogger {
         if (steps.size() > 0) {
             var step = steps.getLast();
             if (successful) {
-                System.out.println(DATE_FORMAT.format(new Date()) + " STEP HAS FINISHED SUCCESSFULLY: " + step);
+                System.out.println(DATE_FORMAT.format(getEventTime()) + " STEP HAS FINISHED SUCCESSFULLY: " + step);
             } else {
-                System.err.println(DATE_FORMAT.format(new Date()) + " STEP HAS FAILED: " + step);
+                System.err.println(DATE_FORMAT.format(getEventTime()) + " STEP HAS FAILED: " + step);
             }
         }
         successful = true;
@@ -56,4 +58,9 @@ public class DefaultConsoleEventLogger implements EventLogger {
     public void addParameters(Map<String, String> parameters) {
         parameters.forEach((s, s2) -> System.out.println("  - " + s + ": " + s2));
     }
+
+    @Override
+    public boolean supportsAsyncFiring() {
+        return true;
+    }
 }
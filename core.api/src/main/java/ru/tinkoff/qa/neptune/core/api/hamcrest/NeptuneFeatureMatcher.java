@@ -3,12 +3,19 @@ package ru.tinkoff.qa.neptune.core.api.hamcrest;
 import org.hamcrest.*;
 import org.hamcrest.internal.ReflectiveTypeFinder;
 
-import java.util.LinkedList;
+import java.lang.ref.WeakReference;
+import java.util.AbstractList;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BooleanSupplier;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
+import static java.lang.Thread.currentThread;
 import static java.util.Arrays.stream;
+import static java.util.Optional.ofNullable;
 import static java.util.stream.Collectors.joining;
 import static org.apache.commons.lang3.StringUtils.SPACE;
 import static ru.tinkoff.qa.neptune.core.api.localization.StepLocalization.translate;
@@ -23,7 +30,11 @@ public abstract class NeptuneFeatureMatcher<T> extends BaseMatcher<T> {
 
     private static final ReflectiveTypeFinder TYPE_FINDER = new ReflectiveTypeFinder("featureMatches", 1, 0);
 
-    protected final List<Description> mismatchDescriptions = new LinkedList<>();
+    //mismatch descriptions of checks which are in progress. Each check is performed by its own thread
+    private final Map<Thread, List<Description>> checksInProgress = new ConcurrentHashMap<>();
+    private volatile CheckResult lastResult;
+
+    protected final List<Description> mismatchDescriptions = new MismatchDescriptions();
     protected final Class<? extends T>[] expectedTypes;
     protected final boolean isNullSafe;
 
@@ -91,7 +102,37 @@ public abstract class NeptuneFeatureMatcher<T> extends BaseMatcher<T> {
 
     @Override
     public boolean matches(Object actual) {
-        return prerequisiteChecking(actual) && checkFeature(actual);
+        return check(actual, () -> prerequisiteChecking(actual) && checkFeature(actual));
+    }
+
+    /**
+     * Performs a check of an object. Mismatch descriptions which are appended during the check are collected
+     * for this check only. When the check is finished they are kept as mismatch descriptions of the checked object.
+     *
+     * @param actual is a checked object
+     * @param check  is how to check the object
+     * @return result of the check
+     */
+    protected final boolean check(Object actual, BooleanSupplier check) {
+        var descriptions = new ArrayList<Description>();
+        var result = collect(descriptions, check);
+        lastResult = new CheckResult(actual, descriptions);
+        return result;
+    }
+
+    private boolean collect(List<Description> descriptions, BooleanSupplier check) {
+        var thread = currentThread();
+        //the same matcher may be used inside its own check
+        var outer = checksInProgress.put(thread, descriptions);
+        try {
+            return check.getAsBoolean();
+        } finally {
+            if (outer == null) {
+                checksInProgress.remove(thread);
+            } else {
+                checksInProgress.put(thread, outer);
+            }
+        }
     }
 
     @SuppressWarnings("unchecked")
@@ -133,11 +174,90 @@ public abstract class NeptuneFeatureMatcher<T> extends BaseMatcher<T> {
 
     @Override
     public final void describeMismatch(Object item, Description mismatchDescription) {
+        var last = lastResult;
+        List<Description> descriptions;
+        if (last != null && last.isResultOf(item)) {
+            descriptions = last.descriptions;
+        } else {
+            //another object was checked after the item. The item is checked again
+            descriptions = new ArrayList<>();
+            collect(descriptions, () -> prerequisiteChecking(item) && checkFeature(item));
+        }
+
         mismatchDescription
-                .appendText(mismatchDescriptions
+                .appendText(descriptions
                         .stream()
                         .map(Object::toString)
                         .distinct()
                         .collect(joining("\r\n")));
     }
+
+    /**
+     * Mismatch descriptions of the check which is performed by current thread. Out of a check these are
+     * mismatch descriptions of the last performed check.
+     */
+    private final class MismatchDescriptions extends AbstractList<Description> {
+
+        private List<Description> current() {
+            var descriptions = checksInProgress.get(currentThread());
+            if (descriptions != null) {
+                return descriptions;
+            }
+
+            //out of a check there are mismatch descriptions of the last performed check
+            return ofNullable(lastResult)
+                    .map(r -> r.descriptions)
+                    .orElseGet(ArrayList::new);
+        }
+
+        @Override
+        public Description get(int index) {
+            return current().get(index);
+        }
+
+        @Override
+        public int size() {
+            return current().size();
+        }
+
+        @Override
+        public void add(int index, Description element) {
+            current().add(index, element);
+        }
+
+        @Override
+        public Description set(int index, Description element) {
+            return current().set(index, element);
+        }
+
+        @Override
+        public Description remove(int index) {
+            return current().remove(index);
+        }
+
+        @Override
+        public void clear() {
+            current().clear();
+        }
+    }
+
+    /**
+     * Mismatch descriptions of the last checked object. The object is weakly referenced.
+     */
+    private static final class CheckResult {
+
+        private final WeakReference<Object> checked;
+        private final boolean isNull;
+        private final List<Description> descriptions;
+
+        private CheckResult(Object checked, List<Description> descriptions) {
+            this.checked = new WeakReference<>(checked);
+            this.isNull = checked == null;
+            this.descriptions = descriptions;
+        }
+
+        private boolean isResultOf(Object item) {
+            return item == null ? isNull : checked.get() == item;
+        }
+    }
 }
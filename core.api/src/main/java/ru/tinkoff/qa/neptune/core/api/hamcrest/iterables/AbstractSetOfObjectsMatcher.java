@@ -1,6 +1,7 @@
 package ru.tinkoff.qa.neptune.core.api.hamcrest.iterables;
 
 import org.hamcrest.Matcher;
+import org.hamcrest.core.IsEqual;
 import ru.tinkoff.qa.neptune.core.api.hamcrest.AllMatchersParameterValueGetter;
 import ru.tinkoff.qa.neptune.core.api.hamcrest.NeptuneFeatureMatcher;
 import ru.tinkoff.qa.neptune.core.api.hamcrest.ObjectIsNotPresentMismatch;
@@ -8,7 +9,6 @@ import ru.tinkoff.qa.neptune.core.api.hamcrest.iterables.descriptions.EmptyMisma
 import ru.tinkoff.qa.neptune.core.api.hamcrest.iterables.descriptions.Item;
 import ru.tinkoff.qa.neptune.core.api.steps.annotations.DescriptionFragment;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -17,7 +17,6 @@ import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.collect.Iterables.size;
 import static java.lang.reflect.Array.getLength;
 import static org.apache.commons.lang3.ArrayUtils.add;
-import static org.hamcrest.Matchers.equalTo;
 
 public abstract class AbstractSetOfObjectsMatcher<S, R> extends NeptuneFeatureMatcher<S> {
 
@@ -39,7 +38,7 @@ public abstract class AbstractSetOfObjectsMatcher<S, R> extends NeptuneFeatureMa
     static <T> Matcher<? super T>[] convertToMatcherArray(T... ts) {
         Matcher<T>[] matchers = new Matcher[]{};
         for (var t : ts) {
-            matchers = add(matchers, equalTo(t));
+            matchers = add(matchers, new ItemEqualTo<>(t));
         }
         return matchers;
     }
@@ -73,31 +72,40 @@ public abstract class AbstractSetOfObjectsMatcher<S, R> extends NeptuneFeatureMa
         return true;
     }
 
-    int checkInAnyOrder(List<R> toCheck, boolean toLogMismatches, boolean breakOnFirst, Matcher<?>... matchers) {
-        var matches = 0;
+    boolean checkInAnyOrder(List<R> toCheck) {
+        var matching = BipartiteMatching.match(toCheck, matchers);
+        if (matching.size() == matchers.length) {
+            return true;
+        }
+
+        for (int i = 0; i < matchers.length; i++) {
+            if (!matching.isMatched(i)) {
+                appendMismatchDescription(new ObjectIsNotPresentMismatch(new Item(), matchers[i]));
+            }
+        }
+        return false;
+    }
 
-        for (var m : matchers) {
-            var found = false;
-            var foundElements = new ArrayList<R>();
+    /**
+     * The same as {@link IsEqual}. Items which are checked by such matchers are looked up by hash.
+     *
+     * @param <T> is a type of expected value
+     */
+    static final class ItemEqualTo<T> extends IsEqual<T> {
 
-            for (var r : toCheck) {
-                if (m.matches(r)) {
-                    found = true;
-                    matches++;
-                    foundElements.add(r);
+        final T expected;
 
-                    if (breakOnFirst) {
-                        break;
-                    }
-                }
-            }
+        ItemEqualTo(T expected) {
+            super(expected);
+            this.expected = expected;
+        }
 
-            if (found) {
-                toCheck.removeAll(foundElements);
-            } else if (toLogMismatches) {
-                appendMismatchDescription(new ObjectIsNotPresentMismatch(new Item(), m));
-            }
+        /**
+         * @return can the expected value be looked up by hash or not. Arrays are compared by their content,
+         * so they are not looked up.
+         */
+        boolean isHashable() {
+            return expected != null && !expected.getClass().isArray();
         }
-        return matches;
     }
 }
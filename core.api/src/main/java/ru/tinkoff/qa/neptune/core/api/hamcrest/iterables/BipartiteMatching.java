@@ -0,0 +1,199 @@
+package ru.tinkoff.qa.neptune.core.api.hamcrest.iterables;
+
+import com.google.common.primitives.Ints;
+import org.hamcrest.Matcher;
+import ru.tinkoff.qa.neptune.core.api.hamcrest.iterables.AbstractSetOfObjectsMatcher.ItemEqualTo;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Arrays.fill;
+
+/**
+ * Finds the maximum matching of matchers and items of a checked set of objects, where every matcher takes
+ * its own distinct item. Each matcher is evaluated against each item only once, then the matching is found
+ * by the Hopcroft–Karp algorithm. So the result does not depend on the order of matchers and items.
+ * <p>
+ * Items which are compared by equality (see {@link AbstractSetOfObjectsMatcher#convertToMatcherArray(Object[])})
+ * are looked up by hash.
+ */
+final class BipartiteMatching {
+
+    private static final int FREE = -1;
+    private static final int INFINITY = Integer.MAX_VALUE;
+    private static final int[] NONE = new int[]{};
+
+    //indexes of items which are matched by each matcher
+    private final int[][] candidates;
+    private final int[] itemOfMatcher;
+    private final int[] matcherOfItem;
+    private final int[] distance;
+    private final int[] next;
+    private final int[] stack;
+    private final int size;
+
+    private BipartiteMatching(int[][] candidates, int itemCount) {
+        this.candidates = candidates;
+        itemOfMatcher = new int[candidates.length];
+        matcherOfItem = new int[itemCount];
+        distance = new int[candidates.length];
+        next = new int[candidates.length];
+        stack = new int[candidates.length];
+        fill(itemOfMatcher, FREE);
+        fill(matcherOfItem, FREE);
+        size = maximumMatching();
+    }
+
+    /**
+     * Finds the maximum matching.
+     *
+     * @param items    are items of a checked set of objects
+     * @param matchers are criteria. Each one should take a distinct item
+     * @return found matching
+     */
+    static BipartiteMatching match(List<?> items, Matcher<?>[] matchers) {
+        var candidates = new int[matchers.length][];
+        Map<Object, int[]> index = null;
+        var buffer = new int[items.size()];
+
+        for (int i = 0; i < matchers.length; i++) {
+            var m = matchers[i];
+            if (m instanceof ItemEqualTo && ((ItemEqualTo<?>) m).isHashable()) {
+                if (index == null) {
+                    index = indexOf(items);
+                }
+                candidates[i] = index.getOrDefault(((ItemEqualTo<?>) m).expected, NONE);
+                continue;
+            }
+
+            int count = 0;
+            int j = 0;
+            for (var item : items) {
+                if (m.matches(item)) {
+                    buffer[count++] = j;
+                }
+                j++;
+            }
+            candidates[i] = Arrays.copyOf(buffer, count);
+        }
+
+        return new BipartiteMatching(candidates, items.size());
+    }
+
+    private static Map<Object, int[]> indexOf(List<?> items) {
+        var positions = new HashMap<Object, List<Integer>>();
+        int j = 0;
+        for (var item : items) {
+            positions.computeIfAbsent(item, o -> new ArrayList<>()).add(j);
+            j++;
+        }
+
+        var result = new HashMap<Object, int[]>(positions.size() * 4 / 3 + 1);
+        positions.forEach((item, indexes) -> result.put(item, Ints.toArray(indexes)));
+        return result;
+    }
+
+    /**
+     * @return count of matchers which have taken items
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * @param matcherIndex is an index of a matcher
+     * @return has the matcher taken an item or not
+     */
+    boolean isMatched(int matcherIndex) {
+        return itemOfMatcher[matcherIndex] != FREE;
+    }
+
+    private int maximumMatching() {
+        int result = 0;
+        //cheap initial matching. Hopcroft–Karp phases only improve it
+        for (int u = 0; u < candidates.length; u++) {
+            for (var v : candidates[u]) {
+                if (matcherOfItem[v] == FREE) {
+                    itemOfMatcher[u] = v;
+                    matcherOfItem[v] = u;
+                    result++;
+                    break;
+                }
+            }
+        }
+
+        while (result < candidates.length && buildLayers()) {
+            fill(next, 0);
+            for (int u = 0; u < candidates.length; u++) {
+                if (itemOfMatcher[u] == FREE && augment(u)) {
+                    result++;
+                }
+            }
+        }
+        return result;
+    }
+
+    private boolean buildLayers() {
+        var queue = new ArrayDeque<Integer>();
+        for (int u = 0; u < candidates.length; u++) {
+            if (itemOfMatcher[u] == FREE) {
+                distance[u] = 0;
+                queue.add(u);
+            } else {
+                distance[u] = INFINITY;
+            }
+        }
+
+        var found = false;
+        while (!queue.isEmpty()) {
+            int u = queue.poll();
+            for (var v : candidates[u]) {
+                int w = matcherOfItem[v];
+                if (w == FREE) {
+                    found = true;
+                } else if (distance[w] == INFINITY) {
+                    distance[w] = distance[u] + 1;
+                    queue.add(w);
+                }
+            }
+        }
+        return found;
+    }
+
+    //iterative depth-first search of an augmenting path, so long paths don't overflow the stack
+    private boolean augment(int root) {
+        int top = 0;
+        stack[top] = root;
+        while (top >= 0) {
+            int u = stack[top];
+            if (next[u] == candidates[u].length) {
+                distance[u] = INFINITY;
+                top--;
+                continue;
+            }
+
+            int v = candidates[u][next[u]];
+            int w = matcherOfItem[v];
+            if (w == FREE) {
+                for (int k = top; k >= 0; k--) {
+                    int uk = stack[k];
+                    int vk = candidates[uk][next[uk]];
+                    itemOfMatcher[uk] = vk;
+                    matcherOfItem[vk] = uk;
+                }
+                return true;
+            }
+
+            if (distance[w] == distance[u] + 1) {
+                stack[++top] = w;
+            } else {
+                next[u]++;
+            }
+        }
+        return false;
+    }
+}
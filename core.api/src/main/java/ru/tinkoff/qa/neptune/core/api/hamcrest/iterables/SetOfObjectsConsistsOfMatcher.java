@@ -194,7 +194,7 @@ public abstract class SetOfObjectsConsistsOfMatcher<S, R, T extends Iterable<R>>
         var toBeChecked = Lists.newArrayList(toCheck);
 
         return strictlyInOrder ? checkInStrictOrder(toBeChecked) :
-                checkInAnyOrder(toBeChecked, true, true, matchers) == matchers.length;
+                checkInAnyOrder(toBeChecked);
     }
 
     private boolean checkInStrictOrder(List<R> toCheck) {
@@ -1,5 +1,6 @@
 package ru.tinkoff.qa.neptune.core.api.hamcrest.iterables;
 
+import com.google.common.collect.Lists;
 import org.hamcrest.Matcher;
 import ru.tinkoff.qa.neptune.core.api.hamcrest.PropertyValueMismatch;
 import ru.tinkoff.qa.neptune.core.api.hamcrest.iterables.descriptions.Item;
@@ -8,11 +9,22 @@ import ru.tinkoff.qa.neptune.core.api.steps.annotations.Description;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import static java.lang.Thread.currentThread;
 import static java.util.Arrays.asList;
+import static java.util.Optional.ofNullable;
+import static java.util.stream.IntStream.range;
 import static ru.tinkoff.qa.neptune.core.api.hamcrest.common.all.AllCriteriaMatcher.all;
 import static ru.tinkoff.qa.neptune.core.api.hamcrest.iterables.AbstractSetOfObjectsMatcher.MATCHERS;
 import static ru.tinkoff.qa.neptune.core.api.hamcrest.iterables.MapEntryMatcher.*;
+import static ru.tinkoff.qa.neptune.core.api.properties.general.matching.ParallelMatching.PARALLEL_MATCHING_PROPERTY;
+import static ru.tinkoff.qa.neptune.core.api.properties.general.matching.ParallelMatchingParallelism.PARALLEL_MATCHING_PARALLELISM;
+import static ru.tinkoff.qa.neptune.core.api.properties.general.matching.ParallelMatchingThreshold.PARALLEL_MATCHING_THRESHOLD;
+import static ru.tinkoff.qa.neptune.core.api.properties.general.matching.ToReportAllMismatches.TO_REPORT_ALL_MISMATCHES_PROPERTY;
 
 /**
  * This matcher checks each item of any set of objects (iterable, collection, array, map entries).
@@ -24,6 +36,9 @@ import static ru.tinkoff.qa.neptune.core.api.hamcrest.iterables.MapEntryMatcher.
 @Description("each item: {" + MATCHERS + "}")
 public abstract class SetOfObjectsEachItemMatcher<S, R, T extends Iterable<R>> extends AbstractSetOfObjectsMatcher<S, R> {
 
+    //pools are created once per count of threads defined by PARALLEL_MATCHING_PARALLELISM
+    private static final Map<Integer, ForkJoinPool> POOLS = new ConcurrentHashMap<>();
+
     @SafeVarargs
     private SetOfObjectsEachItemMatcher(Matcher<? super R>... matchers) {
         super(true, matchers);
@@ -105,7 +120,21 @@ public abstract class SetOfObjectsEachItemMatcher<S, R, T extends Iterable<R>> e
         return (Matcher<T>) new MapEachItemMatcher<>(entryValue(valueMatchers));
     }
 
+    private static ForkJoinPool pool() {
+        return ofNullable(PARALLEL_MATCHING_PARALLELISM.get())
+                .map(parallelism -> POOLS.computeIfAbsent(parallelism, ForkJoinPool::new))
+                .orElseGet(ForkJoinPool::commonPool);
+    }
+
     boolean eachMatches(T toCheck) {
+        var toReportAll = TO_REPORT_ALL_MISMATCHES_PROPERTY.get();
+        if (PARALLEL_MATCHING_PROPERTY.get()) {
+            var items = Lists.newArrayList(toCheck);
+            if (items.size() >= PARALLEL_MATCHING_THRESHOLD.get()) {
+                return eachMatchesInParallel(items, toReportAll);
+            }
+        }
+
         int index = 0;
         boolean matches = true;
         for (var r : toCheck) {
@@ -113,6 +142,9 @@ public abstract class SetOfObjectsEachItemMatcher<S, R, T extends Iterable<R>> e
             if (!m.matches(r)) {
                 appendMismatchDescription(new PropertyValueMismatch(new Item(index), r, m));
                 matches = false;
+                if (!toReportAll) {
+                    break;
+                }
             }
             index++;
         }
@@ -120,6 +152,52 @@ public abstract class SetOfObjectsEachItemMatcher<S, R, T extends Iterable<R>> e
         return matches;
     }
 
+    private boolean eachMatchesInParallel(List<R> items, boolean toReportAll) {
+        var mismatches = new PropertyValueMismatch[items.size()];
+        //items which go after the first mismatched one are not checked when not all mismatches are reported
+        var firstMismatched = new AtomicInteger(Integer.MAX_VALUE);
+
+        try {
+            pool().submit(() -> range(0, items.size()).parallel().forEach(i -> {
+                if (!toReportAll && i > firstMismatched.get()) {
+                    return;
+                }
+
+                var r = items.get(i);
+                var m = all(matchers);
+                if (!m.matches(r)) {
+                    mismatches[i] = new PropertyValueMismatch(new Item(i), r, m);
+                    firstMismatched.accumulateAndGet(i, Math::min);
+                }
+            })).get();
+        } catch (InterruptedException e) {
+            currentThread().interrupt();
+            throw new RuntimeException(e);
+        } catch (ExecutionException e) {
+            var cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new RuntimeException(cause);
+        }
+
+        var matches = true;
+        //mismatches are reported in the order of items
+        for (var mismatch : mismatches) {
+            if (mismatch != null) {
+                appendMismatchDescription(mismatch);
+                matches = false;
+                if (!toReportAll) {
+                    break;
+                }
+            }
+        }
+        return matches;
+    }
+
     private static class IterableEachItemMatcher<R> extends SetOfObjectsEachItemMatcher<Iterable<R>, R, Iterable<R>> {
 
         @SafeVarargs
@@ -196,7 +196,7 @@ public abstract class SetOfObjectsIncludesMatcher<S, R, T extends Iterable<R>> e
         var toBeChecked = Lists.newArrayList(toCheck);
 
         return relatively ? checkRelatively(toBeChecked) :
-                checkInAnyOrder(toBeChecked, true, true, matchers) == matchers.length;
+                checkInAnyOrder(toBeChecked);
     }
 
     private boolean checkRelatively(List<R> toCheck) {
@@ -1,6 +1,5 @@
 package ru.tinkoff.qa.neptune.core.api.hamcrest.iterables;
 
-import com.google.common.collect.Lists;
 import org.hamcrest.Matcher;
 import ru.tinkoff.qa.neptune.core.api.hamcrest.ObjectIsNotPresentMismatch;
 import ru.tinkoff.qa.neptune.core.api.hamcrest.PropertyValueMismatch;
@@ -707,7 +706,12 @@ public abstract class SetOfObjectsItemsMatcher<S, R, T extends Iterable<R>> exte
 
     boolean itemMatches(T toCheck) {
         var all = all(matchers);
-        var count = checkInAnyOrder(Lists.newArrayList(toCheck), false, false, all);
+        var count = 0;
+        for (var r : toCheck) {
+            if (all.matches(r)) {
+                count++;
+            }
+        }
         if (count == 0) {
             appendMismatchDescription(new ObjectIsNotPresentMismatch(new Item(), all));
             return false;
@@ -1,6 +1,5 @@
 package ru.tinkoff.qa.neptune.core.api.localization;
 
-import io.github.classgraph.ClassGraph;
 import ru.tinkoff.qa.neptune.core.api.steps.SequentialActionSupplier;
 import ru.tinkoff.qa.neptune.core.api.steps.SequentialGetStepSupplier;
 import ru.tinkoff.qa.neptune.core.api.steps.annotations.Description;
@@ -10,14 +9,11 @@ import java.util.List;
 
 import static java.util.Comparator.comparing;
 import static java.util.stream.Collectors.toCollection;
+import static ru.tinkoff.qa.neptune.core.api.classpath.ClassIndex.getClassesWithMethodAnnotation;
 
 final class CriteriaBundleFilter extends DefaultAbstractBundleFiller {
 
-    final static List<Class<?>> CRITERIA = new ClassGraph()
-            .enableAllInfo()
-            .scan()
-            .getClassesWithMethodAnnotation(Description.class.getName())
-            .loadClasses(true)
+    final static List<Class<?>> CRITERIA = getClassesWithMethodAnnotation(Description.class)
             .stream()
             .filter(classClass ->
                     !SequentialActionSupplier.class.isAssignableFrom(classClass)
@@ -0,0 +1,108 @@
+package ru.tinkoff.qa.neptune.core.api.localization;
+
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Pre-parsed template of a step description. Placeholders look like {@code {name}}.
+ * A placeholder which has no value is left as is.
+ * <p></p>
+ * The template is rendered in one pass. A value of a placeholder may contain placeholders too, e.g. a mismatch
+ * description of a nested matcher contains {@code {value}} that is filled by an outer description. Such nested
+ * placeholders are filled by the same parameters once, values inserted into them are not resolved any further.
+ * So the result doesn't depend on order of parameters.
+ */
+final class DescriptionTemplate {
+
+    private static final int MAX_CACHED_TEMPLATES = 10_000;
+    private static final Map<String, DescriptionTemplate> TEMPLATES = new ConcurrentHashMap<>();
+
+    private final String template;
+    //even indexes are literal fragments, odd indexes are names of placeholders
+    private final String[] fragments;
+
+    private DescriptionTemplate(String template, String[] fragments) {
+        this.template = template;
+        this.fragments = fragments;
+    }
+
+    static DescriptionTemplate template(String template) {
+        var result = TEMPLATES.get(template);
+        if (result != null) {
+            return result;
+        }
+
+        result = parse(template);
+        if (TEMPLATES.size() < MAX_CACHED_TEMPLATES) {
+            TEMPLATES.putIfAbsent(template, result);
+        }
+        return result;
+    }
+
+    private static DescriptionTemplate parse(String template) {
+        var fragments = new ArrayList<String>();
+        var literal = new StringBuilder();
+        int i = 0;
+        int length = template.length();
+        while (i < length) {
+            int start = template.indexOf('{', i);
+            if (start < 0) {
+                literal.append(template, i, length);
+                break;
+            }
+
+            int end = template.indexOf('}', start + 1);
+            if (end < 0) {
+                literal.append(template, i, length);
+                break;
+            }
+
+            int nextStart = template.indexOf('{', start + 1);
+            if (nextStart >= 0 && nextStart < end) {
+                literal.append(template, i, nextStart);
+                i = nextStart;
+                continue;
+            }
+
+            literal.append(template, i, start);
+            fragments.add(literal.toString());
+            fragments.add(template.substring(start + 1, end));
+            literal.setLength(0);
+            i = end + 1;
+        }
+
+        fragments.add(literal.toString());
+        return new DescriptionTemplate(template, fragments.toArray(new String[]{}));
+    }
+
+    String render(Map<String, String> parameters) {
+        return render(parameters, true);
+    }
+
+    private String render(Map<String, String> parameters, boolean toResolveNested) {
+        if (fragments.length == 1) {
+            return template;
+        }
+
+        var result = new StringBuilder(template.length() + 16 * (fragments.length / 2));
+        for (int i = 0; i < fragments.length; i++) {
+            var fragment = fragments[i];
+            if (i % 2 == 0) {
+                result.append(fragment);
+                continue;
+            }
+
+            var value = parameters.get(fragment);
+            if (value == null && !parameters.containsKey(fragment)) {
+                result.append('{').append(fragment).append('}');
+            } else if (toResolveNested && value != null && value.indexOf('{') >= 0) {
+                //values are not cached as templates. They are different almost every time
+                result.append(parse(value).render(parameters, false));
+            } else {
+                result.append(value);
+            }
+        }
+        return result.toString();
+    }
+}
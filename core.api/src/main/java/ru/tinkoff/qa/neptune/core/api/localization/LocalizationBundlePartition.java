@@ -1,7 +1,5 @@
 package ru.tinkoff.qa.neptune.core.api.localization;
 
-import io.github.classgraph.ClassGraph;
-
 import java.io.IOException;
 import java.util.List;
 import java.util.Locale;
@@ -12,6 +10,7 @@ import static java.util.Optional.ofNullable;
 import static java.util.stream.Collectors.toList;
 import static ru.tinkoff.qa.neptune.core.api.localization.ResourceBundleGenerator.getResourceInputStream;
 import static ru.tinkoff.qa.neptune.core.api.localization.ResourceBundleGenerator.propertiesFromStream;
+import static ru.tinkoff.qa.neptune.core.api.classpath.ClassIndex.getSubclasses;
 
 /**
  * This class is needful for partitions of localization bundles
@@ -37,11 +36,7 @@ public abstract class LocalizationBundlePartition {
 
     static List<LocalizationBundlePartition> getKnownPartitions() {
         knownPartitions = ofNullable(knownPartitions)
-                .orElseGet(() -> new ClassGraph()
-                        .enableAllInfo()
-                        .scan()
-                        .getSubclasses(LocalizationBundlePartition.class.getName())
-                        .loadClasses(LocalizationBundlePartition.class)
+                .orElseGet(() -> getSubclasses(LocalizationBundlePartition.class)
                         .stream()
                         .filter(c -> !isAbstract(c.getModifiers()))
                         .map(cls -> {
@@ -1,6 +1,5 @@
 package ru.tinkoff.qa.neptune.core.api.localization;
 
-import io.github.classgraph.ClassGraph;
 import ru.tinkoff.qa.neptune.core.api.hamcrest.MatchObjectName;
 import ru.tinkoff.qa.neptune.core.api.steps.annotations.Description;
 
@@ -8,14 +7,11 @@ import java.util.List;
 
 import static java.util.Comparator.comparing;
 import static java.util.stream.Collectors.toList;
+import static ru.tinkoff.qa.neptune.core.api.classpath.ClassIndex.getSubclasses;
 
 final class MatchedObjectsBundleFilter extends DefaultAbstractBundleFiller {
 
-    final static List<Class<?>> MATCHED_OBJECTS = new ClassGraph()
-            .enableAllInfo()
-            .scan()
-            .getSubclasses(MatchObjectName.class.getName())
-            .loadClasses(MatchObjectName.class)
+    final static List<Class<?>> MATCHED_OBJECTS = getSubclasses(MatchObjectName.class)
             .stream()
             .filter(c -> c.getAnnotation(Description.class) != null)
             .map(cls -> (Class<?>) cls)
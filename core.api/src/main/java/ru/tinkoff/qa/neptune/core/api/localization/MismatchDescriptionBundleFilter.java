@@ -1,6 +1,5 @@
 package ru.tinkoff.qa.neptune.core.api.localization;
 
-import io.github.classgraph.ClassGraph;
 import ru.tinkoff.qa.neptune.core.api.hamcrest.MismatchDescriber;
 import ru.tinkoff.qa.neptune.core.api.steps.annotations.Description;
 
@@ -8,14 +7,11 @@ import java.util.List;
 
 import static java.util.Comparator.comparing;
 import static java.util.stream.Collectors.toList;
+import static ru.tinkoff.qa.neptune.core.api.classpath.ClassIndex.getSubclasses;
 
 final class MismatchDescriptionBundleFilter extends DefaultAbstractBundleFiller {
 
-    final static List<Class<?>> MISMATCH_DESCRIPTIONS = new ClassGraph()
-            .enableAllInfo()
-            .scan()
-            .getSubclasses(MismatchDescriber.class.getName())
-            .loadClasses(MismatchDescriber.class)
+    final static List<Class<?>> MISMATCH_DESCRIPTIONS = getSubclasses(MismatchDescriber.class)
             .stream()
             .filter(c -> c.getAnnotation(Description.class) != null)
             .map(cls -> (Class<?>) cls)
@@ -1,6 +1,5 @@
 package ru.tinkoff.qa.neptune.core.api.localization;
 
-import io.github.classgraph.ClassGraph;
 import ru.tinkoff.qa.neptune.core.api.event.firing.Captor;
 import ru.tinkoff.qa.neptune.core.api.hamcrest.MatchObjectName;
 import ru.tinkoff.qa.neptune.core.api.hamcrest.MismatchDescriber;
@@ -19,14 +18,11 @@ import static ru.tinkoff.qa.neptune.core.api.localization.MatchedObjectsBundleFi
 import static ru.tinkoff.qa.neptune.core.api.localization.MatchersBundleFilter.MATCHERS;
 import static ru.tinkoff.qa.neptune.core.api.localization.MismatchDescriptionBundleFilter.MISMATCH_DESCRIPTIONS;
 import static ru.tinkoff.qa.neptune.core.api.localization.StepBundleFilter.STEPS;
+import static ru.tinkoff.qa.neptune.core.api.classpath.ClassIndex.getClassesWithAnnotation;
 
 final class OtherObjectsBundleFilter extends DefaultAbstractBundleFiller {
 
-    final static List<Class<?>> OTHER = new ClassGraph()
-            .enableAllInfo()
-            .scan()
-            .getClassesWithAnnotation(Description.class.getName())
-            .loadClasses(true)
+    final static List<Class<?>> OTHER = getClassesWithAnnotation(Description.class)
             .stream()
             .filter(c -> !STEPS.contains(c) &&
                     !ATTACHMENTS.contains(c) &&
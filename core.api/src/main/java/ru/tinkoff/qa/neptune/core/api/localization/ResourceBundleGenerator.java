@@ -1,6 +1,5 @@
 package ru.tinkoff.qa.neptune.core.api.localization;
 
-import io.github.classgraph.ClassGraph;
 import ru.tinkoff.qa.neptune.core.api.steps.annotations.AdditionalMetadata;
 
 import java.io.*;
@@ -23,6 +22,7 @@ import static java.util.Optional.ofNullable;
 import static org.apache.commons.lang3.StringUtils.EMPTY;
 import static org.apache.commons.lang3.StringUtils.isBlank;
 import static ru.tinkoff.qa.neptune.core.api.localization.LocalizationBundlePartition.getKnownPartitions;
+import static ru.tinkoff.qa.neptune.core.api.classpath.ClassIndex.getSubclasses;
 
 public class ResourceBundleGenerator {
 
@@ -102,10 +102,7 @@ public class ResourceBundleGenerator {
             new MatchedObjectsBundleFilter(partition).fill(output, properties);
             new OtherObjectsBundleFilter(partition).fill(output, properties);
 
-            new ClassGraph().enableAllInfo()
-                    .scan()
-                    .getSubclasses(BundleFillerExtension.class.getName())
-                    .loadClasses(BundleFillerExtension.class)
+            getSubclasses(BundleFillerExtension.class)
                     .stream()
                     .filter(cls -> !isAbstract(cls.getModifiers()) &&
                             !cls.equals(StepBundleFilter.class) &&
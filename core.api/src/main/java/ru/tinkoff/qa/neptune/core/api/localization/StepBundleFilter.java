@@ -1,6 +1,5 @@
 package ru.tinkoff.qa.neptune.core.api.localization;
 
-import io.github.classgraph.ClassGraph;
 import ru.tinkoff.qa.neptune.core.api.steps.SequentialActionSupplier;
 import ru.tinkoff.qa.neptune.core.api.steps.SequentialGetStepSupplier;
 
@@ -11,6 +10,7 @@ import static java.util.Arrays.asList;
 import static java.util.Comparator.comparing;
 import static java.util.List.of;
 import static java.util.stream.Collectors.toList;
+import static ru.tinkoff.qa.neptune.core.api.classpath.ClassIndex.getSubclasses;
 
 final class StepBundleFilter extends DefaultAbstractBundleFiller {
 
@@ -24,11 +24,7 @@ final class StepBundleFilter extends DefaultAbstractBundleFiller {
         var steps = new LinkedList<Class<?>>();
         of(SequentialActionSupplier.class, SequentialGetStepSupplier.class).forEach(cls -> {
             var nestMembers = asList(cls.getNestMembers());
-            steps.addAll(new ClassGraph()
-                    .enableAllInfo()
-                    .scan()
-                    .getSubclasses(cls.getName())
-                    .loadClasses(cls)
+            steps.addAll(getSubclasses(cls)
                     .stream()
                     .filter(c -> !nestMembers.contains(c))
                     .collect(toList()));
@@ -1,20 +1,24 @@
 package ru.tinkoff.qa.neptune.core.api.localization;
 
+import ru.tinkoff.qa.neptune.core.api.localization.StepMetadata.ClassMetadata;
+import ru.tinkoff.qa.neptune.core.api.localization.StepMetadata.MethodMetadata;
 import ru.tinkoff.qa.neptune.core.api.steps.annotations.AdditionalMetadata;
 import ru.tinkoff.qa.neptune.core.api.steps.annotations.Description;
 import ru.tinkoff.qa.neptune.core.api.steps.annotations.DescriptionFragment;
-import ru.tinkoff.qa.neptune.core.api.steps.annotations.Metadata;
 
-import java.lang.annotation.Annotation;
-import java.lang.reflect.*;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
 import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
 
 import static java.lang.String.valueOf;
-import static java.lang.reflect.Modifier.isStatic;
-import static java.util.Arrays.stream;
 import static java.util.Optional.ofNullable;
+import static ru.tinkoff.qa.neptune.core.api.localization.StepMetadata.classMetadata;
+import static ru.tinkoff.qa.neptune.core.api.localization.StepMetadata.metadataValue;
+import static ru.tinkoff.qa.neptune.core.api.localization.StepMetadata.methodMetadata;
 import static ru.tinkoff.qa.neptune.core.api.properties.general.localization.DefaultLocaleProperty.DEFAULT_LOCALE_PROPERTY;
 import static ru.tinkoff.qa.neptune.core.api.properties.general.localization.DefaultLocalizationEngine.DEFAULT_LOCALIZATION_ENGINE;
 import static ru.tinkoff.qa.neptune.core.api.steps.parameters.ParameterValueGetter.ParameterValueReader.getParameterForStep;
@@ -53,10 +57,11 @@ public interface StepLocalization {
         var engine = DEFAULT_LOCALIZATION_ENGINE.get();
         var locale = DEFAULT_LOCALE_PROPERTY.get();
 
-        var description = method.getAnnotation(Description.class);
-        if (description != null) {
-            var templateParameters = templateParameters(object, method, args);
-            var fullDescription = buildTextByTemplate(description.value(), templateParameters);
+        var metadata = methodMetadata(method);
+        var template = metadata.getTemplate();
+        if (template != null) {
+            var templateParameters = templateParameters(metadata, args);
+            var fullDescription = template.render(templateParameters);
             if (engine == null || locale == null) {
                 return fullDescription;
             }
@@ -88,121 +93,77 @@ public interface StepLocalization {
     private static <T> String translateByClass(T toBeTranslated,
                                                StepLocalization localization,
                                                Locale locale) {
-        var clazz = toBeTranslated.getClass();
-        var cls = clazz;
-        while (clazz.getAnnotation(Description.class) == null && !clazz.equals(Object.class)) {
-            clazz = clazz.getSuperclass();
+        var metadata = classMetadata(toBeTranslated.getClass());
+        var template = metadata.getTemplate();
+        if (template == null) {
+            return null;
         }
 
-        var cls2 = clazz;
-        return ofNullable(cls2.getAnnotation(Description.class))
-                .map(description -> {
-                    var templateParameters = templateParameters(toBeTranslated, cls);
-                    var fullDescription = buildTextByTemplate(description.value(), templateParameters);
-                    if (localization == null || locale == null) {
-                        return fullDescription;
-                    }
+        var templateParameters = templateParameters(toBeTranslated, metadata);
+        var fullDescription = template.render(templateParameters);
+        if (localization == null || locale == null) {
+            return fullDescription;
+        }
 
-                    return localization.classTranslation(cls2, fullDescription, templateParameters, locale);
-                })
-                .orElse(null);
+        return localization.classTranslation(metadata.getDescribedBy(), fullDescription, templateParameters, locale);
     }
 
     private static <T extends AnnotatedElement & Member> String translateMember(T translateFrom,
                                                                                 StepLocalization localization,
                                                                                 Locale locale) {
-        var memberAnnotation = stream(translateFrom.getAnnotations())
-                .filter(annotation -> annotation.annotationType().getAnnotation(Metadata.class) != null)
-                .findFirst()
-                .orElse(null);
-
-        if (memberAnnotation == null) {
-            return null;
-        }
+        for (var annotation : translateFrom.getAnnotations()) {
+            var valueGetter = metadataValue(annotation.annotationType());
+            if (valueGetter == null) {
+                continue;
+            }
 
-        try {
-            var m = memberAnnotation.annotationType().getDeclaredMethod("value");
-            m.setAccessible(true);
-            var value = (String) m.invoke(memberAnnotation);
+            String value;
+            try {
+                value = (String) valueGetter.invoke(annotation);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new RuntimeException(t);
+            }
 
             if (localization == null || locale == null) {
                 return value;
             }
 
             return localization.memberTranslation(translateFrom, value, locale);
-        } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
-            throw new RuntimeException(e);
         }
+
+        return null;
     }
 
-    private static <T> Map<String, String> templateParameters(T object, AnnotatedElement annotatedElement, Object... args) {
+    private static Map<String, String> templateParameters(MethodMetadata metadata, Object... args) {
         var result = new HashMap<String, String>();
-
-        if (annotatedElement instanceof Method) {
-            var method = (Method) annotatedElement;
-            Annotation[][] parameterAnnotations = method.getParameterAnnotations();
-            for (int argIndex = 0; argIndex < args.length; argIndex++) {
-                Annotation[] annotations = parameterAnnotations[argIndex];
-
-                for (Annotation annotation : annotations) {
-                    if (!(annotation instanceof DescriptionFragment)) {
-                        continue;
-                    }
-                    var stepDescriptionFragment = (DescriptionFragment) annotation;
-                    var paramValue = ofNullable(args[argIndex])
-                            .map(o -> getParameterForStep(o, stepDescriptionFragment.makeReadableBy()))
-                            .orElseGet(() -> valueOf((Object) null));
-
-                    result.put(stepDescriptionFragment.value(), paramValue);
-                }
+        for (int argIndex = 0; argIndex < args.length; argIndex++) {
+            for (var stepDescriptionFragment : metadata.getFragments(argIndex)) {
+                result.put(stepDescriptionFragment.value(), fragmentValue(args[argIndex], stepDescriptionFragment));
             }
-            return result;
         }
+        return result;
+    }
 
-        var clz = (Class<?>) annotatedElement;
-        while (!clz.equals(Object.class)) {
-            stream(clz.getDeclaredFields())
-                    .filter(field -> !isStatic(field.getModifiers()) && field.getAnnotation(DescriptionFragment.class) != null)
-                    .forEach(field -> {
-                        field.setAccessible(true);
-                        var stepDescriptionFragment = field.getAnnotation(DescriptionFragment.class);
-                        try {
-                            var paramValue = ofNullable(field.get(object))
-                                    .map(o -> getParameterForStep(o, stepDescriptionFragment.makeReadableBy()))
-                                    .orElseGet(() -> valueOf((Object) null));
-
-                            result.put(stepDescriptionFragment.value(), paramValue);
-                        } catch (IllegalAccessException e) {
-                            throw new RuntimeException(e);
-                        }
-                    });
-
-            clz = clz.getSuperclass();
+    private static <T> Map<String, String> templateParameters(T object, ClassMetadata metadata) {
+        var result = new HashMap<String, String>();
+        for (var fieldFragment : metadata.getFragments()) {
+            var stepDescriptionFragment = fieldFragment.getFragment();
+            result.put(stepDescriptionFragment.value(),
+                    fragmentValue(fieldFragment.getValue(object), stepDescriptionFragment));
         }
         return result;
     }
 
-    static String buildTextByTemplate(String template, Map<String, String> templateParameters) {
-        var strContainer = new Object() {
-            String contained;
-
-            public String getContained() {
-                return contained;
-            }
-
-            public void setContained(String s) {
-                this.contained = s;
-            }
-        };
-
-        strContainer.setContained(template);
-        templateParameters.forEach((key, value) -> {
-            var s = strContainer.getContained();
-            s = s.replace("{" + key + "}", value);
-            strContainer.setContained(s);
-        });
+    private static String fragmentValue(Object value, DescriptionFragment stepDescriptionFragment) {
+        return ofNullable(value)
+                .map(o -> getParameterForStep(o, stepDescriptionFragment.makeReadableBy()))
+                .orElseGet(() -> valueOf((Object) null));
+    }
 
-        return strContainer.getContained();
+    static String buildTextByTemplate(String template, Map<String, String> templateParameters) {
+        return DescriptionTemplate.template(template).render(templateParameters);
     }
 
     /**
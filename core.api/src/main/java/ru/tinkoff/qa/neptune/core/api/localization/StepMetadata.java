@@ -0,0 +1,193 @@
+package ru.tinkoff.qa.neptune.core.api.localization;
+
+import ru.tinkoff.qa.neptune.core.api.steps.annotations.Description;
+import ru.tinkoff.qa.neptune.core.api.steps.annotations.DescriptionFragment;
+import ru.tinkoff.qa.neptune.core.api.steps.annotations.Metadata;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.lang.invoke.MethodHandles.lookup;
+import static java.lang.reflect.Modifier.isStatic;
+
+/**
+ * Metadata of classes and methods which is used to build descriptions of steps. It is resolved once per
+ * class/method and then it is reused.
+ */
+final class StepMetadata {
+
+    private static final ClassValue<ClassMetadata> CLASSES = new ClassValue<>() {
+        @Override
+        protected ClassMetadata computeValue(Class<?> type) {
+            return new ClassMetadata(type);
+        }
+    };
+
+    private static final ClassValue<Map<Method, MethodMetadata>> METHODS = new ClassValue<>() {
+        @Override
+        protected Map<Method, MethodMetadata> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private static final ClassValue<MethodHandle> METADATA_VALUES = new ClassValue<>() {
+        @Override
+        protected MethodHandle computeValue(Class<?> type) {
+            if (type.getAnnotation(Metadata.class) == null) {
+                return null;
+            }
+
+            try {
+                var m = type.getDeclaredMethod("value");
+                m.setAccessible(true);
+                return lookup().unreflect(m);
+            } catch (NoSuchMethodException | IllegalAccessException e) {
+                throw new RuntimeException(e);
+            }
+        }
+    };
+
+    private StepMetadata() {
+        super();
+    }
+
+    static ClassMetadata classMetadata(Class<?> cls) {
+        return CLASSES.get(cls);
+    }
+
+    static MethodMetadata methodMetadata(Method method) {
+        return METHODS.get(method.getDeclaringClass()).computeIfAbsent(method, MethodMetadata::new);
+    }
+
+    /**
+     * @param annotationType is a type of annotation
+     * @return accessor of {@code value()} when the annotation type is annotated by {@link Metadata}.
+     * {@code null} is returned otherwise.
+     */
+    static MethodHandle metadataValue(Class<?> annotationType) {
+        return METADATA_VALUES.get(annotationType);
+    }
+
+    static final class ClassMetadata {
+
+        private final Class<?> describedBy;
+        private final DescriptionTemplate template;
+        private final List<FieldFragment> fragments;
+
+        private ClassMetadata(Class<?> cls) {
+            var clazz = cls;
+            while (clazz.getAnnotation(Description.class) == null && !clazz.equals(Object.class)) {
+                clazz = clazz.getSuperclass();
+            }
+
+            var description = clazz.getAnnotation(Description.class);
+            describedBy = clazz;
+            template = description != null ? DescriptionTemplate.template(description.value()) : null;
+
+            var fragments = new ArrayList<FieldFragment>();
+            var clz = cls;
+            while (!clz.equals(Object.class)) {
+                for (var field : clz.getDeclaredFields()) {
+                    var fragment = field.getAnnotation(DescriptionFragment.class);
+                    if (isStatic(field.getModifiers()) || fragment == null) {
+                        continue;
+                    }
+
+                    field.setAccessible(true);
+                    try {
+                        fragments.add(new FieldFragment(lookup().unreflectGetter(field), fragment));
+                    } catch (IllegalAccessException e) {
+                        throw new RuntimeException(e);
+                    }
+                }
+                clz = clz.getSuperclass();
+            }
+            this.fragments = List.copyOf(fragments);
+        }
+
+        /**
+         * @return the nearest class that is annotated by {@link Description}
+         */
+        Class<?> getDescribedBy() {
+            return describedBy;
+        }
+
+        /**
+         * @return template of a description or {@code null} when there is no class annotated by {@link Description}
+         */
+        DescriptionTemplate getTemplate() {
+            return template;
+        }
+
+        List<FieldFragment> getFragments() {
+            return fragments;
+        }
+    }
+
+    static final class FieldFragment {
+
+        private final MethodHandle getter;
+        private final DescriptionFragment fragment;
+
+        private FieldFragment(MethodHandle getter, DescriptionFragment fragment) {
+            this.getter = getter;
+            this.fragment = fragment;
+        }
+
+        Object getValue(Object object) {
+            try {
+                return getter.invoke(object);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new RuntimeException(t);
+            }
+        }
+
+        DescriptionFragment getFragment() {
+            return fragment;
+        }
+    }
+
+    static final class MethodMetadata {
+
+        private final DescriptionTemplate template;
+        private final DescriptionFragment[][] fragments;
+
+        private MethodMetadata(Method method) {
+            var description = method.getAnnotation(Description.class);
+            template = description != null ? DescriptionTemplate.template(description.value()) : null;
+
+            var parameterAnnotations = method.getParameterAnnotations();
+            fragments = new DescriptionFragment[parameterAnnotations.length][];
+            for (int i = 0; i < parameterAnnotations.length; i++) {
+                var found = new ArrayList<DescriptionFragment>();
+                for (var annotation : parameterAnnotations[i]) {
+                    if (annotation instanceof DescriptionFragment) {
+                        found.add((DescriptionFragment) annotation);
+                    }
+                }
+                fragments[i] = found.toArray(new DescriptionFragment[]{});
+            }
+        }
+
+        /**
+         * @return template of a description or {@code null} when the method is not annotated by {@link Description}
+         */
+        DescriptionTemplate getTemplate() {
+            return template;
+        }
+
+        /**
+         * @param index is an index of a parameter
+         * @return annotations {@link DescriptionFragment} of a parameter
+         */
+        DescriptionFragment[] getFragments(int index) {
+            return fragments[index];
+        }
+    }
+}
@@ -186,6 +186,7 @@ public final class GeneralPropertyInitializer {
     public static synchronized void refreshProperties() {
         ofNullable(getAllProperties()).ifPresent(GeneralPropertyInitializer::setUpProperties);
         arePropertiesRead = true;
+        PropertyValueCache.invalidateAll();
     }
 
     static boolean arePropertiesRead() {
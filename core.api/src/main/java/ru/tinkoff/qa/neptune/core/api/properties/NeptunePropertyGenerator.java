@@ -1,7 +1,5 @@
 package ru.tinkoff.qa.neptune.core.api.properties;
 
-import io.github.classgraph.ClassGraph;
-
 import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileWriter;
@@ -22,6 +20,7 @@ import static java.util.stream.Collectors.toMap;
 import static org.apache.commons.lang3.ArrayUtils.addAll;
 import static org.apache.commons.lang3.StringUtils.*;
 import static ru.tinkoff.qa.neptune.core.api.properties.GeneralPropertyInitializer.*;
+import static ru.tinkoff.qa.neptune.core.api.classpath.ClassIndex.getClassesImplementing;
 
 public class NeptunePropertyGenerator {
 
@@ -133,10 +132,7 @@ public class NeptunePropertyGenerator {
 
     private static Map<String, List<Property>> getPropertiesMetaMap(Properties props) {
         var propertyMap = new HashMap<String, List<Property>>();
-        new ClassGraph()
-                .enableAllInfo()
-                .scan().getClassesImplementing(PropertySupplier.class.getName())
-                .loadClasses(PropertySupplier.class)
+        getClassesImplementing(PropertySupplier.class)
                 .forEach(cls -> {
                     if (!cls.isEnum() && cls.getAnnotation(ExcludeFromExport.class) == null) {
                         var list = propertyMap.computeIfAbsent(getSection(cls), s -> new LinkedList<>());
@@ -0,0 +1,61 @@
+package ru.tinkoff.qa.neptune.core.api.properties;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Values of properties which were read once. It is designed to be used by one thread in code which reads
+ * the same properties many times, e.g. in loops. Values of properties that were not read
+ * by {@link #takeSnapshot(PropertySupplier[])} are read on the first demand and then they are reused too.
+ * <p>
+ * NOTE: the snapshot is not thread-safe.
+ */
+public final class PropertySnapshot {
+
+    private final Map<PropertySupplier<?, ?>, Object> values = new IdentityHashMap<>();
+    private final long version;
+
+    private PropertySnapshot() {
+        version = PropertyValueCache.version();
+    }
+
+    /**
+     * Reads values of properties and keeps them.
+     *
+     * @param properties are properties to read at once
+     * @return a snapshot of property values
+     */
+    public static PropertySnapshot takeSnapshot(PropertySupplier<?, ?>... properties) {
+        var snapshot = new PropertySnapshot();
+        for (var p : properties) {
+            snapshot.get(p);
+        }
+        return snapshot;
+    }
+
+    /**
+     * Returns kept value of a property. The value is read when it is not kept yet.
+     *
+     * @param property is a property to get value of
+     * @param <T>      is a type of the property value
+     * @return value of the property
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(PropertySupplier<T, ?> property) {
+        if (values.containsKey(property)) {
+            return (T) values.get(property);
+        }
+
+        var value = property.get();
+        values.put(property, value);
+        return value;
+    }
+
+    /**
+     * @return {@code false} when some property was changed by {@link PropertySupplier#accept(Object)}
+     * or properties were refreshed after the snapshot was taken. {@code true} is returned otherwise.
+     */
+    public boolean isActual() {
+        return version == PropertyValueCache.version();
+    }
+}
@@ -12,6 +12,7 @@ import static org.apache.commons.lang3.StringUtils.isBlank;
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
 import static ru.tinkoff.qa.neptune.core.api.properties.GeneralPropertyInitializer.arePropertiesRead;
 import static ru.tinkoff.qa.neptune.core.api.properties.GeneralPropertyInitializer.refreshProperties;
+import static ru.tinkoff.qa.neptune.core.api.properties.PropertyValueCache.cacheOf;
 
 /**
  * Interface to construct classes which read property values
@@ -35,6 +36,25 @@ public interface PropertySupplier<T, R> extends Supplier<T>, Consumer<R> {
         }
     }
 
+    /**
+     * Makes parsed values of all properties stale. It may be useful when values of properties are changed
+     * not by {@link #accept(Object)} and a new value should be parsed even if its string value is the same.
+     */
+    static void invalidateCachedValues() {
+        PropertyValueCache.invalidateAll();
+    }
+
+    /**
+     * Returns a number which is changed when values of properties may have been changed: when any system property
+     * is set, changed or removed, when properties are refreshed or cached values are invalidated. It lets to
+     * cache something which is calculated by values of properties.
+     *
+     * @return a number of the current state of properties
+     */
+    static long propertiesVersion() {
+        return PropertyValueCache.rawVersion();
+    }
+
     static Optional<String> returnOptionalFromEnvironment(PropertySupplier<?, ?> property) {
         return ofNullable(property.getPropertyValue());
     }
@@ -83,9 +103,14 @@ public interface PropertySupplier<T, R> extends Supplier<T>, Consumer<R> {
         ofNullable(value)
                 .ifPresentOrElse(r -> setProperty(name, readValuesToSet(r)),
                         () -> clearProperty(name));
+        invalidateCachedValues();
     }
 
     default String getName() {
+        return cacheOf(this).name(this::resolveName);
+    }
+
+    private String resolveName() {
         var clz = this.getClass().isAnonymousClass() ? this.getClass().getSuperclass() : this.getClass();
 
         PropertyName propertyName;
@@ -116,20 +141,50 @@ public interface PropertySupplier<T, R> extends Supplier<T>, Consumer<R> {
                 });
     }
 
+    /**
+     * Defines may a parsed value be reused by following invocations of {@link #get()} or not. It is reused
+     * while the string value of the property is not changed. Implementors which return immutable values
+     * may return {@code true}.
+     *
+     * @return may a parsed value be reused or not. {@code false} by default
+     */
+    default boolean isValueCacheable() {
+        return false;
+    }
+
     @Override
+    @SuppressWarnings("unchecked")
     default T get() {
-        var thisRef = this;
-        return returnOptionalFromEnvironment(this)
-                .map(this::parse)
-                .orElseGet(() -> {
-                    if (isPropertyDefined()) {
-                        return returnIfNull();
-                    }
+        var cache = cacheOf(this);
+        var version = PropertyValueCache.version();
+        var raw = cache.rawValue(() -> {
+            var v = getPropertyValue();
+            return new PropertyValueCache.RawValue(v, v != null || isPropertyDefined());
+        });
+        var value = raw.value;
+        var isDefined = raw.isDefined;
+
+        var cached = cache.getValue(value, isDefined);
+        if (cached != null) {
+            return (T) cached.parsed;
+        }
 
-                    return ofNullable(getPropertyDefaultValue(thisRef))
-                            .map(v -> parse(v.value()))
-                            .orElseGet(this::returnIfNull);
-                });
+        T result = value != null ? parse(value) : null;
+        if (result == null) {
+            if (isDefined) {
+                result = returnIfNull();
+            } else {
+                var thisRef = this;
+                result = ofNullable(cache.defaultValue(() -> getPropertyDefaultValue(thisRef)))
+                        .map(v -> parse(v.value()))
+                        .orElseGet(this::returnIfNull);
+            }
+        }
+
+        if (isValueCacheable()) {
+            cache.setValue(value, isDefined, result, version);
+        }
+        return result;
     }
 
     T parse(String value);
@@ -0,0 +1,152 @@
+package ru.tinkoff.qa.neptune.core.api.properties;
+
+import com.google.common.cache.CacheBuilder;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Keeps resolved names, default values, string values and parsed values of properties. A string value is reused
+ * while system properties are not changed and caches are not invalidated. A parsed value is reused
+ * while the string value of the property is the same and caches are not invalidated.
+ */
+final class PropertyValueCache {
+
+    private static final AtomicLong VERSION = new AtomicLong();
+    //it is changed when any system property is changed. Environment variables are not changed at runtime
+    private static final AtomicLong RAW_VERSION = new AtomicLong();
+    private static volatile Properties tracked;
+    private static final Map<PropertySupplier<?, ?>, PropertyValueCache> CACHES = CacheBuilder.newBuilder()
+            .weakKeys()
+            .<PropertySupplier<?, ?>, PropertyValueCache>build()
+            .asMap();
+
+    private volatile String name;
+    private volatile PropertyDefaultValue defaultValue;
+    private volatile boolean defaultValueResolved;
+    private volatile CachedValue value;
+    private volatile RawValue rawValue;
+
+    private PropertyValueCache() {
+        super();
+    }
+
+    static PropertyValueCache cacheOf(PropertySupplier<?, ?> property) {
+        var cache = CACHES.get(property);
+        if (cache != null) {
+            return cache;
+        }
+        return CACHES.computeIfAbsent(property, p -> new PropertyValueCache());
+    }
+
+    /**
+     * Makes all cached parsed values stale.
+     */
+    static void invalidateAll() {
+        VERSION.incrementAndGet();
+        RAW_VERSION.incrementAndGet();
+    }
+
+    static long version() {
+        return VERSION.get();
+    }
+
+    static long rawVersion() {
+        //system properties may be replaced by System.setProperties
+        if (System.getProperties() != tracked) {
+            tracked = TrackedProperties.install(RAW_VERSION::incrementAndGet);
+            RAW_VERSION.incrementAndGet();
+        }
+        return RAW_VERSION.get();
+    }
+
+    /**
+     * @param resolve is how to read a string value of the property and to know is the property defined or not
+     * @return previously read value when system properties were not changed since then. Otherwise, the value
+     * is read again.
+     */
+    RawValue rawValue(Supplier<RawValue> resolve) {
+        var version = rawVersion();
+        var result = rawValue;
+        if (result != null && result.version == version) {
+            return result;
+        }
+
+        result = resolve.get();
+        //the value is read again by the next invocation when something was changed during the reading
+        rawValue = new RawValue(result.value, result.isDefined, version);
+        return result;
+    }
+
+    String name(Supplier<String> resolve) {
+        var result = name;
+        if (result == null) {
+            result = resolve.get();
+            name = result;
+        }
+        return result;
+    }
+
+    PropertyDefaultValue defaultValue(Supplier<PropertyDefaultValue> resolve) {
+        if (!defaultValueResolved) {
+            defaultValue = resolve.get();
+            defaultValueResolved = true;
+        }
+        return defaultValue;
+    }
+
+    /**
+     * @param stringValue is a current string value of the property
+     * @param isDefined   is the property defined or not
+     * @return previously parsed value. {@code null} is returned when there is no actual parsed value.
+     */
+    CachedValue getValue(String stringValue, boolean isDefined) {
+        var result = value;
+        if (result == null
+                || result.version != VERSION.get()
+                || result.isDefined != isDefined
+                || !Objects.equals(result.stringValue, stringValue)) {
+            return null;
+        }
+        return result;
+    }
+
+    void setValue(String stringValue, boolean isDefined, Object parsed, long version) {
+        value = new CachedValue(stringValue, isDefined, parsed, version);
+    }
+
+    static final class CachedValue {
+
+        private final String stringValue;
+        private final boolean isDefined;
+        final Object parsed;
+        private final long version;
+
+        private CachedValue(String stringValue, boolean isDefined, Object parsed, long version) {
+            this.stringValue = stringValue;
+            this.isDefined = isDefined;
+            this.parsed = parsed;
+            this.version = version;
+        }
+    }
+
+    static final class RawValue {
+
+        final String value;
+        final boolean isDefined;
+        private final long version;
+
+        private RawValue(String value, boolean isDefined, long version) {
+            this.value = value;
+            this.isDefined = isDefined;
+            this.version = version;
+        }
+
+        RawValue(String value, boolean isDefined) {
+            this(value, isDefined, -1);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package ru.tinkoff.qa.neptune.core.api.properties;
+
+import java.util.Map;
+import java.util.Properties;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * System properties which let to know that some property is changed. When it is installed then
+ * string values of properties may be cached until some system property is set, changed or removed.
+ */
+final class TrackedProperties extends Properties {
+
+    private static final long serialVersionUID = 4153876233580214217L;
+
+    private final transient Runnable onChange;
+
+    private TrackedProperties(Properties source, Runnable onChange) {
+        super();
+        this.onChange = onChange;
+        super.putAll(source);
+    }
+
+    /**
+     * Replaces system properties by tracked ones if it is necessary.
+     *
+     * @param onChange is invoked when any property is changed
+     * @return installed tracked properties
+     */
+    static synchronized Properties install(Runnable onChange) {
+        var current = System.getProperties();
+        if (current instanceof TrackedProperties) {
+            return current;
+        }
+
+        var tracked = new TrackedProperties(current, onChange);
+        System.setProperties(tracked);
+        return tracked;
+    }
+
+    private <T> T changed(T result) {
+        onChange.run();
+        return result;
+    }
+
+    @Override
+    public synchronized Object put(Object key, Object value) {
+        return changed(super.put(key, value));
+    }
+
+    @Override
+    public synchronized void putAll(Map<?, ?> t) {
+        super.putAll(t);
+        onChange.run();
+    }
+
+    @Override
+    public synchronized Object remove(Object key) {
+        return changed(super.remove(key));
+    }
+
+    @Override
+    public synchronized boolean remove(Object key, Object value) {
+        return changed(super.remove(key, value));
+    }
+
+    @Override
+    public synchronized void clear() {
+        super.clear();
+        onChange.run();
+    }
+
+    @Override
+    public synchronized Object putIfAbsent(Object key, Object value) {
+        return changed(super.putIfAbsent(key, value));
+    }
+
+    @Override
+    public synchronized boolean replace(Object key, Object oldValue, Object newValue) {
+        return changed(super.replace(key, oldValue, newValue));
+    }
+
+    @Override
+    public synchronized Object replace(Object key, Object value) {
+        return changed(super.replace(key, value));
+    }
+
+    @Override
+    public synchronized void replaceAll(BiFunction<? super Object, ? super Object, ?> function) {
+        super.replaceAll(function);
+        onChange.run();
+    }
+
+    @Override
+    public synchronized Object computeIfAbsent(Object key, Function<? super Object, ?> mappingFunction) {
+        return changed(super.computeIfAbsent(key, mappingFunction));
+    }
+
+    @Override
+    public synchronized Object computeIfPresent(Object key, BiFunction<? super Object, ? super Object, ?> remappingFunction) {
+        return changed(super.computeIfPresent(key, remappingFunction));
+    }
+
+    @Override
+    public synchronized Object compute(Object key, BiFunction<? super Object, ? super Object, ?> remappingFunction) {
+        return changed(super.compute(key, remappingFunction));
+    }
+
+    @Override
+    public synchronized Object merge(Object key, Object value, BiFunction<? super Object, ? super Object, ?> remappingFunction) {
+        return changed(super.merge(key, value, remappingFunction));
+    }
+}
@@ -15,4 +15,14 @@ public interface BooleanValuePropertySupplier extends PropertySupplier<Boolean,
     default Boolean returnIfNull() {
         return false;
     }
+
+    /**
+     * Booleans are immutable. So a parsed value is reused while the property value is not changed.
+     *
+     * @return {@code true}
+     */
+    @Override
+    default boolean isValueCacheable() {
+        return true;
+    }
 }
@@ -11,4 +11,14 @@ public interface ByteValuePropertySupplier extends PropertySupplier<Byte, Byte>
     default Byte parse(String value) {
         return Byte.parseByte(value);
     }
+
+    /**
+     * Bytes are immutable. So a parsed value is reused while the property value is not changed.
+     *
+     * @return {@code true}
+     */
+    @Override
+    default boolean isValueCacheable() {
+        return true;
+    }
 }
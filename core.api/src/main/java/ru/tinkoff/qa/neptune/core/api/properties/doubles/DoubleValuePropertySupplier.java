@@ -11,4 +11,14 @@ public interface DoubleValuePropertySupplier extends PropertySupplier<Double, Do
     default Double parse(String value) {
         return Double.parseDouble(value);
     }
+
+    /**
+     * Doubles are immutable. So a parsed value is reused while the property value is not changed.
+     *
+     * @return {@code true}
+     */
+    @Override
+    default boolean isValueCacheable() {
+        return true;
+    }
 }
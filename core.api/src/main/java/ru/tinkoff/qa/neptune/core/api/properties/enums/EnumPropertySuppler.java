@@ -41,4 +41,14 @@ public interface EnumPropertySuppler<T extends Enum<?>> extends PropertySupplier
     default String readValuesToSet(T value) {
         return value.name();
     }
+
+    /**
+     * Constants of enums are immutable. So a parsed value is reused while the property value is not changed.
+     *
+     * @return {@code true}
+     */
+    @Override
+    default boolean isValueCacheable() {
+        return true;
+    }
 }
@@ -11,4 +11,14 @@ public interface FloatValuePropertySupplier extends PropertySupplier<Float, Floa
     default Float parse(String value) {
         return Float.parseFloat(value);
     }
+
+    /**
+     * Floats are immutable. So a parsed value is reused while the property value is not changed.
+     *
+     * @return {@code true}
+     */
+    @Override
+    default boolean isValueCacheable() {
+        return true;
+    }
 }
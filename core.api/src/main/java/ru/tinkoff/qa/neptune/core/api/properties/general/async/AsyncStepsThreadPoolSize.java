@@ -0,0 +1,22 @@
+package ru.tinkoff.qa.neptune.core.api.properties.general.async;
+
+import ru.tinkoff.qa.neptune.core.api.properties.PropertyDescription;
+import ru.tinkoff.qa.neptune.core.api.properties.PropertyName;
+import ru.tinkoff.qa.neptune.core.api.properties.integers.IntValuePropertySupplier;
+
+@PropertyDescription(description = {"Count of threads which perform steps asynchronously",
+        "When it is not defined then each step is performed by a new virtual thread (java 21+)",
+        "or by a thread of a cached thread pool"},
+        section = "General properties. Asynchronous steps")
+@PropertyName("ASYNC_STEPS_THREAD_POOL_SIZE")
+public final class AsyncStepsThreadPoolSize implements IntValuePropertySupplier {
+
+    /**
+     * Reads the property value and is used to get access to its value.
+     */
+    public static final AsyncStepsThreadPoolSize ASYNC_STEPS_THREAD_POOL_SIZE = new AsyncStepsThreadPoolSize();
+
+    private AsyncStepsThreadPoolSize() {
+        super();
+    }
+}
@@ -0,0 +1,36 @@
+package ru.tinkoff.qa.neptune.core.api.properties.general.classpath;
+
+import org.apache.commons.lang3.StringUtils;
+import ru.tinkoff.qa.neptune.core.api.properties.PropertyDescription;
+import ru.tinkoff.qa.neptune.core.api.properties.PropertyName;
+import ru.tinkoff.qa.neptune.core.api.properties.PropertySupplier;
+
+import java.util.List;
+
+import static java.util.Arrays.stream;
+import static java.util.stream.Collectors.toUnmodifiableList;
+
+@PropertyDescription(description = {"Comma-separated packages which are scanned when the precomputed index",
+        "of classpath doesn't contain a result of some search. Packages of Neptune are scanned always",
+        "When it is not defined then the whole classpath is scanned"},
+        section = "General properties. Classpath")
+@PropertyName("CLASSPATH_SCAN_PACKAGES")
+public final class ClasspathScanPackages implements PropertySupplier<List<String>, String> {
+
+    /**
+     * Reads the property value and is used to get access to its value.
+     */
+    public static final ClasspathScanPackages CLASSPATH_SCAN_PACKAGES_PROPERTY = new ClasspathScanPackages();
+
+    private ClasspathScanPackages() {
+        super();
+    }
+
+    @Override
+    public List<String> parse(String value) {
+        return stream(value.split(","))
+                .map(String::trim)
+                .filter(StringUtils::isNotBlank)
+                .collect(toUnmodifiableList());
+    }
+}
@@ -0,0 +1,22 @@
+package ru.tinkoff.qa.neptune.core.api.properties.general.events;
+
+import ru.tinkoff.qa.neptune.core.api.properties.PropertyDefaultValue;
+import ru.tinkoff.qa.neptune.core.api.properties.PropertyDescription;
+import ru.tinkoff.qa.neptune.core.api.properties.PropertyName;
+import ru.tinkoff.qa.neptune.core.api.properties.booleans.BooleanValuePropertySupplier;
+
+@PropertyDescription(description = {
+        "To fire events of steps asynchronously or not",
+        "When it is true then events are passed to loggers which support it by a separate thread.",
+        "Events of each thread are fired in the same order as they happened"},
+        section = "General properties. Report")
+@PropertyName("ASYNC_EVENT_FIRING")
+@PropertyDefaultValue("false")
+public final class AsyncEventFiring implements BooleanValuePropertySupplier {
+
+    public static final AsyncEventFiring ASYNC_EVENT_FIRING_PROPERTY = new AsyncEventFiring();
+
+    private AsyncEventFiring() {
+        super();
+    }
+}
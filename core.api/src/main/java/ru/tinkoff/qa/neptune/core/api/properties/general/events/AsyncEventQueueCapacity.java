@@ -0,0 +1,21 @@
+package ru.tinkoff.qa.neptune.core.api.properties.general.events;
+
+import ru.tinkoff.qa.neptune.core.api.properties.PropertyDefaultValue;
+import ru.tinkoff.qa.neptune.core.api.properties.PropertyDescription;
+import ru.tinkoff.qa.neptune.core.api.properties.PropertyName;
+import ru.tinkoff.qa.neptune.core.api.properties.integers.IntValuePropertySupplier;
+
+@PropertyDescription(description = {
+        "Max count of events of a thread that wait to be fired asynchronously",
+        "It makes sense when ASYNC_EVENT_FIRING is true"},
+        section = "General properties. Report")
+@PropertyName("ASYNC_EVENT_QUEUE_CAPACITY")
+@PropertyDefaultValue("1024")
+public final class AsyncEventQueueCapacity implements IntValuePropertySupplier {
+
+    public static final AsyncEventQueueCapacity ASYNC_EVENT_QUEUE_CAPACITY = new AsyncEventQueueCapacity();
+
+    private AsyncEventQueueCapacity() {
+        super();
+    }
+}
@@ -0,0 +1,22 @@
+package ru.tinkoff.qa.neptune.core.api.properties.general.events;
+
+import ru.tinkoff.qa.neptune.core.api.properties.PropertyDefaultValue;
+import ru.tinkoff.qa.neptune.core.api.properties.PropertyDescription;
+import ru.tinkoff.qa.neptune.core.api.properties.PropertyName;
+import ru.tinkoff.qa.neptune.core.api.properties.enums.EnumPropertySuppler;
+
+@PropertyDescription(description = {
+        "Defines what to do when a queue of events to be fired asynchronously is full",
+        "Available values: BLOCK, DROP_ATTACHMENTS",
+        "It makes sense when ASYNC_EVENT_FIRING is true"},
+        section = "General properties. Report")
+@PropertyName("ASYNC_EVENT_QUEUE_OVERFLOW")
+@PropertyDefaultValue("BLOCK")
+public final class AsyncEventQueueOverflow implements EnumPropertySuppler<EventQueueOverflow> {
+
+    public static final AsyncEventQueueOverflow ASYNC_EVENT_QUEUE_OVERFLOW = new AsyncEventQueueOverflow();
+
+    private AsyncEventQueueOverflow() {
+        super();
+    }
+}
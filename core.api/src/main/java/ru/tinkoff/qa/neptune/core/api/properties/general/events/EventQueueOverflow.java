@@ -0,0 +1,16 @@
+package ru.tinkoff.qa.neptune.core.api.properties.general.events;
+
+/**
+ * What to do when a queue of events to be fired asynchronously is full.
+ */
+public enum EventQueueOverflow {
+    /**
+     * A thread waits until there is a free place in the queue
+     */
+    BLOCK,
+    /**
+     * Returned values and parameters calculated during the step performing are not fired.
+     * A thread waits to fire other events.
+     */
+    DROP_ATTACHMENTS
+}
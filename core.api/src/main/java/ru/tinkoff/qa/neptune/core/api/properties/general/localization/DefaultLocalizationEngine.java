@@ -19,6 +19,16 @@ public final class DefaultLocalizationEngine implements ObjectByClassPropertySup
         super();
     }
 
+    /**
+     * Localization engines are expected to be stateless. So the same engine is reused.
+     *
+     * @return {@code true}
+     */
+    @Override
+    public boolean isValueCacheable() {
+        return true;
+    }
+
     /**
      * Is localization by resource bundle currently used or not.
      *
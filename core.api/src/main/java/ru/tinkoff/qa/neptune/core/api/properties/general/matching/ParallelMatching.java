@@ -0,0 +1,22 @@
+package ru.tinkoff.qa.neptune.core.api.properties.general.matching;
+
+import ru.tinkoff.qa.neptune.core.api.properties.PropertyDefaultValue;
+import ru.tinkoff.qa.neptune.core.api.properties.PropertyDescription;
+import ru.tinkoff.qa.neptune.core.api.properties.PropertyName;
+import ru.tinkoff.qa.neptune.core.api.properties.booleans.BooleanValuePropertySupplier;
+
+@PropertyDescription(description = {
+        "To check items of large sets of objects in parallel or not",
+        "It is about matchers which check each item of an iterable/array/map.",
+        "Criteria are expected to be free of side effects when it is true"},
+        section = "General properties. Matching")
+@PropertyName("PARALLEL_MATCHING")
+@PropertyDefaultValue("false")
+public final class ParallelMatching implements BooleanValuePropertySupplier {
+
+    public static final ParallelMatching PARALLEL_MATCHING_PROPERTY = new ParallelMatching();
+
+    private ParallelMatching() {
+        super();
+    }
+}
@@ -0,0 +1,21 @@
+package ru.tinkoff.qa.neptune.core.api.properties.general.matching;
+
+import ru.tinkoff.qa.neptune.core.api.properties.PropertyDescription;
+import ru.tinkoff.qa.neptune.core.api.properties.PropertyName;
+import ru.tinkoff.qa.neptune.core.api.properties.integers.IntValuePropertySupplier;
+
+@PropertyDescription(description = {
+        "Count of threads which check items of sets of objects in parallel",
+        "When it is not defined then the common fork-join pool is used",
+        "The value is read each time when items are checked in parallel. A pool is created once per count of threads",
+        "It makes sense when value of the property 'PARALLEL_MATCHING' is 'true'"},
+        section = "General properties. Matching")
+@PropertyName("PARALLEL_MATCHING_PARALLELISM")
+public final class ParallelMatchingParallelism implements IntValuePropertySupplier {
+
+    public static final ParallelMatchingParallelism PARALLEL_MATCHING_PARALLELISM = new ParallelMatchingParallelism();
+
+    private ParallelMatchingParallelism() {
+        super();
+    }
+}
@@ -0,0 +1,21 @@
+package ru.tinkoff.qa.neptune.core.api.properties.general.matching;
+
+import ru.tinkoff.qa.neptune.core.api.properties.PropertyDefaultValue;
+import ru.tinkoff.qa.neptune.core.api.properties.PropertyDescription;
+import ru.tinkoff.qa.neptune.core.api.properties.PropertyName;
+import ru.tinkoff.qa.neptune.core.api.properties.integers.IntValuePropertySupplier;
+
+@PropertyDescription(description = {
+        "Minimal count of items of a set of objects to check them in parallel",
+        "It makes sense when value of the property 'PARALLEL_MATCHING' is 'true'"},
+        section = "General properties. Matching")
+@PropertyName("PARALLEL_MATCHING_THRESHOLD")
+@PropertyDefaultValue("1000")
+public final class ParallelMatchingThreshold implements IntValuePropertySupplier {
+
+    public static final ParallelMatchingThreshold PARALLEL_MATCHING_THRESHOLD = new ParallelMatchingThreshold();
+
+    private ParallelMatchingThreshold() {
+        super();
+    }
+}
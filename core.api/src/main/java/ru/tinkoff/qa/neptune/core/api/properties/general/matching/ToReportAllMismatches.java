@@ -0,0 +1,21 @@
+package ru.tinkoff.qa.neptune.core.api.properties.general.matching;
+
+import ru.tinkoff.qa.neptune.core.api.properties.PropertyDefaultValue;
+import ru.tinkoff.qa.neptune.core.api.properties.PropertyDescription;
+import ru.tinkoff.qa.neptune.core.api.properties.PropertyName;
+import ru.tinkoff.qa.neptune.core.api.properties.booleans.BooleanValuePropertySupplier;
+
+@PropertyDescription(description = {
+        "To report every mismatched item of a set of objects or not",
+        "When it is false then checking of items is stopped on the first mismatched item"},
+        section = "General properties. Matching")
+@PropertyName("TO_REPORT_ALL_MISMATCHES")
+@PropertyDefaultValue("true")
+public final class ToReportAllMismatches implements BooleanValuePropertySupplier {
+
+    public static final ToReportAllMismatches TO_REPORT_ALL_MISMATCHES_PROPERTY = new ToReportAllMismatches();
+
+    private ToReportAllMismatches() {
+        super();
+    }
+}
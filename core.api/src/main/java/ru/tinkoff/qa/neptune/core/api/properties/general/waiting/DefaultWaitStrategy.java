@@ -0,0 +1,38 @@
+package ru.tinkoff.qa.neptune.core.api.properties.general.waiting;
+
+import ru.tinkoff.qa.neptune.core.api.properties.PropertyDefaultValue;
+import ru.tinkoff.qa.neptune.core.api.properties.PropertyDescription;
+import ru.tinkoff.qa.neptune.core.api.properties.PropertyName;
+import ru.tinkoff.qa.neptune.core.api.properties.object.ObjectByClassPropertySupplier;
+import ru.tinkoff.qa.neptune.core.api.steps.conditions.WaitStrategy;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@PropertyDescription(description = {"Defines how to pause between attempts to get a value which suits conditions",
+        "Available values: ru.tinkoff.qa.neptune.core.api.steps.conditions.FixedWaitStrategy,",
+        "ru.tinkoff.qa.neptune.core.api.steps.conditions.ExponentialBackoffWaitStrategy,",
+        "ru.tinkoff.qa.neptune.core.api.steps.conditions.AdaptiveWaitStrategy",
+        "or any other implementation of ru.tinkoff.qa.neptune.core.api.steps.conditions.WaitStrategy"},
+        section = "General properties. Waiting")
+@PropertyName("DEFAULT_WAIT_STRATEGY")
+@PropertyDefaultValue("ru.tinkoff.qa.neptune.core.api.steps.conditions.FixedWaitStrategy")
+public final class DefaultWaitStrategy implements ObjectByClassPropertySupplier<WaitStrategy> {
+
+    /**
+     * Reads the property value and is used to get access to its value.
+     */
+    public static final DefaultWaitStrategy DEFAULT_WAIT_STRATEGY = new DefaultWaitStrategy();
+
+    //strategies may keep some state. So there is one object per class
+    private static final Map<String, WaitStrategy> STRATEGIES = new ConcurrentHashMap<>();
+
+    private DefaultWaitStrategy() {
+        super();
+    }
+
+    @Override
+    public WaitStrategy parse(String s) {
+        return STRATEGIES.computeIfAbsent(s.trim(), ObjectByClassPropertySupplier.super::parse);
+    }
+}
@@ -11,4 +11,14 @@ public interface IntValuePropertySupplier extends PropertySupplier<Integer, Inte
     default Integer parse(String value) {
         return Integer.parseInt(value);
     }
+
+    /**
+     * Integers are immutable. So a parsed value is reused while the property value is not changed.
+     *
+     * @return {@code true}
+     */
+    @Override
+    default boolean isValueCacheable() {
+        return true;
+    }
 }
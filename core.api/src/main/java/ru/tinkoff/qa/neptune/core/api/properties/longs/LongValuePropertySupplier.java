@@ -11,4 +11,14 @@ public interface LongValuePropertySupplier extends PropertySupplier<Long, Long>
     default Long parse(String value) {
         return Long.parseLong(value);
     }
+
+    /**
+     * Longs are immutable. So a parsed value is reused while the property value is not changed.
+     *
+     * @return {@code true}
+     */
+    @Override
+    default boolean isValueCacheable() {
+        return true;
+    }
 }
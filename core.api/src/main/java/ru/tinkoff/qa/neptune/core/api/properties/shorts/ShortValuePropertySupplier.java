@@ -10,4 +10,14 @@ public interface ShortValuePropertySupplier extends PropertySupplier<Short, Shor
     default Short parse(String value) {
         return Short.parseShort(value);
     }
+
+    /**
+     * Shorts are immutable. So a parsed value is reused while the property value is not changed.
+     *
+     * @return {@code true}
+     */
+    @Override
+    default boolean isValueCacheable() {
+        return true;
+    }
 }
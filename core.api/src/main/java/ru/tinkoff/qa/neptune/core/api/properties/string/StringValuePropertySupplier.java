@@ -16,4 +16,14 @@ public interface StringValuePropertySupplier extends PropertySupplier<String, St
         }
         return trimmed;
     }
+
+    /**
+     * Strings are immutable. So a parsed value is reused while the property value is not changed.
+     *
+     * @return {@code true}
+     */
+    @Override
+    default boolean isValueCacheable() {
+        return true;
+    }
 }
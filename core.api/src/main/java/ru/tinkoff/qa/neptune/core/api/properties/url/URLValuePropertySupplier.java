@@ -18,4 +18,14 @@ public interface URLValuePropertySupplier extends PropertySupplier<URL, URL> {
             throw new IllegalArgumentException(e.getMessage(), e);
         }
     }
+
+    /**
+     * URLs are immutable. So a parsed value is reused while the property value is not changed.
+     *
+     * @return {@code true}
+     */
+    @Override
+    default boolean isValueCacheable() {
+        return true;
+    }
 }
@@ -2,6 +2,7 @@ package ru.tinkoff.qa.neptune.core.api.steps;
 
 import ru.tinkoff.qa.neptune.core.api.event.firing.Captor;
 
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -9,7 +10,6 @@ import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
-import static java.util.Collections.emptyMap;
 import static java.util.Optional.ofNullable;
 import static ru.tinkoff.qa.neptune.core.api.event.firing.StaticEventFiring.*;
 import static ru.tinkoff.qa.neptune.core.api.event.firing.annotations.MaxDepthOfReporting.MaxDepthOfReportingReader.getCurrentDepth;
@@ -29,7 +29,7 @@ final class ActionImpl<T, R> implements Action<T> {
     private final String description;
     private final Set<Captor<Object, Object>> successCaptors = new HashSet<>();
     private final Set<Captor<Object, Object>> failureCaptors = new HashSet<>();
-    private Map<String, String> parameters = emptyMap();
+    private Supplier<Map<String, String>> parameters = Collections::emptyMap;
     private final SequentialActionSupplier<T, R, ?> supplier;
     private final Function<T, R> getFrom;
     private int maxDepth;
@@ -57,7 +57,7 @@ final class ActionImpl<T, R> implements Action<T> {
             supplier.howToPerform(performOn);
 
             if (toReport) {
-                ofNullable(additionalParams).ifPresent(ap -> fireAdditionalParameters(ap.get()));
+                ofNullable(additionalParams).ifPresent(ap -> fireAdditionalParameters(ap));
             }
 
             if (catchSuccessEvent() && toReport) {
@@ -66,7 +66,7 @@ final class ActionImpl<T, R> implements Action<T> {
         } catch (Throwable thrown) {
 
             if (toReport) {
-                ofNullable(additionalParams).ifPresent(ap -> fireAdditionalParameters(ap.get()));
+                ofNullable(additionalParams).ifPresent(ap -> fireAdditionalParameters(ap));
             }
 
             supplier.onFailure(t, thrown);
@@ -98,7 +98,7 @@ final class ActionImpl<T, R> implements Action<T> {
         return this;
     }
 
-    ActionImpl<T, R> setParameters(Map<String, String> parameters) {
+    ActionImpl<T, R> setParameters(Supplier<Map<String, String>> parameters) {
         this.parameters = parameters;
         return this;
     }
@@ -0,0 +1,126 @@
+package ru.tinkoff.qa.neptune.core.api.steps;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.util.Optional.ofNullable;
+import static java.util.concurrent.CompletableFuture.allOf;
+import static java.util.concurrent.Executors.newCachedThreadPool;
+import static java.util.concurrent.Executors.newFixedThreadPool;
+import static ru.tinkoff.qa.neptune.core.api.event.firing.StaticEventFiring.branch;
+import static ru.tinkoff.qa.neptune.core.api.properties.general.async.AsyncStepsThreadPoolSize.ASYNC_STEPS_THREAD_POOL_SIZE;
+
+/**
+ * Utility class that performs steps asynchronously. Events of such steps are nested in the step
+ * that is performed by the thread that starts them.
+ *
+ * @see ru.tinkoff.qa.neptune.core.api.event.firing.StaticEventFiring#branch(Supplier)
+ */
+public final class AsyncSteps {
+
+    private AsyncSteps() {
+        super();
+    }
+
+    /**
+     * Returns the executor which is used by default to perform steps asynchronously. It is a fixed thread pool
+     * when the property {@code ASYNC_STEPS_THREAD_POOL_SIZE} is defined. Otherwise it creates a new virtual
+     * thread for each step when it is run on java 21+ or it is a cached thread pool.
+     *
+     * @return the default executor
+     */
+    public static ExecutorService getDefaultExecutor() {
+        return DefaultExecutor.EXECUTOR;
+    }
+
+    /**
+     * Evaluates a supplier asynchronously.
+     *
+     * @param supplier is a supplier to be evaluated
+     * @param executor is an executor to evaluate the supplier
+     * @param <T>      is a type of a value to get
+     * @return a {@link CompletableFuture} which is completed with the value
+     */
+    public static <T> CompletableFuture<T> supplyAsync(Supplier<T> supplier, Executor executor) {
+        checkNotNull(executor);
+        return CompletableFuture.supplyAsync(branch(supplier), executor);
+    }
+
+    /**
+     * Evaluates a supplier asynchronously by the default executor.
+     *
+     * @param supplier is a supplier to be evaluated
+     * @param <T>      is a type of a value to get
+     * @return a {@link CompletableFuture} which is completed with the value
+     * @see #getDefaultExecutor()
+     */
+    public static <T> CompletableFuture<T> supplyAsync(Supplier<T> supplier) {
+        return supplyAsync(supplier, getDefaultExecutor());
+    }
+
+    /**
+     * Waits for all futures are completed and returns their values.
+     *
+     * @param futures are futures to wait for
+     * @param <T>     is a type of values
+     * @return values in the same order as futures are listed. When any future is completed exceptionally then
+     * its exception is thrown after all futures are completed.
+     */
+    public static <T> List<T> joinAll(List<? extends CompletableFuture<? extends T>> futures) {
+        try {
+            allOf(futures.toArray(new CompletableFuture<?>[0])).join();
+        } catch (CompletionException e) {
+            var cause = ofNullable(e.getCause()).orElse(e);
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+
+        var result = new ArrayList<T>(futures.size());
+        futures.forEach(f -> result.add(f.join()));
+        return result;
+    }
+
+    private static final class DefaultExecutor {
+
+        private static final ExecutorService EXECUTOR = createExecutor();
+
+        private static ExecutorService createExecutor() {
+            var size = ASYNC_STEPS_THREAD_POOL_SIZE.get();
+            if (size != null && size > 0) {
+                return newFixedThreadPool(size, threadFactory());
+            }
+
+            try {
+                //java 21+
+                return (ExecutorService) Executors.class
+                        .getMethod("newVirtualThreadPerTaskExecutor")
+                        .invoke(null);
+            } catch (ReflectiveOperationException e) {
+                return newCachedThreadPool(threadFactory());
+            }
+        }
+
+        private static ThreadFactory threadFactory() {
+            var count = new AtomicInteger();
+            return r -> {
+                var thread = new Thread(r, "Neptune async step " + count.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            };
+        }
+    }
+}
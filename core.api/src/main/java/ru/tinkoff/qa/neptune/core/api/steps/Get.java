@@ -3,6 +3,7 @@ package ru.tinkoff.qa.neptune.core.api.steps;
 import ru.tinkoff.qa.neptune.core.api.event.firing.Captor;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
@@ -11,7 +12,6 @@ import java.util.function.Supplier;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
-import static java.util.Collections.emptyMap;
 import static java.util.Objects.nonNull;
 import static java.util.Optional.ofNullable;
 import static org.apache.commons.lang3.StringUtils.isBlank;
@@ -31,8 +31,8 @@ final class Get<T, R> implements Function<T, R> {
     String description;
     Function<T, R> function;
     private boolean toReport = true;
-    private Map<String, String> parameters = emptyMap();
-    private String resultDescription;
+    private Supplier<Map<String, String>> parameters = Collections::emptyMap;
+    private Supplier<String> resultDescription = () -> null;
     private int maxDepth;
     private Get<?, ?> previous;
     private Supplier<Map<String, String>> additionalParams;
@@ -44,7 +44,7 @@ final class Get<T, R> implements Function<T, R> {
         this.function = function;
     }
 
-    private static <R> void fireReturnedValueIfNecessary(String resultDescription, R r) {
+    private static <R> void fireReturnedValueIfNecessary(Supplier<String> resultDescription, R r) {
         if (isLoggable(r)) {
             fireReturnedValue(resultDescription, r);
         }
@@ -75,7 +75,7 @@ final class Get<T, R> implements Function<T, R> {
             }
             R result = function.apply(t);
             if (toReport) {
-                ofNullable(additionalParams).ifPresent(ap -> fireAdditionalParameters(ap.get()));
+                ofNullable(additionalParams).ifPresent(ap -> fireAdditionalParameters(ap));
                 fireReturnedValueIfNecessary(resultDescription, result);
             }
             if (catchSuccessEvent() && toReport) {
@@ -85,7 +85,7 @@ final class Get<T, R> implements Function<T, R> {
         } catch (Throwable thrown) {
             if (!shouldBeThrowableIgnored(thrown)) {
                 if (toReport) {
-                    ofNullable(additionalParams).ifPresent(ap -> fireAdditionalParameters(ap.get()));
+                    ofNullable(additionalParams).ifPresent(ap -> fireAdditionalParameters(ap));
                     fireThrownException(thrown);
                 }
                 if (catchFailureEvent() && toReport) {
@@ -94,7 +94,7 @@ final class Get<T, R> implements Function<T, R> {
                 throw thrown;
             } else {
                 if (toReport) {
-                    ofNullable(additionalParams).ifPresent(ap -> fireAdditionalParameters(ap.get()));
+                    ofNullable(additionalParams).ifPresent(ap -> fireAdditionalParameters(ap));
                     fireReturnedValueIfNecessary(resultDescription, null);
                 }
                 return null;
@@ -190,12 +190,12 @@ final class Get<T, R> implements Function<T, R> {
         return this;
     }
 
-    Get<T, R> setParameters(Map<String, String> parameters) {
+    Get<T, R> setParameters(Supplier<Map<String, String>> parameters) {
         this.parameters = parameters;
         return this;
     }
 
-    Get<T, R> setResultDescription(String resultDescription) {
+    Get<T, R> setResultDescription(Supplier<String> resultDescription) {
         this.resultDescription = resultDescription;
         return this;
     }
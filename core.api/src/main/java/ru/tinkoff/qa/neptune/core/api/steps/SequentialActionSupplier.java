@@ -17,6 +17,7 @@ import java.util.function.Function;
 import java.util.function.Supplier;
 
 import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Suppliers.memoize;
 import static java.lang.String.valueOf;
 import static java.lang.annotation.ElementType.TYPE;
 import static java.lang.annotation.RetentionPolicy.RUNTIME;
@@ -177,7 +178,7 @@ public abstract class SequentialActionSupplier<T, R, THIS extends SequentialActi
         return new ActionImpl<>(description, this, function)
                 .addSuccessCaptors(successCaptors)
                 .addFailureCaptors(failureCaptors)
-                .setParameters(getParameters())
+                .setParameters(memoize(this::getParameters))
                 .setMaxDepth(getMaxDepth(this.getClass()))
                 .setAdditionalParams(this::additionalParameters);
     }
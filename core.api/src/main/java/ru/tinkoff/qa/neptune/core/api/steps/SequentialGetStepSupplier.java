@@ -12,12 +12,15 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.Target;
 import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Suppliers.memoize;
 import static java.lang.String.valueOf;
 import static java.lang.annotation.ElementType.TYPE;
 import static java.lang.annotation.RetentionPolicy.RUNTIME;
@@ -28,6 +31,8 @@ import static ru.tinkoff.qa.neptune.core.api.event.firing.annotations.CaptureOnF
 import static ru.tinkoff.qa.neptune.core.api.event.firing.annotations.CaptureOnSuccess.CaptureOnSuccessReader.readCaptorsOnSuccess;
 import static ru.tinkoff.qa.neptune.core.api.event.firing.annotations.MaxDepthOfReporting.MaxDepthOfReportingReader.getMaxDepth;
 import static ru.tinkoff.qa.neptune.core.api.localization.StepLocalization.translate;
+import static ru.tinkoff.qa.neptune.core.api.steps.AsyncSteps.getDefaultExecutor;
+import static ru.tinkoff.qa.neptune.core.api.steps.AsyncSteps.supplyAsync;
 import static ru.tinkoff.qa.neptune.core.api.steps.Criteria.AND;
 import static ru.tinkoff.qa.neptune.core.api.steps.Criteria.condition;
 import static ru.tinkoff.qa.neptune.core.api.steps.SequentialGetStepSupplier.DefaultGetParameterReader.*;
@@ -328,15 +333,15 @@ public abstract class SequentialGetStepSupplier<T, R, M, P, THIS extends Sequent
         };
         checkNotNull(endFunction);
 
-        var params = getParameters();
-        var resultDescription = translate(getResultMetadata(this.getClass(), true));
-        var description = translate(translate(getImperativeMetadata(this.getClass(), true)) + " " + this.description).trim();
+        var cls = this.getClass();
+        var description = translate(translate(getImperativeMetadata(cls, true)) + " " + this.description).trim();
 
+        //parameters and description of a result are calculated when they are going to be reported
         var toBeReturned = new Get<>(description, endFunction)
                 .addSuccessCaptors(successCaptors)
                 .addFailureCaptors(failureCaptors)
-                .setResultDescription(resultDescription)
-                .setParameters(params)
+                .setResultDescription(memoize(() -> translate(getResultMetadata(cls, true))))
+                .setParameters(memoize(this::getParameters))
                 .setMaxDepth(getMaxDepth(this.getClass()))
                 .compose(composeWith);
 
@@ -347,6 +352,31 @@ public abstract class SequentialGetStepSupplier<T, R, M, P, THIS extends Sequent
         return toBeReturned.setAdditionalParams(this::additionalParameters);
     }
 
+    /**
+     * Performs the step asynchronously. Events of the step are nested in the step that is performed by
+     * current thread at the moment.
+     *
+     * @param t        is an input value
+     * @param executor is an executor to perform the step
+     * @return a {@link CompletableFuture} which is completed with a result of the step
+     */
+    public final CompletableFuture<R> applyAsync(T t, Executor executor) {
+        var function = get();
+        return supplyAsync(() -> function.apply(t), executor);
+    }
+
+    /**
+     * Performs the step asynchronously by the default executor. Events of the step are nested in the step
+     * that is performed by current thread at the moment.
+     *
+     * @param t is an input value
+     * @return a {@link CompletableFuture} which is completed with a result of the step
+     * @see AsyncSteps#getDefaultExecutor()
+     */
+    public final CompletableFuture<R> applyAsync(T t) {
+        return applyAsync(t, getDefaultExecutor());
+    }
+
     protected Function<T, M> preparePreFunction() {
         var fromClazz = from.getClass();
         if (Function.class.isAssignableFrom(fromClazz)) {
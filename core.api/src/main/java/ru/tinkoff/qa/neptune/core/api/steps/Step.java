@@ -107,7 +107,7 @@ public abstract class Step<T> {
 
                 T result = stepSupplier.get();
                 if (isLoggable(result)) {
-                    fireReturnedValue(translate(getResultMetadata(SequentialGetStepSupplier.class, false)), result);
+                    fireReturnedValue(() -> translate(getResultMetadata(SequentialGetStepSupplier.class, false)), result);
                 }
 
                 return result;
@@ -0,0 +1,39 @@
+package ru.tinkoff.qa.neptune.core.api.steps.conditions;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.lang.Math.max;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Pauses between attempts according to how long it took to get suitable values of the same step before.
+ * Average time is calculated for each step. While this time is not reached, pauses are half of the remaining time.
+ * Then it pauses for the defined time of the sleeping.
+ */
+public final class AdaptiveWaitStrategy implements WaitStrategy {
+
+    private static final long MIN_PAUSE = MILLISECONDS.toNanos(1);
+    //weight of the newest measurement
+    private static final double ALPHA = 0.3;
+
+    private final Map<Class<?>, Long> averageNanos = new ConcurrentHashMap<>();
+
+    @Override
+    public long pauseNanos(Class<?> source, int attempt, long elapsedNanos, Duration sleepingTime) {
+        var sleeping = sleepingTime.toNanos();
+        var average = averageNanos.get(source);
+        if (average == null || elapsedNanos >= average) {
+            return sleeping;
+        }
+
+        return max(MIN_PAUSE, (average - elapsedNanos) / 2);
+    }
+
+    @Override
+    public void succeeded(Class<?> source, long elapsedNanos) {
+        averageNanos.merge(source, elapsedNanos,
+                (previous, current) -> (long) (previous * (1 - ALPHA) + current * ALPHA));
+    }
+}
@@ -0,0 +1,32 @@
+package ru.tinkoff.qa.neptune.core.api.steps.conditions;
+
+import java.time.Duration;
+
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.util.concurrent.ThreadLocalRandom.current;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * Doubles the pause after each failed attempt starting from the defined time of the sleeping.
+ * The pause is not longer than 1 second. Random jitter is added to each pause, so threads that wait for
+ * the same event don't poll at the same moment.
+ */
+public final class ExponentialBackoffWaitStrategy implements WaitStrategy {
+
+    private static final long MIN_PAUSE = MILLISECONDS.toNanos(1);
+    private static final long MAX_PAUSE = SECONDS.toNanos(1);
+
+    @Override
+    public long pauseNanos(Class<?> source, int attempt, long elapsedNanos, Duration sleepingTime) {
+        var base = max(sleepingTime.toNanos(), MIN_PAUSE);
+        var pause = base;
+        for (int i = 1; i < attempt && pause < MAX_PAUSE; i++) {
+            pause = pause * 2;
+        }
+        pause = min(pause, max(MAX_PAUSE, base));
+        //from the half to the full value of the pause
+        return pause / 2 + current().nextLong(pause / 2 + 1);
+    }
+}
@@ -0,0 +1,14 @@
+package ru.tinkoff.qa.neptune.core.api.steps.conditions;
+
+import java.time.Duration;
+
+/**
+ * Pauses between attempts for the defined time of the sleeping. It is used by default.
+ */
+public final class FixedWaitStrategy implements WaitStrategy {
+
+    @Override
+    public long pauseNanos(Class<?> source, int attempt, long elapsedNanos, Duration sleepingTime) {
+        return sleepingTime.toNanos();
+    }
+}
@@ -11,12 +11,15 @@ import java.util.function.Predicate;
 import java.util.function.Supplier;
 
 import static com.google.common.base.Preconditions.checkArgument;
-import static java.lang.System.currentTimeMillis;
+import static java.lang.Math.min;
+import static java.lang.System.nanoTime;
 import static java.lang.Thread.currentThread;
-import static java.lang.Thread.sleep;
 import static java.time.Duration.ofMillis;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static java.util.Objects.nonNull;
 import static java.util.Optional.ofNullable;
+import static ru.tinkoff.qa.neptune.core.api.properties.general.waiting.DefaultWaitStrategy.DEFAULT_WAIT_STRATEGY;
+import static ru.tinkoff.qa.neptune.core.api.steps.conditions.WaitingSignal.waitingSignal;
 
 /**
  * This is the util which helps to crate function with given conditions.
@@ -26,6 +29,7 @@ final class ToGetConditionalHelper {
 
     static final Predicate<?> AS_IS = t -> true;
     private static final Predicate<?> NON_NULL = Objects::nonNull;
+    private static final long IGNORED_LOG_PERIOD = SECONDS.toNanos(1);
 
     private ToGetConditionalHelper() {
         super();
@@ -76,7 +80,15 @@ final class ToGetConditionalHelper {
                 .anyMatch(aClass -> aClass.isAssignableFrom(cls));
     }
 
-    static <T, F> Function<T, F> fluentWaitFunction(Function<T, F> originalFunction,
+    private static void logIgnored(Throwable throwable, long suppressed) {
+        if (suppressed > 0) {
+            System.err.printf("%s more ignored exceptions were not logged since the last one%n", suppressed);
+        }
+        System.err.printf("%s was ignored: %s%n", throwable.getClass().getName(), throwable.getMessage());
+    }
+
+    static <T, F> Function<T, F> fluentWaitFunction(Class<?> source,
+                                                    Function<T, F> originalFunction,
                                                     @Nullable Duration waitingTime,
                                                     @Nullable Duration sleepingTime,
                                                     Predicate<F> till,
@@ -86,12 +98,18 @@ final class ToGetConditionalHelper {
         var sleeping = ofNullable(sleepingTime).orElseGet(() -> ofMillis(10));
 
         return t -> {
-            Throwable lastCaught = null;
-            var currentMillis = currentTimeMillis();
-            var endMillis = currentMillis + timeOut.toMillis();
-            F f = null;
-            var suitable = false;
-            while (currentMillis <= endMillis && !(suitable)) {
+            var strategy = DEFAULT_WAIT_STRATEGY.get();
+            var signal = waitingSignal(t);
+            Throwable lastCaught;
+            var start = nanoTime();
+            var timeOutNanos = timeOut.toNanos();
+            var lastLogged = 0L;
+            var notLogged = 0L;
+            var attempt = 0;
+            F f;
+
+            while (true) {
+                attempt++;
                 lastCaught = null;
                 try {
                     f = originalFunction.apply(t);
@@ -99,24 +117,37 @@ final class ToGetConditionalHelper {
                     if (toBeIgnored(throwable, toIgnore)) {
                         f = null;
                         lastCaught = throwable;
-                        throwable.printStackTrace();
+                        //ignored exceptions are not logged more frequently than once per a second
+                        var now = nanoTime();
+                        if (attempt == 1 || now - lastLogged >= IGNORED_LOG_PERIOD) {
+                            logIgnored(throwable, notLogged);
+                            lastLogged = now;
+                            notLogged = 0;
+                        } else {
+                            notLogged++;
+                        }
                     } else {
                         throw throwable;
                     }
                 }
 
-                suitable = till.test(f);
+                var elapsed = nanoTime() - start;
+                if (till.test(f)) {
+                    strategy.succeeded(source, elapsed);
+                    return f;
+                }
+
+                if (elapsed >= timeOutNanos) {
+                    break;
+                }
+
                 try {
-                    sleep(sleeping.toMillis());
+                    signal.await(min(strategy.pauseNanos(source, attempt, elapsed, sleeping),
+                            timeOutNanos - elapsed));
                 } catch (InterruptedException e) {
                     currentThread().interrupt();
                     throw new RuntimeException(e);
                 }
-                currentMillis = currentTimeMillis();
-            }
-
-            if (suitable) {
-                return f;
             }
 
             if (exceptionOnTimeOut != null) {
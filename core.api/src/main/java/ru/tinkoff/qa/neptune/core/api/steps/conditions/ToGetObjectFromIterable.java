@@ -25,7 +25,7 @@ public final class ToGetObjectFromIterable {
                                                                                    @Nullable Duration sleepingTime,
                                                                                    @Nullable Supplier<? extends RuntimeException> exceptionSupplier,
                                                                                    Collection<Class<? extends Throwable>> toIgnore) {
-        return fluentWaitFunction(t ->
+        return fluentWaitFunction(function.getClass(), t ->
                         ofNullable(function.apply(t))
                                 .map(rs -> {
                                     for (var r : rs) {
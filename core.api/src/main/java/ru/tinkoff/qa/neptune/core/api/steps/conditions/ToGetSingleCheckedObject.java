@@ -24,7 +24,7 @@ public final class ToGetSingleCheckedObject {
                                                        @Nullable Duration sleepingTime,
                                                        @Nullable Supplier<? extends RuntimeException> exceptionSupplier,
                                                        Collection<Class<? extends Throwable>> toIgnore) {
-        return fluentWaitFunction(t ->
+        return fluentWaitFunction(function.getClass(), t ->
                         ofNullable(function.apply(t)).map(r -> {
                             try {
                                 if (notNullAnd(condition).test(r)) {
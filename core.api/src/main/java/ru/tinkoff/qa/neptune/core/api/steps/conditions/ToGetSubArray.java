@@ -28,7 +28,7 @@ public final class ToGetSubArray {
                                                  Duration sleepingTime,
                                                  Supplier<? extends RuntimeException> exceptionSupplier,
                                                  Collection<Class<? extends Throwable>> toIgnore) {
-        return fluentWaitFunction(t ->
+        return fluentWaitFunction(function.getClass(), t ->
                         ofNullable(function.apply(t)).map(rs -> {
                             var subResult = Arrays.stream(rs).filter(r -> {
                                 try {
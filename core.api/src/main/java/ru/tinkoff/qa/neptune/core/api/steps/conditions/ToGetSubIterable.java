@@ -29,7 +29,7 @@ public final class ToGetSubIterable {
                                                                          @Nullable Duration sleepingTime,
                                                                          @Nullable Supplier<? extends RuntimeException> exceptionSupplier,
                                                                          Collection<Class<? extends Throwable>> toIgnore) {
-        return fluentWaitFunction(t ->
+        return fluentWaitFunction(function.getClass(), t ->
                         ofNullable(function.apply(t)).map(v -> {
                             var result = stream(v.spliterator(), false).filter(r -> {
                                 try {
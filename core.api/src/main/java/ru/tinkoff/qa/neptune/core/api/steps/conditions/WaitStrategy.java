@@ -0,0 +1,33 @@
+package ru.tinkoff.qa.neptune.core.api.steps.conditions;
+
+import java.time.Duration;
+
+/**
+ * Defines how long to pause between attempts to get a value which suits conditions.
+ * Implementations should be thread-safe because the same object is used by all threads.
+ *
+ * @see ru.tinkoff.qa.neptune.core.api.properties.general.waiting.DefaultWaitStrategy
+ * @see WaitingSignal
+ */
+public interface WaitStrategy {
+
+    /**
+     * Calculates time to pause before the next attempt.
+     *
+     * @param source       is a class of a function that is invoked. It identifies a step.
+     * @param attempt      is a number of the attempt that has been failed. It starts from 1
+     * @param elapsedNanos is how many nanoseconds have passed since the first attempt
+     * @param sleepingTime is a defined time of the sleeping between attempts
+     * @return time to pause in nanoseconds
+     */
+    long pauseNanos(Class<?> source, int attempt, long elapsedNanos, Duration sleepingTime);
+
+    /**
+     * It is invoked when a suitable value is received.
+     *
+     * @param source       is a class of a function that is invoked. It identifies a step.
+     * @param elapsedNanos is how many nanoseconds it took to get a suitable value
+     */
+    default void succeeded(Class<?> source, long elapsedNanos) {
+    }
+}
@@ -0,0 +1,83 @@
+package ru.tinkoff.qa.neptune.core.api.steps.conditions;
+
+import com.google.common.collect.MapMaker;
+
+import javax.annotation.Nullable;
+import java.util.concurrent.ConcurrentMap;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.lang.System.nanoTime;
+import static java.util.Optional.ofNullable;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * Lets to interrupt pauses between attempts to get a value which suits conditions. It is useful when
+ * a context gets to know that something is ready (e.g. a message is received or a page is loaded).
+ * Then threads that wait for something from this context make next attempts immediately.
+ * <p>
+ * There is one signal per object which a value is got from. Threads which wait for values from
+ * other objects keep pausing.
+ */
+public final class WaitingSignal {
+
+    //weak keys are compared by identity
+    private static final ConcurrentMap<Object, WaitingSignal> SIGNALS = new MapMaker().weakKeys().makeMap();
+
+    private long signals;
+
+    private WaitingSignal() {
+        super();
+    }
+
+    /**
+     * Returns a signal which wakes up threads that wait for some value from the given object.
+     *
+     * @param waitingFrom is an object which a value is got from, e.g. a context. A new signal,
+     *                    that is never fired by {@link #signal(Object)}, is returned when it is {@code null}
+     * @return a signal
+     */
+    public static WaitingSignal waitingSignal(@Nullable Object waitingFrom) {
+        if (waitingFrom == null) {
+            return new WaitingSignal();
+        }
+        return SIGNALS.computeIfAbsent(waitingFrom, o -> new WaitingSignal());
+    }
+
+    /**
+     * Wakes up all threads that pause between attempts to get some value from the given object.
+     *
+     * @param waitingFrom is an object which a value is got from, e.g. a context.
+     */
+    public static void signal(Object waitingFrom) {
+        checkNotNull(waitingFrom);
+        ofNullable(SIGNALS.get(waitingFrom)).ifPresent(s -> s.signal());
+    }
+
+    /**
+     * Wakes up all threads that pause using this signal.
+     */
+    public synchronized void signal() {
+        signals++;
+        notifyAll();
+    }
+
+    /**
+     * Pauses current thread for defined time or until {@link #signal()} is invoked.
+     *
+     * @param nanos is time to pause in nanoseconds
+     * @throws InterruptedException when current thread is interrupted
+     */
+    public synchronized void await(long nanos) throws InterruptedException {
+        if (nanos <= 0) {
+            return;
+        }
+
+        var deadline = nanoTime() + nanos;
+        var received = signals;
+        var left = nanos;
+        while (received == signals && left > 0) {
+            NANOSECONDS.timedWait(this, left);
+            left = deadline - nanoTime();
+        }
+    }
+}
@@ -3,24 +3,34 @@ package ru.tinkoff.qa.neptune.core.api.steps.context;
 import net.bytebuddy.ByteBuddy;
 import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
 import net.bytebuddy.dynamic.loading.InjectionClassLoader;
+import net.bytebuddy.implementation.bind.annotation.Pipe;
 import org.objenesis.ObjenesisStd;
+import ru.tinkoff.qa.neptune.core.api.steps.AsyncSteps;
 import ru.tinkoff.qa.neptune.core.api.steps.SequentialActionSupplier;
 import ru.tinkoff.qa.neptune.core.api.steps.SequentialGetStepSupplier;
 import ru.tinkoff.qa.neptune.core.api.steps.proxy.MethodInterceptor;
 import ru.tinkoff.qa.neptune.core.api.steps.proxy.ProxyCreationFailureException;
+import ru.tinkoff.qa.neptune.core.api.steps.proxy.ProxyForwarder;
 
 import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 import static java.lang.String.format;
 import static java.util.Arrays.asList;
 import static java.util.List.of;
-import static net.bytebuddy.implementation.MethodDelegation.to;
+import static net.bytebuddy.implementation.MethodDelegation.withDefaultConfiguration;
 import static net.bytebuddy.matcher.ElementMatchers.any;
+import static net.bytebuddy.matcher.ElementMatchers.isPublic;
+import static net.bytebuddy.matcher.ElementMatchers.named;
+import static ru.tinkoff.qa.neptune.core.api.steps.AsyncSteps.joinAll;
+import static ru.tinkoff.qa.neptune.core.api.steps.AsyncSteps.supplyAsync;
 import static ru.tinkoff.qa.neptune.core.api.steps.Absence.absence;
 import static ru.tinkoff.qa.neptune.core.api.steps.Presence.presence;
 
@@ -78,7 +88,15 @@ public abstract class Context<THIS extends Context<THIS>> {
         Class<? extends T> proxyClass;
         try {
             proxyClass = builder.method(any())
-                    .intercept(to(interceptor))
+                    .intercept(withDefaultConfiguration()
+                            .filter(named("intercept"))
+                            .to(interceptor, "interceptor$neptune"))
+                    //public methods are invoked on the thread-bound object directly
+                    .method(isPublic())
+                    .intercept(withDefaultConfiguration()
+                            .withBinders(Pipe.Binder.install(ProxyForwarder.class))
+                            .filter(named("forward"))
+                            .to(interceptor, "forwarder$neptune"))
                     .make()
                     .load(InjectionClassLoader.getSystemClassLoader(), ClassLoadingStrategy.UsingLookup.of(MethodHandles
                             .privateLookupIn(toInstantiate, MethodHandles.lookup())))
@@ -123,6 +141,76 @@ public abstract class Context<THIS extends Context<THIS>> {
         return (THIS) this;
     }
 
+    /**
+     * Auxiliary method that performs some get-step asynchronously. Events of the step are nested in the step
+     * that is performed by current thread at the moment.
+     * <p></p>
+     * WARNING!!! The step uses the same context object as current thread.
+     *
+     * @param toGet    is a supplier of a get-step to be performed
+     * @param executor is an executor to perform the step
+     * @param <T>      is a type of a resulted value
+     * @return a {@link CompletableFuture} which is completed with a result of the step
+     */
+    protected final <T> CompletableFuture<T> async(SequentialGetStepSupplier<? super THIS, T, ?, ?, ?> toGet,
+                                                   Executor executor) {
+        return toGet.applyAsync((THIS) this, executor);
+    }
+
+    /**
+     * Auxiliary method that performs some get-step asynchronously by the default executor.
+     * Events of the step are nested in the step that is performed by current thread at the moment.
+     * <p></p>
+     * WARNING!!! The step uses the same context object as current thread.
+     *
+     * @param toGet is a supplier of a get-step to be performed
+     * @param <T>   is a type of a resulted value
+     * @return a {@link CompletableFuture} which is completed with a result of the step
+     * @see AsyncSteps#getDefaultExecutor()
+     */
+    protected final <T> CompletableFuture<T> async(SequentialGetStepSupplier<? super THIS, T, ?, ?, ?> toGet) {
+        return toGet.applyAsync((THIS) this);
+    }
+
+    /**
+     * Auxiliary method that performs some action-step asynchronously by the default executor.
+     * Events of the step are nested in the step that is performed by current thread at the moment.
+     * <p></p>
+     * WARNING!!! The step uses the same context object as current thread.
+     *
+     * @param toPerform is a supplier of an action to be performed
+     * @return a {@link CompletableFuture} which is completed with self-reference
+     * @see AsyncSteps#getDefaultExecutor()
+     */
+    protected final CompletableFuture<THIS> performAsync(SequentialActionSupplier<? super THIS, ?, ?> toPerform) {
+        var action = toPerform.get();
+        return supplyAsync(() -> {
+            action.performAction((THIS) this);
+            return (THIS) this;
+        });
+    }
+
+    /**
+     * Auxiliary method that performs get-steps in parallel and waits for all of them are finished.
+     * Events of the steps are nested in the step that is performed by current thread at the moment.
+     * <p></p>
+     * WARNING!!! The steps use the same context object as current thread.
+     *
+     * @param toGet are suppliers of get-steps to be performed
+     * @param <T>   is a type of resulted values
+     * @return results of steps in the same order as steps are listed. When any step is failed then
+     * its exception is thrown after all steps are finished.
+     * @see AsyncSteps#getDefaultExecutor()
+     */
+    @SafeVarargs
+    protected final <T> List<T> getAll(SequentialGetStepSupplier<? super THIS, ? extends T, ?, ?, ?>... toGet) {
+        var futures = new ArrayList<CompletableFuture<? extends T>>(toGet.length);
+        for (var s : toGet) {
+            futures.add(s.applyAsync((THIS) this));
+        }
+        return joinAll(futures);
+    }
+
     /**
      * Checks is some object present. When it is not present then it throws an exception.
      *
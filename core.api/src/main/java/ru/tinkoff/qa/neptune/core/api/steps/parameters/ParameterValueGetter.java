@@ -33,12 +33,24 @@ public interface ParameterValueGetter<T> {
 
     final class ParameterValueReader {
 
+        private static final ClassValue<Constructor<?>> CONSTRUCTORS = new ClassValue<>() {
+            @Override
+            protected Constructor<?> computeValue(Class<?> type) {
+                try {
+                    var c = type.getConstructor();
+                    c.setAccessible(true);
+                    return c;
+                } catch (NoSuchMethodException e) {
+                    throw new RuntimeException(e);
+                }
+            }
+        };
+
         @SuppressWarnings("unchecked")
         public static <T> String getParameterForStep(T fieldValue, Class<? extends ParameterValueGetter<?>> cls) {
 
             try {
-                var c = (Constructor<? extends ParameterValueGetter<T>>) cls.getConstructor();
-                c.setAccessible(true);
+                var c = (Constructor<? extends ParameterValueGetter<T>>) CONSTRUCTORS.get(cls);
                 var getter = c.newInstance();
                 return getter.getParameterValue(fieldValue);
             } catch (Exception e) {
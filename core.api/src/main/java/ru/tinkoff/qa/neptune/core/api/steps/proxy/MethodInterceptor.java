@@ -2,24 +2,39 @@ package ru.tinkoff.qa.neptune.core.api.steps.proxy;
 
 import net.bytebuddy.implementation.bind.annotation.AllArguments;
 import net.bytebuddy.implementation.bind.annotation.Origin;
+import net.bytebuddy.implementation.bind.annotation.Pipe;
 import net.bytebuddy.implementation.bind.annotation.RuntimeType;
 import net.bytebuddy.implementation.bind.annotation.This;
 import ru.tinkoff.qa.neptune.core.api.cleaning.Stoppable;
 import ru.tinkoff.qa.neptune.core.api.concurrency.ObjectContainer;
 import ru.tinkoff.qa.neptune.core.api.utils.ConstructorUtil;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static java.lang.Runtime.getRuntime;
+import static java.lang.Thread.currentThread;
+import static java.lang.invoke.MethodHandles.lookup;
+import static java.lang.invoke.MethodType.methodType;
 import static java.util.Optional.ofNullable;
 
+/**
+ * Invokes methods of a proxy on the object which is bound to current thread. Public methods are forwarded
+ * by generated {@link ProxyForwarder}s. Other methods are resolved into method handles once and then
+ * the handles are reused by all invocations of these methods.
+ *
+ * @param <T> is a type of proxied objects
+ */
 public class MethodInterceptor<T> {
 
     private final Class<T> classToInstantiate;
     private final Object[] constructorParameters;
     private final ThreadLocal<ObjectContainer<T>> threadLocal;
+    private final Map<Method, Dispatch> dispatches = new ConcurrentHashMap<>();
 
     public MethodInterceptor(Class<T> classToInstantiate, Object[] constructorParameters) {
         this.classToInstantiate = classToInstantiate;
@@ -27,55 +42,91 @@ public class MethodInterceptor<T> {
         threadLocal = new ThreadLocal<>();
     }
 
+    @RuntimeType
+    @SuppressWarnings("unused")
+    public Object forward(@This Object obj, @Pipe ProxyForwarder forwarder) throws Throwable {
+        return proxyResult(obj, forwarder.to(target()));
+    }
+
     @RuntimeType
     @SuppressWarnings("unused")
     public Object intercept(@This Object obj, @Origin Method method, @AllArguments Object[] args) throws Throwable {
-        T target;
+        var target = target();
+
+        var dispatch = dispatches.get(method);
+        if (dispatch == null) {
+            dispatch = dispatches.computeIfAbsent(method, Dispatch::new);
+        }
+
+        return proxyResult(obj, (Object) dispatch.handle.invokeExact((Object) target, args));
+    }
+
+    private Object proxyResult(Object obj, Object result) {
+        if (result != null && result.getClass() == classToInstantiate) {
+            return obj;
+        }
+        return result;
+    }
+
+    private T target() throws Throwable {
+        var container = threadLocal.get();
+        //the container could be returned to the pool and taken by another thread
+        if (container != null && container.isBusyBy(currentThread())) {
+            return container.getWrappedObject();
+        }
+
         try {
-            target = ofNullable(threadLocal.get()).map(ObjectContainer::getWrappedObject).orElseGet(() ->
-                    ofNullable(ObjectContainer.setObjectBusy(classToInstantiate)).map(tObjectContainer -> {
-                        threadLocal.set(tObjectContainer);
-                        return tObjectContainer.getWrappedObject();
-                    }).orElseGet(() -> {
-                        Constructor<T> c;
-
-                        try {
-                            c = ConstructorUtil.findSuitableConstructor(classToInstantiate, constructorParameters);
-                        } catch (Exception e) {
-                            throw new RuntimeException(e);
-                        }
-                        c.setAccessible(true);
-
-                        T t;
-                        try {
-                            t = c.newInstance(constructorParameters);
-                            if (Stoppable.class.isAssignableFrom(t.getClass())) {
-                                getRuntime().addShutdownHook(new Thread(((Stoppable) t)::stop));
-                            }
-                            var container = new ObjectContainer<>(t);
-                            threadLocal.set(container);
-                        } catch (InstantiationException | IllegalAccessException e) {
-                            throw new RuntimeException(e);
-                        } catch (InvocationTargetException e) {
-                            throw new RuntimeException(e.getCause());
-                        }
-                        return t;
-                    }));
+            return bindTarget();
         } catch (RuntimeException e) {
             throw ofNullable(e.getCause()).orElse(e);
         }
+    }
+
+    private T bindTarget() {
+        var busy = ObjectContainer.setObjectBusy(classToInstantiate);
+        if (busy != null) {
+            threadLocal.set(busy);
+            return busy.getWrappedObject();
+        }
 
-        method.setAccessible(true);
+        Constructor<T> c;
+        try {
+            c = ConstructorUtil.findSuitableConstructor(classToInstantiate, constructorParameters);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+        c.setAccessible(true);
 
+        T t;
         try {
-            return ofNullable(method.invoke(target, args)).map(o -> {
-                if (o.getClass().equals(classToInstantiate)) {
-                    return obj;
-                }
-                return o;
-            }).orElse(null);
+            t = c.newInstance(constructorParameters);
+            if (Stoppable.class.isAssignableFrom(t.getClass())) {
+                getRuntime().addShutdownHook(new Thread(((Stoppable) t)::stop));
+            }
+            var container = new ObjectContainer<>(t);
+            threadLocal.set(container);
+        } catch (InstantiationException | IllegalAccessException e) {
+            throw new RuntimeException(e);
         } catch (InvocationTargetException e) {
-            throw ofNullable(e.getCause()).orElse(e);
+            throw new RuntimeException(e.getCause());
+        }
+        return t;
+    }
+
+    private static final class Dispatch {
+
+        private final MethodHandle handle;
+
+        private Dispatch(Method method) {
+            method.setAccessible(true);
+            try {
+                handle = lookup().unreflect(method)
+                        .asFixedArity()
+                        .asSpreader(Object[].class, method.getParameterCount())
+                        .asType(methodType(Object.class, Object.class, Object[].class));
+            } catch (IllegalAccessException e) {
+                throw new RuntimeException(e);
+            }
         }
     }
 }
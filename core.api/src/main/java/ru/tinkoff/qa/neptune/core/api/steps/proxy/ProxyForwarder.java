@@ -0,0 +1,16 @@
+package ru.tinkoff.qa.neptune.core.api.steps.proxy;
+
+/**
+ * Invokes an intercepted method of a proxy on another object. Implementations are generated for each public
+ * method of a proxy class, so the method is invoked directly, without reflection.
+ */
+public interface ProxyForwarder {
+
+    /**
+     * Invokes an intercepted method on an object with the same arguments.
+     *
+     * @param target is an object to invoke the method on
+     * @return result of the method invocation
+     */
+    Object to(Object target);
+}
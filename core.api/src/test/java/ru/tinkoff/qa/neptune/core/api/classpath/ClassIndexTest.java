@@ -0,0 +1,81 @@
+package ru.tinkoff.qa.neptune.core.api.classpath;
+
+import org.testng.TestNG;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import ru.tinkoff.qa.neptune.core.api.hooks.*;
+import ru.tinkoff.qa.neptune.core.api.steps.context.Context;
+
+import java.io.File;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static ru.tinkoff.qa.neptune.core.api.classpath.ClassIndex.*;
+import static ru.tinkoff.qa.neptune.core.api.classpath.ClassIndexGenerator.readIndexedQueries;
+import static ru.tinkoff.qa.neptune.core.api.classpath.ClasspathQuery.IMPLEMENTING;
+import static ru.tinkoff.qa.neptune.core.api.classpath.ClasspathQuery.SUBCLASSES;
+import static ru.tinkoff.qa.neptune.core.api.properties.general.classpath.ClasspathScanPackages.CLASSPATH_SCAN_PACKAGES_PROPERTY;
+
+public class ClassIndexTest {
+
+    private Set<String> queries;
+    private Map<String, List<String>> index;
+    private ClassLoader indexLoader;
+
+    @BeforeClass
+    public void beforeClass() throws Exception {
+        var dir = Files.createTempDirectory("neptune_index").toFile();
+        dir.deleteOnExit();
+        ClassIndexGenerator.main(new String[]{dir.getAbsolutePath()});
+
+        queries = readIndexedQueries();
+        indexLoader = new URLClassLoader(new URL[]{dir.toURI().toURL()}, getClass().getClassLoader());
+        index = readIndex(indexLoader);
+    }
+
+    @Test
+    public void indexFileTest() {
+        assertThat(new File(indexLoader.getResource(CLASS_INDEX).getFile()).exists(), is(true));
+        assertThat(queries, not(empty()));
+        assertThat(index.size(), is(queries.size()));
+    }
+
+    @Test
+    public void indexEqualsToScanTest() {
+        queries.forEach(q -> {
+            var parts = q.split(":");
+            var query = ClasspathQuery.byPrefix(parts[0]);
+            assertThat(q, index.get(query.key(parts[1])), equalTo(scan(query, parts[1])));
+        });
+    }
+
+    @Test
+    public void cachedResultTest() {
+        var names = names(IMPLEMENTING, ExecutionHook.class.getName());
+        assertThat(names(IMPLEMENTING, ExecutionHook.class.getName()), sameInstance(names));
+    }
+
+    @Test
+    public void loadedClassesTest() {
+        assertThat(getClassesImplementing(ExecutionHook.class),
+                hasItems(Hook1.class, Hook2.class, Hook3.class, Hook4.class, Hook5.class));
+    }
+
+    @Test
+    public void scanOfAcceptedPackagesTest() {
+        CLASSPATH_SCAN_PACKAGES_PROPERTY.accept("org.testng");
+        try (var scanResult = scanClasspath(false)) {
+            var names = SUBCLASSES.query(scanResult, Object.class.getName()).getNames();
+            assertThat(names, hasItems(Context.class.getName(), TestNG.class.getName()));
+            assertThat(names, everyItem(anyOf(startsWith("ru.tinkoff.qa.neptune."), startsWith("org.testng."))));
+        } finally {
+            CLASSPATH_SCAN_PACKAGES_PROPERTY.accept(null);
+        }
+    }
+}
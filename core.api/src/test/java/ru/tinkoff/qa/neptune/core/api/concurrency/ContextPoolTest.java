@@ -0,0 +1,110 @@
+package ru.tinkoff.qa.neptune.core.api.concurrency;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.lang.System.clearProperty;
+import static java.lang.System.setProperty;
+import static java.util.concurrent.Executors.newFixedThreadPool;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static ru.tinkoff.qa.neptune.core.api.concurrency.ContextPool.bindToScope;
+import static ru.tinkoff.qa.neptune.core.api.concurrency.ContextPool.getMetrics;
+import static ru.tinkoff.qa.neptune.core.api.concurrency.ContextPool.releaseContexts;
+import static ru.tinkoff.qa.neptune.core.api.concurrency.ContextPool.releaseContextsOfTerminatedThreads;
+import static ru.tinkoff.qa.neptune.core.api.concurrency.PooledTestContext.getContext;
+import static ru.tinkoff.qa.neptune.core.api.properties.general.resorces.FreeResourcesOnInactivity.TO_FREE_RESOURCES_ON_INACTIVITY_PROPERTY;
+import static ru.tinkoff.qa.neptune.core.api.properties.general.resorces.FreeResourcesOnInactivityAfter.FreeResourcesOnInactivityAfterTimeUnit.FREE_RESOURCES_ON_INACTIVITY_AFTER_TIME_UNIT;
+import static ru.tinkoff.qa.neptune.core.api.properties.general.resorces.FreeResourcesOnInactivityAfter.FreeResourcesOnInactivityAfterTimeValue.FREE_RESOURCES_ON_INACTIVITY_AFTER_TIME_VALUE;
+
+public class ContextPoolTest {
+
+    private static int useInAnotherThread() throws InterruptedException {
+        var id = new AtomicInteger();
+        var thread = new Thread(() -> id.set(getContext().getId()));
+        thread.start();
+        thread.join();
+        return id.get();
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void afterMethod() {
+        releaseContexts();
+        clearProperty(TO_FREE_RESOURCES_ON_INACTIVITY_PROPERTY.getName());
+        clearProperty(FREE_RESOURCES_ON_INACTIVITY_AFTER_TIME_UNIT.getName());
+        clearProperty(FREE_RESOURCES_ON_INACTIVITY_AFTER_TIME_VALUE.getName());
+    }
+
+    @Test
+    public void releaseAndReuseTest() throws Exception {
+        var id = getContext().getId();
+        assertThat(getContext().getId(), is(id));
+        assertThat(getMetrics(PooledTestContext.class).getCheckedOut(), greaterThan(0));
+
+        releaseContexts();
+        assertThat(getMetrics(PooledTestContext.class).getIdle(), greaterThan(0));
+        assertThat(useInAnotherThread(), is(id));
+    }
+
+    @Test
+    public void terminatedThreadTest() throws Exception {
+        //contexts of threads terminated by previous tests are returned first
+        releaseContextsOfTerminatedThreads();
+        var id = useInAnotherThread();
+        releaseContextsOfTerminatedThreads();
+
+        var metrics = getMetrics(PooledTestContext.class);
+        assertThat(metrics.getIdle(), greaterThan(0));
+        assertThat(getContext().getId(), is(id));
+    }
+
+    @Test
+    public void evictionTest() throws Exception {
+        setProperty(TO_FREE_RESOURCES_ON_INACTIVITY_PROPERTY.getName(), "true");
+        setProperty(FREE_RESOURCES_ON_INACTIVITY_AFTER_TIME_UNIT.getName(), "SECONDS");
+        setProperty(FREE_RESOURCES_ON_INACTIVITY_AFTER_TIME_VALUE.getName(), "1");
+
+        var evictions = getMetrics(PooledTestContext.class).getEvictions();
+        getContext().getId();
+        var container = ObjectContainer.getAllObjects(PooledTestContext.class, c -> c.isBusyBy(Thread.currentThread()))
+                .get(0);
+        releaseContexts();
+        container.getToStop().get();
+
+        assertThat(((PooledTestContext) container.getWrappedObject()).isActive(), is(false));
+        assertThat(getMetrics(PooledTestContext.class).getEvictions(), is(evictions + 1));
+    }
+
+    @Test
+    public void scopeReleaseTest() throws Exception {
+        var scope = new Object();
+        var threads = newFixedThreadPool(2);
+        var barrier = new CyclicBarrier(2);
+        Callable<Integer> useInScope = () -> {
+            bindToScope(scope);
+            barrier.await();
+            return getContext().getId();
+        };
+
+        try {
+            var ids = new HashSet<Integer>();
+            for (var f : threads.invokeAll(List.of(useInScope, useInScope))) {
+                ids.add(f.get());
+            }
+            assertThat(ids, hasSize(2));
+            var checkedOut = getMetrics(PooledTestContext.class).getCheckedOut();
+
+            //threads are alive but contexts are returned to the pool
+            releaseContexts(scope);
+            assertThat(getMetrics(PooledTestContext.class).getCheckedOut(), is(checkedOut - 2));
+        } finally {
+            threads.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package ru.tinkoff.qa.neptune.core.api.concurrency;
+
+import ru.tinkoff.qa.neptune.core.api.cleaning.Stoppable;
+import ru.tinkoff.qa.neptune.core.api.steps.context.Context;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class PooledTestContext extends Context<PooledTestContext> implements Stoppable {
+
+    private static final AtomicInteger COUNT = new AtomicInteger();
+    private static final PooledTestContext context = getInstance(PooledTestContext.class);
+
+    private final int id = COUNT.incrementAndGet();
+    private boolean isActive = true;
+
+    public static PooledTestContext getContext() {
+        return context;
+    }
+
+    public int getId() {
+        isActive = true;
+        return id;
+    }
+
+    @Override
+    public void stop() {
+        isActive = false;
+    }
+
+    public boolean isActive() {
+        return isActive;
+    }
+}
@@ -4,10 +4,13 @@ import org.hamcrest.Matcher;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
 
+import static java.util.Collections.shuffle;
 import static java.util.List.of;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
@@ -41,6 +44,8 @@ public class IterableMatchersTest {
                 {TEST_LIST, iterableOf("A2", "A1", "A3", "A4", "A5")},
                 {TEST_LIST, iterableIncludesInOrder("A1", "A3", "A5")},
                 {TEST_LIST, iterableIncludes("A1", "A5")},
+                {of("A1", "A2"), iterableOf(containsString("A"), equalTo("A1"))},
+                {TEST_LIST, iterableIncludes(containsString("A"), equalTo("A1"), endsWith("2"))},
                 {TEST_LIST, eachOfIterable(containsString("A"))},
                 {TEST_LIST, iterableHasItems(greaterThan(4), containsString("A"))},
                 {TEST_LIST, iterableHasItems(5, containsString("A"))},
@@ -179,6 +184,9 @@ public class IterableMatchersTest {
                         "Tested object\n" +
                                 "Expected: includes in following order: \"A1\", \"A5\", \"A6\"\n" +
                                 "     but: The item ['\"A6\"'] doesn't go after : [A5; index: 4; criteria: '\"A5\"']"},
+                {of("A1", "A2"), iterableOf(containsString("1"), equalTo("A1")), "Tested object\n" +
+                        "Expected: in any order: a string containing \"1\", \"A1\"\n" +
+                        "     but: Not present item: \"A1\""},
                 {TEST_LIST, iterableIncludes("A1", "A6"), "Tested object\n" +
                         "Expected: includes in any order: \"A1\", \"A6\"\n" +
                         "     but: Not present item: \"A6\""},
@@ -376,6 +384,33 @@ public class IterableMatchersTest {
         assertThat("Tested object", object, matcher);
     }
 
+    @Test
+    public void largeIterableInAnyOrderTest() {
+        var expected = new String[100_000];
+        var actual = new ArrayList<String>();
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = "Item " + i;
+            actual.add("Item " + i);
+        }
+        shuffle(actual, new Random(1));
+
+        assertThat(actual, iterableOf(expected));
+        assertThat(actual, iterableIncludes(expected[0], expected[expected.length - 1]));
+    }
+
+    @Test
+    public void largeIterableInAnyOrderByMatchersTest() {
+        var expected = new ArrayList<Matcher<? super String>>();
+        var actual = new ArrayList<String>();
+        for (int i = 0; i < 1_000; i++) {
+            expected.add(anyOf(is("Item " + i), is("Item " + (i + 1) % 1_000)));
+            actual.add("Item " + i);
+        }
+        shuffle(actual, new Random(1));
+
+        assertThat(actual, iterableOf(expected.toArray(new Matcher[]{})));
+    }
+
     @Test(dataProvider = "data2")
     public void test2(Object o, Matcher<Object> matcher, String errorText) {
         try {
@@ -0,0 +1,172 @@
+package ru.tinkoff.qa.neptune.core.api.hamcrest;
+
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.StringDescription;
+import org.hamcrest.TypeSafeMatcher;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static java.lang.System.getProperties;
+import static java.lang.Thread.currentThread;
+import static java.util.stream.Collectors.toSet;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.testng.Assert.fail;
+import static ru.tinkoff.qa.neptune.core.api.hamcrest.iterables.SetOfObjectsEachItemMatcher.eachEntryValue;
+import static ru.tinkoff.qa.neptune.core.api.hamcrest.iterables.SetOfObjectsEachItemMatcher.eachOfIterable;
+import static ru.tinkoff.qa.neptune.core.api.properties.general.matching.ParallelMatching.PARALLEL_MATCHING_PROPERTY;
+import static ru.tinkoff.qa.neptune.core.api.properties.general.matching.ParallelMatchingParallelism.PARALLEL_MATCHING_PARALLELISM;
+import static ru.tinkoff.qa.neptune.core.api.properties.general.matching.ParallelMatchingThreshold.PARALLEL_MATCHING_THRESHOLD;
+import static ru.tinkoff.qa.neptune.core.api.properties.general.matching.ToReportAllMismatches.TO_REPORT_ALL_MISMATCHES_PROPERTY;
+
+public class ParallelMatchingTest {
+
+    private static final List<Integer> NUMBERS = new ArrayList<>();
+
+    static {
+        for (int i = 0; i < 2_000; i++) {
+            NUMBERS.add(i);
+        }
+    }
+
+    @BeforeMethod
+    public void beforeMethod() {
+        PARALLEL_MATCHING_PROPERTY.accept(true);
+        PARALLEL_MATCHING_THRESHOLD.accept(100);
+        PARALLEL_MATCHING_PARALLELISM.accept(4);
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void afterMethod() {
+        getProperties().remove(PARALLEL_MATCHING_PROPERTY.getName());
+        getProperties().remove(PARALLEL_MATCHING_THRESHOLD.getName());
+        getProperties().remove(PARALLEL_MATCHING_PARALLELISM.getName());
+        getProperties().remove(TO_REPORT_ALL_MISMATCHES_PROPERTY.getName());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static String mismatchOf(Object o, Matcher<?> matcher) {
+        try {
+            assertThat("Tested object", o, (Matcher<Object>) matcher);
+        } catch (AssertionError e) {
+            return e.getMessage();
+        }
+
+        fail("Exception was expected");
+        return null;
+    }
+
+    @Test
+    public void itemsAreCheckedInParallel() {
+        var threads = ConcurrentHashMap.<String>newKeySet();
+        assertThat(NUMBERS, eachOfIterable(new ThreadRecordingMatcher(threads)));
+        assertThat(threads, not(hasItem(currentThread().getName())));
+        assertThat(threads.size(), greaterThan(0));
+    }
+
+    @Test
+    public void mismatchesAreReportedInOrderOfItems() {
+        var matcher = eachOfIterable(lessThan(1_995));
+        var parallel = mismatchOf(NUMBERS, matcher);
+
+        PARALLEL_MATCHING_PROPERTY.accept(false);
+        var sequential = mismatchOf(NUMBERS, matcher);
+
+        assertThat(parallel, is(sequential));
+        assertThat(parallel, is("Tested object\n" +
+                "Expected: each item: a value less than <1995>\n" +
+                "     but: item [1995] <1995> was equal to <1995>\r\n" +
+                "item [1996] <1996> was greater than <1995>\r\n" +
+                "item [1997] <1997> was greater than <1995>\r\n" +
+                "item [1998] <1998> was greater than <1995>\r\n" +
+                "item [1999] <1999> was greater than <1995>"));
+    }
+
+    @Test
+    public void firstMismatchIsReportedOnly() {
+        TO_REPORT_ALL_MISMATCHES_PROPERTY.accept(false);
+
+        assertThat(mismatchOf(NUMBERS, eachOfIterable(lessThan(1_000))), is("Tested object\n" +
+                "Expected: each item: a value less than <1000>\n" +
+                "     but: item [1000] <1000> was equal to <1000>"));
+    }
+
+    @Test
+    public void nestedNeptuneMatchersInParallel() {
+        var map = new LinkedHashMap<String, String>();
+        for (int i = 0; i < 500; i++) {
+            map.put("A" + i, i == 250 ? "A" + i : "B" + i);
+        }
+
+        assertThat(mismatchOf(map, eachEntryValue(startsWith("B"))), is("Tested object\n" +
+                "Expected: each entry: Key: ANYTHING Value: a string starting with \"B\"\n" +
+                "     but: item [250] Value was \"A250\""));
+    }
+
+    @Test
+    public void mismatchIsDescribedByAnotherThread() throws Exception {
+        var matcher = eachOfIterable(lessThan(1_999));
+        var matched = new AtomicBoolean(true);
+        var thread = new Thread(() -> matched.set(matcher.matches(NUMBERS)));
+        thread.start();
+        thread.join();
+
+        var description = new StringDescription();
+        matcher.describeMismatch(NUMBERS, description);
+        assertThat(matched.get(), is(false));
+        assertThat(description.toString(), is("item [1999] <1999> was equal to <1999>"));
+    }
+
+    @Test
+    public void mismatchDescriptionsAreAvailableAfterCheck() {
+        var matcher = (NeptuneFeatureMatcher<?>) eachOfIterable(lessThan(1_999));
+        assertThat(matcher.matches(NUMBERS), is(false));
+        assertThat(matcher.mismatchDescriptions, hasSize(1));
+        assertThat(matcher.mismatchDescriptions.get(0).toString(), is("item [1999] <1999> was equal to <1999>"));
+    }
+
+    @Test
+    public void parallelismIsReadOnUse() {
+        var threads = ConcurrentHashMap.<String>newKeySet();
+        assertThat(NUMBERS, eachOfIterable(new ThreadRecordingMatcher(threads)));
+        var pools = threads.stream().map(t -> t.substring(0, t.indexOf("-worker"))).collect(toSet());
+
+        PARALLEL_MATCHING_PARALLELISM.accept(3);
+        threads.clear();
+        assertThat(NUMBERS, eachOfIterable(new ThreadRecordingMatcher(threads)));
+        var otherPools = threads.stream().map(t -> t.substring(0, t.indexOf("-worker"))).collect(toSet());
+
+        assertThat(pools, hasSize(1));
+        assertThat(otherPools, hasSize(1));
+        assertThat(otherPools, not(equalTo(pools)));
+    }
+
+    private static final class ThreadRecordingMatcher extends TypeSafeMatcher<Integer> {
+
+        private final Set<String> threads;
+
+        private ThreadRecordingMatcher(Set<String> threads) {
+            this.threads = threads;
+        }
+
+        @Override
+        protected boolean matchesSafely(Integer item) {
+            threads.add(currentThread().getName());
+            return item >= 0;
+        }
+
+        @Override
+        public void describeTo(Description description) {
+            description.appendText("not negative");
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package ru.tinkoff.qa.neptune.core.api.localization;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static ru.tinkoff.qa.neptune.core.api.localization.StepLocalization.buildTextByTemplate;
+
+public class DescriptionTemplateTest {
+
+    private static final Map<String, String> PARAMETERS = Map.of("a", "1",
+            "b", "{a}",
+            "empty", "");
+
+    @DataProvider
+    public static Object[][] data() {
+        return new Object[][]{
+                {"No placeholders", "No placeholders"},
+                {"{a}", "1"},
+                {"Value {a} and {a}", "Value 1 and 1"},
+                {"Value {a}, value {b}", "Value 1, value 1"},
+                {"Value {b}, value {a}", "Value 1, value 1"},
+                {"Value {c}", "Value {c}"},
+                {"Value '{empty}'", "Value ''"},
+                {"Value {{a}}", "Value {1}"},
+                {"Value {a", "Value {a"},
+                {"Value }a{", "Value }a{"},
+                {"{}", "{}"},
+                {"", ""},
+        };
+    }
+
+    @Test(dataProvider = "data")
+    public void renderTest(String template, String expected) {
+        assertThat(buildTextByTemplate(template, PARAMETERS), is(expected));
+    }
+
+    @Test
+    public void templateIsParsedOnceTest() {
+        var template = "Some {a} template";
+        assertThat(DescriptionTemplate.template(template), sameInstance(DescriptionTemplate.template(template)));
+    }
+
+    @Test
+    public void metadataIsResolvedOnceTest() {
+        assertThat(StepMetadata.classMetadata(BasicLocalizationTest.class),
+                sameInstance(StepMetadata.classMetadata(BasicLocalizationTest.class)));
+    }
+}
@@ -0,0 +1,166 @@
+package ru.tinkoff.qa.neptune.core.api.properties;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import ru.tinkoff.qa.neptune.core.api.properties.integers.IntValuePropertySupplier;
+
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.lang.System.clearProperty;
+import static java.lang.System.getProperties;
+import static java.lang.System.setProperties;
+import static java.lang.System.setProperty;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static ru.tinkoff.qa.neptune.core.api.properties.PropertySnapshot.takeSnapshot;
+import static ru.tinkoff.qa.neptune.core.api.properties.PropertySupplier.invalidateCachedValues;
+
+public class PropertyValueCacheTest {
+
+    private static final String COUNTING_PROPERTY = "test.counting.property";
+    private static final String OBJECT_PROPERTY = "test.cached.object.property";
+
+    private final CountingPropertySupplier counting = new CountingPropertySupplier();
+
+    @BeforeMethod
+    public void beforeMethod() {
+        invalidateCachedValues();
+        counting.parsed.set(0);
+        counting.read.set(0);
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void afterMethod() {
+        clearProperty(COUNTING_PROPERTY);
+        clearProperty(OBJECT_PROPERTY);
+    }
+
+    @Test
+    public void parsedValueIsReusedTest() {
+        setProperty(COUNTING_PROPERTY, "1");
+
+        assertThat(counting.get(), is(1));
+        assertThat(counting.get(), is(1));
+        assertThat(counting.parsed.get(), is(1));
+    }
+
+    @Test
+    public void changedValueIsParsedTest() {
+        setProperty(COUNTING_PROPERTY, "1");
+        assertThat(counting.get(), is(1));
+
+        setProperty(COUNTING_PROPERTY, "2");
+        assertThat(counting.get(), is(2));
+
+        counting.accept(3);
+        assertThat(counting.get(), is(3));
+
+        clearProperty(COUNTING_PROPERTY);
+        assertThat(counting.get(), nullValue());
+        assertThat(counting.parsed.get(), is(3));
+    }
+
+    @Test
+    public void stringValueIsReusedTest() {
+        setProperty(COUNTING_PROPERTY, "1");
+        assertThat(counting.get(), is(1));
+        var read = counting.read.get();
+
+        assertThat(counting.get(), is(1));
+        assertThat(counting.read.get(), is(read));
+
+        setProperty("some.other.property", "1");
+        try {
+            assertThat(counting.get(), is(1));
+            assertThat(counting.read.get(), greaterThan(read));
+        } finally {
+            clearProperty("some.other.property");
+        }
+    }
+
+    @Test
+    public void replacedSystemPropertiesTest() {
+        setProperty(COUNTING_PROPERTY, "1");
+        assertThat(counting.get(), is(1));
+
+        var original = getProperties();
+        var replacement = new Properties();
+        replacement.putAll(original);
+        replacement.setProperty(COUNTING_PROPERTY, "2");
+        setProperties(replacement);
+        try {
+            assertThat(counting.get(), is(2));
+            getProperties().remove(COUNTING_PROPERTY);
+            assertThat(counting.get(), nullValue());
+        } finally {
+            setProperties(original);
+        }
+    }
+
+    @Test
+    public void invalidatedValueIsParsedTest() {
+        setProperty(COUNTING_PROPERTY, "1");
+        counting.get();
+
+        invalidateCachedValues();
+        assertThat(counting.get(), is(1));
+        assertThat(counting.parsed.get(), is(2));
+    }
+
+    @Test
+    public void mutableObjectsAreNotReusedTest() {
+        var supplier = new TestObjectSupplier() {
+            @Override
+            public String getName() {
+                return OBJECT_PROPERTY;
+            }
+        };
+        setProperty(OBJECT_PROPERTY, ObjectSupplier.class.getName());
+
+        assertThat(supplier.get(), not(sameInstance(supplier.get())));
+    }
+
+    @Test
+    public void snapshotTest() {
+        setProperty(COUNTING_PROPERTY, "1");
+        var snapshot = takeSnapshot(counting);
+
+        setProperty(COUNTING_PROPERTY, "2");
+        assertThat(snapshot.get(counting), is(1));
+        assertThat(snapshot.isActual(), is(true));
+
+        counting.accept(3);
+        assertThat(snapshot.get(counting), is(1));
+        assertThat(snapshot.isActual(), is(false));
+        assertThat(takeSnapshot().get(counting), is(3));
+    }
+
+    private static final class CountingPropertySupplier implements IntValuePropertySupplier {
+
+        private final AtomicInteger parsed = new AtomicInteger();
+        private final AtomicInteger read = new AtomicInteger();
+
+        @Override
+        public String getName() {
+            //the name is used to read a value of the property
+            read.incrementAndGet();
+            return COUNTING_PROPERTY;
+        }
+
+        @Override
+        public Integer parse(String value) {
+            parsed.incrementAndGet();
+            return IntValuePropertySupplier.super.parse(value);
+        }
+    }
+
+    public static final class ObjectSupplier implements java.util.function.Supplier<Object> {
+
+        @Override
+        public Object get() {
+            return new Object();
+        }
+    }
+}
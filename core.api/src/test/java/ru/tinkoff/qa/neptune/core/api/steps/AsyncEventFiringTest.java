@@ -0,0 +1,130 @@
+package ru.tinkoff.qa.neptune.core.api.steps;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static java.lang.System.getProperties;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static ru.tinkoff.qa.neptune.core.api.event.firing.StaticEventFiring.flushEvents;
+import static ru.tinkoff.qa.neptune.core.api.event.firing.StaticEventFiring.getAsyncEventFiringMetrics;
+import static ru.tinkoff.qa.neptune.core.api.properties.general.events.AsyncEventFiring.ASYNC_EVENT_FIRING_PROPERTY;
+import static ru.tinkoff.qa.neptune.core.api.properties.general.events.AsyncEventQueueCapacity.ASYNC_EVENT_QUEUE_CAPACITY;
+import static ru.tinkoff.qa.neptune.core.api.properties.general.events.AsyncEventQueueOverflow.ASYNC_EVENT_QUEUE_OVERFLOW;
+import static ru.tinkoff.qa.neptune.core.api.properties.general.events.EventQueueOverflow.DROP_ATTACHMENTS;
+import static ru.tinkoff.qa.neptune.core.api.steps.Step.$;
+
+public class AsyncEventFiringTest {
+
+    @BeforeMethod
+    public void beforeMethod() {
+        AsyncEventLogger.clear();
+        TestEventLogger.MESSAGES.clear();
+        ASYNC_EVENT_FIRING_PROPERTY.accept(true);
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void afterMethod() {
+        AsyncEventLogger.clear();
+        getProperties().remove(ASYNC_EVENT_FIRING_PROPERTY.getName());
+        getProperties().remove(ASYNC_EVENT_QUEUE_CAPACITY.getName());
+        getProperties().remove(ASYNC_EVENT_QUEUE_OVERFLOW.getName());
+    }
+
+    private static void runInNewThread(Runnable runnable) throws Throwable {
+        var thrown = new AtomicReference<Throwable>();
+        var thread = new Thread(() -> {
+            try {
+                runnable.run();
+            } catch (Throwable t) {
+                thrown.set(t);
+            }
+        });
+        thread.start();
+        thread.join();
+        if (thrown.get() != null) {
+            throw thrown.get();
+        }
+    }
+
+    @Test
+    public void eventsAreFiredByDispatcherInOrder() throws Throwable {
+        var dispatchedBefore = getAsyncEventFiringMetrics().getDispatched();
+
+        runInNewThread(() -> {
+            $("Outer step", () -> $("Inner step", () -> 1));
+            flushEvents();
+
+            assertThat(AsyncEventLogger.MESSAGES, contains("Started: Outer step",
+                    "Started: Inner step",
+                    "Returned: 1",
+                    "Finished",
+                    "Returned: 1",
+                    "Finished"));
+        });
+
+        assertThat(AsyncEventLogger.THREADS, everyItem(is("Neptune event dispatcher")));
+        assertThat(TestEventLogger.MESSAGES, hasItems("Outer step has started", "Inner step has started"));
+        assertThat(getAsyncEventFiringMetrics().getDispatched() - dispatchedBefore, greaterThanOrEqualTo(6L));
+    }
+
+    @Test
+    public void eventsAreFiredSynchronouslyByDefault() throws Throwable {
+        getProperties().remove(ASYNC_EVENT_FIRING_PROPERTY.getName());
+
+        runInNewThread(() -> {
+            $("Sync step", () -> 1);
+
+            assertThat(AsyncEventLogger.MESSAGES, contains("Started: Sync step",
+                    "Returned: 1",
+                    "Finished"));
+            assertThat(AsyncEventLogger.THREADS, everyItem(is(Thread.currentThread().getName())));
+        });
+    }
+
+    @Test
+    public void eventTimeIsTimeOfFiring() throws Throwable {
+        AsyncEventLogger.delay = 20;
+        var fired = new AtomicReference<Instant>();
+
+        runInNewThread(() -> {
+            for (int i = 0; i < 3; i++) {
+                var index = i;
+                $("Step " + index, () -> index);
+            }
+            //events are still being passed to the logger at the moment
+            fired.set(Instant.now());
+            flushEvents();
+        });
+
+        assertThat(AsyncEventLogger.TIMES, hasSize(9));
+        assertThat(AsyncEventLogger.TIMES, everyItem(lessThanOrEqualTo(fired.get())));
+    }
+
+    @Test
+    public void attachmentsAreDroppedOnOverflow() throws Throwable {
+        ASYNC_EVENT_QUEUE_CAPACITY.accept(2);
+        ASYNC_EVENT_QUEUE_OVERFLOW.accept(DROP_ATTACHMENTS);
+        AsyncEventLogger.delay = 20;
+        var droppedBefore = getAsyncEventFiringMetrics().getDropped();
+
+        runInNewThread(() -> {
+            for (int i = 0; i < 10; i++) {
+                var index = i;
+                $("Step " + index, () -> index);
+            }
+            flushEvents();
+        });
+
+        List<String> messages = AsyncEventLogger.MESSAGES;
+        assertThat(messages.stream().filter(s -> s.startsWith("Started: ")).count(), is(10L));
+        assertThat(messages.stream().filter(s -> s.equals("Finished")).count(), is(10L));
+        assertThat(messages.stream().filter(s -> s.startsWith("Returned: ")).count(), lessThan(10L));
+        assertThat(getAsyncEventFiringMetrics().getDropped(), greaterThan(droppedBefore));
+    }
+}
@@ -0,0 +1,70 @@
+package ru.tinkoff.qa.neptune.core.api.steps;
+
+import ru.tinkoff.qa.neptune.core.api.event.firing.EventLogger;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static java.lang.Thread.currentThread;
+import static java.util.Collections.synchronizedList;
+import static ru.tinkoff.qa.neptune.core.api.event.firing.StaticEventFiring.getEventTime;
+
+public class AsyncEventLogger implements EventLogger {
+
+    static final List<String> MESSAGES = synchronizedList(new ArrayList<>());
+    static final List<String> THREADS = synchronizedList(new ArrayList<>());
+    static final List<Instant> TIMES = synchronizedList(new ArrayList<>());
+    static volatile long delay;
+
+    static void clear() {
+        MESSAGES.clear();
+        THREADS.clear();
+        TIMES.clear();
+        delay = 0;
+    }
+
+    private static void record(String message) {
+        if (delay > 0) {
+            try {
+                Thread.sleep(delay);
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        }
+        MESSAGES.add(message);
+        THREADS.add(currentThread().getName());
+        TIMES.add(getEventTime());
+    }
+
+    @Override
+    public void fireTheEventStarting(String message, Map<String, String> parameters) {
+        record("Started: " + message);
+    }
+
+    @Override
+    public void fireThrownException(Throwable throwable) {
+        record("Thrown: " + throwable.getMessage());
+    }
+
+    @Override
+    public void fireReturnedValue(String resultDescription, Object returned) {
+        record("Returned: " + returned);
+    }
+
+    @Override
+    public void fireEventFinishing() {
+        record("Finished");
+    }
+
+    @Override
+    public void addParameters(Map<String, String> parameters) {
+        record("Parameters: " + parameters);
+    }
+
+    @Override
+    public boolean supportsAsyncFiring() {
+        return true;
+    }
+}
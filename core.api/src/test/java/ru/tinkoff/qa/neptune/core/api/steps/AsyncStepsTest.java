@@ -0,0 +1,118 @@
+package ru.tinkoff.qa.neptune.core.api.steps;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import ru.tinkoff.qa.neptune.core.api.steps.annotations.Description;
+import ru.tinkoff.qa.neptune.core.api.steps.annotations.DescriptionFragment;
+import ru.tinkoff.qa.neptune.core.api.steps.context.Context;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+import static java.lang.System.currentTimeMillis;
+import static java.lang.Thread.sleep;
+import static java.util.concurrent.Executors.newFixedThreadPool;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static ru.tinkoff.qa.neptune.core.api.steps.AsyncStepsTest.TestAsyncSupplier.failing;
+import static ru.tinkoff.qa.neptune.core.api.steps.AsyncStepsTest.TestAsyncSupplier.sleeping;
+
+public class AsyncStepsTest {
+
+    private static final AsyncTestContext CONTEXT = AsyncTestContext.asyncContext();
+
+    @BeforeMethod
+    public void clearMessages() {
+        TestEventLogger.MESSAGES.clear();
+    }
+
+    @Test
+    public void getAllTest() {
+        var start = currentTimeMillis();
+        var result = CONTEXT.getAllOf(sleeping(0), sleeping(1), sleeping(2), sleeping(3));
+        var time = currentTimeMillis() - start;
+
+        assertThat(result, contains(0, 1, 2, 3));
+        assertThat(time, lessThan(1500L));
+        assertThat(TestEventLogger.MESSAGES, hasItems("Get: Sleep and return 0 has started",
+                "Get: Sleep and return 1 has started",
+                "Get: Sleep and return 2 has started",
+                "Get: Sleep and return 3 has started"));
+    }
+
+    @Test
+    public void asyncWithExecutorTest() {
+        var executor = newFixedThreadPool(2);
+        try {
+            var futures = List.of(CONTEXT.asyncOf(sleeping(4), executor),
+                    CONTEXT.asyncOf(sleeping(5), executor));
+
+            assertThat(AsyncSteps.joinAll(futures), contains(4, 5));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class, expectedExceptionsMessageRegExp = "Test exception")
+    public void getAllFailureTest() {
+        CONTEXT.getAllOf(sleeping(0), failing(), sleeping(2));
+    }
+
+    @Test
+    public void eventsOfFailedBranchTest() {
+        try {
+            CONTEXT.getAllOf(failing());
+        } catch (IllegalStateException e) {
+            assertThat(TestEventLogger.MESSAGES, hasItems("Get: Fail has started",
+                    IllegalStateException.class.getName() + " has been thrown",
+                    "Event finished"));
+            return;
+        }
+        throw new AssertionError("Exception was expected");
+    }
+
+    static class TestAsyncSupplier extends SequentialGetStepSupplier.GetObjectStepSupplier<AsyncTestContext, Integer, TestAsyncSupplier> {
+
+        private TestAsyncSupplier(Function<AsyncTestContext, Integer> originalFunction) {
+            super(originalFunction);
+        }
+
+        @Description("Sleep and return {value}")
+        static TestAsyncSupplier sleeping(@DescriptionFragment("value") int value) {
+            return new TestAsyncSupplier(context -> {
+                try {
+                    sleep(500);
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+                return value;
+            });
+        }
+
+        @Description("Fail")
+        static TestAsyncSupplier failing() {
+            return new TestAsyncSupplier(context -> {
+                throw new IllegalStateException("Test exception");
+            });
+        }
+    }
+
+    public static class AsyncTestContext extends Context<AsyncTestContext> {
+
+        static AsyncTestContext asyncContext() {
+            return getInstance(AsyncTestContext.class);
+        }
+
+        @SafeVarargs
+        public final List<Integer> getAllOf(SequentialGetStepSupplier<AsyncTestContext, Integer, ?, ?, ?>... toGet) {
+            return getAll(toGet);
+        }
+
+        public CompletableFuture<Integer> asyncOf(SequentialGetStepSupplier<AsyncTestContext, Integer, ?, ?, ?> toGet,
+                                                  Executor executor) {
+            return async(toGet, executor);
+        }
+    }
+}
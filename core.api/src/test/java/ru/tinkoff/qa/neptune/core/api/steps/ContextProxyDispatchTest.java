@@ -0,0 +1,47 @@
+package ru.tinkoff.qa.neptune.core.api.steps;
+
+import org.testng.annotations.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static ru.tinkoff.qa.neptune.core.api.steps.DispatchTestContext.dispatchContext;
+
+public class ContextProxyDispatchTest {
+
+    private static final int CALLS = 10_000;
+
+    @Test
+    public void selfReferenceTest() {
+        var proxy = dispatchContext();
+        var count = proxy.getCount();
+
+        assertThat(proxy.increment().increment(), sameInstance(proxy));
+        assertThat(proxy.getCount(), is(count + 2));
+    }
+
+    @Test
+    public void argumentsTest() {
+        assertThat(dispatchContext().sum(), is(0));
+        assertThat(dispatchContext().sum(1, 2, 3), is(6));
+        assertThat(dispatchContext().join(", ", "a", 1, true), is("a, 1, true"));
+        assertThat(dispatchContext().nothing(), nullValue());
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class, expectedExceptionsMessageRegExp = "Test failure")
+    public void exceptionTest() {
+        dispatchContext().fail("Test failure");
+    }
+
+    @Test
+    public void repeatedCallsTest() {
+        var proxy = dispatchContext();
+        var count = proxy.getCount();
+
+        for (int i = 0; i < CALLS; i++) {
+            assertThat(proxy.increment(), sameInstance(proxy));
+            //a method that is not public is invoked by the same method handle each time
+            assertThat(proxy.nothing(), nullValue());
+        }
+        assertThat(proxy.getCount(), is(count + CALLS));
+    }
+}
@@ -0,0 +1,49 @@
+package ru.tinkoff.qa.neptune.core.api.steps;
+
+import ru.tinkoff.qa.neptune.core.api.steps.context.Context;
+
+public class DispatchTestContext extends Context<DispatchTestContext> {
+
+    private static final DispatchTestContext context = getInstance(DispatchTestContext.class);
+    private long count;
+
+    public static DispatchTestContext dispatchContext() {
+        return context;
+    }
+
+    public DispatchTestContext increment() {
+        count++;
+        return this;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public int sum(int... values) {
+        var result = 0;
+        for (var v : values) {
+            result += v;
+        }
+        return result;
+    }
+
+    public String join(String separator, Object... values) {
+        var builder = new StringBuilder();
+        for (var v : values) {
+            if (builder.length() > 0) {
+                builder.append(separator);
+            }
+            builder.append(v);
+        }
+        return builder.toString();
+    }
+
+    public void fail(String message) {
+        throw new IllegalStateException(message);
+    }
+
+    Object nothing() {
+        return null;
+    }
+}
@@ -0,0 +1,77 @@
+package ru.tinkoff.qa.neptune.core.api.steps;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import ru.tinkoff.qa.neptune.core.api.steps.annotations.Description;
+import ru.tinkoff.qa.neptune.core.api.steps.annotations.StepParameter;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static ru.tinkoff.qa.neptune.core.api.steps.ReportingLevelTest.CountingGetSupplier.countingStep;
+import static ru.tinkoff.qa.neptune.core.api.steps.SequentialGetStepSupplier.turnReportingOff;
+
+public class ReportingLevelTest {
+
+    private static final AtomicInteger TO_STRING_CALLS = new AtomicInteger();
+
+    @BeforeMethod
+    public void beforeMethod() {
+        TO_STRING_CALLS.set(0);
+        StepsOnlyEventLogger.clear();
+        TestEventLogger.MESSAGES.clear();
+    }
+
+    @Test
+    public void parametersAreNotCalculatedWhenStepIsNotReported() {
+        var result = turnReportingOff(countingStep()).get().apply(new Object());
+
+        assertThat(result, is("Result"));
+        assertThat(TO_STRING_CALLS.get(), is(0));
+        assertThat(StepsOnlyEventLogger.STARTED, emptyIterable());
+    }
+
+    @Test
+    public void parametersAreCalculatedOnceWhenStepIsReported() {
+        var result = countingStep().get().apply(new Object());
+
+        assertThat(result, is("Result"));
+        assertThat(TO_STRING_CALLS.get(), is(1));
+        assertThat(TestEventLogger.MESSAGES, hasItem("Get: Counting step has started"));
+    }
+
+    @Test
+    public void loggerOfStepsLevelTest() {
+        countingStep().get().apply(new Object());
+
+        assertThat(StepsOnlyEventLogger.STARTED, contains("Get: Counting step"));
+        assertThat(StepsOnlyEventLogger.PARAMETERS, contains(anEmptyMap()));
+        assertThat(StepsOnlyEventLogger.RETURNED, emptyIterable());
+    }
+
+    private static class CountingParameter {
+
+        @Override
+        public String toString() {
+            TO_STRING_CALLS.incrementAndGet();
+            return "Counting parameter";
+        }
+    }
+
+    static class CountingGetSupplier extends SequentialGetStepSupplier.GetObjectStepSupplier<Object, String, CountingGetSupplier> {
+
+        @StepParameter("Parameter")
+        private final CountingParameter parameter = new CountingParameter();
+
+        private CountingGetSupplier(Function<Object, String> originalFunction) {
+            super(originalFunction);
+        }
+
+        @Description("Counting step")
+        static CountingGetSupplier countingStep() {
+            return new CountingGetSupplier(o -> "Result");
+        }
+    }
+}
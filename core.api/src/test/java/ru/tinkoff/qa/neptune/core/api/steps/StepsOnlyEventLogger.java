@@ -0,0 +1,55 @@
+package ru.tinkoff.qa.neptune.core.api.steps;
+
+import ru.tinkoff.qa.neptune.core.api.event.firing.EventLogger;
+import ru.tinkoff.qa.neptune.core.api.event.firing.ReportingLevel;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Collections.synchronizedList;
+import static ru.tinkoff.qa.neptune.core.api.event.firing.ReportingLevel.STEPS;
+
+public class StepsOnlyEventLogger implements EventLogger {
+
+    static final List<String> STARTED = synchronizedList(new ArrayList<>());
+    static final List<Map<String, String>> PARAMETERS = synchronizedList(new ArrayList<>());
+    static final List<Object> RETURNED = synchronizedList(new ArrayList<>());
+
+    static void clear() {
+        STARTED.clear();
+        PARAMETERS.clear();
+        RETURNED.clear();
+    }
+
+    @Override
+    public void fireTheEventStarting(String message, Map<String, String> parameters) {
+        STARTED.add(message);
+        PARAMETERS.add(parameters);
+    }
+
+    @Override
+    public void fireThrownException(Throwable throwable) {
+
+    }
+
+    @Override
+    public void fireReturnedValue(String resultDescription, Object returned) {
+        RETURNED.add(returned);
+    }
+
+    @Override
+    public void fireEventFinishing() {
+
+    }
+
+    @Override
+    public void addParameters(Map<String, String> parameters) {
+        PARAMETERS.add(parameters);
+    }
+
+    @Override
+    public ReportingLevel getReportingLevel() {
+        return STEPS;
+    }
+}
@@ -7,10 +7,11 @@ import java.util.List;
 import java.util.Map;
 
 import static java.lang.String.format;
+import static java.util.Collections.synchronizedList;
 
 public class TestEventLogger implements EventLogger {
 
-    public static final List<String> MESSAGES = new ArrayList<>();
+    public static final List<String> MESSAGES = synchronizedList(new ArrayList<>());
 
     @Override
     public void fireTheEventStarting(String message, Map<String, String> params) {
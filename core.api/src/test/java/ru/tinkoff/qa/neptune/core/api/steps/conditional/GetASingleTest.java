@@ -144,10 +144,9 @@ public class GetASingleTest extends BaseConditionalTest {
         assertThat(getSingle(GET_FIRST_OBJECT_FROM_LIST, VALUE_W, ONE_MILLISECOND, FIVE_HUNDRED_MILLIS).apply(LITERAL_LIST),
                 nullValue());
         long end = System.currentTimeMillis();
+        //there is no pause after the last attempt when time is out
         assertThat("Spent time in millis", end - start,
-                greaterThanOrEqualTo(FIVE_HUNDRED_MILLIS.toMillis()));
-        assertThat("Difference between expected and actual duration", end - start - FIVE_HUNDRED_MILLIS.toMillis(),
-                lessThanOrEqualTo(150L));
+                lessThan(FIVE_HUNDRED_MILLIS.toMillis()));
     }
 
     @Test
@@ -168,10 +167,9 @@ public class GetASingleTest extends BaseConditionalTest {
         assertThat(getSingle(s -> null, ONE_MILLISECOND, FIVE_HUNDRED_MILLIS).apply(LITERAL_LIST),
                 nullValue());
         long end = System.currentTimeMillis();
+        //there is no pause after the last attempt when time is out
         assertThat("Spent time in millis", end - start,
-                greaterThanOrEqualTo(FIVE_HUNDRED_MILLIS.toMillis()));
-        assertThat("Difference between expected and actual duration", end - start - FIVE_HUNDRED_MILLIS.toMillis(),
-                lessThanOrEqualTo(150L));
+                lessThan(FIVE_HUNDRED_MILLIS.toMillis()));
     }
 
     @Test(expectedExceptions = RuntimeException.class, expectedExceptionsMessageRegExp = "nothing was found")
@@ -215,7 +213,7 @@ public class GetASingleTest extends BaseConditionalTest {
         } catch (Exception e) {
             long end = System.currentTimeMillis();
             assertThat("Spent time in millis", end - start,
-                    greaterThan(FIVE_SECONDS.toMillis()));
+                    greaterThanOrEqualTo(FIVE_SECONDS.toMillis()));
             assertThat("Difference between expected and actual duration", end - start - FIVE_SECONDS.toMillis(),
                     lessThanOrEqualTo(650L));
             throw e;
@@ -231,7 +229,7 @@ public class GetASingleTest extends BaseConditionalTest {
         } catch (Exception e) {
             long end = System.currentTimeMillis();
             assertThat("Spent time in millis", end - start,
-                    greaterThan(FIVE_SECONDS.toMillis()));
+                    greaterThanOrEqualTo(FIVE_SECONDS.toMillis()));
             assertThat("Difference between expected and actual duration", end - start - FIVE_SECONDS.toMillis(),
                     lessThanOrEqualTo(650L));
             throw e;
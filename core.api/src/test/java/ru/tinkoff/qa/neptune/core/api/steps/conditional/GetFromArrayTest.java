@@ -165,10 +165,9 @@ public class GetFromArrayTest extends BaseConditionalTest {
         MatcherAssert.assertThat(getFromArray(CONVERT_LIST_TO_ARRAY, VALUE_W, ONE_MILLISECOND, FIVE_HUNDRED_MILLIS).apply(LITERAL_LIST),
                 nullValue());
         long end = System.currentTimeMillis();
+        //there is no pause after the last attempt when time is out
         assertThat("Spent time in millis", end - start,
-                greaterThanOrEqualTo(FIVE_HUNDRED_MILLIS.toMillis()));
-        assertThat("Difference between expected and actual duration", end - start - FIVE_HUNDRED_MILLIS.toMillis(),
-                lessThanOrEqualTo(150L));
+                lessThan(FIVE_HUNDRED_MILLIS.toMillis()));
     }
 
     @Test
@@ -192,10 +191,9 @@ public class GetFromArrayTest extends BaseConditionalTest {
                 FIVE_HUNDRED_MILLIS).apply(EMPTY_LIST),
                 nullValue());
         long end = System.currentTimeMillis();
+        //there is no pause after the last attempt when time is out
         assertThat("Spent time in millis", end - start,
-                greaterThanOrEqualTo(FIVE_HUNDRED_MILLIS.toMillis()));
-        assertThat("Difference between expected and actual duration", end - start - FIVE_HUNDRED_MILLIS.toMillis(),
-                lessThanOrEqualTo(150L));
+                lessThan(FIVE_HUNDRED_MILLIS.toMillis()));
     }
 
     @Test(expectedExceptions = RuntimeException.class, expectedExceptionsMessageRegExp = "nothing was found")
@@ -238,7 +236,7 @@ public class GetFromArrayTest extends BaseConditionalTest {
         } catch (Exception e) {
             long end = System.currentTimeMillis();
             assertThat("Spent time in millis", end - start,
-                    greaterThan(FIVE_SECONDS.toMillis()));
+                    greaterThanOrEqualTo(FIVE_SECONDS.toMillis()));
             assertThat("Difference between expected and actual duration", end - start - FIVE_SECONDS.toMillis(),
                     lessThanOrEqualTo(650L));
             throw e;
@@ -257,7 +255,7 @@ public class GetFromArrayTest extends BaseConditionalTest {
         } catch (Exception e) {
             long end = System.currentTimeMillis();
             assertThat("Spent time in millis", end - start,
-                    greaterThan(FIVE_SECONDS.toMillis()));
+                    greaterThanOrEqualTo(FIVE_SECONDS.toMillis()));
             assertThat("Difference between expected and actual duration", end - start - FIVE_SECONDS.toMillis(),
                     lessThanOrEqualTo(650L));
             throw e;
@@ -154,10 +154,9 @@ public class GetFromIterableTest extends BaseConditionalTest {
         MatcherAssert.assertThat(ToGetObjectFromIterable.getFromIterable(CONVERT_LIST_TO_SET, VALUE_W, ONE_MILLISECOND, FIVE_HUNDRED_MILLIS).apply(LITERAL_LIST),
                 nullValue());
         long end = System.currentTimeMillis();
+        //there is no pause after the last attempt when time is out
         assertThat("Spent time in millis", end - start,
-                greaterThanOrEqualTo(FIVE_HUNDRED_MILLIS.toMillis()));
-        assertThat("Difference between expected and actual duration", end - start - FIVE_HUNDRED_MILLIS.toMillis(),
-                lessThanOrEqualTo(150L));
+                lessThan(FIVE_HUNDRED_MILLIS.toMillis()));
     }
 
     @Test
@@ -181,10 +180,9 @@ public class GetFromIterableTest extends BaseConditionalTest {
                 FIVE_HUNDRED_MILLIS).apply(EMPTY_LIST),
                 nullValue());
         long end = System.currentTimeMillis();
+        //there is no pause after the last attempt when time is out
         assertThat("Spent time in millis", end - start,
-                greaterThanOrEqualTo(FIVE_HUNDRED_MILLIS.toMillis()));
-        assertThat("Difference between expected and actual duration", end - start - FIVE_HUNDRED_MILLIS.toMillis(),
-                lessThanOrEqualTo(150L));
+                lessThan(FIVE_HUNDRED_MILLIS.toMillis()));
     }
 
     @Test(expectedExceptions = RuntimeException.class, expectedExceptionsMessageRegExp = "nothing was found")
@@ -227,7 +225,7 @@ public class GetFromIterableTest extends BaseConditionalTest {
         } catch (Exception e) {
             long end = System.currentTimeMillis();
             assertThat("Spent time in millis", end - start,
-                    greaterThan(FIVE_SECONDS.toMillis()));
+                    greaterThanOrEqualTo(FIVE_SECONDS.toMillis()));
             assertThat("Difference between expected and actual duration", end - start - FIVE_SECONDS.toMillis(),
                     lessThanOrEqualTo(650L));
             throw e;
@@ -246,7 +244,7 @@ public class GetFromIterableTest extends BaseConditionalTest {
         } catch (Exception e) {
             long end = System.currentTimeMillis();
             assertThat("Spent time in millis", end - start,
-                    greaterThan(FIVE_SECONDS.toMillis()));
+                    greaterThanOrEqualTo(FIVE_SECONDS.toMillis()));
             assertThat("Difference between expected and actual duration", end - start - FIVE_SECONDS.toMillis(),
                     lessThanOrEqualTo(650L));
             throw e;
@@ -143,10 +143,9 @@ public class GetSubArrayTest extends BaseConditionalTest {
         MatcherAssert.assertThat(ToGetSubArray.getArray(CONVERT_LIST_TO_ARRAY, VALUE_W, ONE_MILLISECOND, FIVE_HUNDRED_MILLIS).apply(LITERAL_LIST),
                 emptyArray());
         long end = System.currentTimeMillis();
+        //there is no pause after the last attempt when time is out
         assertThat("Spent time in millis", end - start,
-                greaterThanOrEqualTo(FIVE_HUNDRED_MILLIS.toMillis()));
-        assertThat("Difference between expected and actual duration", end - start - FIVE_HUNDRED_MILLIS.toMillis(),
-                lessThanOrEqualTo(150L));
+                lessThan(FIVE_HUNDRED_MILLIS.toMillis()));
     }
 
     @Test
@@ -167,10 +166,9 @@ public class GetSubArrayTest extends BaseConditionalTest {
         MatcherAssert.assertThat(ToGetSubArray.getArray(CONVERT_LIST_TO_ARRAY, ONE_MILLISECOND, FIVE_HUNDRED_MILLIS).apply(EMPTY_LIST),
                 emptyArray());
         long end = System.currentTimeMillis();
+        //there is no pause after the last attempt when time is out
         assertThat("Spent time in millis", end - start,
-                greaterThanOrEqualTo(FIVE_HUNDRED_MILLIS.toMillis()));
-        assertThat("Difference between expected and actual duration", end - start - FIVE_HUNDRED_MILLIS.toMillis(),
-                lessThanOrEqualTo(150L));
+                lessThan(FIVE_HUNDRED_MILLIS.toMillis()));
     }
 
     @Test(expectedExceptions = RuntimeException.class, expectedExceptionsMessageRegExp = "nothing was found")
@@ -197,7 +195,7 @@ public class GetSubArrayTest extends BaseConditionalTest {
         } catch (Exception e) {
             long end = System.currentTimeMillis();
             assertThat("Spent time in millis", end - start,
-                    greaterThan(FIVE_SECONDS.toMillis()));
+                    greaterThanOrEqualTo(FIVE_SECONDS.toMillis()));
             assertThat("Difference between expected and actual duration", end - start - FIVE_SECONDS.toMillis(),
                     lessThanOrEqualTo(650L));
             throw e;
@@ -213,7 +211,7 @@ public class GetSubArrayTest extends BaseConditionalTest {
         } catch (Exception e) {
             long end = System.currentTimeMillis();
             assertThat("Spent time in millis", end - start,
-                    greaterThan(FIVE_SECONDS.toMillis()));
+                    greaterThanOrEqualTo(FIVE_SECONDS.toMillis()));
             assertThat("Difference between expected and actual duration", end - start - FIVE_SECONDS.toMillis(),
                     lessThanOrEqualTo(650L));
             throw e;
@@ -232,7 +230,7 @@ public class GetSubArrayTest extends BaseConditionalTest {
         } catch (Exception e) {
             long end = System.currentTimeMillis();
             assertThat("Spent time in millis", end - start,
-                    greaterThan(FIVE_SECONDS.toMillis()));
+                    greaterThanOrEqualTo(FIVE_SECONDS.toMillis()));
             assertThat("Difference between expected and actual duration", end - start - FIVE_SECONDS.toMillis(),
                     lessThanOrEqualTo(650L));
             throw e;
@@ -189,10 +189,9 @@ public class GetSubIterableTest extends BaseConditionalTest {
         MatcherAssert.assertThat(ToGetSubIterable.getIterable(CONVERT_LIST_TO_SET, VALUE_W, ONE_MILLISECOND, FIVE_HUNDRED_MILLIS).apply(LITERAL_LIST),
                 emptyCollectionOf(String.class));
         long end = System.currentTimeMillis();
+        //there is no pause after the last attempt when time is out
         assertThat("Spent time in millis", end - start,
-                greaterThanOrEqualTo(FIVE_HUNDRED_MILLIS.toMillis()));
-        assertThat("Difference between expected and actual duration", end - start - FIVE_HUNDRED_MILLIS.toMillis(),
-                lessThanOrEqualTo(150L));
+                lessThan(FIVE_HUNDRED_MILLIS.toMillis()));
     }
 
     @Test
@@ -212,10 +211,9 @@ public class GetSubIterableTest extends BaseConditionalTest {
         MatcherAssert.assertThat(ToGetSubIterable.getIterable(CONVERT_LIST_TO_SET, ONE_MILLISECOND, FIVE_HUNDRED_MILLIS).apply(EMPTY_LIST),
                 emptyCollectionOf(String.class));
         long end = System.currentTimeMillis();
+        //there is no pause after the last attempt when time is out
         assertThat("Spent time in millis", end - start,
-                greaterThanOrEqualTo(FIVE_HUNDRED_MILLIS.toMillis()));
-        assertThat("Difference between expected and actual duration", end - start - FIVE_HUNDRED_MILLIS.toMillis(),
-                lessThanOrEqualTo(150L));
+                lessThan(FIVE_HUNDRED_MILLIS.toMillis()));
     }
 
     @Test(expectedExceptions = RuntimeException.class, expectedExceptionsMessageRegExp = "nothing was found")
@@ -258,7 +256,7 @@ public class GetSubIterableTest extends BaseConditionalTest {
         } catch (Exception e) {
             long end = System.currentTimeMillis();
             assertThat("Spent time in millis", end - start,
-                    greaterThan(FIVE_SECONDS.toMillis()));
+                    greaterThanOrEqualTo(FIVE_SECONDS.toMillis()));
             assertThat("Difference between expected and actual duration", end - start - FIVE_SECONDS.toMillis(),
                     lessThanOrEqualTo(650L));
             throw e;
@@ -274,7 +272,7 @@ public class GetSubIterableTest extends BaseConditionalTest {
         } catch (Exception e) {
             long end = System.currentTimeMillis();
             assertThat("Spent time in millis", end - start,
-                    greaterThan(FIVE_SECONDS.toMillis()));
+                    greaterThanOrEqualTo(FIVE_SECONDS.toMillis()));
             assertThat("Difference between expected and actual duration", end - start - FIVE_SECONDS.toMillis(),
                     lessThanOrEqualTo(650L));
             throw e;
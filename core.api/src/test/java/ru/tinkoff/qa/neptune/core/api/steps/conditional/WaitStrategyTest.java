@@ -0,0 +1,188 @@
+package ru.tinkoff.qa.neptune.core.api.steps.conditional;
+
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import ru.tinkoff.qa.neptune.core.api.steps.conditions.AdaptiveWaitStrategy;
+import ru.tinkoff.qa.neptune.core.api.steps.conditions.ExponentialBackoffWaitStrategy;
+import ru.tinkoff.qa.neptune.core.api.steps.conditions.FixedWaitStrategy;
+import ru.tinkoff.qa.neptune.core.api.steps.conditions.WaitStrategy;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.time.Duration.ofMillis;
+import static java.time.Duration.ofMinutes;
+import static java.time.Duration.ofSeconds;
+import static java.util.concurrent.CompletableFuture.supplyAsync;
+import static java.util.concurrent.Executors.newFixedThreadPool;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static ru.tinkoff.qa.neptune.core.api.properties.general.waiting.DefaultWaitStrategy.DEFAULT_WAIT_STRATEGY;
+import static ru.tinkoff.qa.neptune.core.api.steps.conditions.ToGetSingleCheckedObject.getSingle;
+import static ru.tinkoff.qa.neptune.core.api.steps.conditions.WaitingSignal.signal;
+
+public class WaitStrategyTest {
+
+    private final ExecutorService executor = newFixedThreadPool(2);
+
+    @AfterClass(alwaysRun = true)
+    public void afterClass() {
+        executor.shutdownNow();
+    }
+
+    @BeforeMethod
+    public void beforeMethod() {
+        RecordingWaitStrategy.PAUSES.set(0);
+        RecordingWaitStrategy.PAUSING.drainPermits();
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void afterMethod() {
+        DEFAULT_WAIT_STRATEGY.accept(null);
+    }
+
+    @Test
+    public void defaultStrategyTest() {
+        assertThat(DEFAULT_WAIT_STRATEGY.get(), instanceOf(FixedWaitStrategy.class));
+        DEFAULT_WAIT_STRATEGY.accept(AdaptiveWaitStrategy.class);
+        assertThat(DEFAULT_WAIT_STRATEGY.get(), sameInstance(DEFAULT_WAIT_STRATEGY.get()));
+    }
+
+    private static <T> T waitForSignal(Object source, CompletableFuture<T> waiting) throws Exception {
+        //the signal may come before the waiting thread starts to pause. Then it is sent again
+        while (true) {
+            signal(source);
+            try {
+                return waiting.get(100, MILLISECONDS);
+            } catch (TimeoutException e) {
+                //keep signaling
+            }
+        }
+    }
+
+    @Test
+    public void noSleepingAfterSuccessTest() {
+        DEFAULT_WAIT_STRATEGY.accept(RecordingWaitStrategy.class);
+        assertThat(getSingle(o -> "X", ofSeconds(5), ofSeconds(2)).apply(new Object()), is("X"));
+        assertThat(RecordingWaitStrategy.PAUSES.get(), is(0));
+    }
+
+    @Test
+    public void noSleepingWhenTimeOutIsZeroTest() {
+        DEFAULT_WAIT_STRATEGY.accept(RecordingWaitStrategy.class);
+        var attempts = new AtomicInteger();
+        assertThat(getSingle(o -> {
+            attempts.incrementAndGet();
+            return null;
+        }, ofMillis(0), ofSeconds(2)).apply(new Object()), nullValue());
+
+        assertThat(attempts.get(), is(1));
+        assertThat(RecordingWaitStrategy.PAUSES.get(), is(0));
+    }
+
+    @Test
+    public void noSleepingAfterLastAttemptTest() {
+        DEFAULT_WAIT_STRATEGY.accept(RecordingWaitStrategy.class);
+        var attempts = new AtomicInteger();
+        assertThat(getSingle(o -> {
+            attempts.incrementAndGet();
+            return null;
+        }, ofMillis(300), ofMillis(50)).apply(new Object()), nullValue());
+
+        assertThat(attempts.get(), greaterThan(1));
+        assertThat(RecordingWaitStrategy.PAUSES.get(), is(attempts.get() - 1));
+    }
+
+    @Test
+    public void signalTest() throws Exception {
+        DEFAULT_WAIT_STRATEGY.accept(RecordingWaitStrategy.class);
+        var source = new Object();
+        var ready = new AtomicBoolean();
+        var attempts = new AtomicInteger();
+
+        var waiting = supplyAsync(() -> getSingle(o -> {
+            attempts.incrementAndGet();
+            return ready.get() ? "X" : null;
+        }, ofMinutes(10), ofMinutes(10)).apply(source), executor);
+
+        RecordingWaitStrategy.PAUSING.acquire();
+        ready.set(true);
+        assertThat(waitForSignal(source, waiting), is("X"));
+        assertThat(attempts.get(), is(2));
+    }
+
+    @Test
+    public void signalOfOtherObjectTest() throws Exception {
+        DEFAULT_WAIT_STRATEGY.accept(RecordingWaitStrategy.class);
+        var source1 = new Object();
+        var source2 = new Object();
+        var ready = new AtomicBoolean();
+        var attempts1 = new AtomicInteger();
+        var attempts2 = new AtomicInteger();
+
+        var waiting1 = supplyAsync(() -> getSingle(o -> {
+            attempts1.incrementAndGet();
+            return ready.get() ? "X" : null;
+        }, ofMinutes(10), ofMinutes(10)).apply(source1), executor);
+        var waiting2 = supplyAsync(() -> getSingle(o -> {
+            attempts2.incrementAndGet();
+            return ready.get() ? "Y" : null;
+        }, ofMinutes(10), ofMinutes(10)).apply(source2), executor);
+
+        RecordingWaitStrategy.PAUSING.acquire(2);
+        ready.set(true);
+        assertThat(waitForSignal(source1, waiting1), is("X"));
+        assertThat(attempts1.get(), is(2));
+        assertThat(attempts2.get(), is(1));
+
+        assertThat(waitForSignal(source2, waiting2), is("Y"));
+        assertThat(attempts2.get(), is(2));
+    }
+
+    @Test
+    public void exponentialBackoffTest() {
+        DEFAULT_WAIT_STRATEGY.accept(ExponentialBackoffWaitStrategy.class);
+        var attempts = new AtomicInteger();
+        assertThat(getSingle(o -> {
+            attempts.incrementAndGet();
+            return null;
+        }, ofSeconds(1), ofMillis(10)).apply(new Object()), nullValue());
+
+        //it would be about 100 attempts when the pause is fixed
+        assertThat(attempts.get(), lessThan(20));
+    }
+
+    @Test
+    public void adaptiveStrategyTest() {
+        var strategy = new AdaptiveWaitStrategy();
+        var sleeping = ofMillis(10);
+        assertThat(strategy.pauseNanos(String.class, 1, 0, sleeping), is(sleeping.toNanos()));
+
+        strategy.succeeded(String.class, ofSeconds(1).toNanos());
+        assertThat(strategy.pauseNanos(String.class, 1, 0, sleeping), is(ofMillis(500).toNanos()));
+        assertThat(strategy.pauseNanos(String.class, 2, ofMillis(800).toNanos(), sleeping), is(ofMillis(100).toNanos()));
+        assertThat(strategy.pauseNanos(String.class, 3, ofSeconds(2).toNanos(), sleeping), is(sleeping.toNanos()));
+        assertThat(strategy.pauseNanos(Integer.class, 1, 0, sleeping), is(sleeping.toNanos()));
+    }
+
+    public static final class RecordingWaitStrategy implements WaitStrategy {
+
+        private static final AtomicInteger PAUSES = new AtomicInteger();
+        private static final Semaphore PAUSING = new Semaphore(0);
+
+        @Override
+        public long pauseNanos(Class<?> source, int attempt, long elapsedNanos, Duration sleepingTime) {
+            PAUSES.incrementAndGet();
+            PAUSING.release();
+            return sleepingTime.toNanos();
+        }
+    }
+}
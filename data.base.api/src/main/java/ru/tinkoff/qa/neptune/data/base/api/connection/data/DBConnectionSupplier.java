@@ -1,6 +1,5 @@
 package ru.tinkoff.qa.neptune.data.base.api.connection.data;
 
-import io.github.classgraph.ClassGraph;
 import org.datanucleus.metadata.PersistenceUnitMetaData;
 import org.datanucleus.metadata.TransactionType;
 import ru.tinkoff.qa.neptune.data.base.api.PersistableObject;
@@ -16,6 +15,7 @@ import static java.util.Optional.ofNullable;
 import static java.util.stream.Collectors.toList;
 import static org.datanucleus.metadata.TransactionType.RESOURCE_LOCAL;
 import static ru.tinkoff.qa.neptune.data.base.api.ConnectionDataReader.usesConnection;
+import static ru.tinkoff.qa.neptune.core.api.classpath.ClassIndex.getSubclasses;
 
 /**
  * This class is designed to prepare data of the connection to be created and used
@@ -43,11 +43,7 @@ public abstract class DBConnectionSupplier implements Supplier<DBConnection> {
             return persistableClasses;
         }
 
-        persistableClasses.addAll(new ClassGraph()
-                .enableAllInfo()
-                .scan()
-                .getSubclasses(PersistableObject.class.getName())
-                .loadClasses(PersistableObject.class)
+        persistableClasses.addAll(getSubclasses(PersistableObject.class)
                 .stream()
                 .filter(clazz -> nonNull(clazz.getAnnotation(PersistenceCapable.class))
                         && !isAbstract(clazz.getModifiers())).collect(toList()));
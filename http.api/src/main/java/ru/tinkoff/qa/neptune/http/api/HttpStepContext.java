@@ -3,8 +3,13 @@ package ru.tinkoff.qa.neptune.http.api;
 import ru.tinkoff.qa.neptune.core.api.steps.Criteria;
 import ru.tinkoff.qa.neptune.core.api.steps.context.Context;
 import ru.tinkoff.qa.neptune.core.api.steps.context.CreateWith;
+import ru.tinkoff.qa.neptune.http.api.load.LoadResult;
+import ru.tinkoff.qa.neptune.http.api.load.LoadStepSupplier;
+import ru.tinkoff.qa.neptune.http.api.replay.ReplayStatistics;
+import ru.tinkoff.qa.neptune.http.api.replay.ReplayingHttpClient;
 import ru.tinkoff.qa.neptune.http.api.request.RequestBuilder;
 import ru.tinkoff.qa.neptune.http.api.response.*;
+import ru.tinkoff.qa.neptune.http.api.response.events.ResponseEventsGetSupplier;
 
 import java.net.HttpCookie;
 import java.net.URI;
@@ -24,7 +29,9 @@ import static java.util.Optional.ofNullable;
 import static ru.tinkoff.qa.neptune.http.api.cookies.AddHttpCookiesActionSupplier.addHttpCookies;
 import static ru.tinkoff.qa.neptune.http.api.cookies.DeleteHttpCookiesActionSupplier.deleteCookies;
 import static ru.tinkoff.qa.neptune.http.api.cookies.GetHttpCookiesSupplier.httpCookies;
+import static ru.tinkoff.qa.neptune.http.api.replay.ReplayingHttpClient.replaying;
 import static ru.tinkoff.qa.neptune.http.api.response.ResponseSequentialGetSupplier.response;
+import static ru.tinkoff.qa.neptune.http.api.response.ResponsesSequentialGetSupplier.responses;
 
 @CreateWith(provider = HttpStepsParameterProvider.class)
 public class HttpStepContext extends Context<HttpStepContext> {
@@ -34,7 +41,7 @@ public class HttpStepContext extends Context<HttpStepContext> {
     private final HttpClient client;
 
     public HttpStepContext(HttpClient.Builder clientBuilder) {
-        this.client = clientBuilder.build();
+        this.client = replaying(clientBuilder.build());
     }
 
     public static HttpStepContext http() {
@@ -45,6 +52,17 @@ public class HttpStepContext extends Context<HttpStepContext> {
         return client;
     }
 
+    /**
+     * Returns counts of recorded, replayed and not found responses when http exchanges are recorded or replayed.
+     *
+     * @return statistics of recording/replaying or {@code null} when the property {@code HTTP_REPLAY_MODE}
+     * is not defined or its value is {@code OFF}
+     * @see ru.tinkoff.qa.neptune.http.api.properties.replay.HttpReplayModeProperty
+     */
+    public ReplayStatistics getReplayStatistics() {
+        return client instanceof ReplayingHttpClient ? ((ReplayingHttpClient) client).getStatistics() : null;
+    }
+
     /**
      * Sends http request and receives a response with body
      *
@@ -67,6 +85,66 @@ public class HttpStepContext extends Context<HttpStepContext> {
         return responseOf(requestBuilder, discarding());
     }
 
+    /**
+     * Sends http requests asynchronously and receives responses with body. It is useful when there are a lot of
+     * independent requests to send.
+     *
+     * @param requestBuilders are builders of http requests
+     * @param bodyHandler     is a handler of response bodies
+     * @param maxInFlight     is max count of requests which are sent and are waiting for responses at the same time
+     * @param <T>             is a type of response body
+     * @return a list of received responses. Responses go in the same order as requests.
+     */
+    public <T> List<HttpResponse<T>> responsesOf(Collection<RequestBuilder> requestBuilders,
+                                                HttpResponse.BodyHandler<T> bodyHandler,
+                                                int maxInFlight) {
+        return get(responses(requestBuilders, bodyHandler, maxInFlight));
+    }
+
+    /**
+     * Sends http requests asynchronously and receives responses with no body. It is useful when there are a lot of
+     * independent requests to send.
+     *
+     * @param requestBuilders are builders of http requests
+     * @param maxInFlight     is max count of requests which are sent and are waiting for responses at the same time
+     * @return a list of received responses. Responses go in the same order as requests.
+     */
+    public List<HttpResponse<Void>> responsesOf(Collection<RequestBuilder> requestBuilders, int maxInFlight) {
+        return responsesOf(requestBuilders, discarding(), maxInFlight);
+    }
+
+    /**
+     * Sends http requests asynchronously and receives responses which meet criteria.
+     *
+     * @param responses is description of requests to send and of expected responses
+     * @param <T>       is a type of response body
+     * @return a list of received responses. Responses go in the same order as requests.
+     */
+    public <T> List<HttpResponse<T>> responsesOf(ResponsesSequentialGetSupplier<T> responses) {
+        return get(responses);
+    }
+
+    /**
+     * Sends the same http request again and again during the defined time and measures latencies of responses.
+     *
+     * @param load is description of the load
+     * @return result of the load
+     */
+    public LoadResult load(LoadStepSupplier load) {
+        return get(load);
+    }
+
+    /**
+     * Sends http request once and receives events of a streamed response body which meet criteria.
+     *
+     * @param events is description of a request and of expected events
+     * @param <T>    is a type of an event
+     * @return a list of received events which meet criteria
+     */
+    public <T> List<T> eventsOf(ResponseEventsGetSupplier<T> events) {
+        return get(events);
+    }
+
     /**
      * Extracts some object from http response body
      *
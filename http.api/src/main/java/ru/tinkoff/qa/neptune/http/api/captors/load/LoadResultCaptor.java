@@ -0,0 +1,29 @@
+package ru.tinkoff.qa.neptune.http.api.captors.load;
+
+import ru.tinkoff.qa.neptune.core.api.event.firing.captors.StringCaptor;
+import ru.tinkoff.qa.neptune.core.api.steps.annotations.Description;
+import ru.tinkoff.qa.neptune.http.api.load.LoadResult;
+
+import static java.util.Optional.ofNullable;
+
+@Description("Latencies of responses")
+public final class LoadResultCaptor extends StringCaptor<LoadResult> {
+
+    private static final String LINE_SEPARATOR = "\r\n";
+
+    @Override
+    public StringBuilder getData(LoadResult caught) {
+        return new StringBuilder()
+                .append(caught)
+                .append(LINE_SEPARATOR)
+                .append(caught.getHistogram());
+    }
+
+    @Override
+    public LoadResult getCaptured(Object toBeCaptured) {
+        return ofNullable(toBeCaptured)
+                .filter(o -> o instanceof LoadResult)
+                .map(o -> (LoadResult) o)
+                .orElse(null);
+    }
+}
@@ -14,13 +14,15 @@ import static java.util.UUID.randomUUID;
 import static org.apache.commons.io.FileUtils.writeByteArrayToFile;
 import static org.apache.commons.lang3.StringUtils.EMPTY;
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
+import static ru.tinkoff.qa.neptune.http.api.properties.captors.RequestBodyPreviewSizeProperty.REQUEST_BODY_PREVIEW_SIZE_PROPERTY;
 
 final class BodyPartCapturedDataInjector implements CapturedDataInjector<BodyPart[]> {
 
     @Override
     public void inject(BodyPart[] toBeInjected, String message) {
+        var previewSize = REQUEST_BODY_PREVIEW_SIZE_PROPERTY.get();
         stream(toBeInjected).forEach(bodyPart -> {
-            var bytes = bodyPart.getBytes();
+            var preview = bodyPart.preview(previewSize);
             var name = ofNullable(bodyPart.getName()).orElse("<no name>");
             var contentType = bodyPart.getContentType();
             var encoding = bodyPart.getContentTransferEncoding();
@@ -29,7 +31,7 @@ final class BodyPartCapturedDataInjector implements CapturedDataInjector<BodyPar
             var randomUUID = randomUUID().toString();
             try {
                 var tempFile = createTempFile(isNotBlank(fileName) ? randomUUID + fileName : randomUUID, EMPTY);
-                writeByteArrayToFile(tempFile, bytes);
+                writeByteArrayToFile(tempFile, preview.getBytes());
                 tempFile.deleteOnExit();
 
                 var sb = new StringBuilder(message).append("name ").append(name);
@@ -45,6 +47,10 @@ final class BodyPartCapturedDataInjector implements CapturedDataInjector<BodyPar
                     sb.append(";").append(" filename ").append(fileName);
                 }
 
+                if (preview.isTruncated()) {
+                    sb.append(";").append(" first ").append(previewSize).append(" bytes");
+                }
+
                 new PipeLineFileCaptor(sb.toString()).capture(tempFile);
             } catch (IOException ignored) {
             }
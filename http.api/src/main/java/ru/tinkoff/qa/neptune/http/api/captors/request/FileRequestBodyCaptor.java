@@ -7,8 +7,15 @@ import ru.tinkoff.qa.neptune.http.api.request.body.FileBody;
 import ru.tinkoff.qa.neptune.http.api.request.body.RequestBody;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
 
+import static java.io.File.createTempFile;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
 import static java.util.List.of;
+import static java.util.UUID.randomUUID;
+import static ru.tinkoff.qa.neptune.http.api.properties.captors.RequestBodyPreviewSizeProperty.REQUEST_BODY_PREVIEW_SIZE_PROPERTY;
 
 @UseInjectors(CapturedFileInjector.class)
 @Description("Request body. File")
@@ -18,9 +25,39 @@ public final class FileRequestBodyCaptor extends AbstractRequestBodyCaptor<FileB
         super(of(FileBody.class));
     }
 
+    /**
+     * Returns a file of a request body. When the file is bigger than value of the property
+     * {@code 'HTTP_REQUEST_BODY_PREVIEW_SIZE'} then a temporary file with first bytes of the body is returned.
+     *
+     * @param caught is a body of a request
+     * @return a file to attach
+     */
     @Override
     public File getData(FileBody caught) {
-        return caught.body();
+        var file = caught.body();
+        var previewSize = REQUEST_BODY_PREVIEW_SIZE_PROPERTY.get();
+        if (file.length() <= previewSize) {
+            return file;
+        }
+
+        try {
+            var preview = createTempFile(randomUUID() + "_first_" + previewSize + "_bytes_of_", file.getName());
+            preview.deleteOnExit();
+            try (var source = FileChannel.open(file.toPath(), READ);
+                 var target = FileChannel.open(preview.toPath(), WRITE)) {
+                long transferred = 0;
+                while (transferred < previewSize) {
+                    var count = source.transferTo(transferred, previewSize - transferred, target);
+                    if (count <= 0) {
+                        break;
+                    }
+                    transferred = transferred + count;
+                }
+            }
+            return preview;
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
     }
 
     @Override
@@ -0,0 +1,37 @@
+package ru.tinkoff.qa.neptune.http.api.captors.response;
+
+import ru.tinkoff.qa.neptune.core.api.event.firing.captors.StringCaptor;
+import ru.tinkoff.qa.neptune.core.api.steps.annotations.Description;
+import ru.tinkoff.qa.neptune.http.api.response.events.ReceivedEvents;
+
+import static java.util.Optional.ofNullable;
+
+@Description("Received events")
+public final class ReceivedEventsCaptor extends StringCaptor<ReceivedEvents> {
+
+    private static final String LINE_SEPARATOR = "\r\n";
+
+    @Override
+    public StringBuilder getData(ReceivedEvents caught) {
+        var lastEvents = caught.getLastEvents();
+        var builder = new StringBuilder()
+                .append("Count of received events: ")
+                .append(caught.getReceivedCount())
+                .append(LINE_SEPARATOR)
+                .append("Last ")
+                .append(lastEvents.size())
+                .append(" events:")
+                .append(LINE_SEPARATOR);
+
+        lastEvents.forEach(e -> builder.append(e).append(LINE_SEPARATOR));
+        return builder;
+    }
+
+    @Override
+    public ReceivedEvents getCaptured(Object toBeCaptured) {
+        return ofNullable(toBeCaptured)
+                .filter(o -> o instanceof ReceivedEvents)
+                .map(o -> (ReceivedEvents) o)
+                .orElse(null);
+    }
+}
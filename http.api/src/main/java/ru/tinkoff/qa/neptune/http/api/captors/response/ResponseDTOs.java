@@ -21,7 +21,7 @@ public final class ResponseDTOs extends AbstractResponseBodyObjectsCaptor<Mapped
     @Override
     public StringBuilder getData(List<MappedObject> caught) {
         try {
-            return new StringBuilder(JSON.getMapper().writerWithDefaultPrettyPrinter().writeValueAsString(caught));
+            return new StringBuilder(JSON.prettyWriter().writeValueAsString(caught));
         } catch (JsonProcessingException e) {
             return null;
         }
@@ -0,0 +1,57 @@
+package ru.tinkoff.qa.neptune.http.api.captors.response;
+
+import ru.tinkoff.qa.neptune.core.api.event.firing.captors.StringCaptor;
+import ru.tinkoff.qa.neptune.core.api.steps.annotations.Description;
+
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.TreeMap;
+
+import static java.util.stream.Collectors.toList;
+
+@Description("Responses")
+public final class ResponsesSummaryCaptor extends StringCaptor<List<HttpResponse<?>>> {
+
+    private static final String LINE_SEPARATOR = "\r\n";
+
+    @Override
+    public StringBuilder getData(List<HttpResponse<?>> caught) {
+        var statusCodes = new TreeMap<Integer, Integer>();
+        caught.forEach(r -> statusCodes.merge(r.statusCode(), 1, Integer::sum));
+
+        var stringBuilder = new StringBuilder()
+                .append("Count of responses: ")
+                .append(caught.size())
+                .append(LINE_SEPARATOR)
+                .append("Status codes: ")
+                .append(statusCodes)
+                .append(LINE_SEPARATOR);
+
+        int i = 0;
+        for (var response : caught) {
+            i++;
+            var request = response.request();
+            stringBuilder.append("#").append(i).append(" ")
+                    .append(request.method()).append(" ")
+                    .append(request.uri())
+                    .append(" -> ")
+                    .append(response.statusCode())
+                    .append(LINE_SEPARATOR);
+        }
+        return stringBuilder;
+    }
+
+    @Override
+    public List<HttpResponse<?>> getCaptured(Object toBeCaptured) {
+        if (!(toBeCaptured instanceof List)) {
+            return null;
+        }
+
+        var list = (List<?>) toBeCaptured;
+        if (list.isEmpty() || !list.stream().allMatch(o -> o instanceof HttpResponse)) {
+            return null;
+        }
+
+        return list.stream().map(o -> (HttpResponse<?>) o).collect(toList());
+    }
+}
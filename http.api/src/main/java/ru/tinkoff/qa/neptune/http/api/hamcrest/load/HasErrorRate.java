@@ -0,0 +1,49 @@
+package ru.tinkoff.qa.neptune.http.api.hamcrest.load;
+
+import org.hamcrest.Matcher;
+import ru.tinkoff.qa.neptune.core.api.hamcrest.NeptuneFeatureMatcher;
+import ru.tinkoff.qa.neptune.core.api.steps.annotations.Description;
+import ru.tinkoff.qa.neptune.core.api.steps.annotations.DescriptionFragment;
+import ru.tinkoff.qa.neptune.core.api.steps.parameters.ParameterValueGetter;
+import ru.tinkoff.qa.neptune.http.api.load.LoadResult;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * This matcher is for the checking of ratio of count of errors to count of sent requests.
+ */
+@Description("error rate {rate}")
+public final class HasErrorRate extends NeptuneFeatureMatcher<LoadResult> {
+
+    @DescriptionFragment(value = "rate",
+            makeReadableBy = ParameterValueGetter.TranslatedDescriptionParameterValueGetter.class)
+    private final Matcher<? super Double> rateMatcher;
+
+    private HasErrorRate(Matcher<? super Double> rateMatcher) {
+        super(true);
+        checkNotNull(rateMatcher, "Matcher of an error rate is not defined");
+        this.rateMatcher = rateMatcher;
+    }
+
+    /**
+     * Creates a matcher that checks error rate. It is from 0 to 1.
+     *
+     * @param rateMatcher criteria that describes expected error rate
+     * @return a new instance of {@link HasErrorRate}
+     */
+    public static HasErrorRate hasErrorRate(Matcher<? super Double> rateMatcher) {
+        return new HasErrorRate(rateMatcher);
+    }
+
+    @Override
+    protected boolean featureMatches(LoadResult toMatch) {
+        var rate = toMatch.getErrorRate();
+        var result = rateMatcher.matches(rate);
+
+        if (!result) {
+            appendMismatchDescription(rateMatcher, rate);
+        }
+
+        return result;
+    }
+}
@@ -0,0 +1,88 @@
+package ru.tinkoff.qa.neptune.http.api.hamcrest.load;
+
+import org.hamcrest.Matcher;
+import ru.tinkoff.qa.neptune.core.api.hamcrest.NeptuneFeatureMatcher;
+import ru.tinkoff.qa.neptune.core.api.steps.annotations.Description;
+import ru.tinkoff.qa.neptune.core.api.steps.annotations.DescriptionFragment;
+import ru.tinkoff.qa.neptune.core.api.steps.parameters.ParameterValueGetter;
+import ru.tinkoff.qa.neptune.http.api.load.LoadResult;
+
+import java.time.Duration;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * This matcher is for the checking of latency of responses at some percentile.
+ */
+@Description("latency at percentile {percentile} {latency}")
+public final class HasLatency extends NeptuneFeatureMatcher<LoadResult> {
+
+    @DescriptionFragment("percentile")
+    private final double percentile;
+
+    @DescriptionFragment(value = "latency",
+            makeReadableBy = ParameterValueGetter.TranslatedDescriptionParameterValueGetter.class)
+    private final Matcher<? super Duration> latencyMatcher;
+
+    private HasLatency(double percentile, Matcher<? super Duration> latencyMatcher) {
+        super(true);
+        checkArgument(percentile >= 0 && percentile <= 100, "Percentile should be from 0 to 100");
+        checkNotNull(latencyMatcher, "Matcher of a latency is not defined");
+        this.percentile = percentile;
+        this.latencyMatcher = latencyMatcher;
+    }
+
+    /**
+     * Creates a matcher that checks latency of responses at some percentile.
+     *
+     * @param percentile     is a percentile from 0 to 100
+     * @param latencyMatcher criteria that describes expected latency
+     * @return a new instance of {@link HasLatency}
+     */
+    public static HasLatency hasLatencyAtPercentile(double percentile, Matcher<? super Duration> latencyMatcher) {
+        return new HasLatency(percentile, latencyMatcher);
+    }
+
+    /**
+     * Creates a matcher that checks median latency of responses.
+     *
+     * @param latencyMatcher criteria that describes expected latency
+     * @return a new instance of {@link HasLatency}
+     */
+    public static HasLatency hasP50(Matcher<? super Duration> latencyMatcher) {
+        return hasLatencyAtPercentile(50, latencyMatcher);
+    }
+
+    /**
+     * Creates a matcher that checks latency of 99 percent of responses.
+     *
+     * @param latencyMatcher criteria that describes expected latency
+     * @return a new instance of {@link HasLatency}
+     */
+    public static HasLatency hasP99(Matcher<? super Duration> latencyMatcher) {
+        return hasLatencyAtPercentile(99, latencyMatcher);
+    }
+
+    /**
+     * Creates a matcher that checks max latency of responses.
+     *
+     * @param latencyMatcher criteria that describes expected latency
+     * @return a new instance of {@link HasLatency}
+     */
+    public static HasLatency hasMaxLatency(Matcher<? super Duration> latencyMatcher) {
+        return hasLatencyAtPercentile(100, latencyMatcher);
+    }
+
+    @Override
+    protected boolean featureMatches(LoadResult toMatch) {
+        var latency = toMatch.getLatencyAtPercentile(percentile);
+        var result = latencyMatcher.matches(latency);
+
+        if (!result) {
+            appendMismatchDescription(latencyMatcher, latency);
+        }
+
+        return result;
+    }
+}
@@ -0,0 +1,49 @@
+package ru.tinkoff.qa.neptune.http.api.hamcrest.load;
+
+import org.hamcrest.Matcher;
+import ru.tinkoff.qa.neptune.core.api.hamcrest.NeptuneFeatureMatcher;
+import ru.tinkoff.qa.neptune.core.api.steps.annotations.Description;
+import ru.tinkoff.qa.neptune.core.api.steps.annotations.DescriptionFragment;
+import ru.tinkoff.qa.neptune.core.api.steps.parameters.ParameterValueGetter;
+import ru.tinkoff.qa.neptune.http.api.load.LoadResult;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * This matcher is for the checking of count of requests per second.
+ */
+@Description("throughput (requests per second) {throughput}")
+public final class HasThroughput extends NeptuneFeatureMatcher<LoadResult> {
+
+    @DescriptionFragment(value = "throughput",
+            makeReadableBy = ParameterValueGetter.TranslatedDescriptionParameterValueGetter.class)
+    private final Matcher<? super Double> throughputMatcher;
+
+    private HasThroughput(Matcher<? super Double> throughputMatcher) {
+        super(true);
+        checkNotNull(throughputMatcher, "Matcher of a throughput is not defined");
+        this.throughputMatcher = throughputMatcher;
+    }
+
+    /**
+     * Creates a matcher that checks count of requests per second.
+     *
+     * @param throughputMatcher criteria that describes expected throughput
+     * @return a new instance of {@link HasThroughput}
+     */
+    public static HasThroughput hasThroughput(Matcher<? super Double> throughputMatcher) {
+        return new HasThroughput(throughputMatcher);
+    }
+
+    @Override
+    protected boolean featureMatches(LoadResult toMatch) {
+        var throughput = toMatch.getThroughput();
+        var result = throughputMatcher.matches(throughput);
+
+        if (!result) {
+            appendMismatchDescription(throughputMatcher, throughput);
+        }
+
+        return result;
+    }
+}
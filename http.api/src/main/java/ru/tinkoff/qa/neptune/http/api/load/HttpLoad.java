@@ -0,0 +1,165 @@
+package ru.tinkoff.qa.neptune.http.api.load;
+
+import ru.tinkoff.qa.neptune.http.api.request.RequestBuilder;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+import static java.lang.System.nanoTime;
+import static java.net.http.HttpResponse.BodyHandlers.discarding;
+import static java.time.Duration.ofNanos;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * Sends the same request again and again during the defined time and records latencies of responses.
+ */
+final class HttpLoad {
+
+    final RequestBuilder requestBuilder;
+    final Duration duration;
+    int concurrency = 1;
+    int rate;
+    Predicate<? super HttpResponse<Void>> isError = r -> r.statusCode() >= 400;
+
+    HttpLoad(RequestBuilder requestBuilder, Duration duration) {
+        this.requestBuilder = requestBuilder;
+        this.duration = duration;
+    }
+
+    LoadResult run(HttpClient client) {
+        var request = requestBuilder.build();
+        try {
+            if (rate > 0) {
+                return sendAtRate(client, request);
+            }
+            return sendConcurrently(client, request);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+    }
+
+    private LoadResult sendConcurrently(HttpClient client, HttpRequest request) throws InterruptedException {
+        var histogram = new LatencyHistogram();
+        var errors = new LongAdder();
+        var senders = new Semaphore(concurrency);
+        var inFlight = new InFlight();
+        var start = nanoTime();
+        var deadline = start + duration.toNanos();
+
+        //a sender is released when a response is received, then it sends the next request
+        while (true) {
+            senders.acquire();
+            var sent = nanoTime();
+            if (sent >= deadline) {
+                break;
+            }
+            send(client, request, histogram, errors, inFlight, sent, senders::release);
+        }
+
+        inFlight.awaitAll();
+        return new LoadResult(histogram, errors.sum(), ofNanos(nanoTime() - start));
+    }
+
+    private LoadResult sendAtRate(HttpClient client, HttpRequest request) throws InterruptedException {
+        var histogram = new LatencyHistogram();
+        var errors = new LongAdder();
+        var inFlight = new InFlight();
+        var period = 1_000_000_000L / rate;
+        var start = nanoTime();
+        var deadline = start + duration.toNanos();
+
+        for (var scheduled = start; scheduled < deadline; scheduled = scheduled + period) {
+            var delay = scheduled - nanoTime();
+            if (delay > 0) {
+                NANOSECONDS.sleep(delay);
+            }
+            send(client, request, histogram, errors, inFlight, scheduled, () -> {
+            });
+        }
+
+        inFlight.awaitAll();
+        return new LoadResult(histogram, errors.sum(), ofNanos(nanoTime() - start));
+    }
+
+    private void send(HttpClient client,
+                      HttpRequest request,
+                      LatencyHistogram histogram,
+                      LongAdder errors,
+                      InFlight inFlight,
+                      long sent,
+                      Runnable onComplete) {
+        inFlight.started();
+        try {
+            client.sendAsync(request, discarding()).whenComplete((response, throwable) -> {
+                try {
+                    record(histogram, errors, sent, response, throwable);
+                } finally {
+                    inFlight.finished();
+                    onComplete.run();
+                }
+            });
+        } catch (RuntimeException e) {
+            errors.increment();
+            inFlight.finished();
+            throw e;
+        }
+    }
+
+    private void record(LatencyHistogram histogram,
+                        LongAdder errors,
+                        long sent,
+                        HttpResponse<Void> response,
+                        Throwable throwable) {
+        try {
+            histogram.recordNanos(nanoTime() - sent);
+        } finally {
+            if (isFailed(response, throwable)) {
+                errors.increment();
+            }
+        }
+    }
+
+    private boolean isFailed(HttpResponse<Void> response, Throwable throwable) {
+        if (throwable != null) {
+            return true;
+        }
+
+        try {
+            return isError.test(response);
+        } catch (RuntimeException e) {
+            //a response which can't be checked is counted as an error
+            return true;
+        }
+    }
+
+    /**
+     * Count of requests which are sent and are waiting for responses.
+     */
+    private static final class InFlight {
+
+        private long count;
+
+        synchronized void started() {
+            count++;
+        }
+
+        synchronized void finished() {
+            count--;
+            if (count == 0) {
+                notifyAll();
+            }
+        }
+
+        synchronized void awaitAll() throws InterruptedException {
+            while (count > 0) {
+                wait();
+            }
+        }
+    }
+}
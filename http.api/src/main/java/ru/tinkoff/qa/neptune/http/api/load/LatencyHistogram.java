@@ -0,0 +1,157 @@
+package ru.tinkoff.qa.neptune.http.api.load;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.lang.Long.numberOfLeadingZeros;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.time.Duration.ofNanos;
+
+/**
+ * Histogram of latencies which are measured in microseconds. Values are kept in log-linear buckets
+ * like an HDR histogram: each power of two is divided into 64 sub buckets, so a recorded value is kept
+ * with precision not worse than 1/64 of its value. A recording of a value only increments a counter,
+ * it doesn't allocate anything. It is safe to record values from many threads at the same time.
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 7;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int SUB_BUCKET_HALF_COUNT = SUB_BUCKET_COUNT >> 1;
+    private static final int BUCKET_COUNT = 64 - SUB_BUCKET_BITS + 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT * SUB_BUCKET_HALF_COUNT + SUB_BUCKET_HALF_COUNT);
+    private final AtomicLong totalCount = new AtomicLong();
+    private final AtomicLong min = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicLong max = new AtomicLong();
+
+    private static int indexOf(long micros) {
+        var bucket = max(0, 63 - numberOfLeadingZeros(micros) - (SUB_BUCKET_BITS - 1));
+        var subBucket = (int) (micros >>> bucket);
+        return bucket * SUB_BUCKET_HALF_COUNT + subBucket;
+    }
+
+    private static long highestValueOf(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+
+        var bucket = (index >> (SUB_BUCKET_BITS - 1)) - 1;
+        var subBucket = index - bucket * SUB_BUCKET_HALF_COUNT;
+        return ((subBucket + 1L) << bucket) - 1;
+    }
+
+    /**
+     * Records a latency.
+     *
+     * @param nanos is a latency in nanoseconds
+     */
+    public void recordNanos(long nanos) {
+        var micros = max(0, nanos / 1000);
+        counts.incrementAndGet(indexOf(micros));
+        totalCount.incrementAndGet();
+        min.accumulateAndGet(micros, Math::min);
+        max.accumulateAndGet(micros, Math::max);
+    }
+
+    /**
+     * @return count of recorded latencies
+     */
+    public long getTotalCount() {
+        return totalCount.get();
+    }
+
+    /**
+     * @return min recorded latency. It is {@link Duration#ZERO} when nothing was recorded.
+     */
+    public Duration getMin() {
+        var result = min.get();
+        return result == Long.MAX_VALUE ? Duration.ZERO : ofMicros(result);
+    }
+
+    /**
+     * @return max recorded latency. It is exact.
+     */
+    public Duration getMax() {
+        return ofMicros(max.get());
+    }
+
+    /**
+     * Returns a latency which is not exceeded by the defined percentage of recorded latencies.
+     *
+     * @param percentile is a percentile from 0 to 100
+     * @return latency at the percentile. It is {@link Duration#ZERO} when nothing was recorded.
+     */
+    public Duration getValueAtPercentile(double percentile) {
+        checkArgument(percentile >= 0 && percentile <= 100, "Percentile should be from 0 to 100");
+        var total = totalCount.get();
+        if (total == 0) {
+            return Duration.ZERO;
+        }
+
+        var countAtPercentile = max(1, (long) Math.ceil(percentile / 100 * total));
+        long counted = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            counted = counted + counts.get(i);
+            if (counted >= countAtPercentile) {
+                return ofMicros(min(highestValueOf(i), max.get()));
+            }
+        }
+        return getMax();
+    }
+
+    /**
+     * @return mean of recorded latencies. It is calculated by values of buckets.
+     */
+    public Duration getMean() {
+        var total = totalCount.get();
+        if (total == 0) {
+            return Duration.ZERO;
+        }
+
+        double sum = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            var count = counts.get(i);
+            if (count > 0) {
+                sum = sum + (double) count * min(highestValueOf(i), max.get());
+            }
+        }
+        return ofMicros((long) (sum / total));
+    }
+
+    private static Duration ofMicros(long micros) {
+        return ofNanos(micros * 1000);
+    }
+
+    /**
+     * Returns distribution of latencies. It is useful to attach it to a report.
+     *
+     * @return text with percentiles and recorded latencies
+     */
+    @Override
+    public String toString() {
+        var builder = new StringBuilder()
+                .append("Count: ").append(getTotalCount()).append("\r\n")
+                .append("Min: ").append(getMin().toNanos() / 1000).append(" µs\r\n")
+                .append("Mean: ").append(getMean().toNanos() / 1000).append(" µs\r\n")
+                .append("Max: ").append(getMax().toNanos() / 1000).append(" µs\r\n");
+
+        for (var p : new double[]{50, 75, 90, 95, 99, 99.9}) {
+            builder.append("p").append(p).append(": ")
+                    .append(getValueAtPercentile(p).toNanos() / 1000)
+                    .append(" µs\r\n");
+        }
+
+        builder.append("Latency (µs) <= | Count\r\n");
+        for (int i = 0; i < counts.length(); i++) {
+            var count = counts.get(i);
+            if (count > 0) {
+                builder.append(highestValueOf(i)).append(" | ").append(count).append("\r\n");
+            }
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,106 @@
+package ru.tinkoff.qa.neptune.http.api.load;
+
+import java.time.Duration;
+
+import static java.lang.String.format;
+import static java.util.Locale.US;
+
+/**
+ * Result of load of an http service. It contains latencies of responses, counts of sent requests and errors.
+ */
+public final class LoadResult {
+
+    private final LatencyHistogram histogram;
+    private final long errorCount;
+    private final Duration duration;
+
+    LoadResult(LatencyHistogram histogram, long errorCount, Duration duration) {
+        this.histogram = histogram;
+        this.errorCount = errorCount;
+        this.duration = duration;
+    }
+
+    /**
+     * @return histogram of latencies of all sent requests
+     */
+    public LatencyHistogram getHistogram() {
+        return histogram;
+    }
+
+    /**
+     * @return count of sent requests
+     */
+    public long getRequestCount() {
+        return histogram.getTotalCount();
+    }
+
+    /**
+     * @return count of requests that failed or received unexpected responses
+     */
+    public long getErrorCount() {
+        return errorCount;
+    }
+
+    /**
+     * @return ratio of count of errors to count of requests. It is from 0 to 1.
+     */
+    public double getErrorRate() {
+        var requests = getRequestCount();
+        return requests == 0 ? 0 : (double) errorCount / requests;
+    }
+
+    /**
+     * @return count of requests per second
+     */
+    public double getThroughput() {
+        var nanos = duration.toNanos();
+        return nanos == 0 ? 0 : getRequestCount() * 1_000_000_000d / nanos;
+    }
+
+    /**
+     * @return time of the load
+     */
+    public Duration getDuration() {
+        return duration;
+    }
+
+    /**
+     * @return latency that is not exceeded by a half of requests
+     */
+    public Duration getP50() {
+        return histogram.getValueAtPercentile(50);
+    }
+
+    /**
+     * @return latency that is not exceeded by 99% of requests
+     */
+    public Duration getP99() {
+        return histogram.getValueAtPercentile(99);
+    }
+
+    /**
+     * @return max latency
+     */
+    public Duration getMax() {
+        return histogram.getMax();
+    }
+
+    /**
+     * @param percentile is a percentile from 0 to 100
+     * @return latency that is not exceeded by the defined percentage of requests
+     */
+    public Duration getLatencyAtPercentile(double percentile) {
+        return histogram.getValueAtPercentile(percentile);
+    }
+
+    @Override
+    public String toString() {
+        return format(US, "Requests: %s, errors: %s, throughput: %.2f req/s, p50: %s ms, p99: %s ms, max: %s ms",
+                getRequestCount(),
+                errorCount,
+                getThroughput(),
+                getP50().toNanos() / 1_000_000d,
+                getP99().toNanos() / 1_000_000d,
+                getMax().toNanos() / 1_000_000d);
+    }
+}
@@ -0,0 +1,119 @@
+package ru.tinkoff.qa.neptune.http.api.load;
+
+import ru.tinkoff.qa.neptune.core.api.event.firing.annotations.CaptureOnSuccess;
+import ru.tinkoff.qa.neptune.core.api.event.firing.annotations.MaxDepthOfReporting;
+import ru.tinkoff.qa.neptune.core.api.steps.SequentialGetStepSupplier;
+import ru.tinkoff.qa.neptune.core.api.steps.annotations.Description;
+import ru.tinkoff.qa.neptune.core.api.steps.annotations.DescriptionFragment;
+import ru.tinkoff.qa.neptune.http.api.HttpStepContext;
+import ru.tinkoff.qa.neptune.http.api.captors.load.LoadResultCaptor;
+import ru.tinkoff.qa.neptune.http.api.request.RequestBuilder;
+
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.lang.String.valueOf;
+import static org.apache.commons.lang3.time.DurationFormatUtils.formatDurationHMS;
+import static ru.tinkoff.qa.neptune.http.api.replay.ReplayingHttpClient.notReplaying;
+
+/**
+ * Builds a step-function that sends the same http request again and again during the defined time
+ * and measures latencies of responses. Requests are sent by the defined count of concurrent senders,
+ * each of them sends a new request when the previous response is received, or they are sent
+ * at the defined rate.
+ */
+@CaptureOnSuccess(by = LoadResultCaptor.class)
+@MaxDepthOfReporting(0)
+public final class LoadStepSupplier extends SequentialGetStepSupplier.GetObjectStepSupplier<HttpStepContext, LoadResult, LoadStepSupplier> {
+
+    private final HttpLoad load;
+
+    private LoadStepSupplier(HttpLoad load) {
+        //the same request is sent a lot of times. These exchanges are not recorded or replayed
+        super(httpStepContext -> load.run(notReplaying(httpStepContext.getCurrentClient())));
+        this.load = load;
+    }
+
+    /**
+     * Creates an instance that builds a step-function to load an http service by the same request.
+     * By default requests are sent one by one.
+     *
+     * @param requestBuilder is a builder of an http request. It may be returned by a method of
+     *                       {@link ru.tinkoff.qa.neptune.http.api.service.mapping.HttpAPI}. The request is built
+     *                       when the step is performed
+     * @param duration       is time of the load
+     * @return an instance of {@link LoadStepSupplier}
+     */
+    @Description("Load by http request {request}")
+    public static LoadStepSupplier httpLoad(@DescriptionFragment("request") RequestBuilder requestBuilder,
+                                            Duration duration) {
+        checkNotNull(requestBuilder, "Request builder should be defined");
+        checkNotNull(duration, "Duration should be defined");
+        checkArgument(!duration.isNegative() && !duration.isZero(), "Duration should be positive");
+        return new LoadStepSupplier(new HttpLoad(requestBuilder, duration));
+    }
+
+    /**
+     * Defines count of concurrent senders. Each sender sends a new request when the previous response is received.
+     *
+     * @param concurrency is count of requests which are waiting for responses at the same time
+     * @return self-reference
+     */
+    public LoadStepSupplier concurrency(int concurrency) {
+        checkArgument(concurrency > 0, "Concurrency should be positive");
+        load.concurrency = concurrency;
+        load.rate = 0;
+        return this;
+    }
+
+    /**
+     * Defines count of requests which are sent per second. Requests are sent at the defined rate
+     * regardless of received responses. A latency is measured from the time when a request should be sent,
+     * so delays of sending are not hidden.
+     *
+     * @param requestsPerSecond is count of requests per second
+     * @return self-reference
+     */
+    public LoadStepSupplier rate(int requestsPerSecond) {
+        checkArgument(requestsPerSecond > 0, "Rate should be positive");
+        load.rate = requestsPerSecond;
+        return this;
+    }
+
+    /**
+     * Defines which responses are errors. By default these are responses with status code 400 and more.
+     * Requests that failed are always errors. Responses are errors as well when the condition throws an exception
+     * while they are checked.
+     *
+     * @param isError is a condition that is met by an erroneous response
+     * @return self-reference
+     */
+    public LoadStepSupplier errorWhen(Predicate<? super HttpResponse<Void>> isError) {
+        checkNotNull(isError, "Condition should be defined");
+        load.isError = isError;
+        return this;
+    }
+
+    @Override
+    public Map<String, String> getParameters() {
+        var p = super.getParameters();
+
+        var request = load.requestBuilder.build();
+        var params = new LinkedHashMap<String, String>();
+        params.put("Http endpoint URI", request.uri().toString());
+        params.put("Http Method", request.method());
+        params.put("Duration of load", formatDurationHMS(load.duration.toMillis()));
+        if (load.rate > 0) {
+            params.put("Requests per second", valueOf(load.rate));
+        } else {
+            params.put("Concurrency", valueOf(load.concurrency));
+        }
+        params.putAll(p);
+        return params;
+    }
+}
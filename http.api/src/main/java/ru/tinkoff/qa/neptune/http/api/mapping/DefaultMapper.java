@@ -1,25 +1,48 @@
 package ru.tinkoff.qa.neptune.http.api.mapping;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.Module;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.dataformat.xml.JacksonXmlModule;
 import com.fasterxml.jackson.dataformat.xml.XmlMapper;
 import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.fasterxml.jackson.module.jaxb.JaxbAnnotationModule;
 import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
+import ru.tinkoff.qa.neptune.core.api.properties.PropertySupplier;
 import ru.tinkoff.qa.neptune.http.api.properties.mapper.DefaultJsonObjectMapper;
 import ru.tinkoff.qa.neptune.http.api.properties.mapper.DefaultXmlObjectMapper;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
 
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.util.Arrays.asList;
 import static java.util.Optional.ofNullable;
+import static java.util.stream.Collectors.toList;
+import static ru.tinkoff.qa.neptune.core.api.properties.PropertySupplier.propertiesVersion;
+import static ru.tinkoff.qa.neptune.core.api.properties.PropertySupplier.returnOptionalFromEnvironment;
 import static ru.tinkoff.qa.neptune.http.api.properties.date.format.ApiDateFormatProperty.API_DATE_FORMAT_PROPERTY;
+import static ru.tinkoff.qa.neptune.http.api.properties.date.format.ApiDateFormatSymbolsProperty.API_DATE_FORMAT_SYMBOLS_PROPERTY;
+import static ru.tinkoff.qa.neptune.http.api.properties.date.format.ApiTimeZoneProperty.API_TIME_ZONE_PROPERTY;
 import static ru.tinkoff.qa.neptune.http.api.properties.mapper.DefaultJsonObjectMapper.DEFAULT_JSON_OBJECT_MAPPER;
 import static ru.tinkoff.qa.neptune.http.api.properties.mapper.DefaultXmlObjectMapper.DEFAULT_XML_OBJECT_MAPPER;
 
 /**
  * Default mappers of serialized/deserialized http request/response bodies.
+ * <p>
+ * A mapper is built once and then it is shared. It is built again when values of properties
+ * that define the mapper are changed. Readers and writers of the mapper are built once too, so
+ * caches of serializers/deserializers of the mapper are reused.
+ * <p>
+ * {@link #getMapper()} returns the shared mapper. It should not be reconfigured. {@link #copyMapper()} returns
+ * a copy of it that may be reconfigured.
  *
  * @see DefaultJsonObjectMapper
  * @see DefaultXmlObjectMapper
@@ -28,9 +51,9 @@ public enum DefaultMapper {
     /**
      * Gets/creates default {@link ObjectMapper} to serialize objects to/deserialize from json-string
      */
-    JSON {
+    JSON(DEFAULT_JSON_OBJECT_MAPPER) {
         @Override
-        public ObjectMapper getMapper() {
+        ObjectMapper createMapper() {
             var m = ofNullable(DEFAULT_JSON_OBJECT_MAPPER.get()).orElseGet(ObjectMapper::new);
             addModuleIfNecessary(m, ParameterNamesModule.class, new ParameterNamesModule());
             addModuleIfNecessary(m, Jdk8Module.class, new Jdk8Module());
@@ -43,9 +66,9 @@ public enum DefaultMapper {
     /**
      * Gets/creates default {@link XmlMapper} to serialize objects to/deserialize from xml-string
      */
-    XML {
+    XML(DEFAULT_XML_OBJECT_MAPPER) {
         @Override
-        public ObjectMapper getMapper() {
+        ObjectMapper createMapper() {
             var m = ofNullable(DEFAULT_XML_OBJECT_MAPPER.get()).orElseGet(XmlMapper::new);
             addModuleIfNecessary(m, JaxbAnnotationModule.class, new JaxbAnnotationModule());
             addModuleIfNecessary(m, JacksonXmlModule.class, new JacksonXmlModule());
@@ -59,6 +82,19 @@ public enum DefaultMapper {
         }
     };
 
+    private final List<PropertySupplier<?, ?>> definedBy;
+    private final LongAdder builds = new LongAdder();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private volatile BuiltMapper built;
+
+    DefaultMapper(PropertySupplier<?, ?> mapperProperty) {
+        definedBy = asList(mapperProperty,
+                API_DATE_FORMAT_PROPERTY,
+                API_DATE_FORMAT_SYMBOLS_PROPERTY,
+                API_TIME_ZONE_PROPERTY);
+    }
+
     private static <T extends Module> void addModuleIfNecessary(ObjectMapper mapper, Class<T> classModule, T toSet) {
         var moduleIds = mapper.getRegisteredModuleIds();
 
@@ -69,5 +105,123 @@ public enum DefaultMapper {
         }
     }
 
-    public abstract ObjectMapper getMapper();
+    abstract ObjectMapper createMapper();
+
+    private BuiltMapper built() {
+        //values of properties are compared only when some property may have been changed
+        var version = propertiesVersion();
+        var current = built;
+        if (current != null && current.version == version) {
+            return current;
+        }
+
+        var configuration = definedBy.stream()
+                .map(p -> returnOptionalFromEnvironment(p).orElse(null))
+                .collect(toList());
+
+        synchronized (this) {
+            current = built;
+            if (current == null || !current.configuration.equals(configuration)) {
+                current = new BuiltMapper(configuration, createMapper());
+                built = current;
+                builds.increment();
+            }
+            current.version = version;
+            return current;
+        }
+    }
+
+    /**
+     * Returns the shared mapper. It should not be reconfigured because it is used by all threads and
+     * its readers and writers are cached. Use {@link #copyMapper()} to get a mapper that may be reconfigured.
+     * It is better to use {@link #readerFor(Class)}, {@link #readerFor(TypeReference)}, {@link #writer()}
+     * and {@link #prettyWriter()} when no special settings are needed.
+     *
+     * @return the shared {@link ObjectMapper}
+     */
+    public ObjectMapper getMapper() {
+        return built().mapper;
+    }
+
+    /**
+     * Returns a copy of the shared mapper. The copy may be reconfigured, it doesn't affect the shared mapper.
+     *
+     * @return a new {@link ObjectMapper} configured as default one
+     */
+    public ObjectMapper copyMapper() {
+        return built().mapper.copy();
+    }
+
+    /**
+     * Returns a reader that deserializes objects of the given class.
+     *
+     * @param type is a class of objects to deserialize
+     * @return a thread-safe {@link ObjectReader} which is built once for the class
+     */
+    public ObjectReader readerFor(Class<?> type) {
+        checkNotNull(type);
+        return reader(type, mapper -> mapper.readerFor(type));
+    }
+
+    /**
+     * Returns a reader that deserializes objects of the given type.
+     *
+     * @param type is a reference to a type of objects to deserialize
+     * @return a thread-safe {@link ObjectReader} which is built once for the type
+     */
+    public ObjectReader readerFor(TypeReference<?> type) {
+        checkNotNull(type);
+        return reader(type.getType(), mapper -> mapper.readerFor(type));
+    }
+
+    private ObjectReader reader(Object key, Function<ObjectMapper, ObjectReader> readerFunction) {
+        var current = built();
+        var reader = current.readers.get(key);
+        if (reader != null) {
+            hits.increment();
+            return reader;
+        }
+
+        misses.increment();
+        return current.readers.computeIfAbsent(key, k -> readerFunction.apply(current.mapper));
+    }
+
+    /**
+     * @return a thread-safe {@link ObjectWriter} of the shared mapper
+     */
+    public ObjectWriter writer() {
+        return built().writer;
+    }
+
+    /**
+     * @return a thread-safe {@link ObjectWriter} of the shared mapper that uses default pretty printer
+     */
+    public ObjectWriter prettyWriter() {
+        return built().prettyWriter;
+    }
+
+    /**
+     * @return snapshot of metrics of the mapper cache
+     */
+    public MapperCacheMetrics getCacheMetrics() {
+        return new MapperCacheMetrics(builds.sum(), hits.sum(), misses.sum());
+    }
+
+    private static final class BuiltMapper {
+
+        private final List<String> configuration;
+        private final ObjectMapper mapper;
+        private final ObjectWriter writer;
+        private final ObjectWriter prettyWriter;
+        private final Map<Object, ObjectReader> readers = new ConcurrentHashMap<>();
+        //the mapper is actual for this state of properties
+        private volatile long version = -1;
+
+        private BuiltMapper(List<String> configuration, ObjectMapper mapper) {
+            this.configuration = configuration;
+            this.mapper = mapper;
+            this.writer = mapper.writer();
+            this.prettyWriter = mapper.writerWithDefaultPrettyPrinter();
+        }
+    }
 }
@@ -3,6 +3,7 @@ package ru.tinkoff.qa.neptune.http.api.mapping;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 
 import java.util.LinkedHashMap;
 import java.util.Map;
@@ -20,6 +21,9 @@ import static ru.tinkoff.qa.neptune.http.api.mapping.DefaultMapper.JSON;
  */
 public abstract class MappedObject {
 
+    private static final ObjectReader MAP_READER = new ObjectMapper()
+            .readerFor(new TypeReference<Map<String, Object>>() {
+            });
 
     @Override
     public boolean equals(Object obj) {
@@ -45,10 +49,8 @@ public abstract class MappedObject {
      */
     public Map<String, Object> toMap() {
         try {
-            var s = JSON.getMapper().writeValueAsString(this);
-            var map = new ObjectMapper()
-                    .readValue(s, new TypeReference<Map<String, Object>>() {
-                    });
+            var s = JSON.writer().writeValueAsString(this);
+            Map<String, Object> map = MAP_READER.readValue(s);
 
             var result = new LinkedHashMap<>(map);
             map.forEach((k, v) -> {
@@ -64,7 +66,7 @@ public abstract class MappedObject {
 
     public String toString() {
         try {
-            return JSON.getMapper().writerWithDefaultPrettyPrinter().writeValueAsString(this);
+            return JSON.prettyWriter().writeValueAsString(this);
         } catch (JsonProcessingException e) {
             throw new RuntimeException(e);
         }
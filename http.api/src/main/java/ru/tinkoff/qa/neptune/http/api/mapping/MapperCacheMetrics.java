@@ -0,0 +1,50 @@
+package ru.tinkoff.qa.neptune.http.api.mapping;
+
+import static java.lang.String.format;
+
+/**
+ * Snapshot of metrics of a cache of a default mapper.
+ *
+ * @see DefaultMapper#getCacheMetrics()
+ */
+public final class MapperCacheMetrics {
+
+    private final long builds;
+    private final long readerHits;
+    private final long readerMisses;
+
+    MapperCacheMetrics(long builds, long readerHits, long readerMisses) {
+        this.builds = builds;
+        this.readerHits = readerHits;
+        this.readerMisses = readerMisses;
+    }
+
+    /**
+     * @return how many times the mapper was built
+     */
+    public long getBuilds() {
+        return builds;
+    }
+
+    /**
+     * @return how many times a built reader was reused
+     */
+    public long getReaderHits() {
+        return readerHits;
+    }
+
+    /**
+     * @return how many times a reader was not found in the cache
+     */
+    public long getReaderMisses() {
+        return readerMisses;
+    }
+
+    @Override
+    public String toString() {
+        return format("builds: %s, reader hits: %s, reader misses: %s",
+                builds,
+                readerHits,
+                readerMisses);
+    }
+}
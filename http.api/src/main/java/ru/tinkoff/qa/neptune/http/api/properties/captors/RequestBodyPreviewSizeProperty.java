@@ -0,0 +1,24 @@
+package ru.tinkoff.qa.neptune.http.api.properties.captors;
+
+import ru.tinkoff.qa.neptune.core.api.properties.PropertyDefaultValue;
+import ru.tinkoff.qa.neptune.core.api.properties.PropertyDescription;
+import ru.tinkoff.qa.neptune.core.api.properties.PropertyName;
+import ru.tinkoff.qa.neptune.core.api.properties.integers.IntValuePropertySupplier;
+
+@PropertyDescription(description = "Max count of bytes of a file or a multipart request body which are attached to a report",
+        section = "Http client. General")
+@PropertyName("HTTP_REQUEST_BODY_PREVIEW_SIZE")
+@PropertyDefaultValue("1048576")
+public final class RequestBodyPreviewSizeProperty implements IntValuePropertySupplier {
+    /**
+     * This instance reads value of the property {@code 'HTTP_REQUEST_BODY_PREVIEW_SIZE'} and converts it to
+     * integer value. This is the max count of bytes of a file or a part of a multipart body which are
+     * attached to a report.
+     */
+    public static final RequestBodyPreviewSizeProperty
+            REQUEST_BODY_PREVIEW_SIZE_PROPERTY = new RequestBodyPreviewSizeProperty();
+
+    private RequestBodyPreviewSizeProperty() {
+        super();
+    }
+}
@@ -0,0 +1,42 @@
+package ru.tinkoff.qa.neptune.http.api.properties.replay;
+
+import org.apache.commons.lang3.StringUtils;
+import ru.tinkoff.qa.neptune.core.api.properties.PropertyDefaultValue;
+import ru.tinkoff.qa.neptune.core.api.properties.PropertyDescription;
+import ru.tinkoff.qa.neptune.core.api.properties.PropertyName;
+import ru.tinkoff.qa.neptune.core.api.properties.PropertySupplier;
+
+import java.util.List;
+
+import static java.util.Arrays.stream;
+import static java.util.stream.Collectors.toUnmodifiableList;
+
+@PropertyDescription(description = {"Comma-separated names of request headers which are compared",
+        "when a recorded response is found for a request"},
+        section = "Http client. Record and replay")
+@PropertyName("HTTP_REPLAY_HEADERS")
+@PropertyDefaultValue("Content-Type,Accept")
+public final class HttpReplayHeadersProperty implements PropertySupplier<List<String>, String> {
+
+    /**
+     * This instance reads value of the property {@code 'HTTP_REPLAY_HEADERS'} and returns a list of header names.
+     */
+    public static final HttpReplayHeadersProperty HTTP_REPLAY_HEADERS_PROPERTY = new HttpReplayHeadersProperty();
+
+    private HttpReplayHeadersProperty() {
+        super();
+    }
+
+    @Override
+    public List<String> parse(String value) {
+        return stream(value.split(","))
+                .map(String::trim)
+                .filter(StringUtils::isNotBlank)
+                .collect(toUnmodifiableList());
+    }
+
+    @Override
+    public boolean isValueCacheable() {
+        return true;
+    }
+}
@@ -0,0 +1,18 @@
+package ru.tinkoff.qa.neptune.http.api.properties.replay;
+
+/**
+ * Defines how a recorded response is found for a request while exchanges are replayed.
+ */
+public enum HttpReplayMatching {
+    /**
+     * Method, normalized URI, selected headers and hash of a body of a request should be equal to
+     * recorded values. A request that has no recorded response fails.
+     */
+    STRICT,
+    /**
+     * Method, normalized URI, selected headers and hash of a body of a request are compared first.
+     * When nothing is found then only method and normalized URI are compared. A request that has no
+     * recorded response is sent as usual.
+     */
+    LENIENT
+}
@@ -0,0 +1,24 @@
+package ru.tinkoff.qa.neptune.http.api.properties.replay;
+
+import ru.tinkoff.qa.neptune.core.api.properties.PropertyDefaultValue;
+import ru.tinkoff.qa.neptune.core.api.properties.PropertyDescription;
+import ru.tinkoff.qa.neptune.core.api.properties.PropertyName;
+import ru.tinkoff.qa.neptune.core.api.properties.enums.EnumPropertySuppler;
+
+@PropertyDescription(description = {"Defines how a recorded response is found for a request while exchanges are replayed.",
+        "Available values: STRICT, LENIENT"},
+        section = "Http client. Record and replay")
+@PropertyName("HTTP_REPLAY_MATCHING")
+@PropertyDefaultValue("STRICT")
+public final class HttpReplayMatchingProperty implements EnumPropertySuppler<HttpReplayMatching> {
+
+    /**
+     * This instance reads value of the property {@code 'HTTP_REPLAY_MATCHING'} and returns a constant of
+     * {@link HttpReplayMatching}. The value should be a name of one of the constant.
+     */
+    public static final HttpReplayMatchingProperty HTTP_REPLAY_MATCHING_PROPERTY = new HttpReplayMatchingProperty();
+
+    private HttpReplayMatchingProperty() {
+        super();
+    }
+}
@@ -0,0 +1,20 @@
+package ru.tinkoff.qa.neptune.http.api.properties.replay;
+
+/**
+ * Defines how http exchanges are recorded and replayed.
+ */
+public enum HttpReplayMode {
+    /**
+     * Requests are sent as usual. Nothing is recorded or replayed.
+     */
+    OFF,
+    /**
+     * Requests are sent as usual. Requests and received responses are recorded to the store.
+     * The store is cleared when it is opened.
+     */
+    RECORD,
+    /**
+     * Responses are taken from the store. Requests are not sent.
+     */
+    REPLAY
+}
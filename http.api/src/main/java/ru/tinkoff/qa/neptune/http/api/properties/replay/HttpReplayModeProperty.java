@@ -0,0 +1,24 @@
+package ru.tinkoff.qa.neptune.http.api.properties.replay;
+
+import ru.tinkoff.qa.neptune.core.api.properties.PropertyDefaultValue;
+import ru.tinkoff.qa.neptune.core.api.properties.PropertyDescription;
+import ru.tinkoff.qa.neptune.core.api.properties.PropertyName;
+import ru.tinkoff.qa.neptune.core.api.properties.enums.EnumPropertySuppler;
+
+@PropertyDescription(description = {"Defines are http exchanges recorded or replayed.",
+        "Available values: OFF, RECORD, REPLAY"},
+        section = "Http client. Record and replay")
+@PropertyName("HTTP_REPLAY_MODE")
+@PropertyDefaultValue("OFF")
+public final class HttpReplayModeProperty implements EnumPropertySuppler<HttpReplayMode> {
+
+    /**
+     * This instance reads value of the property {@code 'HTTP_REPLAY_MODE'} and returns a constant of
+     * {@link HttpReplayMode}. The value should be a name of one of the constant.
+     */
+    public static final HttpReplayModeProperty HTTP_REPLAY_MODE_PROPERTY = new HttpReplayModeProperty();
+
+    private HttpReplayModeProperty() {
+        super();
+    }
+}
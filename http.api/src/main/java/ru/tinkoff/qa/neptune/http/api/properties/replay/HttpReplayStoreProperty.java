@@ -0,0 +1,23 @@
+package ru.tinkoff.qa.neptune.http.api.properties.replay;
+
+import ru.tinkoff.qa.neptune.core.api.properties.PropertyDefaultValue;
+import ru.tinkoff.qa.neptune.core.api.properties.PropertyDescription;
+import ru.tinkoff.qa.neptune.core.api.properties.PropertyName;
+import ru.tinkoff.qa.neptune.core.api.properties.string.StringValuePropertySupplier;
+
+@PropertyDescription(description = "Path to a directory where recorded http exchanges are stored",
+        section = "Http client. Record and replay")
+@PropertyName("HTTP_REPLAY_STORE")
+@PropertyDefaultValue("http-replay")
+public final class HttpReplayStoreProperty implements StringValuePropertySupplier {
+
+    /**
+     * This instance reads value of the property {@code 'HTTP_REPLAY_STORE'}. It is a path to a directory
+     * where recorded http exchanges are stored.
+     */
+    public static final HttpReplayStoreProperty HTTP_REPLAY_STORE_PROPERTY = new HttpReplayStoreProperty();
+
+    private HttpReplayStoreProperty() {
+        super();
+    }
+}
@@ -0,0 +1,111 @@
+package ru.tinkoff.qa.neptune.http.api.replay;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * A request and a response that are kept by a store.
+ */
+final class RecordedExchange {
+
+    final String key;
+    final String looseKey;
+    final URI uri;
+    final int statusCode;
+    final HttpClient.Version version;
+    final Map<String, List<String>> headers;
+    final byte[] body;
+
+    RecordedExchange(String key,
+                     String looseKey,
+                     URI uri,
+                     int statusCode,
+                     HttpClient.Version version,
+                     Map<String, List<String>> headers,
+                     byte[] body) {
+        this.key = key;
+        this.looseKey = looseKey;
+        this.uri = uri;
+        this.statusCode = statusCode;
+        this.version = version;
+        this.headers = headers;
+        this.body = body;
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        var bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, UTF_8);
+    }
+
+    private static void writeString(DataOutputStream out, String s) throws IOException {
+        var bytes = s.getBytes(UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    static RecordedExchange read(ByteBuffer buffer) {
+        var key = readString(buffer);
+        var looseKey = readString(buffer);
+        var uri = URI.create(readString(buffer));
+        var statusCode = buffer.getInt();
+        var version = HttpClient.Version.valueOf(readString(buffer));
+
+        var headerCount = buffer.getInt();
+        var headers = new LinkedHashMap<String, List<String>>();
+        for (int i = 0; i < headerCount; i++) {
+            var name = readString(buffer);
+            var valueCount = buffer.getInt();
+            var values = new ArrayList<String>(valueCount);
+            for (int j = 0; j < valueCount; j++) {
+                values.add(readString(buffer));
+            }
+            headers.put(name, values);
+        }
+
+        var body = new byte[buffer.getInt()];
+        buffer.get(body);
+        return new RecordedExchange(key, looseKey, uri, statusCode, version, headers, body);
+    }
+
+    byte[] toBytes() {
+        var bytes = new ByteArrayOutputStream(body.length + 512);
+        try (var out = new DataOutputStream(bytes)) {
+            writeString(out, key);
+            writeString(out, looseKey);
+            writeString(out, uri.toString());
+            out.writeInt(statusCode);
+            writeString(out, version.name());
+
+            out.writeInt(headers.size());
+            for (var e : headers.entrySet()) {
+                writeString(out, e.getKey());
+                out.writeInt(e.getValue().size());
+                for (var v : e.getValue()) {
+                    writeString(out, v);
+                }
+            }
+
+            out.writeInt(body.length);
+            out.write(body);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    HttpHeaders httpHeaders() {
+        return HttpHeaders.of(headers, (name, value) -> true);
+    }
+}
@@ -0,0 +1,227 @@
+package ru.tinkoff.qa.neptune.http.api.replay;
+
+import java.io.ByteArrayOutputStream;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+
+import static java.lang.Long.MAX_VALUE;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Comparator.comparing;
+import static java.util.Locale.ROOT;
+
+/**
+ * Describes a request to find a recorded response. A full key consists of method, normalized URI, hashes of values
+ * of selected headers and hash of a body. A loose key consists of method and normalized URI only. Values of headers
+ * are not kept as they are, because they may be secret (e.g. {@code Authorization}).
+ */
+final class ReplayKey {
+
+    /**
+     * Hash of a body of a request which has no body
+     */
+    static final String NO_BODY = "-";
+    /**
+     * Hash of a body which was not sent completely
+     */
+    static final String NOT_SENT_BODY = "?";
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    final String key;
+    final String looseKey;
+
+    private ReplayKey(String key, String looseKey) {
+        this.key = key;
+        this.looseKey = looseKey;
+    }
+
+    static ReplayKey keyOf(HttpRequest request, List<String> headers, String bodyHash) {
+        var looseKey = request.method().toUpperCase(ROOT) + " " + normalize(request.uri());
+        var builder = new StringBuilder(looseKey).append('\n');
+
+        headers.stream()
+                .map(h -> h.toLowerCase(ROOT))
+                .distinct()
+                .sorted()
+                .forEach(h -> {
+                    var values = request.headers().allValues(h);
+                    if (!values.isEmpty()) {
+                        builder.append(h).append(':').append(hashOf(String.join(",", values).getBytes(UTF_8))).append('\n');
+                    }
+                });
+
+        builder.append("body:").append(bodyHash);
+        return new ReplayKey(builder.toString(), looseKey);
+    }
+
+    /**
+     * Normalizes an URI: scheme and host are lower-cased, default ports are removed, the path is normalized,
+     * query parameters are sorted by names and a fragment is removed.
+     */
+    static String normalize(URI uri) {
+        var builder = new StringBuilder();
+        var scheme = uri.getScheme() == null ? "" : uri.getScheme().toLowerCase(ROOT);
+        builder.append(scheme).append("://");
+
+        if (uri.getRawUserInfo() != null) {
+            builder.append(uri.getRawUserInfo()).append('@');
+        }
+
+        if (uri.getHost() != null) {
+            builder.append(uri.getHost().toLowerCase(ROOT));
+        }
+
+        var port = uri.getPort();
+        if (port >= 0 && !(port == 80 && "http".equals(scheme)) && !(port == 443 && "https".equals(scheme))) {
+            builder.append(':').append(port);
+        }
+
+        var path = uri.normalize().getRawPath();
+        builder.append(path == null || path.isEmpty() ? "/" : path);
+
+        var query = uri.getRawQuery();
+        if (query != null && !query.isEmpty()) {
+            var parameters = new ArrayList<>(List.of(query.split("&")));
+            //the sorting is stable, so values of the same parameter keep their order
+            parameters.sort(comparing(p -> p.split("=", 2)[0]));
+            builder.append('?').append(String.join("&", parameters));
+        }
+        return builder.toString();
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static String hex(byte[] bytes) {
+        var chars = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            chars[i * 2] = HEX[(bytes[i] >> 4) & 0xF];
+            chars[i * 2 + 1] = HEX[bytes[i] & 0xF];
+        }
+        return new String(chars);
+    }
+
+    /**
+     * @param bytes to calculate hash of
+     * @return hex string of SHA-256 of bytes
+     */
+    static String hashOf(byte[] bytes) {
+        return hex(sha256().digest(bytes));
+    }
+
+    /**
+     * Reads a body of a request once. It is used when a request is not sent, so the body publisher is subscribed
+     * to only once.
+     *
+     * @param request is a request to read a body of
+     * @return bytes of a body or {@code null} when a request has no body
+     */
+    static byte[] readBody(HttpRequest request) {
+        var publisher = request.bodyPublisher().orElse(null);
+        if (publisher == null || publisher.contentLength() == 0) {
+            return null;
+        }
+
+        var body = new ByteArrayOutputStream();
+        var read = new CompletableFuture<byte[]>();
+        publisher.subscribe(new Flow.Subscriber<>() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscription.request(MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(ByteBuffer item) {
+                var bytes = new byte[item.remaining()];
+                item.get(bytes);
+                body.writeBytes(bytes);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                read.completeExceptionally(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                read.complete(body.toByteArray());
+            }
+        });
+        return read.join();
+    }
+
+    /**
+     * @param key is a full or a loose key
+     * @return 64 bits of SHA-256 of a key. It is used by the index of a store
+     */
+    static long hash(String key) {
+        var bytes = sha256().digest(key.getBytes(UTF_8));
+        return ByteBuffer.wrap(bytes).getLong();
+    }
+
+    /**
+     * Passes a body of a request to be sent and calculates hash of bytes which are really sent.
+     */
+    static final class DigestingPublisher implements HttpRequest.BodyPublisher {
+
+        private final HttpRequest.BodyPublisher publisher;
+        private final CompletableFuture<String> hash = new CompletableFuture<>();
+
+        DigestingPublisher(HttpRequest.BodyPublisher publisher) {
+            this.publisher = publisher;
+        }
+
+        @Override
+        public long contentLength() {
+            return publisher.contentLength();
+        }
+
+        @Override
+        public void subscribe(Flow.Subscriber<? super ByteBuffer> subscriber) {
+            //a body may be sent more than once, e.g. by redirects. Each sending is digested separately
+            var digest = sha256();
+            publisher.subscribe(new Flow.Subscriber<ByteBuffer>() {
+                @Override
+                public void onSubscribe(Flow.Subscription subscription) {
+                    subscriber.onSubscribe(subscription);
+                }
+
+                @Override
+                public void onNext(ByteBuffer item) {
+                    digest.update(item.duplicate());
+                    subscriber.onNext(item);
+                }
+
+                @Override
+                public void onError(Throwable throwable) {
+                    subscriber.onError(throwable);
+                }
+
+                @Override
+                public void onComplete() {
+                    hash.complete(hex(digest.digest()));
+                    subscriber.onComplete();
+                }
+            });
+        }
+
+        /**
+         * @return hash of a sent body or {@link #NOT_SENT_BODY} when the body was not sent completely
+         */
+        String hash() {
+            return hash.getNow(NOT_SENT_BODY);
+        }
+    }
+}
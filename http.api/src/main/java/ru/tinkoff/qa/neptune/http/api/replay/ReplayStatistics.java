@@ -0,0 +1,93 @@
+package ru.tinkoff.qa.neptune.http.api.replay;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts of recorded, replayed and not found responses of a store.
+ */
+public final class ReplayStatistics {
+
+    private static final int MAX_KEPT_MISSES = 100;
+    private static final String LINE_SEPARATOR = "\r\n";
+
+    private final AtomicLong recorded = new AtomicLong();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong looseHits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final List<String> missed = new ArrayList<>();
+
+    void recorded() {
+        recorded.incrementAndGet();
+    }
+
+    void hit(boolean loose) {
+        hits.incrementAndGet();
+        if (loose) {
+            looseHits.incrementAndGet();
+        }
+    }
+
+    void missed(String key) {
+        misses.incrementAndGet();
+        synchronized (missed) {
+            if (missed.size() < MAX_KEPT_MISSES) {
+                missed.add(key);
+            }
+        }
+    }
+
+    /**
+     * @return count of recorded responses
+     */
+    public long getRecorded() {
+        return recorded.get();
+    }
+
+    /**
+     * @return count of replayed responses
+     */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * @return count of replayed responses which were found by method and URI only
+     */
+    public long getLooseHits() {
+        return looseHits.get();
+    }
+
+    /**
+     * @return count of requests which have no recorded responses
+     */
+    public long getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * @return keys of first requests which have no recorded responses
+     */
+    public List<String> getMissed() {
+        synchronized (missed) {
+            return new ArrayList<>(missed);
+        }
+    }
+
+    @Override
+    public String toString() {
+        var builder = new StringBuilder()
+                .append("Recorded: ").append(getRecorded()).append(LINE_SEPARATOR)
+                .append("Replayed: ").append(getHits())
+                .append(" (found by method and URI only: ").append(getLooseHits()).append(')').append(LINE_SEPARATOR)
+                .append("Not found: ").append(getMisses()).append(LINE_SEPARATOR);
+
+        var missed = getMissed();
+        if (!missed.isEmpty()) {
+            builder.append("Requests that have no recorded responses:").append(LINE_SEPARATOR);
+            missed.forEach(m -> builder.append(m.replace("\n", "; ")).append(LINE_SEPARATOR));
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,76 @@
+package ru.tinkoff.qa.neptune.http.api.replay;
+
+import javax.net.ssl.SSLSession;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Optional;
+
+import static java.lang.String.format;
+
+/**
+ * A response that is taken from a store instead of a network.
+ *
+ * @param <T> is a type of a response body
+ */
+final class ReplayedResponse<T> implements HttpResponse<T> {
+
+    private final HttpRequest request;
+    private final RecordedExchange exchange;
+    private final HttpHeaders headers;
+    private final T body;
+
+    ReplayedResponse(HttpRequest request, RecordedExchange exchange, HttpHeaders headers, T body) {
+        this.request = request;
+        this.exchange = exchange;
+        this.headers = headers;
+        this.body = body;
+    }
+
+    @Override
+    public int statusCode() {
+        return exchange.statusCode;
+    }
+
+    @Override
+    public HttpRequest request() {
+        return request;
+    }
+
+    @Override
+    public Optional<HttpResponse<T>> previousResponse() {
+        return Optional.empty();
+    }
+
+    @Override
+    public HttpHeaders headers() {
+        return headers;
+    }
+
+    @Override
+    public T body() {
+        return body;
+    }
+
+    @Override
+    public Optional<SSLSession> sslSession() {
+        return Optional.empty();
+    }
+
+    @Override
+    public URI uri() {
+        return exchange.uri;
+    }
+
+    @Override
+    public HttpClient.Version version() {
+        return exchange.version;
+    }
+
+    @Override
+    public String toString() {
+        return format("(%s %s) %s (replayed)", request.method(), exchange.uri, exchange.statusCode);
+    }
+}
@@ -0,0 +1,448 @@
+package ru.tinkoff.qa.neptune.http.api.replay;
+
+import ru.tinkoff.qa.neptune.http.api.properties.replay.HttpReplayMatching;
+import ru.tinkoff.qa.neptune.http.api.properties.replay.HttpReplayMode;
+
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLParameters;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.Authenticator;
+import java.net.CookieHandler;
+import java.net.ProxySelector;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.WebSocket;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.lang.String.format;
+import static java.net.http.HttpRequest.BodyPublishers.ofByteArray;
+import static java.nio.file.Path.of;
+import static java.util.concurrent.CompletableFuture.failedFuture;
+import static ru.tinkoff.qa.neptune.http.api.properties.replay.HttpReplayHeadersProperty.HTTP_REPLAY_HEADERS_PROPERTY;
+import static ru.tinkoff.qa.neptune.http.api.properties.replay.HttpReplayMatching.LENIENT;
+import static ru.tinkoff.qa.neptune.http.api.properties.replay.HttpReplayMatchingProperty.HTTP_REPLAY_MATCHING_PROPERTY;
+import static ru.tinkoff.qa.neptune.http.api.properties.replay.HttpReplayMode.OFF;
+import static ru.tinkoff.qa.neptune.http.api.properties.replay.HttpReplayMode.RECORD;
+import static ru.tinkoff.qa.neptune.http.api.properties.replay.HttpReplayModeProperty.HTTP_REPLAY_MODE_PROPERTY;
+import static ru.tinkoff.qa.neptune.http.api.properties.replay.HttpReplayStoreProperty.HTTP_REPLAY_STORE_PROPERTY;
+import static ru.tinkoff.qa.neptune.http.api.replay.ReplayKey.NO_BODY;
+
+/**
+ * An http client that records exchanges of another client to a store or replays responses from the store
+ * instead of sending of requests. Each client keeps its own counters of replayed responses, so requests
+ * of different contexts replay recorded sequences independently.
+ *
+ * @see HttpReplayMode
+ * @see HttpReplayMatching
+ */
+public final class ReplayingHttpClient extends HttpClient {
+
+    private final HttpClient delegate;
+    private final HttpReplayMode mode;
+    private final HttpReplayMatching matching;
+    private final List<String> headers;
+    private final ResponseStore store;
+    private final Map<String, AtomicInteger> replayCounters = new ConcurrentHashMap<>();
+
+    private ReplayingHttpClient(HttpClient delegate,
+                                HttpReplayMode mode,
+                                HttpReplayMatching matching,
+                                Path store,
+                                List<String> headers) {
+        this.delegate = delegate;
+        this.mode = mode;
+        this.matching = matching;
+        this.headers = headers;
+        this.store = ResponseStore.storeOf(store, mode);
+    }
+
+    /**
+     * Creates a client that records or replays exchanges of another client.
+     *
+     * @param delegate is a client that sends requests
+     * @param mode     defines are exchanges recorded or replayed
+     * @param matching defines how a recorded response is found for a request
+     * @param store    is a directory where exchanges are stored
+     * @param headers  are names of request headers which are compared to find a recorded response
+     * @return the {@code delegate} when {@code mode} is {@link HttpReplayMode#OFF}. A new {@link ReplayingHttpClient}
+     * is returned otherwise.
+     */
+    public static HttpClient replaying(HttpClient delegate,
+                                       HttpReplayMode mode,
+                                       HttpReplayMatching matching,
+                                       Path store,
+                                       List<String> headers) {
+        checkNotNull(delegate, "Http client should be defined");
+        checkNotNull(mode, "Replay mode should be defined");
+        if (mode == OFF) {
+            return delegate;
+        }
+
+        checkNotNull(matching, "Replay matching should be defined");
+        checkNotNull(store, "Path to a store should be defined");
+        checkNotNull(headers, "Header names should be defined");
+        return new ReplayingHttpClient(delegate, mode, matching, store, List.copyOf(headers));
+    }
+
+    /**
+     * Creates a client that records or replays exchanges of another client. Mode, matching, store and headers
+     * are defined by properties.
+     *
+     * @param delegate is a client that sends requests
+     * @return the {@code delegate} when the property {@code HTTP_REPLAY_MODE} is not defined or its value is
+     * {@code OFF}. A new {@link ReplayingHttpClient} is returned otherwise.
+     * @see ru.tinkoff.qa.neptune.http.api.properties.replay.HttpReplayModeProperty
+     * @see ru.tinkoff.qa.neptune.http.api.properties.replay.HttpReplayMatchingProperty
+     * @see ru.tinkoff.qa.neptune.http.api.properties.replay.HttpReplayStoreProperty
+     * @see ru.tinkoff.qa.neptune.http.api.properties.replay.HttpReplayHeadersProperty
+     */
+    public static HttpClient replaying(HttpClient delegate) {
+        var mode = HTTP_REPLAY_MODE_PROPERTY.get();
+        if (mode == null || mode == OFF) {
+            return delegate;
+        }
+
+        return replaying(delegate,
+                mode,
+                HTTP_REPLAY_MATCHING_PROPERTY.get(),
+                of(HTTP_REPLAY_STORE_PROPERTY.get()),
+                HTTP_REPLAY_HEADERS_PROPERTY.get());
+    }
+
+    /**
+     * Returns a client which sends requests without recording and replaying. It is used
+     * when a lot of the same requests are sent, e.g. to load a service.
+     *
+     * @param client is a client which may record or replay exchanges
+     * @return the client that is wrapped by a {@link ReplayingHttpClient} or the given client
+     */
+    public static HttpClient notReplaying(HttpClient client) {
+        return client instanceof ReplayingHttpClient ? ((ReplayingHttpClient) client).delegate : client;
+    }
+
+    /**
+     * @return counts of recorded, replayed and not found responses
+     */
+    public ReplayStatistics getStatistics() {
+        return store.getStatistics();
+    }
+
+    @Override
+    public Optional<CookieHandler> cookieHandler() {
+        return delegate.cookieHandler();
+    }
+
+    @Override
+    public Optional<Duration> connectTimeout() {
+        return delegate.connectTimeout();
+    }
+
+    @Override
+    public Redirect followRedirects() {
+        return delegate.followRedirects();
+    }
+
+    @Override
+    public Optional<ProxySelector> proxy() {
+        return delegate.proxy();
+    }
+
+    @Override
+    public SSLContext sslContext() {
+        return delegate.sslContext();
+    }
+
+    @Override
+    public SSLParameters sslParameters() {
+        return delegate.sslParameters();
+    }
+
+    @Override
+    public Optional<Authenticator> authenticator() {
+        return delegate.authenticator();
+    }
+
+    @Override
+    public Version version() {
+        return delegate.version();
+    }
+
+    @Override
+    public Optional<Executor> executor() {
+        return delegate.executor();
+    }
+
+    @Override
+    public WebSocket.Builder newWebSocketBuilder() {
+        return delegate.newWebSocketBuilder();
+    }
+
+    @Override
+    public <T> HttpResponse<T> send(HttpRequest request, HttpResponse.BodyHandler<T> responseBodyHandler)
+            throws IOException, InterruptedException {
+        if (mode == RECORD) {
+            var publisher = digesting(request);
+            var body = new ByteArrayOutputStream();
+            return record(request,
+                    publisher,
+                    delegate.send(withBody(request, publisher), recording(body, responseBodyHandler)),
+                    body);
+        }
+
+        try {
+            return sendAsync(request, responseBodyHandler).get();
+        } catch (ExecutionException e) {
+            var cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    @Override
+    public <T> CompletableFuture<HttpResponse<T>> sendAsync(HttpRequest request,
+                                                            HttpResponse.BodyHandler<T> responseBodyHandler) {
+        return sendAsync(request, responseBodyHandler, null);
+    }
+
+    @Override
+    public <T> CompletableFuture<HttpResponse<T>> sendAsync(HttpRequest request,
+                                                            HttpResponse.BodyHandler<T> responseBodyHandler,
+                                                            HttpResponse.PushPromiseHandler<T> pushPromiseHandler) {
+        if (mode == RECORD) {
+            var publisher = digesting(request);
+            var body = new ByteArrayOutputStream();
+            return delegate.sendAsync(withBody(request, publisher), recording(body, responseBodyHandler), pushPromiseHandler)
+                    .thenApply(r -> record(request, publisher, r, body));
+        }
+
+        //the body is read once. The same bytes are sent when there is no recorded response
+        var body = ReplayKey.readBody(request);
+        var key = ReplayKey.keyOf(request, headers, body == null ? NO_BODY : ReplayKey.hashOf(body));
+        var statistics = store.getStatistics();
+        var recorded = store.find(key, replayCounters);
+        var loose = false;
+        if (recorded == null && matching == LENIENT) {
+            recorded = store.findLoose(key, replayCounters);
+            loose = recorded != null;
+        }
+
+        if (recorded == null) {
+            statistics.missed(key.key);
+            if (matching == LENIENT) {
+                return delegate.sendAsync(body == null ? request : withBody(request, ofByteArray(body)),
+                        responseBodyHandler,
+                        pushPromiseHandler);
+            }
+            return failedFuture(new ResponseIsNotRecordedException(format("There is no recorded response for the request %s",
+                    key.key.replace("\n", "; "))));
+        }
+
+        statistics.hit(loose);
+        return replay(request, recorded, responseBodyHandler);
+    }
+
+    private <T> CompletableFuture<HttpResponse<T>> replay(HttpRequest request,
+                                                          RecordedExchange recorded,
+                                                          HttpResponse.BodyHandler<T> responseBodyHandler) {
+        var headers = recorded.httpHeaders();
+        try {
+            var cookieHandler = delegate.cookieHandler();
+            if (cookieHandler.isPresent()) {
+                cookieHandler.get().put(recorded.uri, headers.map());
+            }
+        } catch (IOException e) {
+            return failedFuture(e);
+        }
+
+        var info = new HttpResponse.ResponseInfo() {
+            @Override
+            public int statusCode() {
+                return recorded.statusCode;
+            }
+
+            @Override
+            public HttpHeaders headers() {
+                return headers;
+            }
+
+            @Override
+            public Version version() {
+                return recorded.version;
+            }
+        };
+
+        var subscriber = responseBodyHandler.apply(info);
+        subscriber.onSubscribe(new RecordedBodySubscription(subscriber, recorded.body));
+        return subscriber.getBody()
+                .<HttpResponse<T>>thenApply(body -> new ReplayedResponse<>(request, recorded, headers, body))
+                .toCompletableFuture();
+    }
+
+    private <T> HttpResponse.BodyHandler<T> recording(ByteArrayOutputStream body,
+                                                      HttpResponse.BodyHandler<T> responseBodyHandler) {
+        return responseInfo -> new RecordingSubscriber<>(responseBodyHandler.apply(responseInfo), body);
+    }
+
+    private static ReplayKey.DigestingPublisher digesting(HttpRequest request) {
+        return request.bodyPublisher()
+                .filter(p -> p.contentLength() != 0)
+                .map(ReplayKey.DigestingPublisher::new)
+                .orElse(null);
+    }
+
+    /**
+     * Creates a copy of a request with another body.
+     */
+    private static HttpRequest withBody(HttpRequest request, HttpRequest.BodyPublisher publisher) {
+        if (publisher == null) {
+            return request;
+        }
+
+        var builder = HttpRequest.newBuilder(request.uri())
+                .method(request.method(), publisher)
+                .expectContinue(request.expectContinue());
+        request.timeout().ifPresent(builder::timeout);
+        request.version().ifPresent(builder::version);
+        request.headers().map().forEach((name, values) -> values.forEach(value -> builder.header(name, value)));
+        return builder.build();
+    }
+
+    private <T> HttpResponse<T> record(HttpRequest request,
+                                       ReplayKey.DigestingPublisher publisher,
+                                       HttpResponse<T> response,
+                                       ByteArrayOutputStream body) {
+        var key = ReplayKey.keyOf(request, headers, publisher == null ? NO_BODY : publisher.hash());
+        store.append(new RecordedExchange(key.key,
+                key.looseKey,
+                response.uri(),
+                response.statusCode(),
+                response.version(),
+                response.headers().map(),
+                body.toByteArray()));
+        return response;
+    }
+
+    /**
+     * Publishes a recorded body as one buffer.
+     */
+    private static final class RecordedBodySubscription implements Flow.Subscription {
+
+        private final HttpResponse.BodySubscriber<?> subscriber;
+        private final byte[] body;
+        private long demand;
+        private boolean emitting;
+        private boolean published;
+        private boolean done;
+
+        private RecordedBodySubscription(HttpResponse.BodySubscriber<?> subscriber, byte[] body) {
+            this.subscriber = subscriber;
+            this.body = body;
+            this.published = body.length == 0;
+        }
+
+        @Override
+        public synchronized void request(long n) {
+            if (done) {
+                return;
+            }
+
+            if (n <= 0) {
+                done = true;
+                subscriber.onError(new IllegalArgumentException("Requested count of items should be positive"));
+                return;
+            }
+
+            demand += n;
+            //a subscriber may request items while it receives an item
+            if (emitting) {
+                return;
+            }
+
+            emitting = true;
+            try {
+                if (!published && demand > 0) {
+                    published = true;
+                    demand--;
+                    subscriber.onNext(List.of(ByteBuffer.wrap(body)));
+                }
+
+                if (published && !done) {
+                    done = true;
+                    subscriber.onComplete();
+                }
+            } finally {
+                emitting = false;
+            }
+        }
+
+        @Override
+        public synchronized void cancel() {
+            done = true;
+        }
+    }
+
+    /**
+     * Copies received buffers of a body and passes them to a subscriber.
+     */
+    private static final class RecordingSubscriber<T> implements HttpResponse.BodySubscriber<T> {
+
+        private final HttpResponse.BodySubscriber<T> subscriber;
+        private final ByteArrayOutputStream body;
+
+        private RecordingSubscriber(HttpResponse.BodySubscriber<T> subscriber, ByteArrayOutputStream body) {
+            this.subscriber = subscriber;
+            this.body = body;
+        }
+
+        @Override
+        public CompletionStage<T> getBody() {
+            return subscriber.getBody();
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            subscriber.onSubscribe(subscription);
+        }
+
+        @Override
+        public void onNext(List<ByteBuffer> item) {
+            for (var buffer : item) {
+                var bytes = new byte[buffer.remaining()];
+                buffer.duplicate().get(bytes);
+                body.writeBytes(bytes);
+            }
+            subscriber.onNext(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            subscriber.onError(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            subscriber.onComplete();
+        }
+    }
+}
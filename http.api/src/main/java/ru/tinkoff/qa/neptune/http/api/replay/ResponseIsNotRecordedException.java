@@ -0,0 +1,15 @@
+package ru.tinkoff.qa.neptune.http.api.replay;
+
+import java.io.IOException;
+
+/**
+ * It is thrown when http exchanges are replayed strictly and there is no recorded response for a request.
+ */
+public class ResponseIsNotRecordedException extends IOException {
+
+    private static final long serialVersionUID = -1290394725263482367L;
+
+    public ResponseIsNotRecordedException(String message) {
+        super(message);
+    }
+}
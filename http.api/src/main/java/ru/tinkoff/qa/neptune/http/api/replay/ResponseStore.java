@@ -0,0 +1,301 @@
+package ru.tinkoff.qa.neptune.http.api.replay;
+
+import ru.tinkoff.qa.neptune.http.api.properties.replay.HttpReplayMode;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.lang.Math.min;
+import static java.lang.Runtime.getRuntime;
+import static java.lang.String.format;
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.*;
+import static java.util.Comparator.comparingLong;
+import static ru.tinkoff.qa.neptune.http.api.properties.replay.HttpReplayMode.RECORD;
+
+/**
+ * Keeps recorded exchanges on disk. The store consists of two files:
+ * <ul>
+ *     <li>{@code responses.dat} keeps records one by one. Records are appended while exchanges are recorded</li>
+ *     <li>{@code responses.idx} keeps entries of fixed size: hash of a full key, hash of a loose key, offset and
+ *     length of a record. Entries are sorted by hash of a full key once when the store is opened to replay
+ *     exchanges. Then the index is mapped to memory and records are found by binary search. Entries are also
+ *     grouped by hash of a loose key in memory</li>
+ * </ul>
+ * Requests that have the same key are replayed in the same order as they were recorded. When all of them
+ * are replayed then the last one is replayed again. Counters of replayed records are kept by a caller,
+ * so different clients replay the same sequence independently.
+ */
+final class ResponseStore {
+
+    static final String DATA_FILE = "responses.dat";
+    static final String INDEX_FILE = "responses.idx";
+    static final String REPORT_FILE = "replay-report.txt";
+
+    private static final int MAGIC = 0x4E485253;
+    private static final int FORMAT_VERSION = 2;
+    private static final int ENTRY_SIZE = 28;
+
+    private static final Map<String, ResponseStore> STORES = new ConcurrentHashMap<>();
+
+    private final Path directory;
+    private final ReplayStatistics statistics = new ReplayStatistics();
+    private final FileChannel data;
+    private final FileChannel index;
+    private final ByteBuffer mappedIndex;
+    private final int entryCount;
+    private final Map<Long, int[]> looseEntries;
+
+    private ResponseStore(Path directory, HttpReplayMode mode) throws IOException {
+        this.directory = directory;
+        var dataFile = directory.resolve(DATA_FILE);
+        var indexFile = directory.resolve(INDEX_FILE);
+
+        if (mode == RECORD) {
+            Files.createDirectories(directory);
+            data = FileChannel.open(dataFile, CREATE, WRITE, TRUNCATE_EXISTING);
+            index = FileChannel.open(indexFile, CREATE, WRITE, TRUNCATE_EXISTING);
+            writeFully(data, ByteBuffer.allocate(8).putInt(MAGIC).putInt(FORMAT_VERSION).flip());
+            mappedIndex = null;
+            entryCount = 0;
+            looseEntries = Map.of();
+        } else if (Files.exists(dataFile) && Files.exists(indexFile)) {
+            data = FileChannel.open(dataFile, READ);
+            var header = ByteBuffer.allocate(8);
+            data.read(header, 0);
+            header.flip();
+            if (header.remaining() < 8 || header.getInt() != MAGIC || header.getInt() != FORMAT_VERSION) {
+                throw new IOException(format("%s is not a store of recorded http exchanges", dataFile));
+            }
+
+            sortIndex(indexFile);
+            index = null;
+            try (var channel = FileChannel.open(indexFile, READ)) {
+                MappedByteBuffer mapped = channel.map(READ_ONLY, 0, channel.size());
+                mappedIndex = mapped;
+                entryCount = (int) (channel.size() / ENTRY_SIZE);
+            }
+            looseEntries = looseEntries(mappedIndex, entryCount);
+        } else {
+            data = null;
+            index = null;
+            mappedIndex = null;
+            entryCount = 0;
+            looseEntries = Map.of();
+        }
+
+        getRuntime().addShutdownHook(new Thread(this::close));
+    }
+
+    static ResponseStore storeOf(Path directory, HttpReplayMode mode) {
+        var path = directory.toAbsolutePath().normalize();
+        return STORES.computeIfAbsent(mode + ":" + path, k -> {
+            try {
+                return new ResponseStore(path, mode);
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        });
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    /**
+     * Entries are appended to the index while exchanges are recorded. They are sorted by hash of a full key
+     * and then by offset, so records with the same key keep the order of recording.
+     */
+    private static void sortIndex(Path indexFile) throws IOException {
+        var bytes = Files.readAllBytes(indexFile);
+        var count = bytes.length / ENTRY_SIZE;
+        var buffer = ByteBuffer.wrap(bytes);
+
+        var sorted = true;
+        for (int i = 1; i < count && sorted; i++) {
+            sorted = compare(buffer, i - 1, i) <= 0;
+        }
+        if (sorted) {
+            return;
+        }
+
+        var order = new Integer[count];
+        for (int i = 0; i < count; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> compare(buffer, a, b));
+
+        var result = ByteBuffer.allocate(count * ENTRY_SIZE);
+        for (var i : order) {
+            result.put(bytes, i * ENTRY_SIZE, ENTRY_SIZE);
+        }
+
+        var tmp = Files.createTempFile(indexFile.getParent(), INDEX_FILE, ".tmp");
+        Files.write(tmp, result.array());
+        Files.move(tmp, indexFile, REPLACE_EXISTING, ATOMIC_MOVE);
+    }
+
+    /**
+     * Groups entries by hash of a loose key. Entries of a group are sorted by offset, so records
+     * are replayed in the order of recording.
+     */
+    private static Map<Long, int[]> looseEntries(ByteBuffer index, int entryCount) {
+        var groups = new HashMap<Long, List<Integer>>();
+        for (int i = 0; i < entryCount; i++) {
+            groups.computeIfAbsent(index.getLong(i * ENTRY_SIZE + 8), h -> new ArrayList<>()).add(i);
+        }
+
+        var result = new HashMap<Long, int[]>(groups.size());
+        groups.forEach((hash, entries) -> {
+            entries.sort(comparingLong(i -> index.getLong(i * ENTRY_SIZE + 16)));
+            result.put(hash, entries.stream().mapToInt(Integer::intValue).toArray());
+        });
+        return result;
+    }
+
+    private static int compare(ByteBuffer index, int a, int b) {
+        var byHash = Long.compare(index.getLong(a * ENTRY_SIZE), index.getLong(b * ENTRY_SIZE));
+        if (byHash != 0) {
+            return byHash;
+        }
+        return Long.compare(index.getLong(a * ENTRY_SIZE + 16), index.getLong(b * ENTRY_SIZE + 16));
+    }
+
+    ReplayStatistics getStatistics() {
+        return statistics;
+    }
+
+    synchronized void append(RecordedExchange exchange) {
+        var record = exchange.toBytes();
+        try {
+            var offset = data.size();
+            writeFully(data, ByteBuffer.wrap(record));
+            writeFully(index, ByteBuffer.allocate(ENTRY_SIZE)
+                    .putLong(ReplayKey.hash(exchange.key))
+                    .putLong(ReplayKey.hash(exchange.looseKey))
+                    .putLong(offset)
+                    .putInt(record.length)
+                    .flip());
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        statistics.recorded();
+    }
+
+    private RecordedExchange read(int entry) {
+        var offset = mappedIndex.getLong(entry * ENTRY_SIZE + 16);
+        var length = mappedIndex.getInt(entry * ENTRY_SIZE + 24);
+        var buffer = ByteBuffer.allocate(length);
+        try {
+            while (buffer.hasRemaining()) {
+                if (data.read(buffer, offset + buffer.position()) < 0) {
+                    throw new IOException("Unexpected end of " + directory.resolve(DATA_FILE));
+                }
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        return RecordedExchange.read(buffer.flip());
+    }
+
+    private int firstEntryOf(long hash) {
+        int low = 0;
+        int high = entryCount;
+        while (low < high) {
+            var middle = (low + high) >>> 1;
+            if (mappedIndex.getLong(middle * ENTRY_SIZE) < hash) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private static RecordedExchange next(Map<String, AtomicInteger> counters,
+                                         String counterKey,
+                                         List<RecordedExchange> found) {
+        if (found.isEmpty()) {
+            return null;
+        }
+        var counter = counters.computeIfAbsent(counterKey, k -> new AtomicInteger());
+        return found.get(min(counter.getAndIncrement(), found.size() - 1));
+    }
+
+    /**
+     * Finds a recorded response by a full key.
+     *
+     * @param key      is a key of a request
+     * @param counters are counters of replayed records
+     * @return found exchange or {@code null}
+     */
+    RecordedExchange find(ReplayKey key, Map<String, AtomicInteger> counters) {
+        if (entryCount == 0) {
+            return null;
+        }
+
+        var hash = ReplayKey.hash(key.key);
+        var found = new ArrayList<RecordedExchange>();
+        for (int i = firstEntryOf(hash); i < entryCount && mappedIndex.getLong(i * ENTRY_SIZE) == hash; i++) {
+            var exchange = read(i);
+            if (exchange.key.equals(key.key)) {
+                found.add(exchange);
+            }
+        }
+        return next(counters, key.key, found);
+    }
+
+    /**
+     * Finds a recorded response by a loose key.
+     *
+     * @param key      is a key of a request
+     * @param counters are counters of replayed records
+     * @return found exchange or {@code null}
+     */
+    RecordedExchange findLoose(ReplayKey key, Map<String, AtomicInteger> counters) {
+        var entries = looseEntries.get(ReplayKey.hash(key.looseKey));
+        if (entries == null) {
+            return null;
+        }
+
+        var found = new ArrayList<RecordedExchange>();
+        for (var i : entries) {
+            var exchange = read(i);
+            if (exchange.looseKey.equals(key.looseKey)) {
+                found.add(exchange);
+            }
+        }
+        return next(counters, "loose:" + key.looseKey, found);
+    }
+
+    private void close() {
+        try {
+            if (data != null) {
+                data.close();
+            }
+            if (index != null) {
+                index.close();
+            }
+            if (Files.isDirectory(directory)) {
+                Files.write(directory.resolve(REPORT_FILE), statistics.toString().getBytes(UTF_8));
+            }
+        } catch (IOException ignored) {
+        }
+    }
+}
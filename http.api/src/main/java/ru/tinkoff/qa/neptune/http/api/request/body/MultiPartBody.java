@@ -2,11 +2,15 @@ package ru.tinkoff.qa.neptune.http.api.request.body;
 
 import ru.tinkoff.qa.neptune.http.api.request.body.multipart.BodyPart;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
 import java.net.http.HttpRequest;
-import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.NoSuchElementException;
 
 import static com.google.common.base.Preconditions.checkArgument;
-import static java.net.http.HttpRequest.BodyPublishers.ofByteArrays;
+import static java.net.http.HttpRequest.BodyPublishers.ofInputStream;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Arrays.stream;
 import static java.util.Optional.ofNullable;
@@ -26,14 +30,51 @@ public final class MultiPartBody extends RequestBody<BodyPart[]> {
         this.boundary = boundary;
     }
 
+    /**
+     * Creates a publisher that reads parts one by one while a request is sent. Content of files and
+     * supplied content of parts is not loaded into memory. The request is sent with {@code Content-Length}
+     * when lengths of all parts are known, otherwise chunked transfer encoding is used.
+     *
+     * @return a publisher of a multipart body
+     */
     @Override
     public HttpRequest.BodyPublisher createPublisher() {
-        var byteArrays = new ArrayList<byte[]>();
-        stream(body()).forEach(bodyPart -> {
-            byteArrays.addAll(bodyPart.content("--" + boundary));
+        var end = ("--" + boundary + "--").getBytes(UTF_8);
+        long length = end.length;
+        for (var bodyPart : body()) {
+            var partLength = bodyPart.length("--" + boundary);
+            if (partLength < 0) {
+                return ofInputStream(this::openStream);
+            }
+            length = length + partLength;
+        }
+
+        return new StreamedBodyPublisher(this::openStream, length);
+    }
+
+    private InputStream openStream() {
+        var parts = body();
+        return new SequenceInputStream(new Enumeration<>() {
+            private int index;
+
+            @Override
+            public boolean hasMoreElements() {
+                return index <= parts.length;
+            }
+
+            @Override
+            public InputStream nextElement() {
+                if (index > parts.length) {
+                    throw new NoSuchElementException();
+                }
+
+                var i = index++;
+                if (i < parts.length) {
+                    return parts[i].openStream("--" + boundary);
+                }
+                return new ByteArrayInputStream(("--" + boundary + "--").getBytes(UTF_8));
+            }
         });
-        byteArrays.add(("--" + boundary + "--").getBytes(UTF_8));
-        return ofByteArrays(byteArrays);
     }
 
     @Override
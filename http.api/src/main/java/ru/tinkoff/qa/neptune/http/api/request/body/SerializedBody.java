@@ -1,6 +1,7 @@
 package ru.tinkoff.qa.neptune.http.api.request.body;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 
 import java.net.http.HttpRequest;
 
@@ -17,20 +18,16 @@ public final class SerializedBody extends RequestBody<String> {
     }
 
     SerializedBody(ObjectMapper mapper, Object body) {
-        this(serialize(mapper, body), serializePretty(mapper, body));
+        this(mapper.writer(), mapper.writerWithDefaultPrettyPrinter(), body);
     }
 
-    private static String serialize(ObjectMapper mapper, Object body) {
-        try {
-            return mapper.writeValueAsString(body);
-        } catch (Exception e) {
-            throw new RuntimeException(e);
-        }
+    SerializedBody(ObjectWriter writer, ObjectWriter prettyWriter, Object body) {
+        this(serialize(writer, body), serialize(prettyWriter, body));
     }
 
-    private static String serializePretty(ObjectMapper mapper, Object body) {
+    private static String serialize(ObjectWriter writer, Object body) {
         try {
-            return mapper.writerWithDefaultPrettyPrinter().writeValueAsString(body);
+            return writer.writeValueAsString(body);
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
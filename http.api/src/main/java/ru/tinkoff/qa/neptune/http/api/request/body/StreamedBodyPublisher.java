@@ -0,0 +1,35 @@
+package ru.tinkoff.qa.neptune.http.api.request.body;
+
+import java.io.InputStream;
+import java.net.http.HttpRequest;
+import java.nio.ByteBuffer;
+import java.util.concurrent.Flow;
+import java.util.function.Supplier;
+
+import static java.net.http.HttpRequest.BodyPublishers.ofInputStream;
+
+/**
+ * Publishes a body that is read from an input stream while a request is sent. Unlike
+ * {@link HttpRequest.BodyPublishers#ofInputStream(Supplier)} it knows length of the body, so the request
+ * is sent with {@code Content-Length} instead of chunked transfer encoding.
+ */
+final class StreamedBodyPublisher implements HttpRequest.BodyPublisher {
+
+    private final HttpRequest.BodyPublisher publisher;
+    private final long contentLength;
+
+    StreamedBodyPublisher(Supplier<? extends InputStream> streamSupplier, long contentLength) {
+        this.publisher = ofInputStream(streamSupplier);
+        this.contentLength = contentLength;
+    }
+
+    @Override
+    public long contentLength() {
+        return contentLength;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super ByteBuffer> subscriber) {
+        publisher.subscribe(subscriber);
+    }
+}
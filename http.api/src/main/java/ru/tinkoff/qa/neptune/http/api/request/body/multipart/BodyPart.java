@@ -5,33 +5,51 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import ru.tinkoff.qa.neptune.http.api.mapping.DefaultMapper;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.channels.FileChannel;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Supplier;
 
 import static com.google.common.base.Preconditions.checkArgument;
+import static java.nio.channels.Channels.newInputStream;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.nio.file.Files.probeContentType;
-import static java.nio.file.Files.readAllBytes;
+import static java.nio.file.Files.size;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.util.Arrays.copyOf;
 import static java.util.Objects.nonNull;
 import static java.util.Optional.ofNullable;
-import static org.apache.commons.lang3.ArrayUtils.addAll;
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
+import static ru.tinkoff.qa.neptune.core.api.utils.IsLoggableUtil.isLoggable;
 
 public abstract class BodyPart {
 
+    private static final byte[] CRLF = "\r\n".getBytes(UTF_8);
+
     private final String name;
     private final String fileName;
     private final byte[] bytes;
+    private final Path file;
+    private final Supplier<InputStream> streamSupplier;
     private String contentType;
     private String contentTransferEncoding;
 
-    private BodyPart(String name, String fileName, byte[] bytes) {
+    private BodyPart(String name, String fileName, byte[] bytes, Path file, Supplier<InputStream> streamSupplier) {
         this.name = name;
         this.fileName = fileName;
         this.bytes = bytes;
+        this.file = file;
+        this.streamSupplier = streamSupplier;
+    }
+
+    private BodyPart(String name, String fileName, byte[] bytes) {
+        this(name, fileName, bytes, null, null);
     }
 
     /**
@@ -83,6 +101,9 @@ public abstract class BodyPart {
      * Defines a part of a request body as an input stream. By default it sets {@code Content-Type} to
      * {@code application/octet-stream}. It is possible to change content type to another by invocation of
      * {@link #setContentType(String)}
+     * <p>
+     * NOTE: the stream is read and closed at once, because content of a part may be sent more than once.
+     * Use {@link #bodyPart(Supplier, String, String)} to send big content without loading it into memory.
      *
      * @param stream   is an input stream content
      * @param name     is a name of a part
@@ -125,7 +146,67 @@ public abstract class BodyPart {
 
 
     /**
-     * Defines a part of a request body as a file.
+     * Defines a part of a request body as an input stream which is supplied by each sending of a request.
+     * Content of the stream is not loaded into memory. It is read while the request is sent. By default it sets
+     * {@code Content-Type} to {@code application/octet-stream}. It is possible to change content type to another
+     * by invocation of {@link #setContentType(String)}
+     *
+     * @param streamSupplier supplies a new input stream of content. The stream is closed after it is read.
+     * @param name           is a name of a part
+     * @param fileName       is filename of a part
+     * @return an instance of {@link BodyPart}
+     */
+    public static BodyPart bodyPart(Supplier<InputStream> streamSupplier, String name, String fileName) {
+        checkArgument(nonNull(streamSupplier), "Supplier of an input stream should be defined");
+        return new BodyPart(name, fileName, null, null, streamSupplier) {
+            @Override
+            String getContentDescription() {
+                String supplierName;
+                if (isLoggable(streamSupplier)) {
+                    supplierName = streamSupplier.toString();
+                } else {
+                    Class<?> cls = streamSupplier.getClass();
+                    if (cls.isAnonymousClass()) {
+                        cls = cls.getSuperclass();
+                    }
+                    supplierName = cls.getName();
+                }
+                return "Input stream supplied by '" + supplierName + "'";
+            }
+        }.setContentType("application/octet-stream");
+    }
+
+    /**
+     * Defines a part of a request body as an input stream which is supplied by each sending of a request.
+     * Content of the stream is not loaded into memory. It is read while the request is sent. By default it sets
+     * {@code Content-Type} to {@code application/octet-stream}. It is possible to change content type to another
+     * by invocation of {@link #setContentType(String)}
+     *
+     * @param streamSupplier supplies a new input stream of content. The stream is closed after it is read.
+     * @param name           is a name of a part
+     * @return an instance of {@link BodyPart}
+     */
+    public static BodyPart bodyPart(Supplier<InputStream> streamSupplier, String name) {
+        return bodyPart(streamSupplier, name, null);
+    }
+
+    /**
+     * Defines a part of a request body as an input stream which is supplied by each sending of a request.
+     * Content of the stream is not loaded into memory. It is read while the request is sent. By default it sets
+     * {@code Content-Type} to {@code application/octet-stream}. It is possible to change content type to another
+     * by invocation of {@link #setContentType(String)}
+     *
+     * @param streamSupplier supplies a new input stream of content. The stream is closed after it is read.
+     * @return an instance of {@link BodyPart}
+     */
+    public static BodyPart bodyPart(Supplier<InputStream> streamSupplier) {
+        return bodyPart(streamSupplier, (String) null, null);
+    }
+
+
+    /**
+     * Defines a part of a request body as a file. Content of the file is not loaded into memory.
+     * It is read while a request is sent.
      *
      * @param file                 is a file content
      * @param name                 is a name of a part
@@ -151,16 +232,12 @@ public abstract class BodyPart {
             contentType = "application/octet-stream";
         }
 
-        try {
-            return new BodyPart(name, fileName, readAllBytes(file.toPath())) {
-                @Override
-                String getContentDescription() {
-                    return "File " + file.getAbsolutePath() + " of size " + file.length() + "(bytes)";
-                }
-            }.setContentType(contentType);
-        } catch (Exception e) {
-            throw new RuntimeException(e);
-        }
+        return new BodyPart(name, fileName, null, file.toPath(), null) {
+            @Override
+            String getContentDescription() {
+                return "File " + file.getAbsolutePath() + " of size " + file.length() + "(bytes)";
+            }
+        }.setContentType(contentType);
     }
 
     /**
@@ -355,10 +432,14 @@ public abstract class BodyPart {
      * @param name     is a name of a part
      * @param fileName is filename of a part
      * @return an instance of {@link BodyPart}
-     * @see DefaultMapper#getMapper()
+     * @see DefaultMapper#writer()
      */
     public static BodyPart bodyPart(Object o, DefaultMapper mapper, String name, String fileName) {
-        return bodyPart(o, mapper.getMapper(), name, fileName);
+        try {
+            return bodyPart(mapper.writer().writeValueAsString(o), name, fileName);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException(e);
+        }
     }
 
     /**
@@ -372,10 +453,10 @@ public abstract class BodyPart {
      *               is available by one of items of the enum {@link DefaultMapper}.
      * @param name   is a name of a part
      * @return an instance of {@link BodyPart}
-     * @see DefaultMapper#getMapper()
+     * @see DefaultMapper#writer()
      */
     public static BodyPart bodyPart(Object o, DefaultMapper mapper, String name) {
-        return bodyPart(o, mapper.getMapper(), name, null);
+        return bodyPart(o, mapper, name, null);
     }
 
     /**
@@ -388,10 +469,10 @@ public abstract class BodyPart {
      * @param mapper is an {@link ObjectMapper} that performs serialization. This mapper
      *               is available by one of items of the enum {@link DefaultMapper}.
      * @return an instance of {@link BodyPart}
-     * @see DefaultMapper#getMapper()
+     * @see DefaultMapper#writer()
      */
     public static BodyPart bodyPart(Object o, DefaultMapper mapper) {
-        return bodyPart(o, mapper.getMapper(), null, null);
+        return bodyPart(o, mapper, null, null);
     }
 
 
@@ -493,18 +574,126 @@ public abstract class BodyPart {
 
     abstract String getContentDescription();
 
+    private byte[] header(String boundary) {
+        return (boundary + "\r\n" + getPartInfo() + "\r\n").getBytes(UTF_8);
+    }
+
     /**
      * Returns byte content of a part.
      *
      * @return byte content of a part
+     * @see #openStream(String)
      */
     public List<byte[]> content(String boundary) {
         var list = new ArrayList<byte[]>();
-        list.add((boundary + "\r\n" + getPartInfo() + "\r\n").getBytes(UTF_8));
-        list.add(addAll(bytes, "\r\n".getBytes(UTF_8)));
+        list.add(header(boundary));
+        list.add(getBytes());
+        list.add(CRLF);
         return list;
     }
 
+    /**
+     * Opens a stream that reads a part with its headers. Content of a file or supplied content
+     * is not loaded into memory. It is read when the stream is read.
+     *
+     * @param boundary is a boundary that precedes the part
+     * @return an input stream of a part
+     */
+    public InputStream openStream(String boundary) {
+        return new SequenceInputStream(new ByteArrayInputStream(header(boundary)),
+                new SequenceInputStream(openContent(), new ByteArrayInputStream(CRLF)));
+    }
+
+    /**
+     * Returns count of bytes of a part with its headers.
+     *
+     * @param boundary is a boundary that precedes the part
+     * @return count of bytes of a part. It is {@code -1} when length of content is not known before it is read.
+     * @see #contentLength()
+     */
+    public long length(String boundary) {
+        var contentLength = contentLength();
+        if (contentLength < 0) {
+            return -1;
+        }
+        return header(boundary).length + contentLength + CRLF.length;
+    }
+
+    /**
+     * Opens a stream that reads content of a part.
+     *
+     * @return an input stream of content of a part
+     */
+    public InputStream openContent() {
+        if (nonNull(bytes)) {
+            return new ByteArrayInputStream(bytes);
+        }
+
+        if (nonNull(file)) {
+            try {
+                return newInputStream(FileChannel.open(file, READ));
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        }
+
+        return ofNullable(streamSupplier.get())
+                .orElseThrow(() -> new IllegalStateException("Input stream of a body part was not supplied"));
+    }
+
+    /**
+     * Returns count of bytes of content of a part.
+     *
+     * @return count of bytes of content. It is {@code -1} when content is supplied as an input stream,
+     * so its length is not known before it is read.
+     */
+    public long contentLength() {
+        if (nonNull(bytes)) {
+            return bytes.length;
+        }
+
+        if (nonNull(file)) {
+            try {
+                return size(file);
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Returns first bytes of content of a part. Only these bytes are read.
+     *
+     * @param maxBytes is max count of bytes to return
+     * @return first bytes of content of a part
+     */
+    public byte[] getPreview(int maxBytes) {
+        return preview(maxBytes).getBytes();
+    }
+
+    /**
+     * Returns first bytes of content of a part and whether the content is longer. Only these bytes
+     * and one more byte, when content is supplied as a file or a stream, are read.
+     *
+     * @param maxBytes is max count of bytes to return
+     * @return first bytes of content of a part
+     */
+    public Preview preview(int maxBytes) {
+        checkArgument(maxBytes >= 0, "Count of bytes should not be negative");
+        if (nonNull(bytes)) {
+            return bytes.length <= maxBytes ? new Preview(bytes, false) : new Preview(copyOf(bytes, maxBytes), true);
+        }
+
+        try (var stream = openContent()) {
+            var read = stream.readNBytes(maxBytes);
+            return new Preview(read, stream.read() >= 0);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
     public String getName() {
         return name;
     }
@@ -521,7 +710,49 @@ public abstract class BodyPart {
         return contentTransferEncoding;
     }
 
+    /**
+     * Returns byte content of a part. Content of a file or supplied content is read by each invocation.
+     * It is better to use {@link #openContent()} or {@link #getPreview(int)} when content is big.
+     *
+     * @return byte content of a part
+     */
     public byte[] getBytes() {
-        return bytes;
+        if (nonNull(bytes)) {
+            return bytes;
+        }
+
+        try (var stream = openContent()) {
+            return stream.readAllBytes();
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * First bytes of content of a part.
+     */
+    public static final class Preview {
+
+        private final byte[] bytes;
+        private final boolean truncated;
+
+        private Preview(byte[] bytes, boolean truncated) {
+            this.bytes = bytes;
+            this.truncated = truncated;
+        }
+
+        /**
+         * @return first bytes of content
+         */
+        public byte[] getBytes() {
+            return bytes;
+        }
+
+        /**
+         * @return {@code true} when content is longer than returned bytes
+         */
+        public boolean isTruncated() {
+            return truncated;
+        }
     }
 }
@@ -104,7 +104,13 @@ public final class FormParameter {
     public static FormParameter formParameter(String name,
                                               DefaultMapper mapper,
                                               Object value) {
-        return formParameter(name, mapper.getMapper(), value);
+        checkNotNull(mapper);
+        checkNotNull(value);
+        try {
+            return formParameter(name, mapper.writer().writeValueAsString(value));
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException(e);
+        }
     }
 
     /**
@@ -0,0 +1,247 @@
+package ru.tinkoff.qa.neptune.http.api.response;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+
+import static java.lang.System.nanoTime;
+import static java.time.Duration.ofNanos;
+
+/**
+ * Describes one sending of an http request and receiving of a response: headers, sizes of bodies,
+ * redirects and times. Values are recorded by the sending thread and by threads of an http client without
+ * any formatting. A description is built only when it is requested, e.g. when it is attached to a report.
+ * <p>
+ * NOTE: {@link HttpClient} does not make times of DNS resolving, connecting and TLS handshake available.
+ * So the time from the start of the sending to the receiving of response headers includes them all.
+ */
+public final class HttpExchangeTrace {
+
+    private static final String LINE_SEPARATOR = "\r\n";
+
+    private final HttpRequest request;
+    private final Instant startedAt = Instant.now();
+    private final long startNanos = nanoTime();
+    private volatile long headersNanos = -1;
+    private volatile long completeNanos = -1;
+    private volatile long receivedBodySize = -1;
+    private volatile HttpResponse.ResponseInfo responseInfo;
+    private volatile HttpResponse<?> response;
+    private volatile Throwable failure;
+
+    HttpExchangeTrace(HttpRequest request) {
+        this.request = request;
+    }
+
+    <T> HttpResponse.BodyHandler<T> trace(HttpResponse.BodyHandler<T> bodyHandler) {
+        return responseInfo -> {
+            headersNanos = nanoTime();
+            this.responseInfo = responseInfo;
+            return new TracingSubscriber<>(bodyHandler.apply(responseInfo));
+        };
+    }
+
+    void received(HttpResponse<?> response) {
+        this.response = response;
+        if (completeNanos < 0) {
+            completeNanos = nanoTime();
+        }
+    }
+
+    void failed(Throwable failure) {
+        this.failure = failure;
+        if (completeNanos < 0) {
+            completeNanos = nanoTime();
+        }
+    }
+
+    /**
+     * @return sent request
+     */
+    public HttpRequest getRequest() {
+        return request;
+    }
+
+    /**
+     * @return status code of a received response. {@code -1} is returned when no response was received
+     */
+    public int getStatusCode() {
+        var info = responseInfo;
+        return info == null ? -1 : info.statusCode();
+    }
+
+    /**
+     * @return time from the start of the sending to the receiving of response headers.
+     * {@code null} is returned when no response headers were received
+     */
+    public Duration getTimeToHeaders() {
+        var headers = headersNanos;
+        return headers < 0 ? null : ofNanos(headers - startNanos);
+    }
+
+    /**
+     * @return time from the start of the sending to the receiving of the whole response or to a failure.
+     * {@code null} is returned when the exchange is not finished yet
+     */
+    public Duration getTotalTime() {
+        var complete = completeNanos;
+        return complete < 0 ? null : ofNanos(complete - startNanos);
+    }
+
+    /**
+     * @return count of received bytes of a response body. {@code -1} is returned when the body was not
+     * received completely
+     */
+    public long getReceivedBodySize() {
+        return receivedBodySize;
+    }
+
+    /**
+     * @return URIs of responses that were redirected before the final response was received
+     */
+    public List<URI> getRedirects() {
+        var result = new LinkedList<URI>();
+        var previous = response == null ? null : response.previousResponse().orElse(null);
+        while (previous != null) {
+            result.addFirst(previous.uri());
+            previous = previous.previousResponse().orElse(null);
+        }
+        return result;
+    }
+
+    /**
+     * @return a failure of the exchange, or {@code null}
+     */
+    public Throwable getFailure() {
+        return failure;
+    }
+
+    private static void appendHeaders(StringBuilder builder, String name, HttpHeaders headers) {
+        var map = headers.map();
+        if (map.isEmpty()) {
+            return;
+        }
+
+        builder.append(name).append(':').append(LINE_SEPARATOR);
+        map.forEach((k, v) -> builder.append("  ").append(k).append(": ")
+                .append(String.join(", ", v))
+                .append(LINE_SEPARATOR));
+    }
+
+    private static void appendTime(StringBuilder builder, String name, Duration duration) {
+        if (duration == null) {
+            return;
+        }
+
+        builder.append(name)
+                .append(": ")
+                .append(duration.toNanos() / 1000 / 1000D)
+                .append(" ms")
+                .append(LINE_SEPARATOR);
+    }
+
+    StringBuilder appendTo(StringBuilder builder) {
+        builder.append("Request: ")
+                .append(request.method())
+                .append(' ')
+                .append(request.uri());
+        request.version().ifPresent(v -> builder.append(' ').append(v));
+        builder.append(LINE_SEPARATOR);
+        appendHeaders(builder, "Request headers", request.headers());
+        request.bodyPublisher().ifPresent(p -> {
+            var length = p.contentLength();
+            builder.append("Request body size: ")
+                    .append(length < 0 ? "unknown" : length + " bytes")
+                    .append(LINE_SEPARATOR);
+        });
+        builder.append("Started at: ").append(startedAt).append(LINE_SEPARATOR);
+
+        var info = responseInfo;
+        if (info != null) {
+            var redirects = getRedirects();
+            if (!redirects.isEmpty()) {
+                builder.append("Redirected from: ").append(redirects).append(LINE_SEPARATOR);
+            }
+
+            builder.append("Response status code: ")
+                    .append(info.statusCode())
+                    .append(LINE_SEPARATOR)
+                    .append("Response version: ")
+                    .append(info.version())
+                    .append(LINE_SEPARATOR);
+            appendHeaders(builder, "Response headers", info.headers());
+
+            var size = receivedBodySize;
+            if (size >= 0) {
+                builder.append("Response body size: ")
+                        .append(size)
+                        .append(" bytes")
+                        .append(LINE_SEPARATOR);
+            }
+        }
+
+        appendTime(builder, "Time to response headers", getTimeToHeaders());
+        appendTime(builder, "Total time", getTotalTime());
+
+        var f = failure;
+        if (f != null) {
+            builder.append("Failure: ").append(f).append(LINE_SEPARATOR);
+        }
+        return builder;
+    }
+
+    @Override
+    public String toString() {
+        return appendTo(new StringBuilder()).toString();
+    }
+
+    private final class TracingSubscriber<T> implements HttpResponse.BodySubscriber<T> {
+
+        private final HttpResponse.BodySubscriber<T> subscriber;
+        private long received;
+
+        private TracingSubscriber(HttpResponse.BodySubscriber<T> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public CompletionStage<T> getBody() {
+            return subscriber.getBody();
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            subscriber.onSubscribe(subscription);
+        }
+
+        @Override
+        public void onNext(List<ByteBuffer> item) {
+            for (var b : item) {
+                received += b.remaining();
+            }
+            subscriber.onNext(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            completeNanos = nanoTime();
+            subscriber.onError(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            receivedBodySize = received;
+            completeNanos = nanoTime();
+            subscriber.onComplete();
+        }
+    }
+}
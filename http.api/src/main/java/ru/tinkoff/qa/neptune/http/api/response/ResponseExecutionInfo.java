@@ -1,20 +1,31 @@
 package ru.tinkoff.qa.neptune.http.api.response;
 
+import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
-import java.util.LinkedList;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.logging.Logger;
 
+/**
+ * Keeps traces of exchanges which were performed by a step. Only last exchanges are kept, e.g. when a request
+ * is sent many times during the waiting for a desired response.
+ */
 public final class ResponseExecutionInfo {
 
-    private static final Logger LOGGER = Logger.getLogger("jdk.httpclient.HttpClient");
-    private final LinkedList<RequestResponseLogCollector> collectors = new LinkedList<>();
-    private HttpResponse<?> lastReceived;
+    private static final int MAX_KEPT_EXCHANGES = 10;
 
-    void startExecutionLogging() {
-        var collector = new RequestResponseLogCollector();
-        collectors.addLast(collector);
-        LOGGER.addHandler(collector);
+    private final ArrayDeque<HttpExchangeTrace> exchanges = new ArrayDeque<>(MAX_KEPT_EXCHANGES);
+    private int exchangeCount;
+    private volatile HttpResponse<?> lastReceived;
+
+    synchronized HttpExchangeTrace startExchange(HttpRequest request) {
+        var exchange = new HttpExchangeTrace(request);
+        if (exchanges.size() == MAX_KEPT_EXCHANGES) {
+            exchanges.removeFirst();
+        }
+        exchanges.addLast(exchange);
+        exchangeCount++;
+        return exchange;
     }
 
     public HttpResponse<?> getLastReceived() {
@@ -25,11 +36,17 @@ public final class ResponseExecutionInfo {
         this.lastReceived = lastReceived;
     }
 
-    void stopExecutionLogging() {
-        LOGGER.removeHandler(collectors.getLast());
+    /**
+     * @return traces of last exchanges
+     */
+    public synchronized List<HttpExchangeTrace> getExchanges() {
+        return new ArrayList<>(exchanges);
     }
 
-    public List<RequestResponseLogCollector> getLogs() {
-        return collectors;
+    /**
+     * @return count of all performed exchanges. It may be greater than count of kept traces
+     */
+    public synchronized int getExchangeCount() {
+        return exchangeCount;
     }
 }
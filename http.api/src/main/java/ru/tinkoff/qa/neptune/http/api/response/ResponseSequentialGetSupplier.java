@@ -51,16 +51,17 @@ public final class ResponseSequentialGetSupplier<T> extends SequentialGetStepSup
                                           HttpResponse.BodyHandler<T> bodyHandler,
                                           ResponseExecutionInfo info) {
         super(httpStepContext -> {
+            info.setLastReceived(null);
+            var toSend = requestBuilder.build();
+            var exchange = info.startExchange(toSend);
             try {
-                info.setLastReceived(null);
-                info.startExecutionLogging();
-                var received = httpStepContext.getCurrentClient().send(requestBuilder.build(), bodyHandler);
+                var received = httpStepContext.getCurrentClient().send(toSend, exchange.trace(bodyHandler));
+                exchange.received(received);
                 info.setLastReceived(received);
                 return new Response<>(received);
             } catch (Exception e) {
+                exchange.failed(e);
                 throw new RuntimeException(e);
-            } finally {
-                info.stopExecutionLogging();
             }
         });
         request = requestBuilder.build();
@@ -0,0 +1,295 @@
+package ru.tinkoff.qa.neptune.http.api.response;
+
+import ru.tinkoff.qa.neptune.core.api.event.firing.annotations.CaptureOnSuccess;
+import ru.tinkoff.qa.neptune.core.api.event.firing.annotations.MaxDepthOfReporting;
+import ru.tinkoff.qa.neptune.core.api.steps.Criteria;
+import ru.tinkoff.qa.neptune.core.api.steps.SequentialGetStepSupplier;
+import ru.tinkoff.qa.neptune.core.api.steps.annotations.Description;
+import ru.tinkoff.qa.neptune.http.api.HttpStepContext;
+import ru.tinkoff.qa.neptune.http.api.captors.response.ResponsesSummaryCaptor;
+import ru.tinkoff.qa.neptune.http.api.request.RequestBuilder;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.lang.Math.max;
+import static java.lang.String.join;
+import static java.lang.String.valueOf;
+import static java.lang.System.nanoTime;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static java.util.Optional.ofNullable;
+import static java.util.concurrent.CompletableFuture.allOf;
+import static java.util.concurrent.CompletableFuture.failedFuture;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.stream.Collectors.toList;
+import static org.apache.commons.lang3.time.DurationFormatUtils.formatDurationHMS;
+import static ru.tinkoff.qa.neptune.core.api.localization.StepLocalization.translate;
+import static ru.tinkoff.qa.neptune.core.api.steps.Criteria.condition;
+import static ru.tinkoff.qa.neptune.core.api.steps.SequentialGetStepSupplier.DefaultGetParameterReader.getCriteriaMetadata;
+import static ru.tinkoff.qa.neptune.core.api.steps.SequentialGetStepSupplier.DefaultGetParameterReader.getTimeOutMetadata;
+
+/**
+ * Builds a step-function that sends a batch of http requests and receives responses. Requests are sent asynchronously,
+ * but no more than the defined count of requests are waiting for responses at the same time. Requests are multiplexed
+ * over the same connection when the current http client uses HTTP/2 and the server supports it. Requests are sent
+ * once. Failed requests don't stop the sending of other ones, they are reported together when all responses are
+ * received.
+ *
+ * @param <T> is a type of response body
+ */
+@CaptureOnSuccess(by = ResponsesSummaryCaptor.class)
+@SequentialGetStepSupplier.DefineCriteriaParameterName("Response criteria")
+@SequentialGetStepSupplier.DefineTimeOutParameterName("Time to receive all http responses")
+@MaxDepthOfReporting(0)
+public final class ResponsesSequentialGetSupplier<T> extends SequentialGetStepSupplier.GetIterableStepSupplier<HttpStepContext,
+        List<HttpResponse<T>>, HttpResponse<T>, ResponsesSequentialGetSupplier<T>> {
+
+    private static final String LINE_SEPARATOR = "\r\n";
+
+    private final Batch<T> batch;
+
+    private ResponsesSequentialGetSupplier(Batch<T> batch) {
+        super(batch);
+        this.batch = batch;
+    }
+
+    /**
+     * Creates an instance that builds a step-function to send http requests and to receive responses.
+     *
+     * @param requestBuilders are builders of http requests. Timeouts of requests are defined by
+     *                        {@link RequestBuilder#timeout(java.time.Duration)}
+     * @param bodyHandler     of response bodies
+     * @param maxInFlight     is max count of requests which are sent and are waiting for responses at the same time
+     * @param <T>             is a type of response body
+     * @return an instance of {@link ResponsesSequentialGetSupplier}
+     */
+    @Description("Http Responses")
+    public static <T> ResponsesSequentialGetSupplier<T> responses(Collection<RequestBuilder> requestBuilders,
+                                                                  HttpResponse.BodyHandler<T> bodyHandler,
+                                                                  int maxInFlight) {
+        checkArgument(nonNull(requestBuilders), "Request builders should be defined");
+        checkArgument(nonNull(bodyHandler), "Body handler should be defined");
+        checkArgument(maxInFlight > 0, "Max count of requests in flight should be positive");
+        return new ResponsesSequentialGetSupplier<>(new Batch<>(new ArrayList<>(requestBuilders),
+                bodyHandler,
+                maxInFlight));
+    }
+
+    /**
+     * Defines criteria for responses. Each received response is checked. When some responses don't meet
+     * criteria then {@link ExpectedHttpResponseHasNotBeenReceivedException} is thrown. Its message lists
+     * these responses and criteria which are not met.
+     *
+     * @param criteria describes which condition should be met by a response
+     * @return self-reference
+     */
+    @Override
+    public ResponsesSequentialGetSupplier<T> criteria(Criteria<? super HttpResponse<T>> criteria) {
+        checkArgument(nonNull(criteria), "Criteria should be defined");
+        batch.criteria.add(criteria);
+        return this;
+    }
+
+    /**
+     * Defines criteria for responses. Each received response is checked. When some responses don't meet
+     * criteria then {@link ExpectedHttpResponseHasNotBeenReceivedException} is thrown. Its message lists
+     * these responses and criteria which are not met.
+     *
+     * @param description of the criteria
+     * @param predicate   is a condition that should be met by a response
+     * @return self-reference
+     */
+    @Override
+    public ResponsesSequentialGetSupplier<T> criteria(String description, Predicate<? super HttpResponse<T>> predicate) {
+        return criteria(condition(description, predicate));
+    }
+
+    /**
+     * Defines time to send all requests and to receive all responses. Requests are not sent again.
+     * When some responses are not received in time then requests are cancelled and
+     * {@link ExpectedHttpResponseHasNotBeenReceivedException} is thrown. Its message lists these requests.
+     *
+     * @param timeOut is time to receive all responses
+     * @return self-reference
+     */
+    @Override
+    public ResponsesSequentialGetSupplier<T> timeOut(Duration timeOut) {
+        checkArgument(nonNull(timeOut), "Time out should not be a null value");
+        checkArgument(!timeOut.isNegative(), "Time out should be a positive value");
+        batch.timeOut = timeOut;
+        return this;
+    }
+
+    @Override
+    public Map<String, String> getParameters() {
+        var p = super.getParameters();
+
+        var params = new LinkedHashMap<String, String>();
+        params.put("Count of http requests", valueOf(batch.requestBuilders.size()));
+        params.put("Max count of http requests in flight", valueOf(batch.maxInFlight));
+
+        var cls = (Class<?>) this.getClass();
+        //criteria and time out are not passed to the super class, responses are not re-sent to meet them
+        ofNullable(getCriteriaMetadata(cls, true)).ifPresent(metaData -> {
+            int i = 0;
+            for (var c : batch.criteria) {
+                params.put(i == 0 ? translate(metaData) : translate(metaData) + " " + (i + 1), c.toString());
+                i++;
+            }
+        });
+
+        ofNullable(getTimeOutMetadata(cls, true)).ifPresent(metaData ->
+                ofNullable(batch.timeOut).ifPresent(d ->
+                        params.put(translate(metaData), formatDurationHMS(d.toMillis()))));
+
+        params.putAll(p);
+        return params;
+    }
+
+    private static final class Batch<T> implements Function<HttpStepContext, List<HttpResponse<T>>> {
+
+        private final List<RequestBuilder> requestBuilders;
+        private final HttpResponse.BodyHandler<T> bodyHandler;
+        private final int maxInFlight;
+        private final List<Criteria<? super HttpResponse<T>>> criteria = new ArrayList<>();
+        private Duration timeOut;
+
+        private Batch(List<RequestBuilder> requestBuilders, HttpResponse.BodyHandler<T> bodyHandler, int maxInFlight) {
+            this.requestBuilders = requestBuilders;
+            this.bodyHandler = bodyHandler;
+            this.maxInFlight = maxInFlight;
+        }
+
+        @Override
+        public List<HttpResponse<T>> apply(HttpStepContext httpStepContext) {
+            var requests = requestBuilders.stream().map(RequestBuilder::build).collect(toList());
+            var futures = sendAll(httpStepContext.getCurrentClient(), requests);
+
+            var responses = new ArrayList<HttpResponse<T>>(requests.size());
+            var failed = new StringBuilder();
+            var causes = new ArrayList<Throwable>();
+            for (int i = 0; i < requests.size(); i++) {
+                var request = requests.get(i);
+                var line = new StringBuilder()
+                        .append("#").append(i + 1).append(" ")
+                        .append(request.method()).append(" ")
+                        .append(request.uri())
+                        .append(" -> ");
+
+                if (i >= futures.size()) {
+                    failed.append(line).append("was not sent in time").append(LINE_SEPARATOR);
+                    continue;
+                }
+
+                var future = futures.get(i);
+                if (!future.isDone()) {
+                    future.cancel(true);
+                    failed.append(line).append("was not received in time").append(LINE_SEPARATOR);
+                    continue;
+                }
+
+                var thrown = future.handle((r, t) -> t).join();
+                if (nonNull(thrown)) {
+                    var cause = thrown instanceof CompletionException ? thrown.getCause() : thrown;
+                    causes.add(cause);
+                    failed.append(line).append(cause).append(LINE_SEPARATOR);
+                    continue;
+                }
+
+                var response = new Response<>(future.join());
+                responses.add(response);
+                var notMet = criteria
+                        .stream()
+                        .filter(c -> !c.get().test(response))
+                        .map(Criteria::toString)
+                        .collect(toList());
+
+                if (!notMet.isEmpty()) {
+                    failed.append(line)
+                            .append(response.statusCode())
+                            .append(". Criteria not met: ")
+                            .append(join("; ", notMet))
+                            .append(LINE_SEPARATOR);
+                }
+            }
+
+            if (failed.length() > 0) {
+                var e = new ExpectedHttpResponseHasNotBeenReceivedException("Some expected responses have not been received:"
+                        + LINE_SEPARATOR
+                        + failed);
+                causes.forEach(e::addSuppressed);
+                throw e;
+            }
+
+            return responses;
+        }
+
+        /**
+         * Sends requests. Failed requests don't stop sending of other ones.
+         *
+         * @return futures of responses which are sent. Requests which were not sent in time are not included.
+         */
+        private List<CompletableFuture<HttpResponse<T>>> sendAll(HttpClient client, List<HttpRequest> requests) {
+            var inFlight = new Semaphore(maxInFlight);
+            var futures = new ArrayList<CompletableFuture<HttpResponse<T>>>(requests.size());
+            var released = new ArrayList<CompletableFuture<HttpResponse<T>>>(requests.size());
+            var deadline = nonNull(timeOut) ? nanoTime() + timeOut.toNanos() : 0;
+
+            try {
+                for (var request : requests) {
+                    if (!acquire(inFlight, deadline)) {
+                        break;
+                    }
+
+                    CompletableFuture<HttpResponse<T>> future;
+                    try {
+                        future = client.sendAsync(request, bodyHandler);
+                    } catch (RuntimeException e) {
+                        future = failedFuture(e);
+                    }
+                    futures.add(future);
+                    released.add(future.whenComplete((r, t) -> inFlight.release()));
+                }
+
+                var all = allOf(released.toArray(new CompletableFuture<?>[0]));
+                if (nonNull(timeOut)) {
+                    all.get(max(deadline - nanoTime(), 0), NANOSECONDS);
+                } else {
+                    all.get();
+                }
+            } catch (InterruptedException e) {
+                futures.forEach(f -> f.cancel(true));
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            } catch (ExecutionException | TimeoutException ignored) {
+                //failed and not received responses are reported by the caller
+            }
+
+            return futures;
+        }
+
+        private boolean acquire(Semaphore inFlight, long deadline) throws InterruptedException {
+            if (isNull(timeOut)) {
+                inFlight.acquire();
+                return true;
+            }
+            return inFlight.tryAcquire(max(deadline - nanoTime(), 0), NANOSECONDS);
+        }
+    }
+}
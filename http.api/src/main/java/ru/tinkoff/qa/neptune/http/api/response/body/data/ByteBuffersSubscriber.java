@@ -0,0 +1,105 @@
+package ru.tinkoff.qa.neptune.http.api.response.body.data;
+
+import java.io.InputStream;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+
+import static java.lang.Math.min;
+
+/**
+ * Keeps buffers of a response body as they are received and then gives an {@link InputStream} that reads
+ * these buffers one by one. Unlike {@link HttpResponse.BodySubscribers#ofString(java.nio.charset.Charset)}
+ * it neither concatenates received bytes into one array nor decodes them into a string.
+ */
+final class ByteBuffersSubscriber implements HttpResponse.BodySubscriber<InputStream> {
+
+    private final CompletableFuture<InputStream> result = new CompletableFuture<>();
+    private final List<ByteBuffer> received = new ArrayList<>();
+
+    @Override
+    public CompletionStage<InputStream> getBody() {
+        return result;
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        subscription.request(Long.MAX_VALUE);
+    }
+
+    @Override
+    public void onNext(List<ByteBuffer> items) {
+        for (var item : items) {
+            if (item.hasRemaining()) {
+                received.add(item);
+            }
+        }
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        received.clear();
+        result.completeExceptionally(throwable);
+    }
+
+    @Override
+    public void onComplete() {
+        result.complete(new ByteBuffersInputStream(received));
+    }
+
+    private static final class ByteBuffersInputStream extends InputStream {
+
+        private final ListIterator<ByteBuffer> buffers;
+        private ByteBuffer current;
+
+        private ByteBuffersInputStream(List<ByteBuffer> buffers) {
+            this.buffers = buffers.listIterator();
+        }
+
+        private boolean nextBuffer() {
+            while (current == null || !current.hasRemaining()) {
+                if (!buffers.hasNext()) {
+                    current = null;
+                    return false;
+                }
+                current = buffers.next();
+                //read buffers are released
+                buffers.set(null);
+            }
+            return true;
+        }
+
+        @Override
+        public int read() {
+            if (!nextBuffer()) {
+                return -1;
+            }
+            return current.get() & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (len == 0) {
+                return 0;
+            }
+
+            if (!nextBuffer()) {
+                return -1;
+            }
+
+            var read = min(len, current.remaining());
+            current.get(b, off, read);
+            return read;
+        }
+
+        @Override
+        public int available() {
+            return current == null ? 0 : current.remaining();
+        }
+    }
+}
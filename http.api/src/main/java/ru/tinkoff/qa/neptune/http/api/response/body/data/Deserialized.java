@@ -1,54 +1,89 @@
 package ru.tinkoff.qa.neptune.http.api.response.body.data;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectReader;
 
-import java.util.function.Function;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PushbackInputStream;
+import java.io.PushbackReader;
+import java.nio.charset.Charset;
+import java.util.function.BiFunction;
 
 import static com.google.common.base.Preconditions.checkNotNull;
+import static java.lang.Character.isWhitespace;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
 
 /**
- * Deserializes string to object
+ * Deserializes a string or a stream of bytes of a response body to object. Bytes are read by the parser directly,
+ * without creating of a string of the whole body. Charset that differs from UTF-8 is used to decode bytes
+ * while they are read. A blank body is deserialized to {@code null}.
  *
- * @param <T> is a type of an object deserialized from string
+ * @param <T> is a type of an object deserialized from a response body
  */
-@SuppressWarnings("unchecked")
-final class Deserialized<T> implements Function<String, T> {
+final class Deserialized<T> implements BiFunction<InputStream, Charset, T> {
 
-    private final Object deserializeTo;
-    private final ObjectMapper mapper;
+    private final ObjectReader reader;
 
-    private Deserialized(Object deserializeTo, ObjectMapper mapper) {
-        checkNotNull(deserializeTo);
-        checkNotNull(mapper);
-        this.deserializeTo = deserializeTo;
-        this.mapper = mapper;
+    Deserialized(ObjectReader reader) {
+        checkNotNull(reader);
+        this.reader = reader;
     }
 
-    public Deserialized(Class<T> deserializeTo, ObjectMapper mapper) {
-        this((Object) deserializeTo, mapper);
-    }
+    @Override
+    public T apply(InputStream in, Charset charset) {
+        try {
+            //a blank body is deserialized to null. Parsers of some formats (e.g. XML) fail on a blank input
+            if (UTF_8.equals(charset)) {
+                var stream = new PushbackInputStream(in);
+                int b;
+                do {
+                    b = stream.read();
+                } while (b == ' ' || b == '\t' || b == '\r' || b == '\n');
+
+                if (b < 0) {
+                    return null;
+                }
+                stream.unread(b);
+                return read(reader.createParser(stream));
+            }
+
+            var charReader = new PushbackReader(new InputStreamReader(in, charset));
+            int c;
+            do {
+                c = charReader.read();
+            } while (c >= 0 && isWhitespace(c));
 
-    public Deserialized(TypeReference<T> deserializeTo, ObjectMapper mapper) {
-        this((Object) deserializeTo, mapper);
+            if (c < 0) {
+                return null;
+            }
+            charReader.unread(c);
+            return read(reader.createParser(charReader));
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
     }
 
-    @Override
-    public T apply(String s) {
+    T fromString(String s) {
         try {
             if (isNotBlank(s)) {
-                if (deserializeTo instanceof Class<?>) {
-                    return mapper.readValue(s, (Class<T>) deserializeTo);
-                } else {
-                    return mapper.readValue(s, (TypeReference<T>) deserializeTo);
-                }
-            } else {
-                return null;
+                return reader.readValue(s);
             }
-        } catch (JsonProcessingException e) {
+            return null;
+        } catch (IOException e) {
             throw new RuntimeException(e);
         }
     }
+
+    private T read(JsonParser parser) throws IOException {
+        try (parser) {
+            if (parser.nextToken() == null) {
+                return null;
+            }
+
+            return reader.readValue(parser);
+        }
+    }
 }
@@ -2,14 +2,25 @@ package ru.tinkoff.qa.neptune.http.api.response.body.data;
 
 import org.jsoup.nodes.Document;
 
-import java.util.function.Function;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.util.function.BiFunction;
 
+import static org.apache.commons.lang3.StringUtils.EMPTY;
 import static org.jsoup.Jsoup.parse;
 
-final class JSoupDocument implements Function<String, Document> {
+final class JSoupDocument implements BiFunction<InputStream, Charset, Document> {
 
     @Override
-    public Document apply(String s) {
+    public Document apply(InputStream in, Charset charset) {
+        try {
+            return parse(in, charset.name(), EMPTY);
+        } catch (Throwable t) {
+            throw new RuntimeException(t);
+        }
+    }
+
+    Document fromString(String s) {
         try {
             return parse(s);
         } catch (Throwable t) {
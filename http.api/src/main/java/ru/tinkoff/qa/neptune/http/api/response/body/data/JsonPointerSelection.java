@@ -0,0 +1,117 @@
+package ru.tinkoff.qa.neptune.http.api.response.body.data;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiFunction;
+
+import static com.fasterxml.jackson.core.JsonToken.*;
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Selects values of a JSON body by a JSON Pointer (RFC 6901). A segment {@code *} matches any field of an object
+ * and any item of an array. The body is read by a streaming parser: subtrees which can't contain selected values
+ * are skipped without binding, only selected values are deserialized.
+ *
+ * @param <T> is a type of a selected value
+ */
+final class JsonPointerSelection<T> implements BiFunction<InputStream, Charset, List<T>> {
+
+    static final String ANY = "*";
+
+    private final String pointer;
+    private final String[] segments;
+    private final ObjectReader reader;
+    private final int limit;
+
+    JsonPointerSelection(String pointer, ObjectReader reader, int limit) {
+        checkNotNull(pointer, "JSON Pointer should be defined");
+        checkArgument(pointer.isEmpty() || pointer.startsWith("/"),
+                "JSON Pointer should be empty or start with '/'. Actual: " + pointer);
+        checkNotNull(reader);
+        this.pointer = pointer;
+        this.segments = parse(pointer);
+        this.reader = reader;
+        this.limit = limit;
+    }
+
+    private static String[] parse(String pointer) {
+        if (pointer.isEmpty()) {
+            return new String[0];
+        }
+
+        var segments = pointer.substring(1).split("/", -1);
+        for (int i = 0; i < segments.length; i++) {
+            segments[i] = segments[i].replace("~1", "/").replace("~0", "~");
+        }
+        return segments;
+    }
+
+    @Override
+    public List<T> apply(InputStream in, Charset charset) {
+        var result = new ArrayList<T>();
+        try (var parser = UTF_8.equals(charset)
+                ? reader.createParser(in)
+                : reader.createParser(new InputStreamReader(in, charset))) {
+
+            if (parser.nextToken() != null) {
+                select(parser, 0, result);
+            }
+            return result;
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * @return {@code false} when no more values should be selected
+     */
+    private boolean select(JsonParser parser, int depth, List<T> result) throws IOException {
+        if (depth == segments.length) {
+            result.add(reader.readValue(parser));
+            return result.size() < limit;
+        }
+
+        var segment = segments[depth];
+        var token = parser.currentToken();
+        if (token == START_OBJECT) {
+            while (parser.nextToken() == FIELD_NAME) {
+                var name = parser.getCurrentName();
+                parser.nextToken();
+                if (ANY.equals(segment) || segment.equals(name)) {
+                    if (!select(parser, depth + 1, result)) {
+                        return false;
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        } else if (token == START_ARRAY) {
+            int index = 0;
+            while (parser.nextToken() != END_ARRAY) {
+                if (ANY.equals(segment) || segment.equals(String.valueOf(index))) {
+                    if (!select(parser, depth + 1, result)) {
+                        return false;
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+                index++;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return "JSON Pointer " + pointer;
+    }
+}
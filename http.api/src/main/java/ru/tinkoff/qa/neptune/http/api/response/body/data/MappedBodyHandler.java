@@ -4,21 +4,31 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import javax.xml.parsers.DocumentBuilder;
+import java.io.InputStream;
+import java.net.http.HttpHeaders;
 import java.net.http.HttpResponse;
+import java.nio.charset.Charset;
+import java.util.List;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 
 import static com.google.common.base.Preconditions.checkNotNull;
+import static java.lang.Integer.MAX_VALUE;
 import static java.net.http.HttpResponse.BodyHandlers.ofString;
 import static java.net.http.HttpResponse.BodySubscribers.mapping;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.apache.commons.lang3.StringUtils.isNotBlank;
+import static org.apache.commons.lang3.StringUtils.strip;
 import static ru.tinkoff.qa.neptune.http.api.mapping.DefaultMapper.JSON;
 import static ru.tinkoff.qa.neptune.http.api.mapping.DefaultMapper.XML;
 
 public class MappedBodyHandler<S, T> implements HttpResponse.BodyHandler<T> {
 
     private final HttpResponse.BodyHandler<S> upstreamBodyHandler;
-    private final Function<S, T> mapper;
+    private final Function<HttpResponse.ResponseInfo, Function<S, T>> mapper;
 
-    protected MappedBodyHandler(HttpResponse.BodyHandler<S> upstreamBodyHandler, Function<S, T> mapper) {
+    private MappedBodyHandler(Function<HttpResponse.ResponseInfo, Function<S, T>> mapper,
+                              HttpResponse.BodyHandler<S> upstreamBodyHandler) {
         checkNotNull(upstreamBodyHandler, "Upstream body handler should be defined");
         checkNotNull(mapper, "Mapping function should be defined");
 
@@ -26,6 +36,11 @@ public class MappedBodyHandler<S, T> implements HttpResponse.BodyHandler<T> {
         this.mapper = mapper;
     }
 
+    protected MappedBodyHandler(HttpResponse.BodyHandler<S> upstreamBodyHandler, Function<S, T> mapper) {
+        this(responseInfo -> mapper, upstreamBodyHandler);
+        checkNotNull(mapper, "Mapping function should be defined");
+    }
+
     /**
      * Creates a new body handler to convert a response body to desired value
      *
@@ -40,37 +55,274 @@ public class MappedBodyHandler<S, T> implements HttpResponse.BodyHandler<T> {
         return new MappedBodyHandler<>(upstreamBodyHandler, mapper);
     }
 
+    /**
+     * Creates a new body handler that reads received bytes of a response body by a stream.
+     * The stream reads the same buffers that were received, the body is not copied into
+     * one byte array and it is not decoded into a string.
+     *
+     * @param reader is a function that reads a stream of a response body. It also takes charset of the body
+     *               which is defined by the {@code Content-Type} header. {@code UTF-8} is used when
+     *               the header doesn't define it.
+     * @param <T>    is a type of a final value of the response body
+     * @return a new {@link MappedBodyHandler}
+     */
+    public static <T> MappedBodyHandler<InputStream, T> streamed(BiFunction<InputStream, Charset, T> reader) {
+        checkNotNull(reader, "Function that reads a body should be defined");
+        Function<HttpResponse.ResponseInfo, Function<InputStream, T>> mapper = responseInfo -> {
+            var charset = charsetOf(responseInfo.headers());
+            return in -> reader.apply(in, charset);
+        };
+        HttpResponse.BodyHandler<InputStream> upstream = responseInfo -> new ByteBuffersSubscriber();
+        return new MappedBodyHandler<>(mapper, upstream);
+    }
+
+    private static Charset charsetOf(HttpHeaders headers) {
+        var contentType = headers.firstValue("Content-Type").orElse(null);
+        if (contentType == null) {
+            return UTF_8;
+        }
+
+        for (var parameter : contentType.split(";")) {
+            var keyAndValue = parameter.split("=", 2);
+            if (keyAndValue.length == 2 && "charset".equalsIgnoreCase(keyAndValue[0].trim())) {
+                var name = strip(keyAndValue[1].trim(), "\"");
+                try {
+                    if (isNotBlank(name)) {
+                        return Charset.forName(name);
+                    }
+                } catch (Exception e) {
+                    return UTF_8;
+                }
+            }
+        }
+        return UTF_8;
+    }
+
 
     public static <T> MappedBodyHandler<String, T> deserialized(Class<T> toReturn, ObjectMapper mapper) {
-        return mapped(ofString(), new Deserialized<>(toReturn, mapper));
+        return mapped(ofString(), new Deserialized<T>(mapper.readerFor(toReturn))::fromString);
     }
 
     public static <T> MappedBodyHandler<String, T> deserialized(TypeReference<T> toReturn, ObjectMapper mapper) {
-        return mapped(ofString(), new Deserialized<>(toReturn, mapper));
+        return mapped(ofString(), new Deserialized<T>(mapper.readerFor(toReturn))::fromString);
     }
 
     public static <T> MappedBodyHandler<String, T> json(Class<T> toReturn) {
-        return deserialized(toReturn, JSON.getMapper());
+        return mapped(ofString(), new Deserialized<T>(JSON.readerFor(toReturn))::fromString);
     }
 
     public static <T> MappedBodyHandler<String, T> json(TypeReference<T> toReturn) {
-        return deserialized(toReturn, JSON.getMapper());
+        return mapped(ofString(), new Deserialized<T>(JSON.readerFor(toReturn))::fromString);
     }
 
     public static <T> MappedBodyHandler<String, T> xml(Class<T> toReturn) {
-        return deserialized(toReturn, XML.getMapper());
+        return mapped(ofString(), new Deserialized<T>(XML.readerFor(toReturn))::fromString);
     }
 
     public static <T> MappedBodyHandler<String, T> xml(TypeReference<T> toReturn) {
-        return deserialized(toReturn, XML.getMapper());
+        return mapped(ofString(), new Deserialized<T>(XML.readerFor(toReturn))::fromString);
+    }
+
+    /**
+     * Creates a new body handler that deserializes received bytes of a response body. It does the same
+     * as {@link #deserialized(Class, ObjectMapper)} but the body is not decoded into a string.
+     *
+     * @param toReturn is a class of a deserialized value
+     * @param mapper   is a mapper that deserializes the body
+     * @param <T>      is a type of a deserialized value
+     * @return a new {@link MappedBodyHandler}
+     * @see #streamed(BiFunction)
+     */
+    public static <T> MappedBodyHandler<InputStream, T> streamedDeserialized(Class<T> toReturn, ObjectMapper mapper) {
+        return streamed(new Deserialized<>(mapper.readerFor(toReturn)));
+    }
+
+    /**
+     * Creates a new body handler that deserializes received bytes of a response body.
+     *
+     * @param toReturn is a type reference of a deserialized value
+     * @param mapper   is a mapper that deserializes the body
+     * @param <T>      is a type of a deserialized value
+     * @return a new {@link MappedBodyHandler}
+     * @see #streamedDeserialized(Class, ObjectMapper)
+     */
+    public static <T> MappedBodyHandler<InputStream, T> streamedDeserialized(TypeReference<T> toReturn, ObjectMapper mapper) {
+        return streamed(new Deserialized<>(mapper.readerFor(toReturn)));
+    }
+
+    /**
+     * Creates a new body handler that deserializes received bytes of a JSON body.
+     *
+     * @param toReturn is a class of a deserialized value
+     * @param <T>      is a type of a deserialized value
+     * @return a new {@link MappedBodyHandler}
+     * @see #streamedDeserialized(Class, ObjectMapper)
+     */
+    public static <T> MappedBodyHandler<InputStream, T> streamedJson(Class<T> toReturn) {
+        return streamed(new Deserialized<>(JSON.readerFor(toReturn)));
+    }
+
+    /**
+     * Creates a new body handler that deserializes received bytes of a JSON body.
+     *
+     * @param toReturn is a type reference of a deserialized value
+     * @param <T>      is a type of a deserialized value
+     * @return a new {@link MappedBodyHandler}
+     * @see #streamedDeserialized(Class, ObjectMapper)
+     */
+    public static <T> MappedBodyHandler<InputStream, T> streamedJson(TypeReference<T> toReturn) {
+        return streamed(new Deserialized<>(JSON.readerFor(toReturn)));
+    }
+
+    /**
+     * Creates a new body handler that deserializes received bytes of an XML body.
+     *
+     * @param toReturn is a class of a deserialized value
+     * @param <T>      is a type of a deserialized value
+     * @return a new {@link MappedBodyHandler}
+     * @see #streamedDeserialized(Class, ObjectMapper)
+     */
+    public static <T> MappedBodyHandler<InputStream, T> streamedXml(Class<T> toReturn) {
+        return streamed(new Deserialized<>(XML.readerFor(toReturn)));
+    }
+
+    /**
+     * Creates a new body handler that deserializes received bytes of an XML body.
+     *
+     * @param toReturn is a type reference of a deserialized value
+     * @param <T>      is a type of a deserialized value
+     * @return a new {@link MappedBodyHandler}
+     * @see #streamedDeserialized(Class, ObjectMapper)
+     */
+    public static <T> MappedBodyHandler<InputStream, T> streamedXml(TypeReference<T> toReturn) {
+        return streamed(new Deserialized<>(XML.readerFor(toReturn)));
+    }
+
+    private static <T> BiFunction<InputStream, Charset, T> first(BiFunction<InputStream, Charset, List<T>> selection) {
+        return (in, charset) -> {
+            var selected = selection.apply(in, charset);
+            return selected.isEmpty() ? null : selected.get(0);
+        };
+    }
+
+    /**
+     * Creates a new body handler that selects a value of a JSON body by a JSON Pointer, e.g. {@code /data/items/0/name}.
+     * A segment {@code *} matches any field of an object and any item of an array. The body is read by
+     * a streaming parser, subtrees which are not selected are skipped without deserialization.
+     *
+     * @param pointer  is a JSON Pointer
+     * @param toReturn is a class of a selected value
+     * @param <T>      is a type of a selected value
+     * @return a new {@link MappedBodyHandler}. It returns the first selected value or {@code null} when
+     * nothing is selected.
+     */
+    public static <T> MappedBodyHandler<InputStream, T> jsonPointer(String pointer, Class<T> toReturn) {
+        return streamed(first(new JsonPointerSelection<>(pointer, JSON.readerFor(toReturn), 1)));
+    }
+
+    /**
+     * Creates a new body handler that selects a value of a JSON body by a JSON Pointer.
+     *
+     * @param pointer  is a JSON Pointer
+     * @param toReturn is a type reference of a selected value
+     * @param <T>      is a type of a selected value
+     * @return a new {@link MappedBodyHandler}. It returns the first selected value or {@code null} when
+     * nothing is selected.
+     * @see #jsonPointer(String, Class)
+     */
+    public static <T> MappedBodyHandler<InputStream, T> jsonPointer(String pointer, TypeReference<T> toReturn) {
+        return streamed(first(new JsonPointerSelection<>(pointer, JSON.readerFor(toReturn), 1)));
+    }
+
+    /**
+     * Creates a new body handler that selects all values of a JSON body which are matched by a JSON Pointer,
+     * e.g. {@code /data/items/{@literal *}/name}.
+     *
+     * @param pointer  is a JSON Pointer
+     * @param toReturn is a class of selected values
+     * @param <T>      is a type of selected values
+     * @return a new {@link MappedBodyHandler}. It returns a list of selected values.
+     * @see #jsonPointer(String, Class)
+     */
+    public static <T> MappedBodyHandler<InputStream, List<T>> jsonPointerAll(String pointer, Class<T> toReturn) {
+        return streamed(new JsonPointerSelection<>(pointer, JSON.readerFor(toReturn), MAX_VALUE));
+    }
+
+    /**
+     * Creates a new body handler that selects all values of a JSON body which are matched by a JSON Pointer.
+     *
+     * @param pointer  is a JSON Pointer
+     * @param toReturn is a type reference of selected values
+     * @param <T>      is a type of selected values
+     * @return a new {@link MappedBodyHandler}. It returns a list of selected values.
+     * @see #jsonPointer(String, Class)
+     */
+    public static <T> MappedBodyHandler<InputStream, List<T>> jsonPointerAll(String pointer, TypeReference<T> toReturn) {
+        return streamed(new JsonPointerSelection<>(pointer, JSON.readerFor(toReturn), MAX_VALUE));
+    }
+
+    /**
+     * Creates a new body handler that selects an element of an XML body by a simple path, e.g. {@code /root/items/item}
+     * or {@code //item}. Steps of the path are local names of elements or {@code *}. Predicates, attributes and
+     * functions of XPath are not supported. The body is read by a StAX parser, elements which are not selected
+     * are skipped without deserialization.
+     *
+     * @param path     is a path of an element
+     * @param toReturn is a class of a selected value
+     * @param <T>      is a type of a selected value
+     * @return a new {@link MappedBodyHandler}. It returns the first selected value or {@code null} when
+     * nothing is selected.
+     */
+    public static <T> MappedBodyHandler<InputStream, T> xmlPath(String path, Class<T> toReturn) {
+        return streamed(first(new XmlPathSelection<>(path, XML.readerFor(toReturn), 1)));
+    }
+
+    /**
+     * Creates a new body handler that selects an element of an XML body by a simple path.
+     *
+     * @param path     is a path of an element
+     * @param toReturn is a type reference of a selected value
+     * @param <T>      is a type of a selected value
+     * @return a new {@link MappedBodyHandler}. It returns the first selected value or {@code null} when
+     * nothing is selected.
+     * @see #xmlPath(String, Class)
+     */
+    public static <T> MappedBodyHandler<InputStream, T> xmlPath(String path, TypeReference<T> toReturn) {
+        return streamed(first(new XmlPathSelection<>(path, XML.readerFor(toReturn), 1)));
+    }
+
+    /**
+     * Creates a new body handler that selects all elements of an XML body which are matched by a simple path.
+     *
+     * @param path     is a path of elements
+     * @param toReturn is a class of selected values
+     * @param <T>      is a type of selected values
+     * @return a new {@link MappedBodyHandler}. It returns a list of selected values.
+     * @see #xmlPath(String, Class)
+     */
+    public static <T> MappedBodyHandler<InputStream, List<T>> xmlPathAll(String path, Class<T> toReturn) {
+        return streamed(new XmlPathSelection<>(path, XML.readerFor(toReturn), MAX_VALUE));
+    }
+
+    /**
+     * Creates a new body handler that selects all elements of an XML body which are matched by a simple path.
+     *
+     * @param path     is a path of elements
+     * @param toReturn is a type reference of selected values
+     * @param <T>      is a type of selected values
+     * @return a new {@link MappedBodyHandler}. It returns a list of selected values.
+     * @see #xmlPath(String, Class)
+     */
+    public static <T> MappedBodyHandler<InputStream, List<T>> xmlPathAll(String path, TypeReference<T> toReturn) {
+        return streamed(new XmlPathSelection<>(path, XML.readerFor(toReturn), MAX_VALUE));
     }
 
     public static MappedBodyHandler<String, org.w3c.dom.Document> w3cDocument() {
-        return mapped(ofString(), new W3CDocument());
+        return mapped(ofString(), new W3CDocument()::fromString);
     }
 
     public static MappedBodyHandler<String, org.w3c.dom.Document> w3cDocument(DocumentBuilder documentBuilder) {
-        return mapped(ofString(), new W3CDocument(documentBuilder));
+        return mapped(ofString(), new W3CDocument(documentBuilder)::fromString);
     }
 
     /**
@@ -80,12 +332,46 @@ public class MappedBodyHandler<S, T> implements HttpResponse.BodyHandler<T> {
      * @return a new {@link MappedBodyHandler}
      */
     public static MappedBodyHandler<String, org.jsoup.nodes.Document> jsoupDocument() {
-        return mapped(ofString(), new JSoupDocument());
+        return mapped(ofString(), new JSoupDocument()::fromString);
+    }
+
+    /**
+     * Creates a new body handler that parses received bytes of a response body to a {@link org.w3c.dom.Document}.
+     * The body is not decoded into a string.
+     *
+     * @return a new {@link MappedBodyHandler}
+     * @see #streamed(BiFunction)
+     */
+    public static MappedBodyHandler<InputStream, org.w3c.dom.Document> streamedW3cDocument() {
+        return streamed(new W3CDocument());
+    }
+
+    /**
+     * Creates a new body handler that parses received bytes of a response body to a {@link org.w3c.dom.Document}.
+     * The body is not decoded into a string.
+     *
+     * @param documentBuilder is a builder that parses the body
+     * @return a new {@link MappedBodyHandler}
+     * @see #streamed(BiFunction)
+     */
+    public static MappedBodyHandler<InputStream, org.w3c.dom.Document> streamedW3cDocument(DocumentBuilder documentBuilder) {
+        return streamed(new W3CDocument(documentBuilder));
+    }
+
+    /**
+     * Creates a new body handler that parses received bytes of a response body to a {@link org.jsoup.nodes.Document}.
+     * It is considered that response has a body of xml or html format. The body is not decoded into a string.
+     *
+     * @return a new {@link MappedBodyHandler}
+     * @see #streamed(BiFunction)
+     */
+    public static MappedBodyHandler<InputStream, org.jsoup.nodes.Document> streamedJsoupDocument() {
+        return streamed(new JSoupDocument());
     }
 
 
     @Override
     public HttpResponse.BodySubscriber<T> apply(HttpResponse.ResponseInfo responseInfo) {
-        return mapping(upstreamBodyHandler.apply(responseInfo), mapper);
+        return mapping(upstreamBodyHandler.apply(responseInfo), mapper.apply(responseInfo));
     }
 }
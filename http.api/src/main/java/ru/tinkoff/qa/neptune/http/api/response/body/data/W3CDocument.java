@@ -6,10 +6,13 @@ import org.xml.sax.InputSource;
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.io.StringReader;
-import java.util.function.Function;
+import java.nio.charset.Charset;
+import java.util.function.BiFunction;
 
-final class W3CDocument implements Function<String, Document> {
+final class W3CDocument implements BiFunction<InputStream, Charset, Document> {
 
     private final DocumentBuilder documentBuilder;
 
@@ -30,7 +33,16 @@ final class W3CDocument implements Function<String, Document> {
     }
 
     @Override
-    public Document apply(String s) {
+    public Document apply(InputStream in, Charset charset) {
+        var inputSource = new InputSource(new InputStreamReader(in, charset));
+        try {
+            return documentBuilder.parse(inputSource);
+        } catch (Throwable t) {
+            throw new RuntimeException(t);
+        }
+    }
+
+    Document fromString(String s) {
         var inputSource = new InputSource(new StringReader(s));
         try {
             return documentBuilder.parse(inputSource);
@@ -0,0 +1,197 @@
+package ru.tinkoff.qa.neptune.http.api.response.body.data;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.xml.XmlFactory;
+
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiFunction;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static javax.xml.stream.XMLStreamConstants.END_ELEMENT;
+import static javax.xml.stream.XMLStreamConstants.START_ELEMENT;
+
+/**
+ * Selects elements of an XML body by a simple absolute path like {@code /root/items/item}. A step {@code *}
+ * matches any element. A step that starts with {@code //} matches an element at any depth below the previous step.
+ * Names are compared by local names, prefixes and namespaces are ignored. Other features of XPath
+ * are not supported.
+ * <p>
+ * The body is read by a StAX parser: elements which can't contain selected elements are skipped
+ * without binding, only selected elements are deserialized.
+ *
+ * @param <T> is a type of a selected value
+ */
+final class XmlPathSelection<T> implements BiFunction<InputStream, Charset, List<T>> {
+
+    private final String path;
+    private final String[] names;
+    private final boolean[] descendant;
+    private final ObjectReader reader;
+    private final XmlFactory factory;
+    private final int limit;
+
+    XmlPathSelection(String path, ObjectReader reader, int limit) {
+        checkNotNull(path, "Path should be defined");
+        checkArgument(path.startsWith("/") && path.length() > 1, "Path should start with '/'. Actual: " + path);
+        checkNotNull(reader);
+        checkArgument(reader.getFactory() instanceof XmlFactory, "Object reader should be created by XmlMapper");
+
+        this.path = path;
+        var steps = new ArrayList<String>();
+        var descendantSteps = new ArrayList<Boolean>();
+        var isDescendant = false;
+        for (var s : path.substring(1).split("/", -1)) {
+            if (s.isEmpty()) {
+                checkArgument(!isDescendant, "Path has an empty step: " + path);
+                isDescendant = true;
+                continue;
+            }
+            checkArgument(!s.contains("[") && !s.contains("@") && !s.contains("("),
+                    "Only names and '*' are supported by steps of the path: " + path);
+            steps.add(s);
+            descendantSteps.add(isDescendant);
+            isDescendant = false;
+        }
+        checkArgument(!isDescendant && !steps.isEmpty(), "Path should end with a name or '*': " + path);
+
+        names = steps.toArray(new String[0]);
+        descendant = new boolean[names.length];
+        for (int i = 0; i < descendant.length; i++) {
+            descendant[i] = descendantSteps.get(i);
+        }
+
+        this.reader = reader;
+        this.factory = (XmlFactory) reader.getFactory();
+        this.limit = limit;
+    }
+
+    private boolean hasDescendantSteps() {
+        for (var d : descendant) {
+            if (d) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public List<T> apply(InputStream in, Charset charset) {
+        var result = new ArrayList<T>();
+        XMLStreamReader xmlReader = null;
+        try {
+            xmlReader = factory.getXMLInputFactory().createXMLStreamReader(new InputStreamReader(in, charset));
+            var canSkip = !hasDescendantSteps();
+            var stack = new ArrayList<String>();
+            while (xmlReader.hasNext()) {
+                var event = xmlReader.next();
+                if (event == END_ELEMENT) {
+                    stack.remove(stack.size() - 1);
+                    continue;
+                }
+
+                if (event != START_ELEMENT) {
+                    continue;
+                }
+
+                stack.add(xmlReader.getLocalName());
+                if (matches(stack, stack.size() - 1, names.length - 1)) {
+                    //the parser reads the selected element with its end. It is not closed because
+                    //the closing of the parser closes the stream reader
+                    result.add(reader.readValue(factory.createParser(xmlReader)));
+                    stack.remove(stack.size() - 1);
+                    if (result.size() >= limit) {
+                        return result;
+                    }
+                } else if (canSkip && !isPrefix(stack)) {
+                    skipElement(xmlReader);
+                    stack.remove(stack.size() - 1);
+                }
+            }
+            return result;
+        } catch (IOException | XMLStreamException e) {
+            throw new RuntimeException(e);
+        } finally {
+            if (xmlReader != null) {
+                try {
+                    xmlReader.close();
+                } catch (XMLStreamException ignored) {
+                }
+            }
+        }
+    }
+
+    private static void skipElement(XMLStreamReader xmlReader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            var event = xmlReader.next();
+            if (event == START_ELEMENT) {
+                depth++;
+            } else if (event == END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    private boolean nameMatches(String name, int step) {
+        return "*".equals(names[step]) || names[step].equals(name);
+    }
+
+    /**
+     * Checks that elements of the stack from the root to {@code element} match steps of the path from the first
+     * to {@code step}, and {@code element} matches {@code step}.
+     */
+    private boolean matches(List<String> stack, int element, int step) {
+        if (element < 0 || step < 0) {
+            return element < 0 && step < 0;
+        }
+
+        if (!nameMatches(stack.get(element), step)) {
+            return false;
+        }
+
+        if (!descendant[step]) {
+            return matches(stack, element - 1, step - 1);
+        }
+
+        if (step == 0) {
+            return true;
+        }
+
+        for (int e = element - 1; e >= 0; e--) {
+            if (matches(stack, e, step - 1)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks that selected elements may be found inside the last element of the stack.
+     * It is used only by paths which have no descendant steps.
+     */
+    private boolean isPrefix(List<String> stack) {
+        if (stack.size() >= names.length) {
+            return false;
+        }
+
+        for (int i = 0; i < stack.size(); i++) {
+            if (!nameMatches(stack.get(i), i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return "XML path " + path;
+    }
+}
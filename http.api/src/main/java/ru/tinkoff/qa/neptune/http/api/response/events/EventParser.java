@@ -0,0 +1,27 @@
+package ru.tinkoff.qa.neptune.http.api.response.events;
+
+import java.nio.ByteBuffer;
+import java.util.function.Consumer;
+
+/**
+ * Parses events of a streamed response body as bytes are received.
+ *
+ * @param <T> is a type of an event
+ */
+interface EventParser<T> {
+
+    /**
+     * Parses received bytes. Parsed events are passed to the consumer at once.
+     *
+     * @param buffer   is received bytes
+     * @param consumer accepts parsed events
+     */
+    void feed(ByteBuffer buffer, Consumer<? super T> consumer);
+
+    /**
+     * Is invoked when all the body is received.
+     *
+     * @param consumer accepts the rest of events
+     */
+    void finish(Consumer<? super T> consumer);
+}
@@ -0,0 +1,132 @@
+package ru.tinkoff.qa.neptune.http.api.response.events;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.util.Locale.ROOT;
+import static ru.tinkoff.qa.neptune.http.api.mapping.DefaultMapper.JSON;
+
+/**
+ * Describes a format of a streamed response body and how to read events from it.
+ *
+ * @param <T> is a type of an event
+ */
+public final class EventStreamFormat<T> {
+
+    private static final Set<String> ND_JSON_TYPES = Set.of("application/x-ndjson",
+            "application/ndjson",
+            "application/jsonl",
+            "application/x-jsonlines",
+            "application/stream+json",
+            "application/json");
+
+    private final String description;
+    private final Supplier<EventParser<T>> parserSupplier;
+    private final Predicate<String> isExpectedMediaType;
+
+    private EventStreamFormat(String description,
+                              Supplier<EventParser<T>> parserSupplier,
+                              Predicate<String> isExpectedMediaType) {
+        this.description = description;
+        this.parserSupplier = parserSupplier;
+        this.isExpectedMediaType = isExpectedMediaType;
+    }
+
+    /**
+     * Events of {@code text/event-stream} format.
+     *
+     * @return format of server-sent events
+     */
+    public static EventStreamFormat<ServerSentEvent> serverSentEvents() {
+        return new EventStreamFormat<>("text/event-stream",
+                ServerSentEventParser::new,
+                "text/event-stream"::equals);
+    }
+
+    /**
+     * Lines of {@code application/x-ndjson} format. Each line is deserialized by the default json mapper.
+     *
+     * @param cls is a class of an event
+     * @param <T> is a type of an event
+     * @return format of newline delimited JSON
+     */
+    public static <T> EventStreamFormat<T> ndJson(Class<T> cls) {
+        checkNotNull(cls);
+        return ndJson(JSON.readerFor(cls), cls.getName());
+    }
+
+    /**
+     * Lines of {@code application/x-ndjson} format. Each line is deserialized by the default json mapper.
+     *
+     * @param typeReference is a type of an event
+     * @param <T>           is a type of an event
+     * @return format of newline delimited JSON
+     */
+    public static <T> EventStreamFormat<T> ndJson(TypeReference<T> typeReference) {
+        checkNotNull(typeReference);
+        return ndJson(JSON.readerFor(typeReference), typeReference.getType().getTypeName());
+    }
+
+    private static <T> EventStreamFormat<T> ndJson(ObjectReader reader, String type) {
+        return new EventStreamFormat<>("application/x-ndjson of " + type,
+                () -> new NdJsonParser<>(reader),
+                ND_JSON_TYPES::contains);
+    }
+
+    /**
+     * Items of a JSON array which is received by chunks. Each item is deserialized by the default json mapper
+     * as soon as it is received.
+     *
+     * @param cls is a class of an item
+     * @param <T> is a type of an item
+     * @return format of JSON array
+     */
+    public static <T> EventStreamFormat<T> jsonArrayItems(Class<T> cls) {
+        checkNotNull(cls);
+        return jsonArrayItems(JSON.readerFor(cls), cls.getName());
+    }
+
+    /**
+     * Items of a JSON array which is received by chunks. Each item is deserialized by the default json mapper
+     * as soon as it is received.
+     *
+     * @param typeReference is a type of an item
+     * @param <T>           is a type of an item
+     * @return format of JSON array
+     */
+    public static <T> EventStreamFormat<T> jsonArrayItems(TypeReference<T> typeReference) {
+        checkNotNull(typeReference);
+        return jsonArrayItems(JSON.readerFor(typeReference), typeReference.getType().getTypeName());
+    }
+
+    private static <T> EventStreamFormat<T> jsonArrayItems(ObjectReader reader, String type) {
+        return new EventStreamFormat<>("JSON array of " + type,
+                () -> new JsonArrayParser<>(reader),
+                s -> s.equals("application/json") || s.endsWith("+json"));
+    }
+
+    EventParser<T> newParser() {
+        return parserSupplier.get();
+    }
+
+    /**
+     * Checks a value of the {@code Content-Type} header of a response.
+     *
+     * @param contentType is a value of the header. Parameters (e.g. {@code charset}) are ignored
+     * @return is the body of the expected format
+     */
+    boolean isExpectedContentType(String contentType) {
+        var mediaType = contentType.split(";", 2)[0].trim().toLowerCase(ROOT);
+        return isExpectedMediaType.test(mediaType);
+    }
+
+    @Override
+    public String toString() {
+        return description;
+    }
+}
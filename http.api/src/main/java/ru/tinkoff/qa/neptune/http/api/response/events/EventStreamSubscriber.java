@@ -0,0 +1,130 @@
+package ru.tinkoff.qa.neptune.http.api.response.events;
+
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+import java.util.function.Predicate;
+
+/**
+ * Parses events while a body is received and checks each event as soon as it is parsed. The receiving
+ * is stopped when the expected count of events which meet criteria is reached. Only last events are kept
+ * to be reported.
+ *
+ * @param <T> is a type of an event
+ */
+final class EventStreamSubscriber<T> implements HttpResponse.BodySubscriber<List<T>> {
+
+    private final CompletableFuture<List<T>> result = new CompletableFuture<>();
+    private final EventParser<T> parser;
+    private final Predicate<? super T> criteria;
+    private final int expected;
+    private final int window;
+    private final List<T> matched = new ArrayList<>();
+    private final ArrayDeque<T> last;
+    private long receivedCount;
+    private volatile Flow.Subscription subscription;
+
+    EventStreamSubscriber(EventParser<T> parser, Predicate<? super T> criteria, int expected, int window) {
+        this.parser = parser;
+        this.criteria = criteria;
+        this.expected = expected;
+        this.window = window;
+        this.last = new ArrayDeque<>(window);
+    }
+
+    @Override
+    public CompletionStage<List<T>> getBody() {
+        return result;
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        this.subscription = subscription;
+        subscription.request(1);
+    }
+
+    @Override
+    public void onNext(List<ByteBuffer> items) {
+        try {
+            for (var item : items) {
+                if (result.isDone()) {
+                    return;
+                }
+                parser.feed(item, this::accept);
+            }
+        } catch (Throwable t) {
+            result.completeExceptionally(t);
+            cancel();
+            return;
+        }
+
+        if (!result.isDone()) {
+            subscription.request(1);
+        }
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        result.completeExceptionally(throwable);
+    }
+
+    @Override
+    public void onComplete() {
+        try {
+            parser.finish(this::accept);
+        } catch (Throwable t) {
+            result.completeExceptionally(t);
+            return;
+        }
+        result.complete(getMatched());
+    }
+
+    private void accept(T event) {
+        if (result.isDone()) {
+            return;
+        }
+
+        synchronized (this) {
+            receivedCount++;
+            if (window > 0) {
+                if (last.size() == window) {
+                    last.removeFirst();
+                }
+                last.addLast(event);
+            }
+
+            if (!criteria.test(event)) {
+                return;
+            }
+            matched.add(event);
+        }
+
+        if (matched.size() >= expected) {
+            result.complete(getMatched());
+            cancel();
+        }
+    }
+
+    /**
+     * Stops the receiving of a body.
+     */
+    void cancel() {
+        var s = subscription;
+        if (s != null) {
+            s.cancel();
+        }
+    }
+
+    synchronized List<T> getMatched() {
+        return new ArrayList<>(matched);
+    }
+
+    synchronized ReceivedEvents getReceived() {
+        return new ReceivedEvents(new ArrayList<>(last), receivedCount);
+    }
+}
@@ -0,0 +1,102 @@
+package ru.tinkoff.qa.neptune.http.api.response.events;
+
+import ru.tinkoff.qa.neptune.http.api.request.RequestBuilder;
+import ru.tinkoff.qa.neptune.http.api.response.ExpectedHttpResponseHasNotBeenReceivedException;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Predicate;
+
+import static java.lang.String.format;
+import static java.net.http.HttpResponse.BodySubscribers.replacing;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * Sends a request once and receives events of a streamed response body.
+ *
+ * @param <T> is a type of an event
+ */
+final class EventsReceiving<T> {
+
+    final RequestBuilder requestBuilder;
+    final EventStreamFormat<T> format;
+    Predicate<? super T> criteria = t -> true;
+    int expected = 1;
+    int window = 100;
+    Duration waitingTime = Duration.ofMinutes(1);
+    private volatile EventStreamSubscriber<T> lastSubscriber;
+
+    EventsReceiving(RequestBuilder requestBuilder, EventStreamFormat<T> format) {
+        this.requestBuilder = requestBuilder;
+        this.format = format;
+    }
+
+    List<T> receive(HttpClient client) {
+        var request = requestBuilder.build();
+        var subscriber = new EventStreamSubscriber<>(format.newParser(), criteria, expected, window);
+        lastSubscriber = subscriber;
+
+        var response = client.sendAsync(request, responseInfo -> {
+            var unexpected = checkResponse(request, responseInfo);
+            if (unexpected != null) {
+                //the body is not read. Events can't be received from it
+                subscriber.onError(unexpected);
+                return replacing(List.of());
+            }
+            return subscriber;
+        });
+        //a response is not waited for. The receiving of a body may be stopped before the body is received completely
+        response.whenComplete((r, t) -> {
+            if (t != null) {
+                subscriber.onError(t);
+            }
+        });
+
+        try {
+            return subscriber.getBody().toCompletableFuture().get(waitingTime.toNanos(), NANOSECONDS);
+        } catch (TimeoutException e) {
+            //events which have been received before the time is out are returned
+            subscriber.cancel();
+            response.cancel(true);
+            return subscriber.getMatched();
+        } catch (InterruptedException e) {
+            subscriber.cancel();
+            response.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } catch (ExecutionException e) {
+            var cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new RuntimeException(cause);
+        }
+    }
+
+    private ExpectedHttpResponseHasNotBeenReceivedException checkResponse(HttpRequest request,
+                                                                         HttpResponse.ResponseInfo responseInfo) {
+        var statusCode = responseInfo.statusCode();
+        var contentType = responseInfo.headers().firstValue("Content-Type").orElse(null);
+        if (statusCode / 100 == 2 && (contentType == null || format.isExpectedContentType(contentType))) {
+            return null;
+        }
+
+        return new ExpectedHttpResponseHasNotBeenReceivedException(format("Events of %s can't be received. "
+                        + "Response to %s %s: status code %s, Content-Type %s",
+                format,
+                request.method(),
+                request.uri(),
+                statusCode,
+                contentType));
+    }
+
+    ReceivedEvents getReceived() {
+        var subscriber = lastSubscriber;
+        return subscriber == null ? null : subscriber.getReceived();
+    }
+}
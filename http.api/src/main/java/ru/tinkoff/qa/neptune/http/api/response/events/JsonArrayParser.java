@@ -0,0 +1,106 @@
+package ru.tinkoff.qa.neptune.http.api.response.events;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.function.Consumer;
+
+import static com.fasterxml.jackson.core.JsonToken.*;
+
+/**
+ * Parses items of a JSON array while the array is received. It uses the non-blocking parser of Jackson,
+ * so an item is read as soon as its last byte is received.
+ *
+ * @param <T> is a type of an item
+ */
+final class JsonArrayParser<T> implements EventParser<T> {
+
+    private final ObjectReader reader;
+    private final JsonParser parser;
+    private final ByteArrayFeeder feeder;
+    private boolean inArray;
+    private TokenBuffer item;
+    private int itemDepth;
+
+    JsonArrayParser(ObjectReader reader) {
+        this.reader = reader;
+        try {
+            parser = reader.getFactory().createNonBlockingByteArrayParser();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+    }
+
+    @Override
+    public void feed(ByteBuffer buffer, Consumer<? super T> consumer) {
+        var bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        try {
+            feeder.feedInput(bytes, 0, bytes.length);
+            parse(consumer);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void finish(Consumer<? super T> consumer) {
+        feeder.endOfInput();
+        try {
+            parse(consumer);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void parse(Consumer<? super T> consumer) throws IOException {
+        JsonToken token;
+        while ((token = parser.nextToken()) != null && token != NOT_AVAILABLE) {
+            if (item == null) {
+                if (!inArray) {
+                    if (token != START_ARRAY) {
+                        throw new IllegalStateException("JSON array is expected. Token " + token + " was read");
+                    }
+                    inArray = true;
+                    continue;
+                }
+
+                if (token == END_ARRAY) {
+                    inArray = false;
+                    continue;
+                }
+
+                item = new TokenBuffer(parser);
+                item.copyCurrentEvent(parser);
+                if (token.isStructStart()) {
+                    itemDepth = 1;
+                } else {
+                    emit(consumer);
+                }
+                continue;
+            }
+
+            item.copyCurrentEvent(parser);
+            if (token.isStructStart()) {
+                itemDepth++;
+            } else if (token.isStructEnd() && --itemDepth == 0) {
+                emit(consumer);
+            }
+        }
+    }
+
+    private void emit(Consumer<? super T> consumer) throws IOException {
+        var tokens = item;
+        item = null;
+        try (var itemParser = tokens.asParser()) {
+            consumer.accept(reader.readValue(itemParser));
+        }
+    }
+}
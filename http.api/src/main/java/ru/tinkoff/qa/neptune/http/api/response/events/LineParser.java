@@ -0,0 +1,52 @@
+package ru.tinkoff.qa.neptune.http.api.response.events;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.function.Consumer;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Splits received bytes into lines. Lines may be separated by {@code LF} or {@code CRLF}.
+ *
+ * @param <T> is a type of an event
+ */
+abstract class LineParser<T> implements EventParser<T> {
+
+    private final ByteArrayOutputStream line = new ByteArrayOutputStream();
+
+    @Override
+    public void feed(ByteBuffer buffer, Consumer<? super T> consumer) {
+        while (buffer.hasRemaining()) {
+            var b = buffer.get();
+            if (b == '\n') {
+                onLine(takeLine(), consumer);
+            } else {
+                line.write(b);
+            }
+        }
+    }
+
+    @Override
+    public void finish(Consumer<? super T> consumer) {
+        if (line.size() > 0) {
+            onLine(takeLine(), consumer);
+        }
+        onEnd(consumer);
+    }
+
+    private String takeLine() {
+        var bytes = line.toByteArray();
+        line.reset();
+        var length = bytes.length;
+        if (length > 0 && bytes[length - 1] == '\r') {
+            length--;
+        }
+        return new String(bytes, 0, length, UTF_8);
+    }
+
+    abstract void onLine(String line, Consumer<? super T> consumer);
+
+    void onEnd(Consumer<? super T> consumer) {
+    }
+}
@@ -0,0 +1,36 @@
+package ru.tinkoff.qa.neptune.http.api.response.events;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+import static org.apache.commons.lang3.StringUtils.isBlank;
+
+/**
+ * Parses a body of {@code application/x-ndjson} format. Each line is a JSON value.
+ *
+ * @param <T> is a type of an event
+ */
+final class NdJsonParser<T> extends LineParser<T> {
+
+    private final ObjectReader reader;
+
+    NdJsonParser(ObjectReader reader) {
+        this.reader = reader;
+    }
+
+    @Override
+    void onLine(String line, Consumer<? super T> consumer) {
+        if (isBlank(line)) {
+            return;
+        }
+
+        try {
+            consumer.accept(reader.readValue(line));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package ru.tinkoff.qa.neptune.http.api.response.events;
+
+import java.util.List;
+
+/**
+ * Last events which were received from a streamed response body.
+ */
+public final class ReceivedEvents {
+
+    private final List<?> lastEvents;
+    private final long receivedCount;
+
+    ReceivedEvents(List<?> lastEvents, long receivedCount) {
+        this.lastEvents = lastEvents;
+        this.receivedCount = receivedCount;
+    }
+
+    /**
+     * @return last received events. Count of them is limited.
+     */
+    public List<?> getLastEvents() {
+        return lastEvents;
+    }
+
+    /**
+     * @return count of all received events
+     */
+    public long getReceivedCount() {
+        return receivedCount;
+    }
+}
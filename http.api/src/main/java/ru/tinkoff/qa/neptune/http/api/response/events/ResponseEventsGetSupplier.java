@@ -0,0 +1,189 @@
+package ru.tinkoff.qa.neptune.http.api.response.events;
+
+import ru.tinkoff.qa.neptune.core.api.event.firing.Captor;
+import ru.tinkoff.qa.neptune.core.api.event.firing.annotations.CaptureOnSuccess;
+import ru.tinkoff.qa.neptune.core.api.event.firing.annotations.MaxDepthOfReporting;
+import ru.tinkoff.qa.neptune.core.api.event.firing.collections.CollectionCaptor;
+import ru.tinkoff.qa.neptune.core.api.steps.Criteria;
+import ru.tinkoff.qa.neptune.core.api.steps.SequentialGetStepSupplier;
+import ru.tinkoff.qa.neptune.core.api.steps.annotations.Description;
+import ru.tinkoff.qa.neptune.core.api.steps.annotations.DescriptionFragment;
+import ru.tinkoff.qa.neptune.core.api.steps.annotations.ThrowWhenNoData;
+import ru.tinkoff.qa.neptune.http.api.HttpStepContext;
+import ru.tinkoff.qa.neptune.http.api.captors.response.ReceivedEventsCaptor;
+import ru.tinkoff.qa.neptune.http.api.request.RequestBuilder;
+import ru.tinkoff.qa.neptune.http.api.response.DesiredDataHasNotBeenReceivedException;
+import ru.tinkoff.qa.neptune.http.api.response.ExpectedHttpResponseHasNotBeenReceivedException;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.lang.String.valueOf;
+import static java.util.Optional.ofNullable;
+import static org.apache.commons.lang3.time.DurationFormatUtils.formatDurationHMS;
+import static ru.tinkoff.qa.neptune.core.api.event.firing.StaticEventFiring.catchValue;
+import static ru.tinkoff.qa.neptune.core.api.event.firing.annotations.CaptorUtil.createCaptors;
+import static ru.tinkoff.qa.neptune.core.api.properties.general.events.DoCapturesOf.catchFailureEvent;
+import static ru.tinkoff.qa.neptune.core.api.properties.general.events.DoCapturesOf.catchSuccessEvent;
+
+/**
+ * Builds a step-function that sends an http request once and reads events of a streamed response body
+ * as they are received. Each event is checked by criteria at once. The step is finished when the expected count
+ * of events meet criteria, the body is received completely or the time to wait is out. The request is not sent again.
+ *
+ * @param <T> is a type of an event
+ */
+@CaptureOnSuccess(by = CollectionCaptor.class)
+@SequentialGetStepSupplier.DefineCriteriaParameterName("Event criteria")
+@MaxDepthOfReporting(0)
+@ThrowWhenNoData(toThrow = DesiredDataHasNotBeenReceivedException.class, startDescription = "No events received:")
+public final class ResponseEventsGetSupplier<T> extends SequentialGetStepSupplier.GetIterableStepSupplier<HttpStepContext,
+        List<T>, T, ResponseEventsGetSupplier<T>> {
+
+    private final EventsReceiving<T> receiving;
+
+    private ResponseEventsGetSupplier(EventsReceiving<T> receiving) {
+        super(httpStepContext -> receiving.receive(httpStepContext.getCurrentClient()));
+        this.receiving = receiving;
+    }
+
+    /**
+     * Creates an instance that builds a step-function to send an http request and to read events
+     * of a streamed response body.
+     *
+     * @param requestBuilder is a builder of an http request. The request is built when the step is performed
+     * @param format         is a format of a streamed body. When a response has another {@code Content-Type}
+     *                       or its status code is not 2xx then {@link ExpectedHttpResponseHasNotBeenReceivedException}
+     *                       is thrown at once
+     * @param <T>            is a type of an event
+     * @return an instance of {@link ResponseEventsGetSupplier}
+     * @see EventStreamFormat#serverSentEvents()
+     * @see EventStreamFormat#ndJson(Class)
+     * @see EventStreamFormat#jsonArrayItems(Class)
+     */
+    @Description("Events of http response. Format: {format}")
+    public static <T> ResponseEventsGetSupplier<T> responseEvents(RequestBuilder requestBuilder,
+                                                                  @DescriptionFragment("format") EventStreamFormat<T> format) {
+        checkNotNull(requestBuilder, "Request builder should be defined");
+        checkNotNull(format, "Format should be defined");
+        return new ResponseEventsGetSupplier<>(new EventsReceiving<>(requestBuilder, format));
+    }
+
+    /**
+     * Defines count of events which meet criteria. The receiving of events is stopped when this count is reached.
+     * Default value is 1.
+     *
+     * @param count is count of events to wait for
+     * @return self-reference
+     */
+    public ResponseEventsGetSupplier<T> count(int count) {
+        checkArgument(count > 0, "Count of events should be positive");
+        receiving.expected = count;
+        return this;
+    }
+
+    /**
+     * Defines time to wait for events. Events which meet criteria and are received before the time is out
+     * are returned. Default value is 1 minute.
+     *
+     * @param waitingTime is time to wait for events
+     * @return self-reference
+     */
+    public ResponseEventsGetSupplier<T> waitingTime(Duration waitingTime) {
+        checkNotNull(waitingTime, "Time to wait should be defined");
+        checkArgument(!waitingTime.isNegative(), "Time to wait should not be negative");
+        receiving.waitingTime = waitingTime;
+        return this;
+    }
+
+    /**
+     * Defines time to wait for events. It is the same as {@link #waitingTime(Duration)}. The request is not sent again.
+     *
+     * @param timeOut is time to wait for events
+     * @return self-reference
+     */
+    @Override
+    public ResponseEventsGetSupplier<T> timeOut(Duration timeOut) {
+        //the common time out of the super class would send the request again
+        return waitingTime(timeOut);
+    }
+
+    /**
+     * Defines count of last received events which are kept to be attached to a report. Default value is 100.
+     *
+     * @param window is count of last events to keep
+     * @return self-reference
+     */
+    public ResponseEventsGetSupplier<T> keepLast(int window) {
+        checkArgument(window >= 0, "Count of events to keep should not be negative");
+        receiving.window = window;
+        return this;
+    }
+
+    /**
+     * Defines criteria for events. Each event is checked as soon as it is received.
+     *
+     * @param criteria describes which condition should be met by an event
+     * @return self-reference
+     */
+    @Override
+    public ResponseEventsGetSupplier<T> criteria(Criteria<? super T> criteria) {
+        Predicate<? super T> predicate = criteria.get();
+        var previous = receiving.criteria;
+        receiving.criteria = t -> previous.test(t) && predicate.test(t);
+        return super.criteria(criteria);
+    }
+
+    /**
+     * Defines criteria for events. Each event is checked as soon as it is received.
+     *
+     * @param description of the criteria
+     * @param predicate   is a condition that should be met by an event
+     * @return self-reference
+     */
+    @Override
+    public ResponseEventsGetSupplier<T> criteria(String description, Predicate<? super T> predicate) {
+        return super.criteria(description, predicate);
+    }
+
+    @Override
+    protected void onSuccess(List<T> events) {
+        if (toReport && catchSuccessEvent()) {
+            ofNullable(receiving.getReceived())
+                    .ifPresent(r -> catchValue(r, createCaptors(captors(ReceivedEventsCaptor.class))));
+        }
+    }
+
+    @Override
+    protected void onFailure(HttpStepContext httpStepContext, Throwable throwable) {
+        if (toReport && catchFailureEvent()) {
+            ofNullable(receiving.getReceived())
+                    .ifPresent(r -> catchValue(r, createCaptors(captors(ReceivedEventsCaptor.class))));
+        }
+    }
+
+    //a typed array of captor classes, so neither a raw array nor an unchecked conversion is needed
+    @SafeVarargs
+    private static Class<? extends Captor<?, ?>>[] captors(Class<? extends Captor<?, ?>>... classes) {
+        return classes;
+    }
+
+    @Override
+    public Map<String, String> getParameters() {
+        var p = super.getParameters();
+
+        var request = receiving.requestBuilder.build();
+        var params = new LinkedHashMap<String, String>();
+        params.put("Http endpoint URI", request.uri().toString());
+        params.put("Http Method", request.method());
+        params.put("Count of events", valueOf(receiving.expected));
+        params.put("Time to wait for events", formatDurationHMS(receiving.waitingTime.toMillis()));
+        params.putAll(p);
+        return params;
+    }
+}
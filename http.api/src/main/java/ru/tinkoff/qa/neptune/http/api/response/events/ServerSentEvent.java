@@ -0,0 +1,56 @@
+package ru.tinkoff.qa.neptune.http.api.response.events;
+
+import static java.util.Optional.ofNullable;
+
+/**
+ * An event which is received from a body of {@code text/event-stream} format.
+ */
+public final class ServerSentEvent {
+
+    private final String id;
+    private final String event;
+    private final String data;
+    private final Long retry;
+
+    ServerSentEvent(String id, String event, String data, Long retry) {
+        this.id = id;
+        this.event = event;
+        this.data = data;
+        this.retry = retry;
+    }
+
+    /**
+     * @return id of the last event. It may be {@code null}
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * @return type of an event. It is {@code 'message'} when type is not defined
+     */
+    public String getEvent() {
+        return ofNullable(event).orElse("message");
+    }
+
+    /**
+     * @return data of an event
+     */
+    public String getData() {
+        return data;
+    }
+
+    /**
+     * @return time to reconnect in milliseconds. It may be {@code null}
+     */
+    public Long getRetry() {
+        return retry;
+    }
+
+    @Override
+    public String toString() {
+        var builder = new StringBuilder("event: ").append(getEvent());
+        ofNullable(id).ifPresent(s -> builder.append(", id: ").append(s));
+        return builder.append(", data: ").append(data).toString();
+    }
+}
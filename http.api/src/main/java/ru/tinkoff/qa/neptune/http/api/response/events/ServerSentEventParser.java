@@ -0,0 +1,80 @@
+package ru.tinkoff.qa.neptune.http.api.response.events;
+
+import java.util.function.Consumer;
+
+import static java.lang.Long.parseLong;
+
+/**
+ * Parses a body of {@code text/event-stream} format.
+ */
+final class ServerSentEventParser extends LineParser<ServerSentEvent> {
+
+    private final StringBuilder data = new StringBuilder();
+    private String event;
+    private String lastEventId;
+    private Long retry;
+    private boolean hasData;
+
+    @Override
+    void onLine(String line, Consumer<? super ServerSentEvent> consumer) {
+        if (line.isEmpty()) {
+            dispatch(consumer);
+            return;
+        }
+
+        if (line.startsWith(":")) {
+            return;
+        }
+
+        var colon = line.indexOf(':');
+        String field;
+        String value;
+        if (colon < 0) {
+            field = line;
+            value = "";
+        } else {
+            field = line.substring(0, colon);
+            value = line.substring(colon + 1);
+            if (value.startsWith(" ")) {
+                value = value.substring(1);
+            }
+        }
+
+        switch (field) {
+            case "event":
+                event = value;
+                break;
+            case "data":
+                if (hasData) {
+                    data.append('\n');
+                }
+                data.append(value);
+                hasData = true;
+                break;
+            case "id":
+                if (value.indexOf('\0') < 0) {
+                    lastEventId = value;
+                }
+                break;
+            case "retry":
+                try {
+                    retry = parseLong(value);
+                } catch (NumberFormatException ignored) {
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    private void dispatch(Consumer<? super ServerSentEvent> consumer) {
+        if (hasData) {
+            consumer.accept(new ServerSentEvent(lastEventId, event, data.toString(), retry));
+        }
+
+        data.setLength(0);
+        hasData = false;
+        event = null;
+        retry = null;
+    }
+}
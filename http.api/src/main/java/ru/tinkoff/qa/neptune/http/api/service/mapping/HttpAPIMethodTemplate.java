@@ -0,0 +1,179 @@
+package ru.tinkoff.qa.neptune.http.api.service.mapping;
+
+import ru.tinkoff.qa.neptune.http.api.request.RequestBuilder;
+import ru.tinkoff.qa.neptune.http.api.request.RequestTuner;
+import ru.tinkoff.qa.neptune.http.api.request.body.RequestBody;
+import ru.tinkoff.qa.neptune.http.api.service.mapping.annotations.parameters.path.PathParameter.PathTemplate;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Method;
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+
+import static java.lang.String.format;
+import static java.lang.invoke.MethodHandles.lookup;
+import static java.lang.invoke.MethodHandles.privateLookupIn;
+import static java.lang.invoke.MethodType.methodType;
+import static java.util.Collections.unmodifiableMap;
+import static java.util.Optional.ofNullable;
+import static ru.tinkoff.qa.neptune.http.api.service.mapping.annotations.methods.Header.HeaderReader.readHeaders;
+import static ru.tinkoff.qa.neptune.http.api.service.mapping.annotations.methods.HttpMethod.HttpMethodFactory.requestBuilderFactory;
+import static ru.tinkoff.qa.neptune.http.api.service.mapping.annotations.parameters.body.BodyParameterAnnotationReader.readBodies;
+import static ru.tinkoff.qa.neptune.http.api.service.mapping.annotations.parameters.path.PathParameter.PathParameterReader.compilePathTemplate;
+
+/**
+ * Describes how an invocation of a method of {@link HttpAPI} is handled. A method is read once and
+ * then its template is reused by all invocations of the method, so an invocation is only a binding of
+ * values of parameters.
+ */
+final class HttpAPIMethodTemplate {
+
+    private static final String USE_FOR_REQUEST_BUILDING = "useForRequestBuilding";
+    private static final Object[] NO_ARGS = new Object[]{};
+
+    private static final ClassValue<Map<Method, HttpAPIMethodTemplate>> TEMPLATES = new ClassValue<>() {
+        @Override
+        protected Map<Method, HttpAPIMethodTemplate> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private final Method method;
+    private final Kind kind;
+    private final MethodHandle defaultMethod;
+    private final Method objectMethod;
+    private final PathTemplate pathTemplate;
+    private final Map<String, List<String>> headers;
+    private final BiFunction<URI, RequestBody<?>, RequestBuilder> requestBuilderFactory;
+
+    private HttpAPIMethodTemplate(Method method) throws IllegalAccessException {
+        this.method = method;
+        method.setAccessible(true);
+
+        MethodHandle defaultMethod = null;
+        Method objectMethod = null;
+        PathTemplate pathTemplate = null;
+        Map<String, List<String>> headers = null;
+        BiFunction<URI, RequestBody<?>, RequestBuilder> requestBuilderFactory = null;
+
+        var paramTypes = method.getParameterTypes();
+        if (USE_FOR_REQUEST_BUILDING.equals(method.getName()) &&
+                paramTypes.length == 1
+                && (paramTypes[0].equals(RequestTuner[].class) || (paramTypes[0].equals(Class.class)))) {
+            kind = RequestTuner[].class.isAssignableFrom(paramTypes[0]) ? Kind.TUNERS : Kind.TUNER_CLASS;
+        } else if ("toString".equals(method.getName()) && paramTypes.length == 0) {
+            kind = Kind.TO_STRING;
+        } else if (RequestBuilder.class.isAssignableFrom(method.getReturnType())) {
+            if (method.isDefault()) {
+                kind = Kind.DEFAULT;
+                Class<?> declaringClass = method.getDeclaringClass();
+                defaultMethod = privateLookupIn(declaringClass, lookup())
+                        .in(declaringClass)
+                        .unreflectSpecial(method, declaringClass)
+                        .asFixedArity()
+                        .asSpreader(Object[].class, paramTypes.length)
+                        .asType(methodType(Object.class, Object.class, Object[].class));
+            } else {
+                kind = Kind.REQUEST;
+                pathTemplate = compilePathTemplate(method);
+                headers = ofNullable(readHeaders(method))
+                        .map(map -> {
+                            map.replaceAll((s, strings) -> List.copyOf(strings));
+                            return unmodifiableMap(map);
+                        })
+                        .orElse(null);
+                requestBuilderFactory = requestBuilderFactory(method);
+            }
+        } else {
+            Method m = null;
+            try {
+                m = Object.class.getDeclaredMethod(method.getName(), paramTypes);
+                m.setAccessible(true);
+            } catch (Exception ignored) {
+            }
+            objectMethod = m;
+            kind = Kind.OBJECT_METHOD;
+        }
+
+        this.defaultMethod = defaultMethod;
+        this.objectMethod = objectMethod;
+        this.pathTemplate = pathTemplate;
+        this.headers = headers;
+        this.requestBuilderFactory = requestBuilderFactory;
+    }
+
+    /**
+     * Returns a template of a method. The template is created once per method. A template that can't be
+     * created because of wrong mapping is not kept, so the same error is thrown by each invocation.
+     *
+     * @param method is an invoked method of {@link HttpAPI}
+     * @return template of the method
+     */
+    static HttpAPIMethodTemplate templateOf(Method method) throws IllegalAccessException {
+        var templates = TEMPLATES.get(method.getDeclaringClass());
+        var template = templates.get(method);
+        if (template != null) {
+            return template;
+        }
+
+        template = new HttpAPIMethodTemplate(method);
+        var existing = templates.putIfAbsent(method, template);
+        return existing != null ? existing : template;
+    }
+
+    @SuppressWarnings("unchecked")
+    Object invoke(HttpAPIProxyHandler handler, Object proxy, Object[] args) throws Throwable {
+        switch (kind) {
+            case TUNERS:
+                handler.addRequestTuners((RequestTuner[]) args[0]);
+                return proxy;
+            case TUNER_CLASS:
+                handler.addRequestTuner((Class<? extends RequestTuner>) args[0]);
+                return proxy;
+            case TO_STRING:
+                return method.getDeclaringClass().getSimpleName() + " base URI " + handler.getRootURI();
+            case DEFAULT:
+                return (Object) defaultMethod.invokeExact(proxy, ofNullable(args).orElse(NO_ARGS));
+            case REQUEST:
+                return createRequest(handler, args);
+            default:
+                if (objectMethod == null) {
+                    throw new UnsupportedOperationException(format("Only methods that return %s " +
+                                    ", default methods and methods declared by %s are supported. Method %s is not supported",
+                            RequestBuilder.class.getName(),
+                            Object.class.getName(),
+                            method));
+                }
+                return objectMethod.invoke(handler, args);
+        }
+    }
+
+    private RequestBuilder createRequest(HttpAPIProxyHandler handler, Object[] args) {
+        var path = ofNullable(pathTemplate)
+                .map(t -> t.bind(args))
+                .orElse(null);
+        var body = readBodies(method, args);
+
+        var rootURI = handler.getRootURI();
+        var requestURI = ofNullable(path)
+                .map(s -> URI.create(rootURI.toString() + (s.startsWith("/") ? s : "/" + s)))
+                .orElse(rootURI);
+
+        var request = requestBuilderFactory.apply(requestURI, body);
+        request.tuneWith(new ProxyRequestTuner(method, headers, args));
+        handler.tune(request);
+        return request;
+    }
+
+    private enum Kind {
+        TUNERS,
+        TUNER_CLASS,
+        TO_STRING,
+        DEFAULT,
+        REQUEST,
+        OBJECT_METHOD
+    }
+}
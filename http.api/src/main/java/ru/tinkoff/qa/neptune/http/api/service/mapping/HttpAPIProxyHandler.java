@@ -10,19 +10,12 @@ import java.util.LinkedList;
 import java.util.List;
 
 import static com.google.common.base.Preconditions.checkNotNull;
-import static java.lang.String.format;
-import static java.lang.invoke.MethodHandles.lookup;
-import static java.lang.invoke.MethodHandles.privateLookupIn;
 import static java.util.Arrays.asList;
+import static ru.tinkoff.qa.neptune.http.api.service.mapping.HttpAPIMethodTemplate.templateOf;
 import static ru.tinkoff.qa.neptune.http.api.service.mapping.HttpServiceBindReader.getRequestTuners;
-import static ru.tinkoff.qa.neptune.http.api.service.mapping.annotations.methods.HttpMethod.HttpMethodFactory.createRequestBuilder;
-import static ru.tinkoff.qa.neptune.http.api.service.mapping.annotations.parameters.body.BodyParameterAnnotationReader.readBodies;
-import static ru.tinkoff.qa.neptune.http.api.service.mapping.annotations.parameters.path.PathParameter.PathParameterReader.readPathParameters;
 
 class HttpAPIProxyHandler implements InvocationHandler {
 
-    private static final String USE_FOR_REQUEST_BUILDING = "useForRequestBuilding";
-
     private final List<Object> requestTuners = new LinkedList<>();
     private final URI rootURI;
 
@@ -33,67 +26,31 @@ class HttpAPIProxyHandler implements InvocationHandler {
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        return templateOf(method).invoke(this, proxy, args);
+    }
 
-        method.setAccessible(true);
-
-        var paramTypes = method.getParameterTypes();
-        if (USE_FOR_REQUEST_BUILDING.equals(method.getName()) &&
-                paramTypes.length == 1
-                && (paramTypes[0].equals(RequestTuner[].class) || (paramTypes[0].equals(Class.class)))) {
-            if (RequestTuner[].class.isAssignableFrom(paramTypes[0])) {
-                requestTuners.addAll(asList((RequestTuner[]) args[0]));
-            } else {
-                requestTuners.add(args[0]);
-            }
-            return proxy;
-        }
+    URI getRootURI() {
+        return rootURI;
+    }
 
-        if ("toString".equals(method.getName()) && method.getParameterTypes().length == 0) {
-            return method.getDeclaringClass().getSimpleName() + " base URI " + rootURI;
-        }
+    void addRequestTuners(RequestTuner[] tuners) {
+        requestTuners.addAll(asList(tuners));
+    }
 
-        if (RequestBuilder.class.isAssignableFrom(method.getReturnType())) {
+    void addRequestTuner(Class<? extends RequestTuner> tunerClass) {
+        requestTuners.add(tunerClass);
+    }
 
-            if (method.isDefault()) {
-                Class<?> declaringClass = method.getDeclaringClass();
-                return privateLookupIn(declaringClass, lookup())
-                        .in(declaringClass)
-                        .unreflectSpecial(method, declaringClass)
-                        .bindTo(proxy)
-                        .invokeWithArguments(args);
+    @SuppressWarnings("unchecked")
+    void tune(RequestBuilder request) {
+        requestTuners.forEach(o -> {
+            var cls = o.getClass();
+            if (RequestTuner.class.isAssignableFrom(cls)) {
+                request.tuneWith((RequestTuner) o);
+            } else if (Class.class.isAssignableFrom(cls)) {
+                request.tuneWith((Class<RequestTuner>) o);
             }
-
-            var path = readPathParameters(method, args);
-            var body = readBodies(method, args);
-            var request = createRequestBuilder(method, rootURI, path, body);
-
-            request.tuneWith(new ProxyRequestTuner(method, args));
-            requestTuners.forEach(o -> {
-                var cls = o.getClass();
-                if (RequestTuner.class.isAssignableFrom(cls)) {
-                    request.tuneWith((RequestTuner) o);
-                } else if (Class.class.isAssignableFrom(cls)) {
-                    request.tuneWith((Class<RequestTuner>) o);
-                }
-            });
-
-            return request;
-        }
-
-        Method m;
-        try {
-            m = Object.class.getDeclaredMethod(method.getName(), method.getParameterTypes());
-        } catch (Exception e) {
-            throw new UnsupportedOperationException(format("Only methods that return %s " +
-                            ", default methods and methods declared by %s are supported. Method %s is not supported",
-                    RequestBuilder.class.getName(),
-                    Object.class.getName(),
-                    method));
-        }
-
-        m.setAccessible(true);
-        return m.invoke(this, args);
+        });
     }
 }
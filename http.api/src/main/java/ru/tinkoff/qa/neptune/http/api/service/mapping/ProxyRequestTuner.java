@@ -4,25 +4,27 @@ import ru.tinkoff.qa.neptune.http.api.request.RequestSettings;
 import ru.tinkoff.qa.neptune.http.api.request.RequestTuner;
 
 import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
 
 import static java.util.Optional.ofNullable;
-import static ru.tinkoff.qa.neptune.http.api.service.mapping.annotations.methods.Header.HeaderReader.readHeaders;
 import static ru.tinkoff.qa.neptune.http.api.service.mapping.annotations.parameters.header.HeaderParameter.HeaderParameterReader.readHeaderParameters;
 import static ru.tinkoff.qa.neptune.http.api.service.mapping.annotations.parameters.query.QueryParameter.QueryParameterReader.readQueryParameters;
 
 class ProxyRequestTuner implements RequestTuner {
 
     private final Method method;
+    private final Map<String, List<String>> headers;
     private final Object[] invocationParams;
 
-    ProxyRequestTuner(Method method, Object[] invocationParams) {
+    ProxyRequestTuner(Method method, Map<String, List<String>> headers, Object[] invocationParams) {
         this.method = method;
+        this.headers = headers;
         this.invocationParams = invocationParams;
     }
 
     @Override
     public void setUp(RequestSettings<?> requestSettings) {
-        var headers = readHeaders(method);
         var queryParams = readQueryParameters(method, invocationParams);
         var headerParams = readHeaderParameters(method, invocationParams);
 
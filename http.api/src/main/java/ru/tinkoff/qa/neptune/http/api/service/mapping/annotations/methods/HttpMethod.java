@@ -7,6 +7,7 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.Target;
 import java.lang.reflect.Method;
 import java.net.URI;
+import java.util.function.BiFunction;
 
 import static java.lang.String.format;
 import static java.lang.annotation.ElementType.METHOD;
@@ -58,8 +59,26 @@ public @interface HttpMethod {
                                                           URI uri,
                                                           String path,
                                                           RequestBody<?> body) {
+            var factory = requestBuilderFactory(toRead);
+
+            var requestURI = ofNullable(path)
+                    .map(s -> URI.create(uri.toString() + (path.startsWith("/") ? path: "/" + path)))
+                    .orElse(uri);
+
+            return factory.apply(requestURI, body);
+        }
+
+        /**
+         * Reads a {@link java.lang.reflect.Method} once and returns a function that
+         * creates {@link ru.tinkoff.qa.neptune.http.api.request.RequestBuilder} by full URI of
+         * an end point and a body of a request.
+         *
+         * @param toRead is a method to be read
+         * @return a function that creates an instance of {@link RequestBuilder}
+         */
+        public static BiFunction<URI, RequestBody<?>, RequestBuilder> requestBuilderFactory(Method toRead) {
             return ofNullable(toRead.getAnnotation(HttpMethod.class))
-                    .map(httpMethod -> {
+                    .<BiFunction<URI, RequestBody<?>, RequestBuilder>>map(httpMethod -> {
                         var methodEnum = httpMethod.httpMethod();
                         var methodStr = httpMethod.httpMethodStr();
 
@@ -79,15 +98,11 @@ public @interface HttpMethod {
                                     toRead));
                         }
 
-                        var requestURI = ofNullable(path)
-                                .map(s -> URI.create(uri.toString() + (path.startsWith("/") ? path: "/" + path)))
-                                .orElse(uri);
-
                         if (methodEnum != NON_DEFINED) {
-                            return methodEnum.prepareRequestBuilder(requestURI, body);
+                            return methodEnum::prepareRequestBuilder;
                         }
 
-                        return ofNullable(body)
+                        return (requestURI, body) -> ofNullable(body)
                                 .map(b -> METHOD(methodStr, requestURI, b))
                                 .orElseGet(() -> METHOD(methodStr, requestURI));
                     })
@@ -1,5 +1,8 @@
 package ru.tinkoff.qa.neptune.http.api.service.mapping.annotations.parameters;
 
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
 import ru.tinkoff.qa.neptune.http.api.mapping.MappedObject;
 import ru.tinkoff.qa.neptune.http.api.service.mapping.HttpAPI;
 
@@ -7,6 +10,7 @@ import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
@@ -23,6 +27,14 @@ import static ru.tinkoff.qa.neptune.core.api.utils.ToArrayUtil.toArray;
  */
 public final class ParameterUtil {
 
+    /**
+     * Indexes of annotated parameters are calculated once per method and type of annotation.
+     */
+    private static final LoadingCache<Method, Map<Class<?>, AnnotatedParameters>> ANNOTATED_PARAMETERS =
+            CacheBuilder.newBuilder()
+                    .weakKeys()
+                    .build(CacheLoader.from(m -> new ConcurrentHashMap<>()));
+
     private ParameterUtil() {
         super();
     }
@@ -45,24 +57,18 @@ public final class ParameterUtil {
     public static <T, R> T getFromMethod(Method m, Class<R> annotationToFind,
                                          Object[] invocationParams,
                                          BiFunction<Parameter[], Object[], T> howToGet) {
-        var params = new Parameter[]{};
-        var methodParams = m.getParameters();
-        var values = new Object[]{};
-
-        var annotations = m.getParameterAnnotations();
-        for (var i = 0; i < annotations.length; i++) {
-            var annotationsOfParam = annotations[i];
-            if (stream(annotationsOfParam)
-                    .anyMatch(a -> nonNull(a) && annotationToFind.isAssignableFrom(a.annotationType()))) {
-                params = add(params, methodParams[i]);
-                values = add(values, invocationParams[i]);
-            }
+        var annotated = ANNOTATED_PARAMETERS.getUnchecked(m)
+                .computeIfAbsent(annotationToFind, a -> new AnnotatedParameters(m, a));
+
+        if (annotated.indexes.length == 0) {
+            return null;
         }
 
-        if (params.length > 0) {
-            return howToGet.apply(params, values);
+        var values = new Object[annotated.indexes.length];
+        for (var i = 0; i < values.length; i++) {
+            values[i] = invocationParams[annotated.indexes[i]];
         }
-        return null;
+        return howToGet.apply(annotated.parameters.clone(), values);
     }
 
     /**
@@ -106,4 +112,29 @@ public final class ParameterUtil {
                 .map(s -> s.filter(Objects::nonNull))
                 .orElse(null);
     }
+
+    private static final class AnnotatedParameters {
+
+        private final Parameter[] parameters;
+        private final int[] indexes;
+
+        private AnnotatedParameters(Method m, Class<?> annotationToFind) {
+            var params = new Parameter[]{};
+            var indexes = new int[]{};
+            var methodParams = m.getParameters();
+
+            var annotations = m.getParameterAnnotations();
+            for (var i = 0; i < annotations.length; i++) {
+                var annotationsOfParam = annotations[i];
+                if (stream(annotationsOfParam)
+                        .anyMatch(a -> nonNull(a) && annotationToFind.isAssignableFrom(a.annotationType()))) {
+                    params = add(params, methodParams[i]);
+                    indexes = add(indexes, i);
+                }
+            }
+
+            this.parameters = params;
+            this.indexes = indexes;
+        }
+    }
 }
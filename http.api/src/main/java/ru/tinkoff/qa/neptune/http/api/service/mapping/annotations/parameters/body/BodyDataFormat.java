@@ -37,9 +37,11 @@ public enum BodyDataFormat {
             return ofNullable(object)
                     .map(o -> {
                         try {
-                            var copy = DefaultMapper.XML
-                                    .getMapper()
-                                    .copy();
+                            if (mixIns.length == 0) {
+                                return DefaultMapper.XML.writer().writeValueAsString(o);
+                            }
+
+                            var copy = DefaultMapper.XML.copyMapper();
 
                             stream(mixIns).forEach(aClass -> copy.addMixIn(object.getClass(), aClass));
                             return copy.writeValueAsString(o);
@@ -60,9 +62,11 @@ public enum BodyDataFormat {
             return ofNullable(object)
                     .map(o -> {
                         try {
-                            var copy = DefaultMapper.JSON
-                                    .getMapper()
-                                    .copy();
+                            if (mixIns.length == 0) {
+                                return DefaultMapper.JSON.writer().writeValueAsString(o);
+                            }
+
+                            var copy = DefaultMapper.JSON.copyMapper();
 
                             stream(mixIns).forEach(aClass -> copy.addMixIn(object.getClass(), aClass));
                             return copy.writeValueAsString(o);
@@ -20,7 +20,6 @@ import static java.util.Arrays.stream;
 import static java.util.Optional.ofNullable;
 import static java.util.stream.Collectors.toList;
 import static org.apache.commons.lang3.StringUtils.*;
-import static ru.tinkoff.qa.neptune.http.api.service.mapping.annotations.parameters.ParameterUtil.getFromMethod;
 import static ru.tinkoff.qa.neptune.http.api.service.mapping.annotations.parameters.path.PathStyles.SIMPLE;
 
 /**
@@ -139,6 +138,20 @@ public @interface PathParameter {
             return pattern;
         }
 
+        /**
+         * Reads a {@link java.lang.reflect.Method} and creates a template of URI-path to requested endpoint.
+         * The template is validated once and then it may be used for many invocations of the method.
+         *
+         * @param toRead is a method to be read
+         * @return a template of URI-path. {@code null} is returned when the method is not
+         * annotated by {@link URIPath}
+         */
+        public static PathTemplate compilePathTemplate(Method toRead) {
+            return ofNullable(validatePathMappingAndGetPattern(toRead))
+                    .map(pattern -> new PathTemplate(toRead, pattern))
+                    .orElse(null);
+        }
+
         /**
          * Reads parameters of a {@link java.lang.reflect.Method} and parameters of its current invocation
          * and then creates URI-path to requested endpoint.
@@ -148,53 +161,110 @@ public @interface PathParameter {
          * @return string URI-path to requested endpoint.
          */
         public static String readPathParameters(Method toRead, Object[] parameters) {
-            var pattern = validatePathMappingAndGetPattern(toRead);
+            return ofNullable(compilePathTemplate(toRead))
+                    .map(pathTemplate -> pathTemplate.bind(parameters))
+                    .orElse(null);
+        }
+    }
 
-            if (pattern == null) {
-                return null;
+    /**
+     * Pattern of URI-path defined by {@link URIPath} which is split into constant parts and
+     * path variables. Parameters of a method which define values of path variables are resolved once.
+     */
+    final class PathTemplate {
+
+        private final String pattern;
+        private final String[] constantParts;
+        private final String[] variables;
+        private final int[] indexes;
+        private final PathParameter[] annotations;
+
+        private PathTemplate(Method toRead, String pattern) {
+            this.pattern = pattern;
+
+            var constantParts = new ArrayList<String>();
+            var variables = new ArrayList<String>();
+            var position = 0;
+            while (true) {
+                var start = pattern.indexOf("{", position);
+                if (start < 0) {
+                    break;
+                }
+
+                var end = pattern.indexOf("}", start + 1);
+                if (end < 0) {
+                    break;
+                }
+
+                constantParts.add(pattern.substring(position, start));
+                variables.add(pattern.substring(start + 1, end));
+                position = end + 1;
             }
+            constantParts.add(pattern.substring(position));
 
-            return ofNullable(getFromMethod(toRead,
-                    PathParameter.class,
-                    parameters,
-                    (ps, params) -> {
-                        var map = new HashMap<String, String>();
-                        for (int i = 0; i < ps.length; i++) {
-                            var annotation = ps[i].getAnnotation(PathParameter.class);
-                            map.put(annotation.name(),
-                                    ofNullable(params[i])
-                                            .map(o -> annotation.style().getPathValue(o,
-                                                    annotation.name(),
-                                                    annotation.explode()
-                                            ))
-                                            .orElseGet(() -> {
-                                                if (annotation.required()) {
-                                                    throw new IllegalArgumentException(format("Path variable '%s' requires value " +
-                                                                    "that differs from null",
-                                                            annotation.name()));
-                                                }
-
-                                                return EMPTY;
-                                            }));
-                        }
+            this.constantParts = constantParts.toArray(new String[]{});
+            this.variables = variables.toArray(new String[]{});
 
-                        var result = pattern;
-                        for (var e : map.entrySet()) {
-                            var s = e.getKey();
-                            var s2 = e.getValue();
-                            result = result.replace("{" + s + "}", s2);
-                        }
+            var indexes = new ArrayList<Integer>();
+            var annotations = new ArrayList<PathParameter>();
+            var parameterAnnotations = toRead.getParameterAnnotations();
+            for (var i = 0; i < parameterAnnotations.length; i++) {
+                for (var a : parameterAnnotations[i]) {
+                    if (PathParameter.class.equals(a.annotationType())) {
+                        indexes.add(i);
+                        annotations.add((PathParameter) a);
+                        break;
+                    }
+                }
+            }
+
+            this.indexes = indexes.stream().mapToInt(Integer::intValue).toArray();
+            this.annotations = annotations.toArray(new PathParameter[]{});
+        }
+
+        /**
+         * Creates URI-path to requested endpoint using parameters of current invocation of the method.
+         *
+         * @param parameters parameters of current invocation of the method
+         * @return string URI-path to requested endpoint.
+         */
+        public String bind(Object[] parameters) {
+            if (annotations.length == 0) {
+                return pattern;
+            }
 
+            var values = new HashMap<String, String>();
+            for (var i = 0; i < annotations.length; i++) {
+                var annotation = annotations[i];
+                values.put(annotation.name(),
+                        ofNullable(parameters[indexes[i]])
+                                .map(o -> annotation.style().getPathValue(o,
+                                        annotation.name(),
+                                        annotation.explode()
+                                ))
+                                .orElseGet(() -> {
+                                    if (annotation.required()) {
+                                        throw new IllegalArgumentException(format("Path variable '%s' requires value " +
+                                                        "that differs from null",
+                                                annotation.name()));
+                                    }
 
-                        result = result.replace("//", "/");
+                                    return EMPTY;
+                                }));
+            }
 
-                        if (result.startsWith("/")) {
-                            return result.substring(1);
-                        }
+            var builder = new StringBuilder(constantParts[0]);
+            for (var i = 0; i < variables.length; i++) {
+                builder.append(values.get(variables[i])).append(constantParts[i + 1]);
+            }
+
+            var result = builder.toString().replace("//", "/");
+
+            if (result.startsWith("/")) {
+                return result.substring(1);
+            }
 
-                        return result;
-                    }))
-                    .orElse(pattern);
+            return result;
         }
     }
 }
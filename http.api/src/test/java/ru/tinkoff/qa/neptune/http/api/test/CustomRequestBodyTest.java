@@ -8,16 +8,20 @@ import org.testng.annotations.Test;
 import org.xml.sax.InputSource;
 import org.xml.sax.SAXException;
 import ru.tinkoff.qa.neptune.http.api.request.RequestBuilder;
+import ru.tinkoff.qa.neptune.http.api.request.body.multipart.BodyPart;
 import ru.tinkoff.qa.neptune.http.api.test.request.body.BodyObject;
 
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.StringReader;
 
 import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static java.net.http.HttpClient.Version.HTTP_1_1;
 import static java.net.http.HttpResponse.BodyHandlers.ofString;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.nio.file.Files.readAllBytes;
@@ -25,6 +29,7 @@ import static org.apache.commons.io.FileUtils.writeStringToFile;
 import static org.apache.commons.lang3.RandomStringUtils.randomAlphanumeric;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
+import static ru.tinkoff.qa.neptune.http.api.request.body.RequestBodyFactory.body;
 import static ru.tinkoff.qa.neptune.http.api.HttpStepContext.http;
 import static ru.tinkoff.qa.neptune.http.api.hamcrest.response.HasBody.hasBody;
 import static ru.tinkoff.qa.neptune.http.api.mapping.DefaultMapper.JSON;
@@ -67,6 +72,7 @@ public class CustomRequestBodyTest extends BaseHttpTest {
     private static final String PATH_DOCUMENT_HTML = "/document_html";
     private static final String PATH_URL_UNLOADED = "/urlencoded";
     private static final String PATH_MULTI_PART = "/multipart";
+    private static final String PATH_MULTI_PART_STREAMED = "/multipart_streamed";
 
     private static final String REQUEST_BODY_GSON = "{\"A\":\"Some String\",\"B\":666,\"C\":true}";
     private static final String REQUEST_BODY_MAPPED = "<BodyObject><wstxns1:A1 xmlns:wstxns1=\"http://www.test.com\">Some String</wstxns1:A1>" +
@@ -167,6 +173,19 @@ public class CustomRequestBodyTest extends BaseHttpTest {
                                 .withHeader("Content-Type", containing("application/json"))
                                 .withBody(containing(JSON.getMapper().writeValueAsString(BODY_OBJECT))))
                 .willReturn(aResponse().withBody(MULTIPART_SUCCESSFULLY_POSTED)));
+
+        stubFor(post(urlPathEqualTo(PATH_MULTI_PART_STREAMED))
+                .withHeader("Content-Type", containing("multipart/form-data"))
+                .withMultipartRequestBody(aMultipart()
+                        .withName("testFile")
+                        .withBody(binaryEqualTo(readAllBytes(TEST_FILE.toPath())))).
+
+                        withMultipartRequestBody(aMultipart()
+                                .withName("testStream")
+                                .withHeader("Content-Disposition", containing("filename=\"test_stream.txt\""))
+                                .withHeader("Content-Type", containing("application/octet-stream"))
+                                .withBody(binaryEqualTo("Streamed text".getBytes(UTF_8))))
+                .willReturn(aResponse().withBody(MULTIPART_SUCCESSFULLY_POSTED)));
     }
 
     @DataProvider
@@ -208,6 +227,13 @@ public class CustomRequestBodyTest extends BaseHttpTest {
                         bodyPart(new FileInputStream(TEST_FILE), "testFile2", TEST_FILE.getName()).setContentType("text/plain"),
                         bodyPart(BODY_OBJECT, JSON, "testJson").setContentType("application/json"))
                         .header("Content-Type", "multipart/form-data"),
+                        MULTIPART_SUCCESSFULLY_POSTED},
+
+                {POST(REQUEST_URI + PATH_MULTI_PART_STREAMED,
+                        bodyPart(TEST_FILE.toPath(), "testFile", false, false),
+                        bodyPart(() -> new ByteArrayInputStream("Streamed text".getBytes(UTF_8)), "testStream", "test_stream.txt"))
+                        .version(HTTP_1_1)
+                        .header("Content-Type", "multipart/form-data"),
                         MULTIPART_SUCCESSFULLY_POSTED}
 
         };
@@ -219,4 +245,55 @@ public class CustomRequestBodyTest extends BaseHttpTest {
         assertThat(http().responseOf(requestBuilder, ofString()),
                 hasBody(is(expectedMessage)));
     }
+
+    @Test
+    public void streamedMultipartSentTwiceTest() {
+        var request = POST(REQUEST_URI + PATH_MULTI_PART_STREAMED,
+                bodyPart(TEST_FILE, "testFile", false, false),
+                bodyPart(() -> new ByteArrayInputStream("Streamed text".getBytes(UTF_8)), "testStream", "test_stream.txt"))
+                .version(HTTP_1_1)
+                .header("Content-Type", "multipart/form-data");
+
+        assertThat(http().responseOf(request, ofString()), hasBody(is(MULTIPART_SUCCESSFULLY_POSTED)));
+        assertThat(http().responseOf(request, ofString()), hasBody(is(MULTIPART_SUCCESSFULLY_POSTED)));
+    }
+
+    @Test
+    public void multipartContentLengthTest() throws Exception {
+        var parts = new BodyPart[]{bodyPart(TEST_FILE, "testFile", "test_file.txt", false),
+                bodyPart(new byte[]{1, 2, 3}, "testBytes").setContentTransferEncoding(BINARY),
+                bodyPart(BODY_OBJECT, JSON, "testJson").setContentType("application/json")};
+
+        var expected = new ByteArrayOutputStream();
+        for (var part : parts) {
+            for (var bytes : part.content("--boundary")) {
+                expected.write(bytes);
+            }
+        }
+        expected.write("--boundary--".getBytes(UTF_8));
+
+        assertThat(body("boundary", parts).createPublisher().contentLength(), is((long) expected.size()));
+        assertThat(body("boundary", bodyPart(() -> new ByteArrayInputStream(new byte[]{1, 2, 3})))
+                .createPublisher()
+                .contentLength(), is(-1L));
+    }
+
+    @Test
+    public void bodyPartPreviewTest() {
+        var part = bodyPart(TEST_FILE, "testFile", "test_file.txt", false);
+
+        assertThat(new String(part.getPreview(4), UTF_8), is("Test"));
+        assertThat(new String(part.getPreview(100), UTF_8), is("Test text"));
+        assertThat(part.contentLength(), is(TEST_FILE.length()));
+
+        assertThat(part.preview(4).isTruncated(), is(true));
+        assertThat(part.preview(9).isTruncated(), is(false));
+        assertThat(new String(part.preview(Integer.MAX_VALUE).getBytes(), UTF_8), is("Test text"));
+        assertThat(part.preview(Integer.MAX_VALUE).isTruncated(), is(false));
+
+        var bytesPart = bodyPart("Test text".getBytes(UTF_8), "testBytes");
+        assertThat(new String(bytesPart.preview(4).getBytes(), UTF_8), is("Test"));
+        assertThat(bytesPart.preview(4).isTruncated(), is(true));
+        assertThat(bytesPart.preview(Integer.MAX_VALUE).isTruncated(), is(false));
+    }
 }
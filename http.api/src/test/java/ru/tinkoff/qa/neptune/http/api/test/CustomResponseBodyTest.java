@@ -1,5 +1,6 @@
 package ru.tinkoff.qa.neptune.http.api.test;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import org.hamcrest.Matcher;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.DataProvider;
@@ -8,8 +9,10 @@ import org.w3c.dom.Document;
 import ru.tinkoff.qa.neptune.http.api.test.request.body.BodyObject;
 
 import java.net.http.HttpResponse;
+import java.util.List;
 
 import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static java.nio.charset.Charset.forName;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.*;
@@ -17,6 +20,9 @@ import static org.testng.Assert.fail;
 import static ru.tinkoff.qa.neptune.http.api.HttpStepContext.http;
 import static ru.tinkoff.qa.neptune.http.api.hamcrest.response.HasBody.hasBody;
 import static ru.tinkoff.qa.neptune.http.api.request.RequestBuilder.GET;
+import static ru.tinkoff.qa.neptune.http.api.response.GetObjectFromBodyStepSupplier.asIs;
+import static ru.tinkoff.qa.neptune.http.api.response.GetObjectsFromIterableBodyStepSupplier.asIterable;
+import static ru.tinkoff.qa.neptune.http.api.response.ResponseCriteria.bodyMatches;
 import static ru.tinkoff.qa.neptune.http.api.response.body.data.MappedBodyHandler.*;
 
 public class CustomResponseBodyTest extends BaseHttpTest {
@@ -53,6 +59,26 @@ public class CustomResponseBodyTest extends BaseHttpTest {
     private static final String PATH_TO_JACKSON = "/jackson_xml";
     private static final String PATH_DOCUMENT_XML = "/document_xml";
     private static final String PATH_DOCUMENT_HTML = "/document_html";
+    private static final String PATH_TO_CYRILLIC_JSON = "/cyrillic_json";
+    private static final String PATH_TO_EMPTY_JSON = "/empty_json";
+    private static final String PATH_TO_BLANK_XML = "/blank_xml";
+    private static final String PATH_TO_LARGE_JSON = "/large_json";
+    private static final String PATH_TO_NESTED_JSON = "/nested_json";
+    private static final String PATH_TO_NESTED_XML = "/nested_xml";
+
+    private static final String NESTED_JSON = "{\"meta\":{\"count\":2,\"skipped\":[1,{\"x\":[]}]}," +
+            "\"data\":{\"items\":[" + RESPONSE_GSON + "," + "{\"A\":\"Other\",\"B\":1,\"C\":true}]," +
+            "\"a/b\":\"escaped\"}}";
+
+    private static final String NESTED_XML = "<?xml version=\"1.0\" encoding=\"utf-8\"?>" +
+            "<root><meta><count>2</count><item><name>not selected</name></item></meta>" +
+            "<items><item><name>first</name><value>1</value></item>" +
+            "<item><name>second</name><value>2</value></item></items></root>";
+
+    private static final BodyObject CYRILLIC_BODY_OBJECT = new BodyObject().setA("Кириллица")
+            .setB(777)
+            .setC(false);
+    private static final int LARGE_JSON_SIZE = 50_000;
 
     @BeforeClass
     public static void prepareMock() {
@@ -67,6 +93,35 @@ public class CustomResponseBodyTest extends BaseHttpTest {
 
         stubFor(get(urlPathEqualTo(PATH_DOCUMENT_HTML))
                 .willReturn(aResponse().withBody(HTML_FOR_DOCUMENT)));
+
+        stubFor(get(urlPathEqualTo(PATH_TO_CYRILLIC_JSON))
+                .willReturn(aResponse()
+                        .withHeader("Content-Type", "application/json; charset=windows-1251")
+                        .withBody("{\"A\":\"Кириллица\",\"B\":777,\"C\":false}".getBytes(forName("windows-1251")))));
+
+        stubFor(get(urlPathEqualTo(PATH_TO_NESTED_JSON))
+                .willReturn(aResponse().withBody(NESTED_JSON)));
+
+        stubFor(get(urlPathEqualTo(PATH_TO_NESTED_XML))
+                .willReturn(aResponse().withBody(NESTED_XML)));
+
+        stubFor(get(urlPathEqualTo(PATH_TO_EMPTY_JSON))
+                .willReturn(aResponse().withBody("  ")));
+
+        stubFor(get(urlPathEqualTo(PATH_TO_BLANK_XML))
+                .willReturn(aResponse().withBody(" \r\n ")));
+
+        var largeJson = new StringBuilder("[");
+        for (var i = 0; i < LARGE_JSON_SIZE; i++) {
+            if (i > 0) {
+                largeJson.append(",");
+            }
+            largeJson.append(RESPONSE_GSON);
+        }
+        largeJson.append("]");
+
+        stubFor(get(urlPathEqualTo(PATH_TO_LARGE_JSON))
+                .willReturn(aResponse().withBody(largeJson.toString())));
     }
 
     @DataProvider
@@ -87,6 +142,109 @@ public class CustomResponseBodyTest extends BaseHttpTest {
                 {PATH_DOCUMENT_HTML,
                         jsoupDocument(),
                         instanceOf(org.jsoup.nodes.Document.class)},
+
+                {PATH_TO_CYRILLIC_JSON,
+                        json(BodyObject.class),
+                        equalTo(CYRILLIC_BODY_OBJECT)},
+
+                {PATH_TO_EMPTY_JSON,
+                        json(BodyObject.class),
+                        nullValue()},
+
+                {PATH_TO_BLANK_XML,
+                        xml(BodyObject.class),
+                        nullValue()},
+
+                {PATH_TO_LARGE_JSON,
+                        json(new TypeReference<List<BodyObject>>() {
+                        }),
+                        iterableWithSize(LARGE_JSON_SIZE)},
+
+                {PATH_TO_GSON,
+                        streamedJson(BodyObject.class),
+                        equalTo(BODY_OBJECT)},
+
+                {PATH_TO_JACKSON,
+                        streamedXml(BodyObject.class),
+                        equalTo(BODY_OBJECT)},
+
+                {PATH_DOCUMENT_XML,
+                        streamedW3cDocument(),
+                        instanceOf(Document.class)},
+
+                {PATH_DOCUMENT_HTML,
+                        streamedJsoupDocument(),
+                        instanceOf(org.jsoup.nodes.Document.class)},
+
+                {PATH_TO_CYRILLIC_JSON,
+                        streamedJson(BodyObject.class),
+                        equalTo(CYRILLIC_BODY_OBJECT)},
+
+                {PATH_TO_EMPTY_JSON,
+                        streamedJson(BodyObject.class),
+                        nullValue()},
+
+                {PATH_TO_BLANK_XML,
+                        streamedXml(BodyObject.class),
+                        nullValue()},
+
+                {PATH_TO_LARGE_JSON,
+                        streamedJson(new TypeReference<List<BodyObject>>() {
+                        }),
+                        iterableWithSize(LARGE_JSON_SIZE)},
+
+                {PATH_TO_NESTED_JSON,
+                        jsonPointer("/data/items/1", BodyObject.class),
+                        equalTo(new BodyObject().setA("Other").setB(1).setC(true))},
+
+                {PATH_TO_NESTED_JSON,
+                        jsonPointer("/meta/count", Integer.class),
+                        equalTo(2)},
+
+                {PATH_TO_NESTED_JSON,
+                        jsonPointer("/data/a~1b", String.class),
+                        equalTo("escaped")},
+
+                {PATH_TO_NESTED_JSON,
+                        jsonPointer("/data/items/5", BodyObject.class),
+                        nullValue()},
+
+                {PATH_TO_NESTED_JSON,
+                        jsonPointerAll("/data/items/*/A", String.class),
+                        contains("Some String 2", "Other")},
+
+                {PATH_TO_NESTED_JSON,
+                        jsonPointerAll("/data/items", new TypeReference<List<BodyObject>>() {
+                        }),
+                        contains(contains(BODY_OBJECT, new BodyObject().setA("Other").setB(1).setC(true)))},
+
+                {PATH_TO_LARGE_JSON,
+                        jsonPointer("/" + (LARGE_JSON_SIZE - 1) + "/B", Integer.class),
+                        equalTo(777)},
+
+                {PATH_TO_NESTED_XML,
+                        xmlPath("/root/items/item/name", String.class),
+                        equalTo("first")},
+
+                {PATH_TO_NESTED_XML,
+                        xmlPathAll("/root/items/*/value", Integer.class),
+                        contains(1, 2)},
+
+                {PATH_TO_NESTED_XML,
+                        xmlPathAll("//item/name", String.class),
+                        contains("not selected", "first", "second")},
+
+                {PATH_TO_NESTED_XML,
+                        xmlPathAll("/root//name", String.class),
+                        contains("not selected", "first", "second")},
+
+                {PATH_TO_NESTED_XML,
+                        xmlPath("/root/items/other", String.class),
+                        nullValue()},
+
+                {PATH_TO_JACKSON,
+                        xmlPath("/BodyObject", BodyObject.class),
+                        equalTo(BODY_OBJECT)},
         };
     }
 
@@ -96,6 +254,10 @@ public class CustomResponseBodyTest extends BaseHttpTest {
                 {PATH_TO_GSON, xml(BodyObject.class)},
                 {PATH_TO_GSON, w3cDocument()},
                 {PATH_DOCUMENT_XML, json(BodyObject.class)},
+                {PATH_TO_GSON, streamedXml(BodyObject.class)},
+                {PATH_DOCUMENT_XML, streamedJson(BodyObject.class)},
+                {PATH_DOCUMENT_XML, jsonPointer("/a", String.class)},
+                {PATH_TO_GSON, xmlPath("/a", String.class)},
         };
     }
 
@@ -115,4 +277,28 @@ public class CustomResponseBodyTest extends BaseHttpTest {
 
         fail("Exception was expected");
     }
+
+    @Test
+    public void partialBodyDataTest() {
+        var value = http().bodyData(asIs(GET(REQUEST_URI + PATH_TO_NESTED_JSON),
+                jsonPointer("/meta/count", Integer.class))
+                .responseCriteria(bodyMatches("Count is 2", c -> c == 2)));
+        assertThat(value, is(2));
+
+        var names = http().bodyData(asIterable("Names",
+                GET(REQUEST_URI + PATH_TO_NESTED_XML),
+                xmlPathAll("/root/items/item/name", String.class))
+                .criteria("Not first", n -> !"first".equals(n)));
+        assertThat(names, contains("second"));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void invalidJsonPointerTest() {
+        jsonPointer("data/items", BodyObject.class);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void unsupportedXmlPathTest() {
+        xmlPath("/root/items/item[1]", String.class);
+    }
 }
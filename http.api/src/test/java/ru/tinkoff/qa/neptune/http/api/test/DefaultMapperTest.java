@@ -0,0 +1,99 @@
+package ru.tinkoff.qa.neptune.http.api.test;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.dataformat.xml.XmlMapper;
+import org.testng.annotations.Test;
+import ru.tinkoff.qa.neptune.http.api.test.request.body.BodyObject;
+
+import java.util.Date;
+import java.util.List;
+
+import static com.fasterxml.jackson.databind.SerializationFeature.INDENT_OUTPUT;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static ru.tinkoff.qa.neptune.http.api.mapping.DefaultMapper.JSON;
+import static ru.tinkoff.qa.neptune.http.api.mapping.DefaultMapper.XML;
+import static ru.tinkoff.qa.neptune.http.api.properties.date.format.ApiDateFormatProperty.API_DATE_FORMAT_PROPERTY;
+
+public class DefaultMapperTest {
+
+    @Test
+    public void sameMapperTest() {
+        JSON.getMapper();
+        var builds = JSON.getCacheMetrics().getBuilds();
+
+        assertThat(XML.getMapper(), instanceOf(XmlMapper.class));
+        assertThat(JSON.getMapper(), not(instanceOf(XmlMapper.class)));
+        assertThat(JSON.getCacheMetrics().getBuilds(), is(builds));
+    }
+
+    @Test
+    public void sharedMapperTest() {
+        assertThat(JSON.getMapper(), sameInstance(JSON.getMapper()));
+        assertThat(XML.getMapper(), sameInstance(XML.getMapper()));
+    }
+
+    @Test
+    public void sharedMapperIsNotChangedTest() throws Exception {
+        var mapper = JSON.copyMapper();
+        assertThat(mapper, not(sameInstance(JSON.getMapper())));
+        assertThat(JSON.copyMapper(), not(sameInstance(mapper)));
+
+        mapper.enable(INDENT_OUTPUT);
+        assertThat(mapper.writeValueAsString(List.of(1)), not(is("[1]")));
+        assertThat(JSON.writer().writeValueAsString(List.of(1)), is("[1]"));
+        assertThat(JSON.getMapper().writeValueAsString(List.of(1)), is("[1]"));
+    }
+
+    @Test
+    public void otherChangedPropertyTest() {
+        var mapper = JSON.getMapper();
+        var builds = JSON.getCacheMetrics().getBuilds();
+
+        //some other property is changed. The mapper is the same
+        System.setProperty("some.other.property", "1");
+        try {
+            assertThat(JSON.getMapper(), sameInstance(mapper));
+        } finally {
+            System.clearProperty("some.other.property");
+        }
+        assertThat(JSON.getMapper(), sameInstance(mapper));
+        assertThat(JSON.getCacheMetrics().getBuilds(), is(builds));
+    }
+
+    @Test
+    public void sameReaderTest() throws Exception {
+        var reader = JSON.readerFor(BodyObject.class);
+        var hits = JSON.getCacheMetrics().getReaderHits();
+
+        assertThat(JSON.readerFor(BodyObject.class), sameInstance(reader));
+        assertThat(JSON.getCacheMetrics().getReaderHits(), greaterThan(hits));
+
+        var listReader = JSON.readerFor(new TypeReference<List<BodyObject>>() {
+        });
+        assertThat(JSON.readerFor(new TypeReference<List<BodyObject>>() {
+        }), sameInstance(listReader));
+
+        List<BodyObject> list = listReader.readValue("[{\"A\":\"Some String\",\"B\":1,\"C\":true}]");
+        assertThat(list, contains(new BodyObject().setA("Some String").setB(1).setC(true)));
+    }
+
+    @Test
+    public void changedPropertyTest() throws Exception {
+        JSON.getMapper();
+        var builds = JSON.getCacheMetrics().getBuilds();
+        var date = new Date();
+        try {
+            API_DATE_FORMAT_PROPERTY.accept("yyyy-MM-dd");
+            JSON.getMapper();
+
+            assertThat(JSON.getCacheMetrics().getBuilds(), is(builds + 1));
+            assertThat(JSON.writer().writeValueAsString(date),
+                    is("\"" + API_DATE_FORMAT_PROPERTY.get().format(date) + "\""));
+        } finally {
+            API_DATE_FORMAT_PROPERTY.accept(null);
+        }
+
+        assertThat(JSON.writer().writeValueAsString(date), is(String.valueOf(date.getTime())));
+    }
+}
@@ -0,0 +1,100 @@
+package ru.tinkoff.qa.neptune.http.api.test;
+
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import ru.tinkoff.qa.neptune.http.api.load.LatencyHistogram;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static java.time.Duration.ofMillis;
+import static java.time.Duration.ofSeconds;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static ru.tinkoff.qa.neptune.http.api.HttpStepContext.http;
+import static ru.tinkoff.qa.neptune.http.api.hamcrest.load.HasErrorRate.hasErrorRate;
+import static ru.tinkoff.qa.neptune.http.api.hamcrest.load.HasLatency.*;
+import static ru.tinkoff.qa.neptune.http.api.hamcrest.load.HasThroughput.hasThroughput;
+import static ru.tinkoff.qa.neptune.http.api.load.LoadStepSupplier.httpLoad;
+import static ru.tinkoff.qa.neptune.http.api.request.RequestBuilder.GET;
+
+public class HttpLoadTest extends BaseHttpTest {
+
+    private static final String PATH_LOAD = "/load";
+    private static final String PATH_LOAD_ERROR = "/load_error";
+    private static final int DELAY = 20;
+
+    @BeforeClass
+    public void beforeClass() {
+        stubFor(get(urlPathEqualTo(PATH_LOAD))
+                .willReturn(aResponse().withBody("SUCCESS").withStatus(200).withFixedDelay(DELAY)));
+
+        stubFor(get(urlPathEqualTo(PATH_LOAD_ERROR))
+                .willReturn(aResponse().withBody("ERROR").withStatus(500)));
+    }
+
+    @Test
+    public void histogramTest() {
+        var histogram = new LatencyHistogram();
+        for (int i = 1; i <= 1000; i++) {
+            histogram.recordNanos(ofMillis(i).toNanos());
+        }
+
+        assertThat(histogram.getTotalCount(), is(1000L));
+        assertThat(histogram.getMin(), is(ofMillis(1)));
+        assertThat(histogram.getMax(), is(ofMillis(1000)));
+        assertThat(histogram.getValueAtPercentile(50).toMillis(), allOf(greaterThanOrEqualTo(500L), lessThanOrEqualTo(508L)));
+        assertThat(histogram.getValueAtPercentile(99).toMillis(), allOf(greaterThanOrEqualTo(990L), lessThanOrEqualTo(1000L)));
+        assertThat(histogram.getValueAtPercentile(100), is(ofMillis(1000)));
+    }
+
+    @Test
+    public void concurrencyLoadTest() {
+        var result = http().load(httpLoad(GET(REQUEST_URI + PATH_LOAD), ofSeconds(1)).concurrency(4));
+
+        assertThat(result.getRequestCount(), greaterThan(4L));
+        //4 senders can't send more requests than it is possible to receive responses
+        assertThat(result.getRequestCount(), lessThanOrEqualTo(4L * (1000 / DELAY + 1)));
+        assertThat(result, allOf(hasErrorRate(is(0D)),
+                hasP50(greaterThanOrEqualTo(ofMillis(DELAY))),
+                hasP99(lessThan(ofSeconds(5))),
+                hasMaxLatency(greaterThanOrEqualTo(result.getP99())),
+                hasThroughput(greaterThan(0D))));
+    }
+
+    @Test
+    public void rateLoadTest() {
+        var result = http().load(httpLoad(GET(REQUEST_URI + PATH_LOAD), ofSeconds(1)).rate(50));
+
+        assertThat(result.getRequestCount(), is(50L));
+        assertThat(result, allOf(hasErrorRate(is(0D)),
+                hasP50(greaterThanOrEqualTo(ofMillis(DELAY)))));
+    }
+
+    @Test
+    public void errorLoadTest() {
+        var result = http().load(httpLoad(GET(REQUEST_URI + PATH_LOAD_ERROR), ofMillis(300)).concurrency(2));
+        assertThat(result, hasErrorRate(is(1D)));
+
+        var notErrors = http().load(httpLoad(GET(REQUEST_URI + PATH_LOAD_ERROR), ofMillis(300))
+                .errorWhen(r -> r.statusCode() != 500));
+        assertThat(notErrors, hasErrorRate(is(0D)));
+    }
+
+    @Test
+    public void failedErrorConditionLoadTest() {
+        var concurrent = http().load(httpLoad(GET(REQUEST_URI + PATH_LOAD), ofMillis(300))
+                .concurrency(2)
+                .errorWhen(r -> {
+                    throw new IllegalStateException("Test exception");
+                }));
+        assertThat(concurrent.getRequestCount(), greaterThan(0L));
+        assertThat(concurrent, hasErrorRate(is(1D)));
+
+        var atRate = http().load(httpLoad(GET(REQUEST_URI + PATH_LOAD), ofMillis(300))
+                .rate(20)
+                .errorWhen(r -> {
+                    throw new IllegalStateException("Test exception");
+                }));
+        assertThat(atRate.getRequestCount(), is(6L));
+        assertThat(atRate, hasErrorRate(is(1D)));
+    }
+}
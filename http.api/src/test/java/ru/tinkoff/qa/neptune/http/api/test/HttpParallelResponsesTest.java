@@ -0,0 +1,221 @@
+package ru.tinkoff.qa.neptune.http.api.test;
+
+import com.sun.net.httpserver.HttpServer;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import ru.tinkoff.qa.neptune.http.api.response.ExpectedHttpResponseHasNotBeenReceivedException;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.lang.System.currentTimeMillis;
+import static java.lang.Thread.sleep;
+import static java.net.URI.create;
+import static java.net.http.HttpResponse.BodyHandlers.ofString;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.time.Duration.ofMillis;
+import static java.time.Duration.ofSeconds;
+import static java.util.concurrent.Executors.newCachedThreadPool;
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.testng.Assert.fail;
+import static ru.tinkoff.qa.neptune.core.api.steps.AsyncSteps.joinAll;
+import static ru.tinkoff.qa.neptune.http.api.HttpStepContext.http;
+import static ru.tinkoff.qa.neptune.http.api.request.RequestBuilder.GET;
+import static ru.tinkoff.qa.neptune.http.api.response.ResponseSequentialGetSupplier.response;
+import static ru.tinkoff.qa.neptune.http.api.response.ResponsesSequentialGetSupplier.responses;
+
+/**
+ * Checks how many requests are processed by the server at the same time when independent requests are sent
+ * sequentially and in parallel.
+ */
+public class HttpParallelResponsesTest extends BaseHttpTest {
+
+    private static final int REQUEST_COUNT = 5;
+    private static final int DELAY = 500;
+    private static final List<URI> URIS = new ArrayList<>();
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private HttpServer server;
+
+    @BeforeClass
+    public void beforeClass() throws IOException {
+        //a request is counted as in flight until its response is about to be sent
+        server = HttpServer.create(new InetSocketAddress(LOCALHOST, 0), 0);
+        server.setExecutor(newCachedThreadPool());
+        server.createContext("/parallel", exchange -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                sleep(DELAY);
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            } finally {
+                inFlight.decrementAndGet();
+            }
+
+            var body = ("SUCCESS" + exchange.getRequestURI().getPath().substring("/parallel".length()))
+                    .getBytes(UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            try (var out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+
+        var address = "http://" + LOCALHOST + ":" + server.getAddress().getPort();
+        for (int i = 0; i < REQUEST_COUNT; i++) {
+            URIS.add(create(address + "/parallel" + i));
+        }
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void afterClass() {
+        server.stop(0);
+    }
+
+    @BeforeMethod
+    public void beforeMethod() throws InterruptedException {
+        //requests of cancelled batches may be still processed by the server
+        while (inFlight.get() > 0) {
+            sleep(50);
+        }
+        maxInFlight.set(0);
+    }
+
+    @Test
+    public void parallelResponsesTest() {
+        var sequential = new ArrayList<String>();
+        URIS.forEach(uri -> sequential.add(http().responseOf(GET(uri), ofString()).body()));
+        assertThat(maxInFlight.get(), is(1));
+
+        maxInFlight.set(0);
+        var futures = new ArrayList<CompletableFuture<HttpResponse<String>>>();
+        URIS.forEach(uri -> futures.add(response(GET(uri), ofString()).applyAsync(http())));
+        var parallel = new ArrayList<String>();
+        joinAll(futures).forEach(r -> parallel.add(r.body()));
+
+        assertThat(parallel, contains(sequential.toArray()));
+        assertThat(maxInFlight.get(), greaterThan(1));
+    }
+
+    @Test
+    public void batchResponsesTest() {
+        var sequential = new ArrayList<String>();
+        URIS.forEach(uri -> sequential.add(http().responseOf(GET(uri), ofString()).body()));
+
+        maxInFlight.set(0);
+        var batch = http().responsesOf(URIS.stream().map(uri -> GET(uri)).collect(toList()),
+                ofString(),
+                REQUEST_COUNT);
+
+        assertThat(batch.stream().map(HttpResponse::body).collect(toList()), contains(sequential.toArray()));
+        assertThat(maxInFlight.get(), greaterThan(1));
+    }
+
+    @Test
+    public void boundedBatchResponsesTest() {
+        var batch = http().responsesOf(URIS.stream().map(uri -> GET(uri)).collect(toList()), 2);
+
+        assertThat(batch, hasSize(REQUEST_COUNT));
+        //no more than 2 requests are waiting for responses at the same time
+        assertThat(maxInFlight.get(), allOf(greaterThan(1), lessThanOrEqualTo(2)));
+    }
+
+    @Test
+    public void batchResponsesCriteriaTest() {
+        var batch = http().responsesOf(responses(URIS.stream().map(uri -> GET(uri)).collect(toList()), ofString(), 3)
+                .criteria("body starts with SUCCESS", r -> r.body().startsWith("SUCCESS")));
+
+        assertThat(batch.stream().map(HttpResponse::body).collect(toList()),
+                contains("SUCCESS0", "SUCCESS1", "SUCCESS2", "SUCCESS3", "SUCCESS4"));
+    }
+
+    @Test
+    public void batchResponsesFailedCriteriaTest() {
+        try {
+            http().responsesOf(responses(URIS.stream().map(uri -> GET(uri)).collect(toList()), ofString(), 3)
+                    .criteria("body starts with SUCCESS", r -> r.body().startsWith("SUCCESS"))
+                    .criteria("body is SUCCESS0", r -> "SUCCESS0".equals(r.body())));
+        } catch (ExpectedHttpResponseHasNotBeenReceivedException e) {
+            assertThat(e.getMessage(), allOf(
+                    not(containsString("#1 ")),
+                    containsString("#2 GET " + URIS.get(1) + " -> 200. Criteria not met: body is SUCCESS0"),
+                    containsString("#5 GET " + URIS.get(4) + " -> 200. Criteria not met: body is SUCCESS0")));
+            return;
+        }
+
+        fail("Exception was expected");
+    }
+
+    @Test
+    public void batchResponsesFailedRequestTest() throws IOException {
+        URI closed;
+        try (var socket = new ServerSocket(0)) {
+            closed = create("http://" + LOCALHOST + ":" + socket.getLocalPort() + "/closed");
+        }
+
+        var requests = new ArrayList<URI>(URIS);
+        requests.add(1, closed);
+        try {
+            http().responsesOf(requests.stream().map(uri -> GET(uri)).collect(toList()), ofString(), 2);
+        } catch (ExpectedHttpResponseHasNotBeenReceivedException e) {
+            assertThat(e.getMessage(), allOf(
+                    not(containsString("#1 ")),
+                    containsString("#2 GET " + closed + " -> java.net.ConnectException"),
+                    not(containsString("#3 ")),
+                    not(containsString("#6 "))));
+            assertThat(e.getSuppressed(), arrayWithSize(1));
+            //other requests are sent and received
+            assertThat(maxInFlight.get(), greaterThan(0));
+            return;
+        }
+
+        fail("Exception was expected");
+    }
+
+    @Test
+    public void batchResponsesTimeOutTest() {
+        var start = currentTimeMillis();
+        try {
+            http().responsesOf(responses(URIS.stream().map(uri -> GET(uri)).collect(toList()), ofString(), 2)
+                    .timeOut(ofMillis(DELAY / 2)));
+        } catch (ExpectedHttpResponseHasNotBeenReceivedException e) {
+            assertThat(currentTimeMillis() - start, lessThan((long) DELAY));
+            assertThat(e.getMessage(), allOf(
+                    containsString("#1 GET " + URIS.get(0) + " -> was not received in time"),
+                    containsString("#2 GET " + URIS.get(1) + " -> was not received in time"),
+                    containsString("#3 GET " + URIS.get(2) + " -> was not sent in time"),
+                    containsString("#5 GET " + URIS.get(4) + " -> was not sent in time")));
+            return;
+        }
+
+        fail("Exception was expected");
+    }
+
+    @Test
+    public void batchResponsesParametersTest() {
+        var parameters = responses(URIS.stream().map(uri -> GET(uri)).collect(toList()), ofString(), 3)
+                .criteria("body starts with SUCCESS", r -> r.body().startsWith("SUCCESS"))
+                .criteria("status code is 200", r -> r.statusCode() == 200)
+                .timeOut(ofSeconds(10))
+                .getParameters();
+
+        assertThat(parameters, allOf(
+                hasEntry("Count of http requests", "5"),
+                hasEntry("Max count of http requests in flight", "3"),
+                hasEntry("Response criteria", "body starts with SUCCESS"),
+                hasEntry("Response criteria 2", "status code is 200"),
+                hasEntry("Time to receive all http responses", "00:00:10.000")));
+    }
+}
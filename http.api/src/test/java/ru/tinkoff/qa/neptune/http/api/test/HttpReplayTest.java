@@ -0,0 +1,256 @@
+package ru.tinkoff.qa.neptune.http.api.test;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import ru.tinkoff.qa.neptune.http.api.HttpStepContext;
+import ru.tinkoff.qa.neptune.http.api.properties.replay.HttpReplayMatching;
+import ru.tinkoff.qa.neptune.http.api.properties.replay.HttpReplayMode;
+import ru.tinkoff.qa.neptune.http.api.replay.ReplayingHttpClient;
+import ru.tinkoff.qa.neptune.http.api.replay.ResponseIsNotRecordedException;
+import ru.tinkoff.qa.neptune.http.api.test.request.body.BodyObject;
+
+import java.io.ByteArrayInputStream;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.stubbing.Scenario.STARTED;
+import static java.net.http.HttpClient.Version.HTTP_1_1;
+import static java.net.http.HttpRequest.BodyPublishers.ofInputStream;
+import static java.net.http.HttpRequest.BodyPublishers.ofString;
+import static java.net.http.HttpRequest.newBuilder;
+import static java.net.http.HttpResponse.BodyHandlers.ofString;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static ru.tinkoff.qa.neptune.http.api.properties.replay.HttpReplayMatching.LENIENT;
+import static ru.tinkoff.qa.neptune.http.api.properties.replay.HttpReplayMatching.STRICT;
+import static ru.tinkoff.qa.neptune.http.api.properties.replay.HttpReplayMode.RECORD;
+import static ru.tinkoff.qa.neptune.http.api.properties.replay.HttpReplayMode.REPLAY;
+import static ru.tinkoff.qa.neptune.http.api.properties.replay.HttpReplayModeProperty.HTTP_REPLAY_MODE_PROPERTY;
+import static ru.tinkoff.qa.neptune.http.api.properties.replay.HttpReplayStoreProperty.HTTP_REPLAY_STORE_PROPERTY;
+import static ru.tinkoff.qa.neptune.http.api.replay.ReplayingHttpClient.notReplaying;
+import static ru.tinkoff.qa.neptune.http.api.request.RequestBuilder.GET;
+import static ru.tinkoff.qa.neptune.http.api.response.body.data.MappedBodyHandler.json;
+import static ru.tinkoff.qa.neptune.http.api.response.body.data.MappedBodyHandler.jsonPointer;
+
+public class HttpReplayTest extends BaseHttpTest {
+
+    private static final String PATH_SEQUENCE = "/replay/sequence";
+    private static final String PATH_OBJECT = "/replay/object";
+    private static final String PATH_POST = "/replay/post";
+    private static final String PATH_NOT_RECORDED = "/replay/not_recorded";
+    private static final List<String> HEADERS = List.of("Accept");
+    private static final String BODY_OBJECT = "{\"A\":\"Some String\",\"B\":1,\"C\":true}";
+
+    @BeforeClass
+    public void beforeClass() {
+        stubFor(get(urlPathEqualTo(PATH_SEQUENCE))
+                .inScenario("Replay sequence")
+                .whenScenarioStateIs(STARTED)
+                .willReturn(aResponse().withBody("first"))
+                .willSetStateTo("second"));
+
+        stubFor(get(urlPathEqualTo(PATH_SEQUENCE))
+                .inScenario("Replay sequence")
+                .whenScenarioStateIs("second")
+                .willReturn(aResponse().withBody("second")));
+
+        stubFor(get(urlPathEqualTo(PATH_OBJECT))
+                .willReturn(aResponse()
+                        .withHeader("Content-Type", "application/json")
+                        .withBody(BODY_OBJECT)));
+
+        stubFor(post(urlPathEqualTo(PATH_POST))
+                .willReturn(aResponse().withStatus(201).withBody("created")));
+
+        stubFor(get(urlPathEqualTo(PATH_NOT_RECORDED))
+                .willReturn(aResponse().withBody("from network")));
+    }
+
+    @AfterMethod
+    public void afterMethod() {
+        HTTP_REPLAY_MODE_PROPERTY.accept(null);
+        HTTP_REPLAY_STORE_PROPERTY.accept(null);
+    }
+
+    private static HttpClient client(HttpReplayMode mode, HttpReplayMatching matching, Path store) {
+        return ReplayingHttpClient.replaying(HttpClient.newBuilder().build(), mode, matching, store, HEADERS);
+    }
+
+    @Test
+    public void recordAndReplayTest() throws Exception {
+        var store = Files.createTempDirectory("http-replay");
+
+        var recording = client(RECORD, STRICT, store);
+        var request = newBuilder(GET(REQUEST_URI + PATH_SEQUENCE + "?b=2&a=1").build().uri()).build();
+        assertThat(recording.send(request, ofString()).body(), is("first"));
+        assertThat(recording.send(request, ofString()).body(), is("second"));
+        assertThat(recording.send(newBuilder(request.uri().resolve(PATH_OBJECT)).build(), ofString()).statusCode(),
+                is(200));
+        assertThat(((ReplayingHttpClient) recording).getStatistics().getRecorded(), is(3L));
+
+        var replaying = client(REPLAY, STRICT, store);
+        //order of query parameters and default port don't matter
+        var replayed = newBuilder(request.uri().resolve(PATH_SEQUENCE + "?a=1&b=2")).build();
+        assertThat(replaying.send(replayed, ofString()).body(), is("first"));
+        assertThat(replaying.send(replayed, ofString()).body(), is("second"));
+        //the last recorded response is replayed again
+        assertThat(replaying.send(replayed, ofString()).body(), is("second"));
+
+        var object = replaying.send(newBuilder(request.uri().resolve(PATH_OBJECT)).build(), json(BodyObject.class));
+        assertThat(object.body(), is(new BodyObject().setA("Some String").setB(1).setC(true)));
+        assertThat(object.headers().firstValue("Content-Type").orElseThrow(), is("application/json"));
+
+        var value = replaying.sendAsync(newBuilder(request.uri().resolve(PATH_OBJECT)).build(),
+                jsonPointer("/A", String.class)).get();
+        assertThat(value.body(), is("Some String"));
+
+        verify(2, getRequestedFor(urlPathEqualTo(PATH_SEQUENCE)));
+        assertThat(((ReplayingHttpClient) replaying).getStatistics().getHits(), is(5L));
+        assertThat(((ReplayingHttpClient) replaying).getStatistics().getMisses(), is(0L));
+    }
+
+    @Test
+    public void strictMatchingTest() throws Exception {
+        var store = Files.createTempDirectory("http-replay");
+
+        var post = newBuilder(GET(REQUEST_URI + PATH_POST).build().uri())
+                .header("Accept", "text/plain")
+                .POST(ofString("body"));
+        var recording = client(RECORD, STRICT, store);
+        assertThat(recording.send(post.build(), ofString()).statusCode(), is(201));
+
+        var replaying = client(REPLAY, STRICT, store);
+        assertThat(replaying.send(post.build(), ofString()).body(), is("created"));
+
+        try {
+            replaying.send(post.copy().POST(ofString("other body")).build(), ofString());
+        } catch (ResponseIsNotRecordedException e) {
+            try {
+                replaying.send(post.copy().setHeader("Accept", "application/json").build(), ofString());
+            } catch (ResponseIsNotRecordedException e2) {
+                var statistics = ((ReplayingHttpClient) replaying).getStatistics();
+                assertThat(statistics.getHits(), is(1L));
+                assertThat(statistics.getMisses(), is(2L));
+                //values of headers are not kept as they are
+                assertThat(statistics.getMissed(), hasItem(containsString("accept:")));
+                assertThat(statistics.getMissed(), not(hasItem(containsString("application/json"))));
+                return;
+            }
+        }
+        throw new AssertionError("Requests with other body or headers should not be replayed");
+    }
+
+    @Test
+    public void lenientMatchingTest() throws Exception {
+        var store = Files.createTempDirectory("http-replay");
+
+        var post = newBuilder(GET(REQUEST_URI + PATH_POST).build().uri()).POST(ofString("lenient body"));
+        client(RECORD, STRICT, store).send(post.build(), ofString());
+
+        var replaying = client(REPLAY, LENIENT, store);
+        assertThat(replaying.send(post.copy().POST(ofString("other body")).build(), ofString()).body(), is("created"));
+
+        var notRecorded = newBuilder(GET(REQUEST_URI + PATH_NOT_RECORDED).build().uri()).build();
+        assertThat(replaying.send(notRecorded, ofString()).body(), is("from network"));
+
+        var statistics = ((ReplayingHttpClient) replaying).getStatistics();
+        assertThat(statistics.getHits(), is(1L));
+        assertThat(statistics.getLooseHits(), is(1L));
+        assertThat(statistics.getMisses(), is(1L));
+        verify(1, postRequestedFor(urlPathEqualTo(PATH_POST)).withRequestBody(equalTo("lenient body")));
+    }
+
+    @Test
+    public void replayByPropertiesTest() throws Exception {
+        var store = Files.createTempDirectory("http-replay");
+        client(RECORD, STRICT, store).send(newBuilder(GET(REQUEST_URI + PATH_OBJECT + "?from=properties").build().uri())
+                .build(), ofString());
+
+        HTTP_REPLAY_MODE_PROPERTY.accept(REPLAY);
+        HTTP_REPLAY_STORE_PROPERTY.accept(store.toString());
+        var context = new HttpStepContext(HttpClient.newBuilder());
+
+        assertThat(context.getCurrentClient(), instanceOf(ReplayingHttpClient.class));
+        assertThat(context.responseOf(GET(REQUEST_URI + PATH_OBJECT + "?from=properties"), ofString()).body(), is(BODY_OBJECT));
+        assertThat(context.getReplayStatistics().getHits(), is(1L));
+        verify(1, getRequestedFor(urlPathEqualTo(PATH_OBJECT)).withQueryParam("from", equalTo("properties")));
+    }
+
+    @Test
+    public void oneShotBodyTest() throws Exception {
+        var store = Files.createTempDirectory("http-replay");
+        var uri = GET(REQUEST_URI + PATH_POST).build().uri();
+
+        //the stream may be read only once. Streamed bodies are sent by HTTP/1.1
+        var recorded = new ByteArrayInputStream("one shot body".getBytes(UTF_8));
+        var recording = client(RECORD, STRICT, store);
+        assertThat(recording.send(newBuilder(uri).version(HTTP_1_1).POST(ofInputStream(() -> recorded)).build(), ofString()).statusCode(),
+                is(201));
+        verify(1, postRequestedFor(urlPathEqualTo(PATH_POST)).withRequestBody(equalTo("one shot body")));
+
+        var replayed = new ByteArrayInputStream("one shot body".getBytes(UTF_8));
+        var replaying = client(REPLAY, STRICT, store);
+        assertThat(replaying.send(newBuilder(uri).version(HTTP_1_1).POST(ofInputStream(() -> replayed)).build(), ofString()).body(),
+                is("created"));
+
+        var notRecorded = new ByteArrayInputStream("one shot body 2".getBytes(UTF_8));
+        var lenient = client(REPLAY, LENIENT, store);
+        lenient.send(newBuilder(uri.resolve(PATH_NOT_RECORDED)).version(HTTP_1_1).POST(ofInputStream(() -> notRecorded)).build(), ofString());
+        //the body that was read to find a recorded response is sent
+        verify(1, postRequestedFor(urlPathEqualTo(PATH_NOT_RECORDED)).withRequestBody(equalTo("one shot body 2")));
+    }
+
+    @Test
+    public void secretHeaderTest() throws Exception {
+        var store = Files.createTempDirectory("http-replay");
+        var request = newBuilder(GET(REQUEST_URI + PATH_OBJECT + "?secret=header").build().uri())
+                .header("Authorization", "Bearer very-secret-token");
+
+        var headers = List.of("Authorization");
+        ReplayingHttpClient.replaying(HttpClient.newBuilder().build(), RECORD, STRICT, store, headers)
+                .send(request.build(), ofString());
+        var replaying = ReplayingHttpClient.replaying(HttpClient.newBuilder().build(), REPLAY, STRICT, store, headers);
+        assertThat(replaying.send(request.build(), ofString()).body(), is(BODY_OBJECT));
+
+        try {
+            replaying.send(request.copy().setHeader("Authorization", "Bearer other-secret-token").build(), ofString());
+        } catch (ResponseIsNotRecordedException e) {
+            assertThat(e.getMessage(), not(containsString("other-secret-token")));
+            assertThat(((ReplayingHttpClient) replaying).getStatistics().getMissed(),
+                    not(hasItem(containsString("other-secret-token"))));
+            assertThat(new String(Files.readAllBytes(store.resolve("responses.dat")), UTF_8),
+                    not(containsString("very-secret-token")));
+            return;
+        }
+        throw new AssertionError("Request with other authorization should not be replayed");
+    }
+
+    @Test
+    public void replayCountersOfClientTest() throws Exception {
+        var store = Files.createTempDirectory("http-replay");
+        var request = newBuilder(GET(REQUEST_URI + PATH_OBJECT + "?counters=1").build().uri()).build();
+        var recording = client(RECORD, STRICT, store);
+        recording.send(request, ofString());
+        recording.send(newBuilder(request.uri().resolve(PATH_NOT_RECORDED + "?counters=1")).build(), ofString());
+
+        //each client replays the sequence from the beginning
+        assertThat(client(REPLAY, STRICT, store).send(request, ofString()).body(), is(BODY_OBJECT));
+        assertThat(client(REPLAY, STRICT, store).send(request, ofString()).body(), is(BODY_OBJECT));
+        verify(1, getRequestedFor(urlPathEqualTo(PATH_OBJECT)).withQueryParam("counters", equalTo("1")));
+    }
+
+    @Test
+    public void notReplayingTest() throws Exception {
+        var delegate = HttpClient.newBuilder().build();
+        var replaying = ReplayingHttpClient.replaying(delegate, REPLAY, STRICT, Files.createTempDirectory("http-replay"),
+                HEADERS);
+
+        assertThat(notReplaying(replaying), sameInstance(delegate));
+        assertThat(notReplaying(delegate), sameInstance(delegate));
+    }
+}
@@ -0,0 +1,210 @@
+package ru.tinkoff.qa.neptune.http.api.test;
+
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import ru.tinkoff.qa.neptune.http.api.response.DesiredDataHasNotBeenReceivedException;
+import ru.tinkoff.qa.neptune.http.api.response.ExpectedHttpResponseHasNotBeenReceivedException;
+import ru.tinkoff.qa.neptune.http.api.response.events.ServerSentEvent;
+import ru.tinkoff.qa.neptune.http.api.test.request.body.BodyObject;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static java.lang.System.currentTimeMillis;
+import static java.time.Duration.ofSeconds;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.testng.Assert.fail;
+import static ru.tinkoff.qa.neptune.http.api.HttpStepContext.http;
+import static ru.tinkoff.qa.neptune.http.api.request.RequestBuilder.GET;
+import static ru.tinkoff.qa.neptune.http.api.response.events.EventStreamFormat.*;
+import static ru.tinkoff.qa.neptune.http.api.response.events.ResponseEventsGetSupplier.responseEvents;
+
+public class HttpResponseEventsTest extends BaseHttpTest {
+
+    private static final String PATH_SSE = "/events/sse";
+    private static final String PATH_ND_JSON = "/events/ndjson";
+    private static final String PATH_JSON_ARRAY = "/events/array";
+    private static final String PATH_SLOW_SSE = "/events/slow";
+    private static final String PATH_SLOW_SSE_TIME_OUT = "/events/slow_time_out";
+    private static final String PATH_NOT_FOUND = "/events/not_found";
+    private static final String PATH_HTML = "/events/html";
+
+    private static final String SSE_BODY = ": comment\n" +
+            "id: 1\n" +
+            "data: first\n" +
+            "\n" +
+            "event: update\r\n" +
+            "id: 2\r\n" +
+            "retry: 1000\r\n" +
+            "data: second\r\n" +
+            "data: line\r\n" +
+            "\r\n" +
+            "id: 3\n" +
+            "data: third\n" +
+            "\n";
+
+    private static final String ND_JSON_BODY = "{\"A\":\"1\",\"B\":1,\"C\":true}\n" +
+            "\n" +
+            "{\"A\":\"2\",\"B\":2,\"C\":false}\r\n" +
+            "{\"A\":\"3\",\"B\":3,\"C\":true}";
+
+    private static final String JSON_ARRAY_BODY = "[{\"A\":\"1\",\"B\":1,\"C\":true}," +
+            "{\"A\":\"2\",\"B\":2,\"C\":false}," +
+            "{\"A\":\"3\",\"B\":3,\"C\":true}]";
+
+    @BeforeClass
+    public void beforeClass() {
+        stubFor(get(urlPathEqualTo(PATH_SSE))
+                .willReturn(aResponse()
+                        .withHeader("Content-Type", "text/event-stream")
+                        .withBody(SSE_BODY)
+                        .withChunkedDribbleDelay(7, 70)));
+
+        stubFor(get(urlPathEqualTo(PATH_ND_JSON))
+                .willReturn(aResponse()
+                        .withHeader("Content-Type", "application/x-ndjson")
+                        .withBody(ND_JSON_BODY)
+                        .withChunkedDribbleDelay(5, 50)));
+
+        stubFor(get(urlPathEqualTo(PATH_JSON_ARRAY))
+                .willReturn(aResponse()
+                        .withHeader("Content-Type", "application/json")
+                        .withBody(JSON_ARRAY_BODY)
+                        .withChunkedDribbleDelay(9, 90)));
+
+        stubFor(get(urlPathEqualTo(PATH_SLOW_SSE))
+                .willReturn(aResponse()
+                        .withHeader("Content-Type", "text/event-stream")
+                        .withBody(SSE_BODY)
+                        .withChunkedDribbleDelay(2, 4000)));
+
+        stubFor(get(urlPathEqualTo(PATH_SLOW_SSE_TIME_OUT))
+                .willReturn(aResponse()
+                        .withHeader("Content-Type", "text/event-stream")
+                        .withBody(SSE_BODY)
+                        .withChunkedDribbleDelay(2, 4000)));
+
+        stubFor(get(urlPathEqualTo(PATH_NOT_FOUND))
+                .willReturn(aResponse()
+                        .withStatus(404)
+                        .withHeader("Content-Type", "text/event-stream")
+                        .withBody(SSE_BODY)));
+
+        stubFor(get(urlPathEqualTo(PATH_HTML))
+                .willReturn(aResponse()
+                        .withHeader("Content-Type", "text/html; charset=UTF-8")
+                        .withBody("<html><body>data: first</body></html>")
+                        .withChunkedDribbleDelay(2, 4000)));
+    }
+
+    @Test
+    public void serverSentEventsTest() {
+        var events = http().eventsOf(responseEvents(GET(REQUEST_URI + PATH_SSE), serverSentEvents())
+                .count(3));
+
+        assertThat(events, hasSize(3));
+        assertThat(events.get(0).getId(), is("1"));
+        assertThat(events.get(0).getEvent(), is("message"));
+        assertThat(events.get(0).getData(), is("first"));
+
+        assertThat(events.get(1).getId(), is("2"));
+        assertThat(events.get(1).getEvent(), is("update"));
+        assertThat(events.get(1).getData(), is("second\nline"));
+        assertThat(events.get(1).getRetry(), is(1000L));
+
+        assertThat(events.get(2).getData(), is("third"));
+    }
+
+    @Test
+    public void serverSentEventsCriteriaTest() {
+        var events = http().eventsOf(responseEvents(GET(REQUEST_URI + PATH_SSE), serverSentEvents())
+                .criteria("Event is 'update'", e -> "update".equals(e.getEvent())));
+
+        assertThat(events, hasSize(1));
+        assertThat(events.get(0).getData(), is("second\nline"));
+    }
+
+    @Test
+    public void ndJsonTest() {
+        var events = http().eventsOf(responseEvents(GET(REQUEST_URI + PATH_ND_JSON), ndJson(BodyObject.class))
+                .criteria("C is true", BodyObject::getC)
+                .count(5));
+
+        assertThat(events, contains(new BodyObject().setA("1").setB(1).setC(true),
+                new BodyObject().setA("3").setB(3).setC(true)));
+    }
+
+    @Test
+    public void jsonArrayItemsTest() {
+        var events = http().eventsOf(responseEvents(GET(REQUEST_URI + PATH_JSON_ARRAY), jsonArrayItems(BodyObject.class))
+                .criteria("B > 1", b -> b.getB() > 1)
+                .count(2));
+
+        assertThat(events, contains(new BodyObject().setA("2").setB(2).setC(false),
+                new BodyObject().setA("3").setB(3).setC(true)));
+    }
+
+    @Test
+    public void waitingTimeTest() {
+        var start = currentTimeMillis();
+        var events = http().eventsOf(responseEvents(GET(REQUEST_URI + PATH_SLOW_SSE), serverSentEvents())
+                .count(3)
+                .waitingTime(ofSeconds(3)));
+        var time = currentTimeMillis() - start;
+
+        //the first half of the body is received in 2 seconds. The rest of the body is not waited for
+        assertThat(events, hasSize(1));
+        assertThat(events.get(0).getData(), is("first"));
+        assertThat(time, lessThan(ofSeconds(4).toMillis()));
+        verify(1, getRequestedFor(urlPathEqualTo(PATH_SLOW_SSE)));
+    }
+
+    @Test(expectedExceptions = DesiredDataHasNotBeenReceivedException.class,
+            expectedExceptionsMessageRegExp = "No events received:.*")
+    public void noEventsTest() {
+        http().eventsOf(responseEvents(GET(REQUEST_URI + PATH_SSE), serverSentEvents())
+                .criteria("Event is 'delete'", e -> "delete".equals(e.getEvent()))
+                .throwOnNoResult());
+    }
+
+    @Test
+    public void unexpectedStatusCodeTest() {
+        try {
+            http().eventsOf(responseEvents(GET(REQUEST_URI + PATH_NOT_FOUND), serverSentEvents()));
+        } catch (ExpectedHttpResponseHasNotBeenReceivedException e) {
+            assertThat(e.getMessage(), containsString("status code 404, Content-Type text/event-stream"));
+            return;
+        }
+
+        fail("Exception was expected");
+    }
+
+    @Test
+    public void unexpectedContentTypeTest() {
+        var start = currentTimeMillis();
+        try {
+            http().eventsOf(responseEvents(GET(REQUEST_URI + PATH_HTML), serverSentEvents())
+                    .waitingTime(ofSeconds(10)));
+        } catch (ExpectedHttpResponseHasNotBeenReceivedException e) {
+            assertThat(e.getMessage(), containsString("status code 200, Content-Type text/html; charset=UTF-8"));
+            //the body is not waited for
+            assertThat(currentTimeMillis() - start, lessThan(ofSeconds(4).toMillis()));
+            return;
+        }
+
+        fail("Exception was expected");
+    }
+
+    @Test
+    public void timeOutTest() {
+        var start = currentTimeMillis();
+        var events = http().eventsOf(responseEvents(GET(REQUEST_URI + PATH_SLOW_SSE_TIME_OUT), serverSentEvents())
+                .count(3)
+                .timeOut(ofSeconds(3)));
+        var time = currentTimeMillis() - start;
+
+        //the time out bounds the receiving. The request is not sent again
+        assertThat(events, hasSize(1));
+        assertThat(time, lessThan(ofSeconds(4).toMillis()));
+        verify(1, getRequestedFor(urlPathEqualTo(PATH_SLOW_SSE_TIME_OUT)));
+    }
+}
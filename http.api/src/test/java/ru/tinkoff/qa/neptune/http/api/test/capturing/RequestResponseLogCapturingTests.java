@@ -251,6 +251,47 @@ public class RequestResponseLogCapturingTests extends BaseHttpTest {
         fail("Exception was expected");
     }
 
+    @Test
+    public void exchangeTraceTest() {
+        DO_CAPTURES_OF_INSTANCE.accept(SUCCESS);
+        http().responseOf(GET(CORRECT_URI).header("Some-Header", "Some value"), ofString());
+
+        assertThat(getLog(), hasItem(allOf(
+                startsWith("Logs that have been captured during the sending of a request\n" +
+                        "Exchange #1 of 1" + LINE_SEPARATOR +
+                        "Request: GET http://127.0.0.1:8089/success.html"),
+                containsString("Request headers:" + LINE_SEPARATOR +
+                        "  Some-Header: Some value" + LINE_SEPARATOR),
+                containsString("Response status code: 200" + LINE_SEPARATOR),
+                containsString("Response body size: 7 bytes" + LINE_SEPARATOR),
+                containsString("Time to response headers: "),
+                containsString("Total time: "))));
+    }
+
+    @Test
+    public void exchangeTraceOfRetriesTest() {
+        DO_CAPTURES_OF_INSTANCE.accept(FAILURE);
+
+        try {
+            http().bodyData(asIs(GET(CORRECT_URI), ofString())
+                    .responseCriteria(statusCode(404))
+                    .retryTimeOut(ofSeconds(1))
+                    .throwOnNoResult());
+        } catch (DesiredDataHasNotBeenReceivedException e) {
+            var log = getLog().stream()
+                    .filter(s -> s.startsWith("Logs that have been captured during the sending of a request"))
+                    .findFirst()
+                    .orElseThrow();
+
+            assertThat(log, containsString("Response status code: 200"));
+            //only last exchanges are kept
+            assertThat(log.split("Exchange #").length - 1, allOf(greaterThan(0), lessThanOrEqualTo(10)));
+            return;
+        }
+
+        fail("Exception was expected");
+    }
+
     @AfterMethod
     public void afterMethod() {
         getProperties().remove(DO_CAPTURES_OF_INSTANCE.getName());
@@ -45,4 +45,8 @@ public interface HeaderMapping extends HttpAPI<HeaderMapping> {
     default RequestBuilder postSomethingWithHeadersDefault() {
         return postSomethingWithHeaders(5);
     }
+
+    default RequestBuilder postSomethingWithHeadersDefault(Object... values) {
+        return postSomethingWithHeaders(values);
+    }
 }
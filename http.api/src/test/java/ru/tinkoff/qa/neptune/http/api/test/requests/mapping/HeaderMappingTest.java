@@ -164,4 +164,13 @@ public class HeaderMappingTest extends BaseHttpTest {
         assertThat(headerMap, hasEntry(Matchers.equalTo("header3"), contains("one more value again")));
         assertThat(headerMap, hasEntry(Matchers.equalTo("required"), contains("5")));
     }
+
+    @Test
+    public void test8() {
+        var rb = methodMappingAPI.postSomethingWithHeadersDefault(1, "a", true);
+        var r = rb.build();
+        var headerMap = r.headers().map();
+
+        assertThat(headerMap, hasEntry(Matchers.equalTo("required"), contains("1", "a", "true")));
+    }
 }
@@ -275,6 +275,25 @@ public class PathMappingTest {
         fail("Exception was expected");
     }
 
+    @Test
+    public void test7() {
+        var api1 = createAPI(PathMapping.class, TEST_URI);
+        var api2 = createAPI(PathMapping.class, URI.create("http://127.0.0.2:8090"));
+
+        for (var i = 0; i < 3; i++) {
+            var uri1 = api1.getSomethingWithVariablePath("Start" + i, i, "End" + i).build().uri();
+            var uri2 = api2.getSomethingWithVariablePath(null, i + 1, "End" + i).build().uri();
+
+            assertThat(uri1, uriHasHost("127.0.0.1"));
+            assertThat(uri1, uriHasPort(8089));
+            assertThat(uri1, uriHasPath("/Start" + i + "/" + (float) i + "/and/then/End" + i + "/end/point"));
+
+            assertThat(uri2, uriHasHost("127.0.0.2"));
+            assertThat(uri2, uriHasPort(8090));
+            assertThat(uri2, uriHasPath("/" + (float) (i + 1) + "/and/then/End" + i + "/end/point"));
+        }
+    }
+
 
     private interface PathMapping extends HttpAPI<PathMapping> {
 
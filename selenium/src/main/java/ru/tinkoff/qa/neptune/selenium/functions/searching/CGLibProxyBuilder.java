@@ -2,15 +2,30 @@ package ru.tinkoff.qa.neptune.selenium.functions.searching;
 
 import net.sf.cglib.proxy.Callback;
 import net.sf.cglib.proxy.Enhancer;
+import net.sf.cglib.proxy.Factory;
 import net.sf.cglib.proxy.MethodInterceptor;
+import org.objenesis.Objenesis;
 import org.objenesis.ObjenesisStd;
 
-import static net.sf.cglib.proxy.Enhancer.registerCallbacks;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 class CGLibProxyBuilder {
 
+    private static final Objenesis OBJENESIS = new ObjenesisStd();
+
+    //proxy classes are generated once per class of an object and class of an interceptor
+    private static final ClassValue<Map<Class<?>, Class<?>>> PROXY_CLASSES = new ClassValue<>() {
+        @Override
+        protected Map<Class<?>, Class<?>> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
     /**
-     * Creates a proxy object using the binding of CGLIB and Objenesis
+     * Creates a proxy object using the binding of CGLIB and Objenesis. A class of the proxy is created once and
+     * then it is reused by all proxies of the same class which have interceptors of the same class. The
+     * interceptor is bound to the created object only.
      *
      * @param tClass is a class of a proxy
      * @param interceptor is an instance of {@link MethodInterceptor}
@@ -19,18 +34,22 @@ class CGLibProxyBuilder {
      */
     @SuppressWarnings("unchecked")
     static  <T> T createProxy(Class<T> tClass, MethodInterceptor interceptor) {
-        var enhancer = new Enhancer();
-
-        enhancer.setUseCache(false);
-        enhancer.setCallbackType(interceptor.getClass());
-        enhancer.setSuperclass(tClass);
-
-        var proxyClass = enhancer.createClass();
-        registerCallbacks(proxyClass, new Callback[]{interceptor});
-        enhancer.setClassLoader(tClass.getClassLoader());
-
-        var objenesis = new ObjenesisStd();
-        var proxy = objenesis.newInstance(proxyClass);
+        var proxyClass = proxyClassOf(tClass, interceptor.getClass());
+        var proxy = (Factory) OBJENESIS.newInstance(proxyClass);
+        proxy.setCallbacks(new Callback[]{interceptor});
         return (T) proxy;
     }
+
+    static Class<?> proxyClassOf(Class<?> tClass, Class<? extends MethodInterceptor> interceptorClass) {
+        return PROXY_CLASSES.get(tClass).computeIfAbsent(interceptorClass, c -> {
+            var enhancer = new Enhancer();
+            enhancer.setUseCache(false);
+            enhancer.setCallbackType(c);
+            enhancer.setSuperclass(tClass);
+            if (tClass.getClassLoader() != null) {
+                enhancer.setClassLoader(tClass.getClassLoader());
+            }
+            return enhancer.createClass();
+        });
+    }
 }
@@ -1,9 +1,9 @@
 package ru.tinkoff.qa.neptune.selenium.functions.searching;
 
-import io.github.classgraph.ClassGraph;
-import io.github.classgraph.ScanResult;
+import org.openqa.selenium.By;
 import org.openqa.selenium.SearchContext;
 import org.openqa.selenium.WebElement;
+import ru.tinkoff.qa.neptune.core.api.classpath.ClassIndex;
 import ru.tinkoff.qa.neptune.selenium.api.widget.Widget;
 
 import java.lang.reflect.Modifier;
@@ -15,7 +15,6 @@ import java.util.function.Predicate;
 import static com.google.common.base.Preconditions.checkArgument;
 import static java.util.Arrays.stream;
 import static java.util.Objects.nonNull;
-import static java.util.Optional.ofNullable;
 import static java.util.stream.Collectors.toList;
 import static ru.tinkoff.qa.neptune.selenium.functions.searching.CGLibProxyBuilder.createProxy;
 import static ru.tinkoff.qa.neptune.selenium.functions.searching.FindByBuilder.getAnnotations;
@@ -25,13 +24,10 @@ import static ru.tinkoff.qa.neptune.selenium.functions.searching.WidgetPriorityC
 class FindWidgets<R extends Widget> implements Function<SearchContext, List<R>> {
 
     private static final FindByBuilder BUILDER = new FindByBuilder();
-    private static final ScanResult SCAN_RESULT = new ClassGraph()
-            .enableAllInfo()
-            .scan();
 
     final Class<? extends R> classOfAWidget;
     private final Predicate<Class<? extends R>> classPredicate;
-    private List<Class<? extends R>> classesToInstantiate;
+    private volatile Search<R> search;
 
     FindWidgets(Class<R> classOfAWidget, Predicate<Class<? extends R>> classPredicate) {
         checkArgument(nonNull(classOfAWidget), "The class to be instantiated should be defined.");
@@ -57,9 +53,10 @@ class FindWidgets<R extends Widget> implements Function<SearchContext, List<R>>
 
     private static <R extends Widget> List<Class<? extends R>> findSubclasses(Class<? extends R> classOfAWidget,
                                                                               Predicate<Class<? extends R>> classPredicate) {
-        return SCAN_RESULT.getSubclasses(classOfAWidget.getName())
-                .loadClasses(classOfAWidget)
+        return ClassIndex.getSubclasses(Widget.class)
                 .stream()
+                .filter(clazz -> !clazz.equals(classOfAWidget) && classOfAWidget.isAssignableFrom(clazz))
+                .<Class<? extends R>>map(clazz -> clazz.asSubclass(classOfAWidget))
                 .filter(classPredicate)
                 .sorted(widgetPriorityComparator()).collect(toList());
     }
@@ -88,8 +85,12 @@ class FindWidgets<R extends Widget> implements Function<SearchContext, List<R>>
 
     @Override
     public List<R> apply(SearchContext searchContext) {
-        classesToInstantiate = ofNullable(classesToInstantiate)
-                .orElseGet(this::getSubclasses);
+        var search = this.search;
+        if (search == null) {
+            //it is harmless when concurrent threads resolve classes of widgets at the same time
+            search = new Search<>(getSubclasses());
+            this.search = search;
+        }
 
         var result = new ArrayList<R>() {
             @Override
@@ -102,12 +103,26 @@ class FindWidgets<R extends Widget> implements Function<SearchContext, List<R>>
             }
         };
 
-        classesToInstantiate.forEach(clazz -> {
-            var by = BUILDER.buildIt(clazz);
-            result.addAll(searchContext.findElements(by).stream()
-                    .map(webElement -> createProxy(clazz, new WidgetInterceptor(webElement, clazz, by)))
-                    .collect(toList()));
-        });
+        //elements are found by all locators at once. Then they are wrapped in order of priority of widget classes
+        var found = search.multipleLocatorSearch.findElements(searchContext);
+        for (int i = 0; i < search.classesToInstantiate.size(); i++) {
+            var clazz = search.classesToInstantiate.get(i);
+            var by = search.locators.get(i);
+            found.get(i).forEach(webElement -> result.add(createProxy(clazz, new WidgetInterceptor(webElement, clazz, by))));
+        }
         return result;
     }
+
+    private static final class Search<R extends Widget> {
+
+        private final List<Class<? extends R>> classesToInstantiate;
+        private final List<By> locators;
+        private final MultipleLocatorSearch multipleLocatorSearch;
+
+        private Search(List<Class<? extends R>> classesToInstantiate) {
+            this.classesToInstantiate = classesToInstantiate;
+            locators = classesToInstantiate.stream().map(BUILDER::buildIt).collect(toList());
+            multipleLocatorSearch = new MultipleLocatorSearch(locators);
+        }
+    }
 }
@@ -0,0 +1,181 @@
+package ru.tinkoff.qa.neptune.selenium.functions.searching;
+
+import org.openqa.selenium.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+
+/**
+ * Finds elements by several locators at once. Locators which can be evaluated by a browser are resolved by one
+ * execution of a script. Other locators are resolved by {@link SearchContext#findElements(By)} one by one.
+ * Found elements are returned in the same order as locators are listed.
+ */
+final class MultipleLocatorSearch {
+
+    private static final String FIND_ELEMENTS_SCRIPT = "var root = arguments[0] || document;\n" +
+            "var queries = arguments[1];\n" +
+            "var doc = root.ownerDocument || document;\n" +
+            "function quote(value) {\n" +
+            "    return '\"' + value.replace(/([\"\\\\])/g, '\\\\$1') + '\"';\n" +
+            "}\n" +
+            "var result = [];\n" +
+            "for (var i = 0; i < queries.length; i++) {\n" +
+            "    var using = queries[i][0];\n" +
+            "    var value = queries[i][1];\n" +
+            "    var found = [];\n" +
+            "    if (using === 'xpath') {\n" +
+            "        var snapshot = doc.evaluate(value, root, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);\n" +
+            "        for (var j = 0; j < snapshot.snapshotLength; j++) {\n" +
+            "            found.push(snapshot.snapshotItem(j));\n" +
+            "        }\n" +
+            "    } else {\n" +
+            "        var selector = using === 'id' ? '[id=' + quote(value) + ']'\n" +
+            "            : using === 'name' ? '[name=' + quote(value) + ']'\n" +
+            "            : using === 'class name' ? '[class~=' + quote(value) + ']'\n" +
+            "            : value;\n" +
+            "        var nodes = root.querySelectorAll(selector);\n" +
+            "        for (var k = 0; k < nodes.length; k++) {\n" +
+            "            found.push(nodes[k]);\n" +
+            "        }\n" +
+            "    }\n" +
+            "    result.push(found);\n" +
+            "}\n" +
+            "return result;";
+
+    private final List<By> locators;
+    private final List<List<String>> queries = new ArrayList<>();
+    private final List<Integer> queried = new ArrayList<>();
+    //it is set when the driver can't execute the script at all. Other failures of the script affect only current call
+    private volatile boolean scriptIsNotSupported;
+
+    MultipleLocatorSearch(List<By> locators) {
+        this.locators = locators;
+        for (int i = 0; i < locators.size(); i++) {
+            var query = queryOf(locators.get(i));
+            if (query != null) {
+                queries.add(query);
+                queried.add(i);
+            }
+        }
+    }
+
+    /**
+     * Translates a locator into a pair of a strategy and a value which can be evaluated by the script.
+     *
+     * @param by is a locator to translate
+     * @return a strategy and a value. {@code null} is returned when the locator can't be evaluated by the script
+     */
+    private static List<String> queryOf(By by) {
+        var cls = by.getClass();
+        var string = by.toString();
+        if (cls.equals(By.ById.class)) {
+            return query("id", string, "By.id: ");
+        }
+        if (cls.equals(By.ByName.class)) {
+            return query("name", string, "By.name: ");
+        }
+        if (cls.equals(By.ByClassName.class)) {
+            var result = query("class name", string, "By.className: ");
+            //compound class names are not permitted
+            return result != null && result.get(1).matches(".*\\s.*") ? null : result;
+        }
+        if (cls.equals(By.ByTagName.class)) {
+            return query("tag name", string, "By.tagName: ");
+        }
+        if (cls.equals(By.ByCssSelector.class)) {
+            return query("css selector", string, "By.cssSelector: ");
+        }
+        if (cls.equals(By.ByXPath.class)) {
+            return query("xpath", string, "By.xpath: ");
+        }
+        return null;
+    }
+
+    private static List<String> query(String using, String locator, String prefix) {
+        if (!locator.startsWith(prefix) || locator.length() == prefix.length()) {
+            return null;
+        }
+        return asList(using, locator.substring(prefix.length()));
+    }
+
+    /**
+     * Finds elements by each locator.
+     *
+     * @param searchContext is a context to find elements from
+     * @return lists of found elements. Each list corresponds to the locator of the same index.
+     */
+    List<List<WebElement>> findElements(SearchContext searchContext) {
+        var result = new ArrayList<List<WebElement>>(locators.size());
+        for (int i = 0; i < locators.size(); i++) {
+            result.add(null);
+        }
+
+        //there is no sense to use the script to resolve the only locator
+        if (!scriptIsNotSupported && queries.size() > 1) {
+            var found = findByScript(searchContext);
+            if (found != null) {
+                for (int i = 0; i < queried.size(); i++) {
+                    result.set(queried.get(i), found.get(i));
+                }
+            }
+        }
+
+        for (int i = 0; i < locators.size(); i++) {
+            if (result.get(i) == null) {
+                result.set(i, searchContext.findElements(locators.get(i)));
+            }
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<List<WebElement>> findByScript(SearchContext searchContext) {
+        WebElement root = null;
+        SearchContext context = searchContext;
+        if (context instanceof WrapsElement) {
+            root = ((WrapsElement) context).getWrappedElement();
+            context = root;
+        } else if (context instanceof WebElement) {
+            root = (WebElement) context;
+        }
+
+        JavascriptExecutor executor = null;
+        if (context instanceof JavascriptExecutor) {
+            executor = (JavascriptExecutor) context;
+        } else if (context instanceof WrapsDriver) {
+            var driver = ((WrapsDriver) context).getWrappedDriver();
+            if (driver instanceof JavascriptExecutor) {
+                executor = (JavascriptExecutor) driver;
+            }
+        }
+
+        if (executor == null) {
+            scriptIsNotSupported = true;
+            return null;
+        }
+
+        Object found;
+        try {
+            found = executor.executeScript(FIND_ELEMENTS_SCRIPT, root, queries);
+        } catch (UnsupportedCommandException | UnsupportedOperationException e) {
+            scriptIsNotSupported = true;
+            return null;
+        } catch (WebDriverException e) {
+            //locators are resolved one by one. Exceptions, if they are expected, are thrown then
+            return null;
+        }
+
+        if (!(found instanceof List) || ((List<?>) found).size() != queries.size()) {
+            return null;
+        }
+
+        for (var item : (List<?>) found) {
+            if (!(item instanceof List)) {
+                return null;
+            }
+        }
+        return (List<List<WebElement>>) found;
+    }
+}
@@ -1,6 +1,5 @@
 package ru.tinkoff.qa.neptune.selenium.localization;
 
-import io.github.classgraph.ClassGraph;
 import org.openqa.selenium.WebElement;
 import ru.tinkoff.qa.neptune.core.api.localization.BindToPartition;
 import ru.tinkoff.qa.neptune.core.api.localization.BundleFillerExtension;
@@ -21,6 +20,7 @@ import static java.util.Optional.ofNullable;
 import static java.util.stream.Collectors.toCollection;
 import static ru.tinkoff.qa.neptune.selenium.api.widget.WidgetDescriptionMetadataFactory.getMultipleNameMetadata;
 import static ru.tinkoff.qa.neptune.selenium.api.widget.WidgetDescriptionMetadataFactory.getNameMetadata;
+import static ru.tinkoff.qa.neptune.core.api.classpath.ClassIndex.getSubclasses;
 
 @SuppressWarnings("unused")
 @BindToPartition("selenium")
@@ -31,11 +31,7 @@ public final class WebElementBundleFillerExtension extends BundleFillerExtension
     }
 
     private static List<Class<?>> prepareClasses() {
-        var result = new ClassGraph()
-                .enableAllInfo()
-                .scan()
-                .getSubclasses(Widget.class.getName())
-                .loadClasses(Widget.class)
+        var result = getSubclasses(Widget.class)
                 .stream()
                 .filter(widgetClass -> !widgetClass.equals(Widget.class)
                         && (widgetClass.getAnnotation(Name.class) != null
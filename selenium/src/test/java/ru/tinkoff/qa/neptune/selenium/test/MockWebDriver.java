@@ -31,6 +31,9 @@ public class MockWebDriver implements WebDriver, JavascriptExecutor, TakesScreen
     private boolean isSwitchedToParentFrame;
     private Object currentFrame;
     public String lastNavigationURLAsIs;
+    private int elementSearches;
+    private int scriptSearches;
+    private int scriptSearchesToFail;
 
     final Map<String, LinkedList<URLs>> handlesAndUrlHistory = new HashMap<>() {
         {
@@ -99,6 +102,7 @@ public class MockWebDriver implements WebDriver, JavascriptExecutor, TakesScreen
 
     @Override
     public List<WebElement> findElements(By by) {
+        elementSearches++;
         List<WebElement> elements = new LinkedList<>();
         children.forEach(mockWebElement -> {
             if (mockWebElement.foundBy.equals(by)) {
@@ -171,10 +175,67 @@ public class MockWebDriver implements WebDriver, JavascriptExecutor, TakesScreen
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public Object executeScript(String script, Object... args) {
+        if (args.length == 2 && args[1] instanceof List) {
+            return findElementsByScript((SearchContext) args[0], (List<List<String>>) args[1]);
+        }
         return executeMockScripts(script, args);
     }
 
+    /**
+     * Emulates the script which finds elements by several locators at once
+     */
+    private List<List<WebElement>> findElementsByScript(SearchContext root, List<List<String>> queries) {
+        scriptSearches++;
+        if (scriptSearchesToFail > 0) {
+            scriptSearchesToFail--;
+            throw new JavascriptException("Script search failed");
+        }
+        var elementSearches = this.elementSearches;
+        var context = ofNullable(root).orElse(this);
+        var result = new ArrayList<List<WebElement>>();
+        for (var query : queries) {
+            var value = query.get(1);
+            switch (query.get(0)) {
+                case "id":
+                    result.add(context.findElements(By.id(value)));
+                    break;
+                case "name":
+                    result.add(context.findElements(By.name(value)));
+                    break;
+                case "class name":
+                    result.add(context.findElements(By.className(value)));
+                    break;
+                case "tag name":
+                    result.add(context.findElements(By.tagName(value)));
+                    break;
+                case "css selector":
+                    result.add(context.findElements(By.cssSelector(value)));
+                    break;
+                case "xpath":
+                    result.add(context.findElements(By.xpath(value)));
+                    break;
+                default:
+                    throw new JavascriptException(format("Unknown strategy %s", query.get(0)));
+            }
+        }
+        this.elementSearches = elementSearches;
+        return result;
+    }
+
+    public int getElementSearches() {
+        return elementSearches;
+    }
+
+    public int getScriptSearches() {
+        return scriptSearches;
+    }
+
+    public void failScriptSearches(int times) {
+        scriptSearchesToFail = times;
+    }
+
     @Override
     public Object executeAsyncScript(String script, Object... args) {
         return executeMockScripts(script, args);
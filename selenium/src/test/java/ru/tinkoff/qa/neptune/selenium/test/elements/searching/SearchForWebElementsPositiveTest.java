@@ -10,8 +10,10 @@ import ru.tinkoff.qa.neptune.selenium.test.BaseWebDriverTest;
 import ru.tinkoff.qa.neptune.selenium.test.RetryAnalyzer;
 
 import java.math.BigDecimal;
+import java.util.HashSet;
 import java.util.List;
 
+import static java.lang.management.ManagementFactory.getClassLoadingMXBean;
 import static java.time.Duration.ofMillis;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
@@ -409,4 +411,25 @@ public class SearchForWebElementsPositiveTest extends BaseWebDriverTest {
             removeProperty(ELEMENT_WAITING_TIME_VALUE.getName());
         }
     }
+
+    @Test
+    public void proxyClassesOfFoundElementsAreReusedTest() {
+        //the first search generates a class of proxies
+        seleniumSteps.find(webElements(tagName(BUTTON_TAG)));
+        var classLoading = getClassLoadingMXBean();
+        var loaded = classLoading.getTotalLoadedClassCount();
+
+        var proxyClasses = new HashSet<Class<?>>();
+        var found = 0;
+        for (int i = 0; i < 125; i++) {
+            for (var e : seleniumSteps.find(webElements(tagName(BUTTON_TAG)))) {
+                proxyClasses.add(e.getClass());
+                found++;
+            }
+        }
+
+        assertThat(found, is(1000));
+        assertThat(proxyClasses, hasSize(1));
+        assertThat(classLoading.getTotalLoadedClassCount() - loaded, lessThan(100L));
+    }
 }
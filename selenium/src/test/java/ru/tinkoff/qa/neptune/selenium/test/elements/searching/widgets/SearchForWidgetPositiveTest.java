@@ -6,6 +6,7 @@ import org.testng.annotations.Test;
 import ru.tinkoff.qa.neptune.selenium.api.widget.Widget;
 import ru.tinkoff.qa.neptune.selenium.functions.searching.SearchSupplier;
 import ru.tinkoff.qa.neptune.selenium.test.BaseWebDriverTest;
+import ru.tinkoff.qa.neptune.selenium.test.MockWebDriver;
 import ru.tinkoff.qa.neptune.selenium.test.RetryAnalyzer;
 import ru.tinkoff.qa.neptune.selenium.test.elements.searching.widgets.buttons.CustomizedButton;
 import ru.tinkoff.qa.neptune.selenium.test.elements.searching.widgets.buttons.LabeledButton;
@@ -15,10 +16,13 @@ import static java.time.Duration.ofMillis;
 import static java.util.Optional.ofNullable;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
+import static java.util.stream.Collectors.toList;
+import static org.openqa.selenium.By.className;
 import static org.openqa.selenium.By.tagName;
 import static ru.tinkoff.qa.neptune.core.api.steps.Criteria.NOT;
 import static ru.tinkoff.qa.neptune.core.api.steps.Criteria.OR;
 import static ru.tinkoff.qa.neptune.selenium.functions.searching.CommonElementCriteria.*;
+import static ru.tinkoff.qa.neptune.selenium.functions.searching.MultipleSearchSupplier.buttons;
 import static ru.tinkoff.qa.neptune.selenium.functions.searching.MultipleSearchSupplier.webElements;
 import static ru.tinkoff.qa.neptune.selenium.functions.searching.SearchSupplier.*;
 import static ru.tinkoff.qa.neptune.selenium.test.FakeDOMModel.*;
@@ -219,4 +223,36 @@ public class SearchForWidgetPositiveTest extends BaseWebDriverTest {
         ofNullable(element).ifPresent(element1 -> assertThat(t.getWrappedElement(), equalTo(element1)));
         assertThat(getTimeDifference() - ONE_SECOND.toMillis(), lessThan(100L));
     }
+
+    @Test
+    public void findWidgetsByOneScriptExecutionTest() {
+        var driver = (MockWebDriver) seleniumSteps.getWrappedDriver();
+        var found = seleniumSteps.find(buttons());
+
+        assertThat(driver.getScriptSearches(), is(1));
+        assertThat(driver.getElementSearches(), is(0));
+
+        var simpleButtons = driver.findElements(tagName(BUTTON_TAG));
+        var customizedButtons = driver.findElements(className(CUSTOM_BUTTON_CLASS));
+        assertThat(found, hasSize(simpleButtons.size() * 2 + customizedButtons.size()));
+        assertThat(found.stream().map(Widget::getWrappedElement).collect(toList()),
+                hasItems(customizedButtons.toArray(new WebElement[]{})));
+    }
+
+    @Test
+    public void findWidgetsByScriptAfterScriptFailureTest() {
+        var driver = (MockWebDriver) seleniumSteps.getWrappedDriver();
+        var supplier = buttons();
+        driver.failScriptSearches(1);
+
+        var found = seleniumSteps.find(supplier);
+        assertThat(driver.getScriptSearches(), is(1));
+        assertThat(driver.getElementSearches(), greaterThan(0));
+
+        var elementSearches = driver.getElementSearches();
+        var foundAgain = seleniumSteps.find(supplier);
+        assertThat(driver.getScriptSearches(), is(2));
+        assertThat(driver.getElementSearches(), is(elementSearches));
+        assertThat(foundAgain, hasSize(found.size()));
+    }
 }
@@ -1,13 +1,15 @@
 package ru.tinkoff.qa.neptune.testng.integration;
 
 import com.google.common.collect.Iterables;
-import io.github.classgraph.ClassGraph;
+import org.testng.IClassListener;
 import org.testng.IInvokedMethod;
 import org.testng.IInvokedMethodListener;
+import org.testng.ITestClass;
 import org.testng.ITestResult;
 import org.testng.annotations.Ignore;
 import org.testng.annotations.Test;
 import ru.tinkoff.qa.neptune.core.api.cleaning.ContextRefreshable;
+import ru.tinkoff.qa.neptune.core.api.concurrency.ContextPool;
 import ru.tinkoff.qa.neptune.core.api.hooks.ExecutionHook;
 import ru.tinkoff.qa.neptune.core.api.steps.context.Context;
 import ru.tinkoff.qa.neptune.testng.integration.properties.RefreshEachTimeBefore;
@@ -24,17 +26,17 @@ import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toList;
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
 import static org.testng.ITestResult.*;
+import static ru.tinkoff.qa.neptune.core.api.classpath.ClassIndex.getSubclasses;
+import static ru.tinkoff.qa.neptune.core.api.concurrency.ContextPool.releaseContexts;
+import static ru.tinkoff.qa.neptune.core.api.event.firing.StaticEventFiring.flushEvents;
 import static ru.tinkoff.qa.neptune.core.api.hooks.ExecutionHook.getHooks;
+import static ru.tinkoff.qa.neptune.core.api.properties.general.resorces.FreeResourcesOnInactivity.TO_FREE_RESOURCES_ON_INACTIVITY_PROPERTY;
 import static ru.tinkoff.qa.neptune.testng.integration.properties.TestNGRefreshStrategyProperty.REFRESH_STRATEGY_PROPERTY;
 
-public final class DefaultTestRunningListener implements IInvokedMethodListener {
+public final class DefaultTestRunningListener implements IInvokedMethodListener, IClassListener {
 
     private final ThreadLocal<Method> previouslyRefreshed = new ThreadLocal<>();
-    private final List<Class<? extends Context>> REFRESHABLE_CONTEXTS = new ClassGraph()
-            .enableAllInfo()
-            .scan()
-            .getSubclasses(Context.class.getName())
-            .loadClasses(Context.class)
+    private final List<Class<? extends Context>> REFRESHABLE_CONTEXTS = getSubclasses(Context.class)
             .stream()
             .filter(ContextRefreshable.class::isAssignableFrom)
             .collect(toList());
@@ -83,6 +85,8 @@ public final class DefaultTestRunningListener implements IInvokedMethodListener
 
     @Override
     public void beforeInvocation(IInvokedMethod method, ITestResult testResult) {
+        //contexts used by the method are returned to the pool when all tests of the class are finished
+        ofNullable(testResult.getTestClass()).ifPresent(ContextPool::bindToScope);
         var reflectionMethod = method.getTestMethod().getConstructorOrMethod().getMethod();
         ofNullable(testResult.getInstance()).ifPresent(o ->
                 refreshIfNecessary(reflectionMethod));
@@ -110,6 +114,8 @@ public final class DefaultTestRunningListener implements IInvokedMethodListener
 
     @Override
     public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+        //events of steps should be reported before the method is reported as finished
+        flushEvents();
         var reflectionMethod = method.getTestMethod().getConstructorOrMethod().getMethod();
 
         ofNullable(reflectionMethod.getAnnotation(Test.class)).ifPresent(test -> {
@@ -162,4 +168,12 @@ public final class DefaultTestRunningListener implements IInvokedMethodListener
             System.out.println();
         });
     }
+
+    @Override
+    public void onAfterClass(ITestClass testClass) {
+        //contexts are returned whichever threads of the test runner took them
+        if (TO_FREE_RESOURCES_ON_INACTIVITY_PROPERTY.get()) {
+            releaseContexts(testClass);
+        }
+    }
 }
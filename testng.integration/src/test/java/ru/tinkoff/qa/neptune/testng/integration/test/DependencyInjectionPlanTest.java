@@ -0,0 +1,24 @@
+package ru.tinkoff.qa.neptune.testng.integration.test;
+
+import org.testng.annotations.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+public class DependencyInjectionPlanTest {
+
+    private static final int OBJECTS = 10_000;
+
+    @Test
+    public void injectionOfManyObjectsTest() {
+        //the first object creates the injection plan
+        new DependencyInjectionTest().test();
+
+        for (int i = 0; i < OBJECTS; i++) {
+            new DependencyInjectionTest().test();
+        }
+
+        //the plan is reused so the injector is not created again
+        assertThat(TestDependencyInjector.INSTANCES.get(), is(1));
+    }
+}
@@ -3,9 +3,16 @@ package ru.tinkoff.qa.neptune.testng.integration.test;
 import ru.tinkoff.qa.neptune.core.api.dependency.injection.DependencyInjector;
 
 import java.lang.reflect.Field;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class TestDependencyInjector implements DependencyInjector {
 
+    static final AtomicInteger INSTANCES = new AtomicInteger();
+
+    public TestDependencyInjector() {
+        INSTANCES.incrementAndGet();
+    }
+
     @Override
     public boolean toSet(Field field) {
         var name = field.getName();
@@ -0,0 +1,44 @@
+package ru.tinkoff.qa.neptune.testng.integration.test.parallel;
+
+import org.testng.TestNG;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.Test;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+import static java.util.List.of;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.testng.xml.XmlSuite.ParallelMode.METHODS;
+import static ru.tinkoff.qa.neptune.core.api.properties.general.resorces.FreeResourcesOnInactivity.TO_FREE_RESOURCES_ON_INACTIVITY_PROPERTY;
+
+public class ParallelContextReleasingTest {
+
+    @AfterClass(alwaysRun = true)
+    public void afterClass() {
+        System.getProperties().remove(TO_FREE_RESOURCES_ON_INACTIVITY_PROPERTY.getName());
+    }
+
+    @Test
+    public void contextsOfAllThreadsAreReleasedTest() {
+        TO_FREE_RESOURCES_ON_INACTIVITY_PROPERTY.accept(true);
+
+        var suite = new XmlSuite();
+        suite.setName("ParallelSuite");
+        suite.setParallel(METHODS);
+        suite.setThreadCount(4);
+
+        var test = new XmlTest(suite);
+        test.setXmlClasses(of(new XmlClass(ParallelStubTest.class.getName()),
+                new XmlClass(ParallelStubCheckTest.class.getName())));
+
+        var testNG = new TestNG();
+        testNG.setXmlSuites(of(suite));
+        testNG.run();
+
+        assertThat(PooledContext.USED.size(), greaterThan(1));
+        assertThat(ParallelStubCheckTest.checkedOutAfterClass, is(0));
+    }
+}
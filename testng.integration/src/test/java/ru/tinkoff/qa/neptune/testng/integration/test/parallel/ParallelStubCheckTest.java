@@ -0,0 +1,17 @@
+package ru.tinkoff.qa.neptune.testng.integration.test.parallel;
+
+import org.testng.annotations.Test;
+import ru.tinkoff.qa.neptune.testng.integration.BaseTestNgTest;
+
+import static ru.tinkoff.qa.neptune.core.api.concurrency.ContextPool.getMetrics;
+
+public class ParallelStubCheckTest extends BaseTestNgTest {
+
+    static volatile Integer checkedOutAfterClass;
+
+    @Test(dependsOnGroups = "pooled")
+    public void checkPool() {
+        //threads which performed tests of ParallelStubTest are still alive
+        checkedOutAfterClass = getMetrics(PooledContext.class).getCheckedOut();
+    }
+}
@@ -0,0 +1,37 @@
+package ru.tinkoff.qa.neptune.testng.integration.test.parallel;
+
+import org.testng.annotations.Test;
+import ru.tinkoff.qa.neptune.testng.integration.BaseTestNgTest;
+
+import static java.lang.Thread.sleep;
+import static ru.tinkoff.qa.neptune.testng.integration.test.parallel.PooledContext.context;
+
+public class ParallelStubTest extends BaseTestNgTest {
+
+    private static void useContext() throws InterruptedException {
+        context.use();
+        //other methods are started by other threads meanwhile
+        sleep(200);
+        context.use();
+    }
+
+    @Test(groups = "pooled")
+    public void test1() throws InterruptedException {
+        useContext();
+    }
+
+    @Test(groups = "pooled")
+    public void test2() throws InterruptedException {
+        useContext();
+    }
+
+    @Test(groups = "pooled")
+    public void test3() throws InterruptedException {
+        useContext();
+    }
+
+    @Test(groups = "pooled")
+    public void test4() throws InterruptedException {
+        useContext();
+    }
+}
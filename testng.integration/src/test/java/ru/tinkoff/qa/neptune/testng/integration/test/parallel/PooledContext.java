@@ -0,0 +1,22 @@
+package ru.tinkoff.qa.neptune.testng.integration.test.parallel;
+
+import ru.tinkoff.qa.neptune.core.api.steps.context.Context;
+
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.concurrent.ConcurrentHashMap.newKeySet;
+
+public class PooledContext extends Context<PooledContext> {
+
+    private static final AtomicInteger COUNT = new AtomicInteger();
+    static final Set<Integer> USED = newKeySet();
+    static final PooledContext context = getInstance(PooledContext.class);
+
+    private final int id = COUNT.incrementAndGet();
+
+    public PooledContext use() {
+        USED.add(id);
+        return this;
+    }
+}